@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class for the benchmarks that need a process engine. Every benchmark class gets its own process engine on an in-memory H2 database, with the resources returned by
+ * {@link #getDeploymentResources()} deployed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public abstract class AbstractProcessEngineBenchmark {
+
+    @Param({ "audit" })
+    public String historyLevel;
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected RepositoryService repositoryService;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+    protected HistoryService historyService;
+    protected ManagementService managementService;
+
+    @Setup(Level.Trial)
+    public void createProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=1000;MVCC=TRUE")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP)
+                .setHistory(historyLevel)
+                .setAsyncExecutorActivate(isAsyncExecutorActivate())
+                .setEngineName(getClass().getSimpleName());
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        repositoryService = processEngine.getRepositoryService();
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+        historyService = processEngine.getHistoryService();
+        managementService = processEngine.getManagementService();
+
+        String[] deploymentResources = getDeploymentResources();
+        if (deploymentResources.length > 0) {
+            DeploymentBuilder deploymentBuilder = repositoryService.createDeployment().name(getClass().getSimpleName());
+            for (String deploymentResource : deploymentResources) {
+                deploymentBuilder.addClasspathResource(deploymentResource);
+            }
+            deploymentBuilder.deploy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            processEngine.close();
+        }
+    }
+
+    /**
+     * Removes the process instances created during an iteration, so that the size of the runtime tables doesn't grow during a benchmark run.
+     */
+    protected void deleteProcessInstances() {
+        for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().list()) {
+            runtimeService.deleteProcessInstance(processInstance.getId(), null);
+        }
+    }
+
+    protected boolean isAsyncExecutorActivate() {
+        return false;
+    }
+
+    protected String[] getDeploymentResources() {
+        return new String[0];
+    }
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * End-to-end throughput of the default async executor: process instances with an asynchronous service task are started and the benchmark waits until all their jobs are executed. The
+ * reported time is per job (process instance).
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncJobExecutorBenchmark extends AbstractProcessEngineBenchmark {
+
+    public static final int NR_OF_JOBS = 200;
+    public static final long MAX_WAIT_TIME_MILLIS = 60000L;
+
+    @Benchmark
+    @OperationsPerInvocation(NR_OF_JOBS)
+    public void executeAsyncJobs() throws InterruptedException {
+        for (int i = 0; i < NR_OF_JOBS; i++) {
+            runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+        }
+
+        long maxWaitTime = System.currentTimeMillis() + MAX_WAIT_TIME_MILLIS;
+        while (managementService.createJobQuery().count() > 0) {
+            if (System.currentTimeMillis() > maxWaitTime) {
+                throw new FlowableException("Async jobs not executed within " + MAX_WAIT_TIME_MILLIS + " ms");
+            }
+            Thread.sleep(1L);
+        }
+    }
+
+    @Override
+    protected boolean isAsyncExecutorActivate() {
+        return true;
+    }
+
+    @Override
+    protected String[] getDeploymentResources() {
+        return new String[] { "org/flowable/benchmark/asyncServiceTaskProcess.bpmn20.xml" };
+    }
+
+}
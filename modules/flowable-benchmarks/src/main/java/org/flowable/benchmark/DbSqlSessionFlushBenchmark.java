@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Flushing a {@link DbSqlSession} with a number of inserted entities, followed by a flush of a second command that deletes them again.
+ */
+public class DbSqlSessionFlushBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int nrOfEntities;
+
+    @Benchmark
+    public void insertAndDelete() {
+        final List<String> byteArrayIds = managementService.executeCommand(new Command<List<String>>() {
+
+            @Override
+            public List<String> execute(CommandContext commandContext) {
+                ByteArrayEntityManager byteArrayEntityManager = commandContext.getByteArrayEntityManager();
+
+                List<String> byteArrayIds = new ArrayList<String>(nrOfEntities);
+                for (int i = 0; i < nrOfEntities; i++) {
+                    ByteArrayEntity byteArray = byteArrayEntityManager.create();
+                    byteArray.setName("benchmark-" + i);
+                    byteArray.setBytes(new byte[256]);
+                    byteArrayEntityManager.insert(byteArray);
+                    byteArrayIds.add(byteArray.getId());
+                }
+                return byteArrayIds;
+            }
+        });
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ByteArrayEntityManager byteArrayEntityManager = commandContext.getByteArrayEntityManager();
+                for (String byteArrayId : byteArrayIds) {
+                    byteArrayEntityManager.deleteByteArrayById(byteArrayId);
+                }
+                return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executing a decision table through the {@link DmnRuleService} of a DMN engine on an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DmnRuleServiceBenchmark {
+
+    protected DmnEngine dmnEngine;
+    protected DmnRuleService ruleService;
+    protected int counter;
+
+    @Setup(Level.Trial)
+    public void createDmnEngine() {
+        dmnEngine = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=1000")
+                .setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE)
+                .buildDmnEngine();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/discount.dmn")
+                .deploy();
+        ruleService = dmnEngine.getDmnRuleService();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDmnEngine() {
+        if (dmnEngine != null) {
+            dmnEngine.close();
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeDecisionByKey() {
+        Map<String, Object> inputVariables = new HashMap<String, Object>();
+        inputVariables.put("orderTotal", (counter++ % 20) * 100);
+        inputVariables.put("customerType", counter % 2 == 0 ? "regular" : "premium");
+        return ruleService.executeDecisionByKey("discount", inputVariables);
+    }
+
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEntityEventImpl;
+import org.flowable.engine.delegate.event.impl.FlowableEventSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of dispatching entity events through the {@link FlowableEventSupport} from 32 threads, with a varying number of registered listeners. Half of the listeners are global, the other half
+ * only listen to the dispatched event type. The created, updated and deleted events are dispatched in turn, like the entity managers do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(32)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventDispatchBenchmark {
+
+    @Param({ "0", "1", "20" })
+    public int nrOfListeners;
+
+    protected FlowableEventSupport eventSupport;
+    protected FlowableEvent[] events;
+
+    @Setup(Level.Trial)
+    public void registerListeners() {
+        eventSupport = new FlowableEventSupport();
+        for (int i = 0; i < nrOfListeners; i++) {
+            if (i % 2 == 0) {
+                eventSupport.addEventListener(new NoOpEventListener());
+            } else {
+                eventSupport.addEventListener(new NoOpEventListener(), FlowableEngineEventType.ENTITY_CREATED,
+                        FlowableEngineEventType.ENTITY_UPDATED, FlowableEngineEventType.ENTITY_DELETED);
+            }
+        }
+
+        Object entity = new Object();
+        events = new FlowableEvent[] {
+                new FlowableEntityEventImpl(entity, FlowableEngineEventType.ENTITY_CREATED),
+                new FlowableEntityEventImpl(entity, FlowableEngineEventType.ENTITY_UPDATED),
+                new FlowableEntityEventImpl(entity, FlowableEngineEventType.ENTITY_DELETED)
+        };
+    }
+
+    @Benchmark
+    public void dispatchEntityEvents() {
+        for (FlowableEvent event : events) {
+            eventSupport.dispatchEvent(event);
+        }
+    }
+
+    /**
+     * Does nothing with the event, so that only the cost of the dispatching itself (and not contention in the listeners) is measured.
+     */
+    public static class NoOpEventListener implements FlowableEventListener {
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            // Nothing to do
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+    }
+
+}
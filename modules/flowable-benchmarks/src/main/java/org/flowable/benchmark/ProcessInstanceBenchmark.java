@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starting a process instance that waits in a user task, and completing that user task.
+ */
+public class ProcessInstanceBenchmark extends AbstractProcessEngineBenchmark {
+
+    public static final String ONE_TASK_PROCESS_KEY = "oneTaskProcess";
+
+    @State(Scope.Thread)
+    public static class TaskState {
+
+        protected String taskId;
+
+        @Setup(Level.Invocation)
+        public void startProcessInstance(ProcessInstanceBenchmark benchmark) {
+            ProcessInstance processInstance = benchmark.runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY);
+            Task task = benchmark.taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskId = task.getId();
+        }
+    }
+
+    @Benchmark
+    public ProcessInstance startProcessInstanceByKey() {
+        return runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY);
+    }
+
+    @Benchmark
+    public void completeTask(TaskState taskState) {
+        taskService.complete(taskState.taskId);
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanup() {
+        deleteProcessInstances();
+    }
+
+    @Override
+    protected String[] getDeploymentResources() {
+        return new String[] { "org/flowable/benchmark/oneTaskProcess.bpmn20.xml" };
+    }
+
+}
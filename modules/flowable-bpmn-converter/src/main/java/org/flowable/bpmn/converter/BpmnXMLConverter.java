@@ -17,11 +17,14 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -110,6 +113,12 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<String, BaseBpmnXMLConverter>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<Class<? extends BaseElement>, BaseBpmnXMLConverter>();
 
+    // Compiling the XSD is expensive, compiled schemas are immutable and thread safe so they are shared (per XSD location, as a custom classloader can provide another one)
+    protected static ConcurrentMap<String, Schema> schemas = new ConcurrentHashMap<String, Schema>();
+
+    // Once configured, an XMLInputFactory can be used concurrently to create readers
+    protected static volatile XMLInputFactory xmlInputFactory;
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -222,40 +231,61 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+            xsdUrl = classloader.getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+        if (xsdUrl == null) {
+            xsdUrl = BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new XMLException("BPMN XSD could not be found");
         }
+
+        String xsdLocation = xsdUrl.toExternalForm();
+        Schema schema = schemas.get(xsdLocation);
+        if (schema == null) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = schemas.putIfAbsent(xsdLocation, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
-        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
-    }
+    protected XMLInputFactory getXMLInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            xif = XMLInputFactory.newInstance();
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
+            if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+                xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+            }
 
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
+            if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+                xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            }
 
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
+            if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+                xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            }
 
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            // Fully configured before it is published, a concurrent initialization just creates an equivalent factory
+            xmlInputFactory = xif;
         }
+        return xif;
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
+        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+        XMLInputFactory xif = getXMLInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
@@ -41,6 +41,7 @@ public class MultiInstanceParser extends BaseChildElementParser {
         multiInstanceDef.setInputDataItem(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_COLLECTION, xtr));
         multiInstanceDef.setElementVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_VARIABLE, xtr));
         multiInstanceDef.setElementIndexVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INDEX_VARIABLE, xtr));
+        multiInstanceDef.setInstanceChunkSize(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INSTANCE_CHUNK_SIZE, xtr));
 
         boolean readyWithMultiInstance = false;
         try {
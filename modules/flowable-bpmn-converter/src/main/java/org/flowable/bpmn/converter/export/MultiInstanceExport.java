@@ -36,6 +36,9 @@ public class MultiInstanceExport implements BpmnXMLConstants {
                 if (StringUtils.isNotEmpty(multiInstanceObject.getElementVariable())) {
                     BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_VARIABLE, multiInstanceObject.getElementVariable(), xtw);
                 }
+                if (StringUtils.isNotEmpty(multiInstanceObject.getInstanceChunkSize())) {
+                    BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_INSTANCE_CHUNK_SIZE, multiInstanceObject.getInstanceChunkSize(), xtw);
+                }
                 if (StringUtils.isNotEmpty(multiInstanceObject.getLoopCardinality())) {
                     xtw.writeStartElement(ELEMENT_MULTIINSTANCE_CARDINALITY);
                     xtw.writeCharacters(multiInstanceObject.getLoopCardinality());
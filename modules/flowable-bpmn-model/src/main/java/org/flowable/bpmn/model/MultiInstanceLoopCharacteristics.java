@@ -23,6 +23,7 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
     protected String elementVariable;
     protected String elementIndexVariable;
     protected boolean sequential;
+    protected String instanceChunkSize;
 
     public String getInputDataItem() {
         return inputDataItem;
@@ -72,6 +73,14 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         this.sequential = sequential;
     }
 
+    public String getInstanceChunkSize() {
+        return instanceChunkSize;
+    }
+
+    public void setInstanceChunkSize(String instanceChunkSize) {
+        this.instanceChunkSize = instanceChunkSize;
+    }
+
     public MultiInstanceLoopCharacteristics clone() {
         MultiInstanceLoopCharacteristics clone = new MultiInstanceLoopCharacteristics();
         clone.setValues(this);
@@ -85,5 +94,6 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         setElementVariable(otherLoopCharacteristics.getElementVariable());
         setElementIndexVariable(otherLoopCharacteristics.getElementIndexVariable());
         setSequential(otherLoopCharacteristics.isSequential());
+        setInstanceChunkSize(otherLoopCharacteristics.getInstanceChunkSize());
     }
 }
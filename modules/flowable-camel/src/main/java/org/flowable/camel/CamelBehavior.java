@@ -18,7 +18,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
@@ -35,6 +34,7 @@ import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstance;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.spring.SpringProcessEngineConfiguration;
@@ -63,6 +63,9 @@ public abstract class CamelBehavior extends AbstractBpmnActivityBehavior impleme
 
     private static final long serialVersionUID = 1L;
     protected Expression camelContext;
+
+    // Comma separated names of the variables to pass to the exchange, all variables are passed when not set
+    protected Expression variableNames;
     protected CamelContext camelContextObj;
     protected List<MapExceptionEntry> mapExceptions;
 
@@ -138,24 +141,45 @@ public abstract class CamelBehavior extends AbstractBpmnActivityBehavior impleme
     }
 
     protected FlowableEndpoint getEndpoint(String key) {
-        for (Endpoint e : camelContextObj.getEndpoints()) {
-            if (e.getEndpointKey().equals(key) && (e instanceof FlowableEndpoint)) {
-                return (FlowableEndpoint) e;
-            }
+        FlowableEndpoint endpoint = FlowableEndpointCache.getInstance(camelContextObj).getEndpoint(key);
+        if (endpoint == null) {
+            throw new FlowableException("Endpoint not defined for " + key);
         }
-        throw new FlowableException("Endpoint not defined for " + key);
+        return endpoint;
     }
 
     protected Exchange createExchange(DelegateExecution activityExecution, FlowableEndpoint endpoint) {
         Exchange ex = endpoint.createExchange();
         ex.setProperty(FlowableProducer.PROCESS_ID_PROPERTY, activityExecution.getProcessInstanceId());
         ex.setProperty(FlowableProducer.EXECUTION_ID_PROPERTY, activityExecution.getId());
-        Map<String, Object> variables = activityExecution.getVariables();
+        Map<String, Object> variables = getVariablesForExchange(activityExecution);
         updateTargetVariables(endpoint);
         copyVariables(variables, ex, endpoint);
         return ex;
     }
 
+    /**
+     * The variables passed to the exchange: all variables of the execution, or only the ones named in the variableNames field.
+     */
+    protected Map<String, Object> getVariablesForExchange(DelegateExecution execution) {
+        String variableNamesValue = getStringFromField(variableNames, execution);
+        if (StringUtils.isEmpty(variableNamesValue)) {
+            return execution.getVariables();
+        }
+
+        // Fetched one by one, so variables that aren't passed don't need to be loaded
+        Map<String, Object> variables = new HashMap<String, Object>();
+        for (String name : variableNamesValue.split(",")) {
+            if (StringUtils.isNotBlank(name)) {
+                VariableInstance variableInstance = execution.getVariableInstance(name.trim(), false);
+                if (variableInstance != null) {
+                    variables.put(variableInstance.getName(), variableInstance.getValue());
+                }
+            }
+        }
+        return variables;
+    }
+
     protected boolean handleCamelException(Exchange exchange, DelegateExecution execution, boolean isV5Execution) {
         Exception camelException = exchange.getException();
         boolean notHandledByCamel = exchange.isFailed() && camelException != null;
@@ -271,4 +295,8 @@ public abstract class CamelBehavior extends AbstractBpmnActivityBehavior impleme
     public void setCamelContext(Expression camelContext) {
         this.camelContext = camelContext;
     }
+
+    public void setVariableNames(Expression variableNames) {
+        this.variableNames = variableNames;
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.camel.util.IntrospectionSupport;
 import org.flowable.engine.IdentityService;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
 
 /**
  * This class has been modified to be consistent with the changes to CamelBehavior and its implementations. The set of changes significantly increases the flexibility of our Camel integration, as you
@@ -43,6 +44,14 @@ public class FlowableComponent extends DefaultComponent {
 
     protected boolean copyCamelBodyToBody;
 
+    /**
+     * When set, producers sending to a receive activity wait for the activity started event of the execution instead of polling for the execution. The events are only dispatched for executions
+     * of this engine, so polling remains the better choice when other engines (or Flowable 5 processes) can move the executions.
+     */
+    protected boolean eventDrivenSignal;
+
+    protected ReceiveActivityEventListener receiveActivityEventListener;
+
     public FlowableComponent() {
     }
 
@@ -74,6 +83,10 @@ public class FlowableComponent extends DefaultComponent {
         ae.setCopyVariablesToBodyAsMap(this.copyVariablesToBodyAsMap);
         ae.setCopyCamelBodyToBody(this.copyCamelBodyToBody);
 
+        if (eventDrivenSignal) {
+            ae.setReceiveActivityEventListener(getReceiveActivityEventListener());
+        }
+
         Map<String, Object> returnVars = IntrospectionSupport.extractProperties(parameters, "var.return.");
         if (returnVars != null && returnVars.size() > 0) {
             ae.getReturnVarMap().putAll(returnVars);
@@ -82,6 +95,23 @@ public class FlowableComponent extends DefaultComponent {
         return ae;
     }
 
+    protected synchronized ReceiveActivityEventListener getReceiveActivityEventListener() {
+        if (receiveActivityEventListener == null) {
+            receiveActivityEventListener = new ReceiveActivityEventListener();
+            runtimeService.addEventListener(receiveActivityEventListener, FlowableEngineEventType.ACTIVITY_STARTED);
+        }
+        return receiveActivityEventListener;
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (receiveActivityEventListener != null) {
+            runtimeService.removeEventListener(receiveActivityEventListener);
+            receiveActivityEventListener = null;
+        }
+        super.doStop();
+    }
+
     public boolean isCopyVariablesToProperties() {
         return copyVariablesToProperties;
     }
@@ -105,4 +135,12 @@ public class FlowableComponent extends DefaultComponent {
     public void setCopyVariablesToBodyAsMap(boolean copyVariablesToBodyAsMap) {
         this.copyVariablesToBodyAsMap = copyVariablesToBodyAsMap;
     }
+
+    public boolean isEventDrivenSignal() {
+        return eventDrivenSignal;
+    }
+
+    public void setEventDrivenSignal(boolean eventDrivenSignal) {
+        this.eventDrivenSignal = eventDrivenSignal;
+    }
 }
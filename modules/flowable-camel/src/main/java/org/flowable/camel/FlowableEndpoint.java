@@ -65,6 +65,8 @@ public class FlowableEndpoint extends DefaultEndpoint {
 
     protected int timeResolution = 100;
 
+    protected ReceiveActivityEventListener receiveActivityEventListener;
+
     public FlowableEndpoint(String uri, CamelContext camelContext) {
         super();
         setCamelContext(camelContext);
@@ -83,6 +85,7 @@ public class FlowableEndpoint extends DefaultEndpoint {
         producer.setRuntimeService(runtimeService);
         producer.setIdentityService(identityService);
         producer.setRepositoryService(repositoryService);
+        producer.setReceiveActivityEventListener(receiveActivityEventListener);
         return producer;
     }
 
@@ -198,4 +201,12 @@ public class FlowableEndpoint extends DefaultEndpoint {
         return timeResolution;
     }
 
+    public ReceiveActivityEventListener getReceiveActivityEventListener() {
+        return receiveActivityEventListener;
+    }
+
+    public void setReceiveActivityEventListener(ReceiveActivityEventListener receiveActivityEventListener) {
+        this.receiveActivityEventListener = receiveActivityEventListener;
+    }
+
 }
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.camel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.spi.LifecycleStrategy;
+import org.apache.camel.support.LifecycleStrategySupport;
+
+/**
+ * Index of the {@link FlowableEndpoint}s of a {@link CamelContext} by endpoint key, so a camel task doesn't have to go through all endpoints of the context to find its own. Registered as lifecycle
+ * strategy of the context, the index is rebuilt after endpoints have been added or removed.
+ */
+public class FlowableEndpointCache extends LifecycleStrategySupport {
+
+    protected final CamelContext camelContext;
+    protected final AtomicLong modificationCount = new AtomicLong();
+    protected volatile EndpointIndex index;
+
+    protected FlowableEndpointCache(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * Returns the endpoint cache of the given context, it is created and registered with the context the first time.
+     */
+    public static FlowableEndpointCache getInstance(CamelContext camelContext) {
+        synchronized (camelContext) {
+            for (LifecycleStrategy lifecycleStrategy : camelContext.getLifecycleStrategies()) {
+                if (lifecycleStrategy instanceof FlowableEndpointCache) {
+                    return (FlowableEndpointCache) lifecycleStrategy;
+                }
+            }
+
+            FlowableEndpointCache endpointCache = new FlowableEndpointCache(camelContext);
+            camelContext.addLifecycleStrategy(endpointCache);
+            return endpointCache;
+        }
+    }
+
+    /**
+     * @return the Flowable endpoint with the given key, or null when the context has no such endpoint.
+     */
+    public FlowableEndpoint getEndpoint(String key) {
+        EndpointIndex currentIndex = index;
+        if (currentIndex == null || currentIndex.modificationCount != modificationCount.get()) {
+            currentIndex = buildIndex();
+        }
+        return currentIndex.endpoints.get(key);
+    }
+
+    protected EndpointIndex buildIndex() {
+        // Read before the endpoints, so a change during the build is noticed at the next lookup
+        long currentModificationCount = modificationCount.get();
+
+        Map<String, FlowableEndpoint> endpoints = new HashMap<String, FlowableEndpoint>();
+        for (Endpoint endpoint : camelContext.getEndpoints()) {
+            if (endpoint instanceof FlowableEndpoint && !endpoints.containsKey(endpoint.getEndpointKey())) {
+                endpoints.put(endpoint.getEndpointKey(), (FlowableEndpoint) endpoint);
+            }
+        }
+
+        EndpointIndex newIndex = new EndpointIndex(currentModificationCount, endpoints);
+        index = newIndex;
+        return newIndex;
+    }
+
+    @Override
+    public void onEndpointAdd(Endpoint endpoint) {
+        modificationCount.incrementAndGet();
+    }
+
+    @Override
+    public void onEndpointRemove(Endpoint endpoint) {
+        modificationCount.incrementAndGet();
+    }
+
+    protected static class EndpointIndex {
+
+        protected final long modificationCount;
+        protected final Map<String, FlowableEndpoint> endpoints;
+
+        public EndpointIndex(long modificationCount, Map<String, FlowableEndpoint> endpoints) {
+            this.modificationCount = modificationCount;
+            this.endpoints = endpoints;
+        }
+
+    }
+
+}
@@ -39,6 +39,8 @@ public class FlowableProducer extends DefaultProducer {
 
     protected RepositoryService repositoryService;
 
+    protected ReceiveActivityEventListener receiveActivityEventListener;
+
     public static final String PROCESS_KEY_PROPERTY = "PROCESS_KEY_PROPERTY";
 
     public static final String PROCESS_ID_PROPERTY = "PROCESS_ID_PROPERTY";
@@ -106,42 +108,62 @@ public class FlowableProducer extends DefaultProducer {
         String processInstanceId = findProcessInstanceId(exchange);
         String executionId = exchange.getProperty(EXECUTION_ID_PROPERTY, String.class);
 
-        boolean firstTime = true;
-        long initialTime = System.currentTimeMillis();
+        // Registered before looking for the execution, so an execution arriving in between isn't missed
+        ReceiveActivityEventListener.Waiter waiter = null;
+        if (receiveActivityEventListener != null && timeout > 0) {
+            waiter = receiveActivityEventListener.addWaiter(processInstanceId, activity, executionId);
+        }
 
         Execution execution = null;
-        while (firstTime || (timeout > 0 && (System.currentTimeMillis() - initialTime < timeout))) {
-            try {
-                Thread.sleep(timeResolution);
-            } catch (InterruptedException e) {
-                throw new FlowableException("error occurred while waiting for activity=" + activity + " for processInstanceId=" + processInstanceId);
-            }
-            firstTime = false;
-
-            if (executionId != null) {
-                execution = runtimeService.createExecutionQuery()
-                        .executionId(executionId)
-                        .activityId(activity)
-                        .singleResult();
+        try {
+            // An execution that is already waiting in the activity is triggered right away
+            execution = findExecution(processInstanceId, executionId);
+
+            long initialTime = System.currentTimeMillis();
+            long remainingTime = timeout;
+            while (execution == null && remainingTime > 0) {
+                try {
+                    if (waiter != null && !waiter.isSignalled()) {
+                        waiter.await(remainingTime);
+                    } else {
+                        Thread.sleep(Math.min(timeResolution, remainingTime));
+                    }
+                } catch (InterruptedException e) {
+                    throw new FlowableException("error occurred while waiting for activity=" + activity + " for processInstanceId=" + processInstanceId);
+                }
 
-            } else {
-                execution = runtimeService.createExecutionQuery()
-                        .processDefinitionKey(processKey)
-                        .processInstanceId(processInstanceId)
-                        .activityId(activity)
-                        .singleResult();
+                execution = findExecution(processInstanceId, executionId);
+                remainingTime = timeout - (System.currentTimeMillis() - initialTime);
             }
 
-            if (execution != null) {
-                break;
+        } finally {
+            if (waiter != null) {
+                receiveActivityEventListener.removeWaiter(waiter);
             }
         }
+
         if (execution == null) {
             throw new FlowableException("Couldn't find activity " + activity + " for processId " + processInstanceId + " in defined timeout.");
         }
 
-        runtimeService.setVariables(execution.getId(), ExchangeUtils.prepareVariables(exchange, getFlowableEndpoint()));
-        runtimeService.trigger(execution.getId());
+        // Setting the variables and triggering in one command
+        runtimeService.trigger(execution.getId(), ExchangeUtils.prepareVariables(exchange, getFlowableEndpoint()));
+    }
+
+    protected Execution findExecution(String processInstanceId, String executionId) {
+        if (executionId != null) {
+            return runtimeService.createExecutionQuery()
+                    .executionId(executionId)
+                    .activityId(activity)
+                    .singleResult();
+
+        } else {
+            return runtimeService.createExecutionQuery()
+                    .processDefinitionKey(processKey)
+                    .processInstanceId(processInstanceId)
+                    .activityId(activity)
+                    .singleResult();
+        }
     }
 
     protected String findProcessInstanceId(Exchange exchange) {
@@ -201,4 +223,8 @@ public class FlowableProducer extends DefaultProducer {
     public void setRepositoryService(RepositoryService repositoryService) {
         this.repositoryService = repositoryService;
     }
+
+    public void setReceiveActivityEventListener(ReceiveActivityEventListener receiveActivityEventListener) {
+        this.receiveActivityEventListener = receiveActivityEventListener;
+    }
 }
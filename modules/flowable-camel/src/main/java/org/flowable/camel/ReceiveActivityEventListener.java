@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.camel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.impl.cfg.BaseTransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.transaction.TransactionContextHolder;
+import org.flowable.engine.delegate.event.FlowableActivityEvent;
+import org.flowable.engine.impl.cfg.TransactionContext;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+/**
+ * Lets {@link FlowableProducer}s wait for an execution to arrive in a receive activity, instead of polling for it. The producers register a {@link Waiter} before looking for the execution, the
+ * waiter is signalled when an activity started event matches it and the transaction that started the activity is committed (so the execution can be found from then on).
+ * 
+ * Only activities started through the event dispatcher of the engine are noticed, a producer still looks for the execution itself when its waiter times out.
+ */
+public class ReceiveActivityEventListener implements FlowableEventListener {
+
+    protected ConcurrentMap<String, List<Waiter>> waitersByProcessInstanceId = new ConcurrentHashMap<String, List<Waiter>>();
+    protected final Object waitersLock = new Object();
+
+    public Waiter addWaiter(String processInstanceId, String activityId, String executionId) {
+        Waiter waiter = new Waiter(processInstanceId, activityId, executionId);
+        synchronized (waitersLock) {
+            List<Waiter> waiters = waitersByProcessInstanceId.get(processInstanceId);
+            if (waiters == null) {
+                waiters = new CopyOnWriteArrayList<Waiter>();
+                waitersByProcessInstanceId.put(processInstanceId, waiters);
+            }
+            waiters.add(waiter);
+        }
+        return waiter;
+    }
+
+    public void removeWaiter(Waiter waiter) {
+        synchronized (waitersLock) {
+            List<Waiter> waiters = waitersByProcessInstanceId.get(waiter.processInstanceId);
+            if (waiters != null) {
+                waiters.remove(waiter);
+                if (waiters.isEmpty()) {
+                    waitersByProcessInstanceId.remove(waiter.processInstanceId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (!(event instanceof FlowableActivityEvent)) {
+            return;
+        }
+
+        FlowableActivityEvent activityEvent = (FlowableActivityEvent) event;
+        if (activityEvent.getProcessInstanceId() == null) {
+            return;
+        }
+
+        List<Waiter> waiters = waitersByProcessInstanceId.get(activityEvent.getProcessInstanceId());
+        if (waiters == null) {
+            return;
+        }
+
+        final List<Waiter> matchingWaiters = new ArrayList<Waiter>(1);
+        for (Waiter waiter : waiters) {
+            if (waiter.matches(activityEvent.getActivityId(), activityEvent.getExecutionId())) {
+                matchingWaiters.add(waiter);
+            }
+        }
+        if (matchingWaiters.isEmpty()) {
+            return;
+        }
+
+        // The execution only becomes visible to the producer once the transaction is committed
+        BaseTransactionContext<?, ?> transactionContext = TransactionContextHolder.getTransactionContext();
+        if (transactionContext instanceof TransactionContext) {
+            ((TransactionContext) transactionContext).addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    signal(matchingWaiters);
+                }
+
+            });
+        } else {
+            signal(matchingWaiters);
+        }
+    }
+
+    protected void signal(List<Waiter> waiters) {
+        for (Waiter waiter : waiters) {
+            waiter.signal();
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    public static class Waiter {
+
+        protected final String processInstanceId;
+        protected final String activityId;
+        protected final String executionId;
+        protected final CountDownLatch latch = new CountDownLatch(1);
+
+        public Waiter(String processInstanceId, String activityId, String executionId) {
+            this.processInstanceId = processInstanceId;
+            this.activityId = activityId;
+            this.executionId = executionId;
+        }
+
+        protected boolean matches(String startedActivityId, String startedExecutionId) {
+            return activityId.equals(startedActivityId) && (executionId == null || executionId.equals(startedExecutionId));
+        }
+
+        protected void signal() {
+            latch.countDown();
+        }
+
+        public boolean isSignalled() {
+            return latch.getCount() == 0;
+        }
+
+        /**
+         * @return whether the waiter was signalled within the given time.
+         */
+        public boolean await(long timeoutInMillis) throws InterruptedException {
+            return latch.await(timeoutInMillis, TimeUnit.MILLISECONDS);
+        }
+
+    }
+
+}
@@ -76,4 +76,21 @@ public class CamelVariableBodyMapTest extends SpringFlowableTestCase {
         taskService.complete(task.getId());
     }
 
+    @Deployment(resources = { "process/HelloCamelBodyMapVariableNames.bpmn20.xml" })
+    public void testCamelBodyWithVariableNames() throws Exception {
+        Map<String, Object> expectedBody = new HashMap<String, Object>();
+        expectedBody.put("camelBody", "hello world");
+        expectedBody.put("otherVariable", 42);
+        service1.expectedBodiesReceived(expectedBody);
+
+        // Only the variables named in the variableNames field are passed to the exchange
+        Map<String, Object> varMap = new HashMap<String, Object>(expectedBody);
+        varMap.put("notPassed", "not passed");
+        runtimeService.startProcessInstanceByKey("HelloCamel", varMap);
+        service1.assertIsSatisfied();
+
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId());
+    }
+
 }
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.camel;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.spring.impl.test.SpringFlowableTestCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration("classpath:eventdriven-camel-flowable-context.xml")
+public class EventDrivenSignalTest extends SpringFlowableTestCase {
+
+    @Autowired
+    protected CamelContext camelContext;
+
+    @Autowired
+    protected RuntimeService runtimeService;
+
+    public void setUp() throws Exception {
+        camelContext.addRoutes(new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                from("flowable:asyncPingProcess:serviceAsyncPing").to("log:org.flowable.camel.EventDrivenSignalTest");
+                from("direct:receive").to("flowable:asyncPingProcess:receiveAsyncPing");
+            }
+        });
+    }
+
+    public void tearDown() throws Exception {
+        List<Route> routes = camelContext.getRoutes();
+        for (Route r : routes) {
+            camelContext.stopRoute(r.getId());
+            camelContext.removeRoute(r.getId());
+        }
+    }
+
+    @Deployment(resources = { "process/asyncPing.bpmn20.xml" })
+    public void testSignalWaitingExecution() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncPingProcess");
+        managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        sendMessage(processInstance.getId());
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    @Deployment(resources = { "process/asyncPing.bpmn20.xml" })
+    public void testSignalWaitsForExecution() throws Exception {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncPingProcess");
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> sendDuration = executorService.submit(new Callable<Long>() {
+
+                @Override
+                public Long call() throws Exception {
+                    long start = System.currentTimeMillis();
+                    sendMessage(processInstance.getId());
+                    return System.currentTimeMillis() - start;
+                }
+            });
+
+            // The message arrives before the execution reached the receive task
+            Thread.sleep(500);
+            assertFalse(sendDuration.isDone());
+
+            managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+            // Well before the producer timeout of 5 seconds
+            assertTrue(sendDuration.get(5, TimeUnit.SECONDS) < 4000);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    protected void sendMessage(String processInstanceId) {
+        ProducerTemplate producerTemplate = camelContext.createProducerTemplate();
+        producerTemplate.sendBodyAndProperty("direct:receive", "ping", FlowableProducer.PROCESS_ID_PROPERTY, processInstanceId);
+    }
+
+}
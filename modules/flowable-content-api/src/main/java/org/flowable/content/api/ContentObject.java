@@ -13,6 +13,7 @@
 package org.flowable.content.api;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * @author Frederik Heremans
@@ -34,4 +35,18 @@ public interface ContentObject {
      *         after usage to prevent resources leaking.
      */
     InputStream getContent();
+
+    /**
+     * @return a new inputstream to read (at most) the given number of bytes of the content from, starting at the given position. Caller should close the inputstream after usage to prevent
+     *         resources leaking.
+     */
+    InputStream getContent(long position, long count);
+
+    /**
+     * Transfers (at most) the given number of bytes of the content, starting at the given position, to the given channel. Implementations should avoid copying the bytes through the heap when the
+     * target channel allows it (for example a file or socket channel). The target channel is not closed.
+     * 
+     * @return the number of bytes transferred, which is less than the given count when the end of the content is reached.
+     */
+    long transferTo(long position, long count, WritableByteChannel target);
 }
@@ -27,6 +27,11 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * @return the {@link ContentObject} holding the data of the content item, which allows to read only a part of the data or to transfer it to a channel.
+     */
+    ContentObject getContentItemContentObject(String contentItemId);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
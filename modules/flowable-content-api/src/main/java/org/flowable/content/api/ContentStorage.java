@@ -13,6 +13,7 @@
 package org.flowable.content.api;
 
 import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Map;
 
 /**
@@ -44,6 +45,28 @@ public interface ContentStorage {
      */
     ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData);
 
+    /**
+     * Same as {@link #createContentObject(InputStream, Map)}, but reading the content from a channel. This allows implementations to transfer the content without copying it through the heap (for
+     * example when the channel is a file channel).
+     */
+    ContentObject createContentObject(ReadableByteChannel contentChannel, Map<String, Object> metaData);
+
+    /**
+     * Same as {@link #updateContentObject(String, InputStream, Map)}, but reading the content from a channel.
+     */
+    ContentObject updateContentObject(String id, ReadableByteChannel contentChannel, Map<String, Object> metaData);
+
+    /**
+     * Overwrites the content with the given id, starting at the given position, with the content read from the given channel. The content is extended when more bytes are written than available
+     * after the position. This allows content to be uploaded in multiple parts.
+     * 
+     * @param position
+     *            the position to start writing at, which can't be beyond the current length of the content.
+     * @throws ContentStorageException
+     *             When an exception occurred while writing the content. Unlike {@link #updateContentObject(String, InputStream, Map)}, the content can be partially updated in that case.
+     */
+    ContentObject updateContentObject(String id, long position, ReadableByteChannel contentChannel, Map<String, Object> metaData);
+
     /**
      * @return a {@link ContentObject} with the given id.
      * @throws ContentNotFoundException
@@ -16,10 +16,12 @@ import java.io.InputStream;
 
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentItemQuery;
+import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentService;
 import org.flowable.content.engine.impl.cmd.CreateContentItemCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemsCmd;
+import org.flowable.content.engine.impl.cmd.GetContentItemContentObjectCmd;
 import org.flowable.content.engine.impl.cmd.GetContentItemStreamCmd;
 import org.flowable.content.engine.impl.cmd.SaveContentItemCmd;
 
@@ -44,6 +46,10 @@ public class ContentServiceImpl extends ServiceImpl implements ContentService {
         return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId));
     }
 
+    public ContentObject getContentItemContentObject(String contentItemId) {
+        return commandExecutor.execute(new GetContentItemContentObjectCmd(contentItemId));
+    }
+
     public void deleteContentItem(String contentItemId) {
         commandExecutor.execute(new DeleteContentItemCmd(contentItemId));
     }
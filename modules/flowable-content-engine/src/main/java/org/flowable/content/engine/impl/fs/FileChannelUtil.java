@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentStorageException;
+
+/**
+ * NIO helpers for the file based {@link org.flowable.content.api.ContentStorage} implementations. Content is moved with {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} and
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which let the operating system copy the bytes directly when both sides are files or sockets.
+ */
+public class FileChannelUtil {
+
+    /**
+     * Maximum number of bytes transferred in one call, some platforms can't transfer more at once.
+     */
+    protected static final long MAX_TRANSFER_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * @return a channel reading from the given stream, which is the file channel itself for a {@link FileInputStream}.
+     */
+    public static ReadableByteChannel toChannel(InputStream inputStream) {
+        if (inputStream instanceof FileInputStream) {
+            return ((FileInputStream) inputStream).getChannel();
+        }
+        return Channels.newChannel(inputStream);
+    }
+
+    /**
+     * Writes everything read from the source channel to the given file, starting at the given position. The file is truncated first when the position is zero and truncate is true.
+     * 
+     * @return the number of bytes written.
+     */
+    public static long writeToFile(ReadableByteChannel source, File file, long position, boolean truncate) {
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            FileChannel fileChannel = randomAccessFile.getChannel();
+            if (position > fileChannel.size()) {
+                throw new ContentStorageException("Cannot write content at position " + position + ", the content only contains " + fileChannel.size() + " bytes");
+            }
+            if (truncate) {
+                fileChannel.truncate(position);
+            }
+
+            long currentPosition = position;
+            long transferred = fileChannel.transferFrom(source, currentPosition, MAX_TRANSFER_SIZE);
+            while (transferred > 0) {
+                currentPosition += transferred;
+                transferred = fileChannel.transferFrom(source, currentPosition, MAX_TRANSFER_SIZE);
+            }
+            return currentPosition - position;
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while writing content to file: " + file, e);
+        } finally {
+            IOUtils.closeQuietly(randomAccessFile);
+        }
+    }
+
+    /**
+     * Transfers (at most) count bytes of the given file, starting at the given position, to the target channel.
+     * 
+     * @return the number of bytes transferred.
+     */
+    public static long transferFromFile(File file, long position, long count, WritableByteChannel target) {
+        FileInputStream fileInputStream = null;
+        try {
+            fileInputStream = new FileInputStream(file);
+            FileChannel fileChannel = fileInputStream.getChannel();
+            long end = Math.min(fileChannel.size(), position + count);
+
+            long currentPosition = position;
+            while (currentPosition < end) {
+                long transferred = fileChannel.transferTo(currentPosition, Math.min(end - currentPosition, MAX_TRANSFER_SIZE), target);
+                if (transferred <= 0) {
+                    break;
+                }
+                currentPosition += transferred;
+            }
+            return Math.max(currentPosition - position, 0);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while reading content from file: " + file, e);
+        } finally {
+            IOUtils.closeQuietly(fileInputStream);
+        }
+    }
+
+}
@@ -15,8 +15,12 @@ package org.flowable.content.engine.impl.fs;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorageException;
 
@@ -65,4 +69,20 @@ public class FileSystemContentObject implements ContentObject {
         return inputStream;
     }
 
+    public InputStream getContent(long position, long count) {
+        FileInputStream fileInputStream = null;
+        try {
+            fileInputStream = new FileInputStream(file);
+            fileInputStream.getChannel().position(position);
+            return new BoundedInputStream(fileInputStream, count);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(fileInputStream);
+            throw new ContentStorageException("Error while opening file stream", e);
+        }
+    }
+
+    public long transferTo(long position, long count, WritableByteChannel target) {
+        return FileChannelUtil.transferFromFile(file, position, count, target);
+    }
+
 }
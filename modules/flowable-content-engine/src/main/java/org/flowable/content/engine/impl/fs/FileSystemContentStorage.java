@@ -13,14 +13,12 @@
 package org.flowable.content.engine.impl.fs;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.content.api.ContentNotFoundException;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorage;
@@ -73,24 +71,15 @@ public class FileSystemContentStorage implements ContentStorage {
 
     @Override
     public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        return createContentObject(FileChannelUtil.toChannel(contentStream), metaData);
+    }
+
+    @Override
+    public ContentObject createContentObject(ReadableByteChannel contentChannel, Map<String, Object> metaData) {
         // Get hold of the next free ID to use
         BigInteger id = fetchNewId();
         File contentFile = new File(rootFolder, converter.getPathForId(id).getPath());
-        long length = -1;
-        try {
-            length = IOUtils.copy(contentStream, new FileOutputStream(contentFile, false));
-        } catch (FileNotFoundException e) {
-            throw new ContentStorageException("Content file was deleted or no longer accessible prior to writing: " + contentFile, e);
-        } catch (IOException e) {
-            throw new ContentStorageException("Error while writing content to file: " + contentFile, e);
-        }
-
-        if (length < 0) {
-            // The file was larger than 2GB (max integer value), we need to get the
-            // length from the file instead
-            length = contentFile.length();
-        }
-
+        long length = FileChannelUtil.writeToFile(contentChannel, contentFile, 0, true);
         return new FileSystemContentObject(contentFile, id.toString(), length);
     }
 
@@ -107,6 +96,11 @@ public class FileSystemContentStorage implements ContentStorage {
 
     @Override
     public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        return updateContentObject(id, FileChannelUtil.toChannel(contentStream), metaData);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, ReadableByteChannel contentChannel, Map<String, Object> metaData) {
 
         File contentFile = getFileForId(id, true);
 
@@ -127,9 +121,7 @@ public class FileSystemContentStorage implements ContentStorage {
             tempFileCreated = true;
 
             // Write the actual content to the file
-            FileOutputStream tempOutputStream = new FileOutputStream(tempContentFile);
-            length = IOUtils.copy(contentStream, tempOutputStream);
-            IOUtils.closeQuietly(tempOutputStream);
+            length = FileChannelUtil.writeToFile(contentChannel, tempContentFile, 0, true);
 
             // Rename the content file first
             if (contentFile.renameTo(oldContentFile)) {
@@ -161,6 +153,13 @@ public class FileSystemContentStorage implements ContentStorage {
         return new FileSystemContentObject(contentFile, id, length);
     }
 
+    @Override
+    public ContentObject updateContentObject(String id, long position, ReadableByteChannel contentChannel, Map<String, Object> metaData) {
+        File contentFile = getFileForId(id, true);
+        FileChannelUtil.writeToFile(contentChannel, contentFile, position, false);
+        return new FileSystemContentObject(contentFile, id, null);
+    }
+
     public void deleteContentObject(String id) {
         try {
             File contentFile = getFileForId(id, true);
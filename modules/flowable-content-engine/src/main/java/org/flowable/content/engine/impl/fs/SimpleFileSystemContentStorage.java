@@ -13,12 +13,11 @@
 package org.flowable.content.engine.impl.fs;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.content.api.ContentMetaDataKeys;
 import org.flowable.content.api.ContentObject;
@@ -89,15 +88,16 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
 
     @Override
     public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        return createContentObject(FileChannelUtil.toChannel(contentStream), metaData);
+    }
+
+    @Override
+    public ContentObject createContentObject(ReadableByteChannel contentChannel, Map<String, Object> metaData) {
         String uuid = UUID_GENERATOR.generate().toString();
         File file = getContentFile(metaData, uuid);
-        try {
-            long length = IOUtils.copy(contentStream, new FileOutputStream(file, false));
-            String contentId = generateContentId(uuid, metaData);
-            return new FileSystemContentObject(file, contentId, length);
-        } catch (IOException e) {
-            throw new ContentStorageException("Could not write content to " + file.getAbsolutePath(), e);
-        }
+        long length = FileChannelUtil.writeToFile(contentChannel, file, 0, true);
+        String contentId = generateContentId(uuid, metaData);
+        return new FileSystemContentObject(file, contentId, length);
     }
 
     protected String generateContentId(String uuid, Map<String, Object> metaData) {
@@ -123,6 +123,11 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
 
     @Override
     public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        return updateContentObject(id, FileChannelUtil.toChannel(contentStream), metaData);
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, ReadableByteChannel contentChannel, Map<String, Object> metaData) {
         File contentFile = getContentFile(id);
 
         // Write stream to a temporary file and rename when content is read
@@ -141,9 +146,7 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
             tempFileCreated = true;
 
             // Write the actual content to the file
-            FileOutputStream tempOutputStream = new FileOutputStream(tempContentFile);
-            length = IOUtils.copy(contentStream, tempOutputStream);
-            IOUtils.closeQuietly(tempOutputStream);
+            length = FileChannelUtil.writeToFile(contentChannel, tempContentFile, 0, true);
 
             // Rename the content file first
             if (contentFile.renameTo(oldContentFile)) {
@@ -175,6 +178,16 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
         return new FileSystemContentObject(contentFile, id, length);
     }
 
+    @Override
+    public ContentObject updateContentObject(String id, long position, ReadableByteChannel contentChannel, Map<String, Object> metaData) {
+        File contentFile = getContentFile(id);
+        if (!contentFile.exists()) {
+            throw new FlowableObjectNotFoundException("No content found for id " + id);
+        }
+        FileChannelUtil.writeToFile(contentChannel, contentFile, position, false);
+        return new FileSystemContentObject(contentFile, id);
+    }
+
     @Override
     public ContentObject getContentObject(String id) {
         return new FileSystemContentObject(getContentFile(id), id);
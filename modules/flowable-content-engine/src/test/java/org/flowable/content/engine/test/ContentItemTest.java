@@ -16,10 +16,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 
 import org.apache.commons.io.IOUtils;
 import org.flowable.content.api.ContentItem;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.junit.Test;
 
@@ -73,4 +79,40 @@ public class ContentItemTest extends AbstractFlowableContentTest {
             fail("Expected not found exception, not " + e);
         }
     }
+
+    @Test
+    public void readAndWriteContentItemRanges() throws Exception {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("text/plain");
+        contentItem.setTaskId("123456");
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream("hello world".getBytes("UTF-8")));
+
+        ContentObject contentObject = contentService.getContentItemContentObject(contentItem.getId());
+        assertEquals(11, contentObject.getContentLength());
+
+        InputStream rangeStream = contentObject.getContent(6, 3);
+        assertEquals("wor", IOUtils.toString(rangeStream, "UTF-8"));
+        rangeStream.close();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(5, contentObject.transferTo(6, 100, Channels.newChannel(outputStream)));
+        assertEquals("world", outputStream.toString("UTF-8"));
+
+        ContentStorage contentStorage = contentEngineConfiguration.getContentStorage();
+        contentStorage.updateContentObject(contentItem.getContentStoreId(), 6, Channels.newChannel(new ByteArrayInputStream("flowable".getBytes("UTF-8"))), null);
+
+        InputStream contentStream = contentService.getContentItemData(contentItem.getId());
+        assertEquals("hello flowable", IOUtils.toString(contentStream, "UTF-8"));
+        contentStream.close();
+
+        try {
+            contentStorage.updateContentObject(contentItem.getContentStoreId(), 100, Channels.newChannel(new ByteArrayInputStream("flowable".getBytes("UTF-8"))), null);
+            fail("Expected content storage exception");
+        } catch (ContentStorageException e) {
+            // expected
+        }
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
 }
@@ -13,24 +13,27 @@
 
 package org.flowable.rest.content.service.api.content;
 
-import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.swagger.annotations.Authorization;
-import org.apache.commons.io.IOUtils;
 import org.flowable.content.api.ContentItem;
+import org.flowable.content.api.ContentObject;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.rest.content.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
@@ -54,46 +57,105 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {
-            "Content item" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            "Content item" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested with the Range header, multiple ranges are not supported and result in the full content being returned.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item doesn’t have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item doesn’t have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is not satisfiable for the content of the content item.")
     })
     @RequestMapping(value = "/content-service/content-items/{contentItemId}/data", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
-        InputStream dataStream = contentService.getContentItemData(contentItemId);
-        if (dataStream == null) {
+        ContentObject contentObject = contentService.getContentItemContentObject(contentItemId);
+        if (contentObject == null) {
             throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (contentItem.getMimeType() != null) {
             try {
                 mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
+                response.setContentType(contentItem.getMimeType());
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
         if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+            response.setContentType("application/octet-stream");
         }
 
+        long contentLength = contentObject.getContentLength();
+        long start = 0;
+        long count = contentLength;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        HttpRange range = getSingleRange(rangeHeader);
+        if (range != null) {
+            if (contentLength == 0 || !isSatisfiable(range, contentLength)) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                return;
+            }
+
+            start = range.getRangeStart(contentLength);
+            long end = range.getRangeEnd(contentLength);
+            count = end - start + 1;
+
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+
+        // Content length can exceed the maximum integer value, so the header is set directly
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(count));
+
         try {
-            return new ResponseEntity<byte[]>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            contentObject.transferTo(start, count, responseChannel);
+            response.flushBuffer();
         } catch (Exception e) {
             throw new FlowableException("Error getting content item data " + contentItemId, e);
         }
     }
 
+    /**
+     * @return the requested range, or null when no range or multiple ranges were requested, or when the range header can't be parsed.
+     */
+    protected HttpRange getSingleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            if (ranges.size() == 1) {
+                return ranges.get(0);
+            }
+        } catch (IllegalArgumentException e) {
+            // An invalid range header is ignored, the full content is returned
+        }
+        return null;
+    }
+
+    protected boolean isSatisfiable(HttpRange range, long contentLength) {
+        try {
+            return range.getRangeStart(contentLength) < contentLength;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "## Save the content item data with an attached file\n\n"
             + "The request should be of type multipart/form-data. There should be a single file-part included with the binary value of the content item.")
     @ApiResponses(value = {
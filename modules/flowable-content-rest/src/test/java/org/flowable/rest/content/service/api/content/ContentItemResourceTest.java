@@ -92,6 +92,46 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null, "12345", null, "test", "test2", binaryContent);
+
+        try {
+            // Get a single range of the content item data
+            HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(
+                    ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            httpGet.setHeader("Range", "bytes=5-10");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+
+            assertEquals("bytes 5-10/22", response.getFirstHeader("Content-Range").getValue());
+            assertEquals("bytes", response.getFirstHeader("Accept-Ranges").getValue());
+            assertEquals("is bin", IOUtils.toString(response.getEntity().getContent()));
+            closeResponse(response);
+
+            // Suffix range
+            httpGet.setHeader("Range", "bytes=-7");
+            response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertEquals("bytes 15-21/22", response.getFirstHeader("Content-Range").getValue());
+            assertEquals("content", IOUtils.toString(response.getEntity().getContent()));
+            closeResponse(response);
+
+            // Range starting beyond the content
+            httpGet.setHeader("Range", "bytes=100-");
+            response = executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertEquals("bytes */22", response.getFirstHeader("Content-Range").getValue());
+            closeResponse(response);
+
+            // Multiple ranges are not supported, the full content is returned
+            httpGet.setHeader("Range", "bytes=0-3,5-6");
+            response = executeRequest(httpGet, HttpStatus.SC_OK);
+            assertEquals("This is binary content", IOUtils.toString(response.getEntity().getContent()));
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null, "12345", null, "test", "test2");
 
@@ -16,11 +16,17 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import javax.xml.namespace.QName;
 
 import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.ClientCallback;
 import org.apache.cxf.interceptor.Fault;
 import org.apache.cxf.jaxws.endpoint.dynamic.JaxWsDynamicClientFactory;
 import org.apache.cxf.message.Message;
@@ -30,18 +36,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A CXF's synchronous web service client
+ * A CXF's web service client supporting synchronous and asynchronous calls.
+ * <p>
+ * Generating the dynamic client of a WSDL compiles its JAXB classes, so clients are cached per WSDL and JAXB bindings and shared by all web service tasks (including the ones
+ * of later process definition versions) using the WSDL. Shared clients use a thread local request context, which is the mode CXF supports for invoking one client from
+ * several threads concurrently, so the endpoint address overrides of a call never leak into another one.
  * 
  * @author Esteban Robles Luna
  */
-public class CxfWebServiceClient implements SyncWebServiceClient {
+public class CxfWebServiceClient implements AsyncWebServiceClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CxfWebServiceClient.class);
 
+    protected static final ConcurrentMap<String, FutureTask<Client>> CLIENTS = new ConcurrentHashMap<String, FutureTask<Client>>();
+
     protected Client client;
 
     public CxfWebServiceClient(String wsdl) {
-        JaxWsDynamicClientFactory dcf = JaxWsDynamicClientFactory.newInstance();
         Enumeration<URL> xjcBindingUrls;
         try {
             xjcBindingUrls = Thread.currentThread().getContextClassLoader()
@@ -52,8 +63,7 @@ public class CxfWebServiceClient implements SyncWebServiceClient {
                     throw new FlowableException("Several JAXB binding definitions found for flowable-cxf: "
                             + CxfWSDLImporter.JAXB_BINDINGS_RESOURCE);
                 }
-                this.client = dcf.createClient(wsdl, Arrays.asList(new String[] { xjcBindingUrl.toString() }));
-                this.client.getRequestContext().put("org.apache.cxf.stax.force-start-document", Boolean.TRUE);
+                this.client = getOrCreateClient(wsdl, xjcBindingUrl.toString());
             } else {
                 throw new FlowableException("The JAXB binding definitions are not found for flowable-cxf: "
                         + CxfWSDLImporter.JAXB_BINDINGS_RESOURCE);
@@ -63,28 +73,113 @@ public class CxfWebServiceClient implements SyncWebServiceClient {
         }
     }
 
+    protected static Client getOrCreateClient(final String wsdl, final String xjcBindingUrl) {
+        String key = wsdl + '|' + xjcBindingUrl;
+        FutureTask<Client> clientTask = CLIENTS.get(key);
+        if (clientTask == null) {
+            FutureTask<Client> newClientTask = new FutureTask<Client>(new Callable<Client>() {
+
+                public Client call() throws Exception {
+                    return createClient(wsdl, xjcBindingUrl);
+                }
+            });
+            clientTask = CLIENTS.putIfAbsent(key, newClientTask);
+            if (clientTask == null) {
+                clientTask = newClientTask;
+                clientTask.run();
+            }
+        }
+
+        try {
+            return clientTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while creating a web-service client for WSDL '" + wsdl + "'.", e);
+        } catch (ExecutionException e) {
+            // don't cache failures, the WSDL may become available later on
+            CLIENTS.remove(key, clientTask);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("An error occurs creating a web-service client for WSDL '" + wsdl + "'.", e.getCause());
+        }
+    }
+
+    protected static Client createClient(String wsdl, String xjcBindingUrl) {
+        JaxWsDynamicClientFactory dcf = JaxWsDynamicClientFactory.newInstance();
+        Client client = dcf.createClient(wsdl, Arrays.asList(new String[] { xjcBindingUrl }));
+        // set on the shared context before switching, thread local contexts are initialized from it
+        client.getRequestContext().put("org.apache.cxf.stax.force-start-document", Boolean.TRUE);
+        client.setThreadLocalRequestContext(true);
+        return client;
+    }
+
+    /**
+     * Removes all cached clients, the next web service tasks will generate their clients again.
+     */
+    public static void clearClientCache() {
+        CLIENTS.clear();
+    }
+
     public Object[] send(String methodName, Object[] arguments, ConcurrentMap<QName, URL> overridenEndpointAddresses) throws Exception {
         try {
-            URL newEndpointAddress = null;
-            if (overridenEndpointAddresses != null) {
-                newEndpointAddress = overridenEndpointAddresses
-                        .get(this.client.getEndpoint().getEndpointInfo().getName());
+            prepareRequestContext(overridenEndpointAddresses);
+            return client.invoke(methodName, arguments);
+        } catch (Exception e) {
+            throw convertException(e);
+        }
+    }
+
+    public void sendAsync(String methodName, Object[] arguments, ConcurrentMap<QName, URL> overridenEndpointAddresses, final AsyncWebServiceCallback callback) throws Exception {
+        ClientCallback clientCallback = new ClientCallback() {
+
+            @Override
+            public void handleResponse(Map<String, Object> ctx, Object[] res) {
+                super.handleResponse(ctx, res);
+                callback.onResponse(res);
             }
 
-            if (newEndpointAddress != null) {
-                this.client.getRequestContext().put(Message.ENDPOINT_ADDRESS, newEndpointAddress.toExternalForm());
+            @Override
+            public void handleException(Map<String, Object> ctx, Throwable ex) {
+                super.handleException(ctx, ex);
+                callback.onFault(convertException(ex instanceof Exception ? (Exception) ex : new FlowableException(ex.getMessage(), ex)));
             }
-            return client.invoke(methodName, arguments);
-        } catch (Fault e) {
+        };
+
+        try {
+            prepareRequestContext(overridenEndpointAddresses);
+            client.invoke(clientCallback, methodName, arguments);
+        } catch (Exception e) {
+            throw convertException(e);
+        }
+    }
+
+    protected void prepareRequestContext(ConcurrentMap<QName, URL> overridenEndpointAddresses) {
+        URL newEndpointAddress = null;
+        if (overridenEndpointAddresses != null) {
+            newEndpointAddress = overridenEndpointAddresses
+                    .get(this.client.getEndpoint().getEndpointInfo().getName());
+        }
+
+        // the request context is bound to the current thread, reset it so a previous override doesn't apply
+        if (newEndpointAddress != null) {
+            this.client.getRequestContext().put(Message.ENDPOINT_ADDRESS, newEndpointAddress.toExternalForm());
+        } else {
+            this.client.getRequestContext().remove(Message.ENDPOINT_ADDRESS);
+        }
+    }
+
+    protected RuntimeException convertException(Exception e) {
+        if (e instanceof Fault) {
             LOGGER.debug("Technical error calling WS", e);
-            throw new FlowableException(e.getMessage(), e);
-        } catch (RuntimeException e) {
+            return new FlowableException(e.getMessage(), e);
+        } else if (e instanceof RuntimeException) {
             LOGGER.debug("Technical error calling WS", e);
-            throw new FlowableException(e.getMessage(), e);
-        } catch (Exception e) {
+            return new FlowableException(e.getMessage(), e);
+        } else {
             // Other exceptions should be associated to business fault defined in the service WSDL
             LOGGER.debug("Business error calling WS", e);
-            throw new BpmnError(e.getClass().getName(), e.getMessage());
+            return new BpmnError(e.getClass().getName(), e.getMessage());
         }
     }
 }
@@ -24,8 +24,12 @@ import javax.xml.namespace.QName;
 import org.apache.cxf.binding.soap.SoapFault;
 import org.apache.cxf.interceptor.Fault;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 
@@ -132,4 +136,103 @@ public class WebServiceTaskTest extends AbstractWebServiceTaskTest {
         assertTrue(processInstance.isEnded());
     }
 
+    @Deployment(resources = "org/flowable/engine/impl/webservice/WebServiceTaskTest.testWebServiceInvocation.bpmn20.xml")
+    public void testAsyncWebServiceInvocation() throws Exception {
+
+        assertEquals(-1, webServiceMock.getCount());
+
+        processEngineConfiguration.setWsAsyncInvocationEnabled(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("webServiceInvocation");
+            assertFalse(processInstance.isEnded());
+            assertNotNull(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("webService").singleResult());
+
+            waitForProcessInstanceToEnd(processInstance.getId());
+            assertEquals(0, webServiceMock.getCount());
+        } finally {
+            processEngineConfiguration.setWsAsyncInvocationEnabled(false);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/impl/webservice/WebServiceTaskTest.testFaultManagement.bpmn20.xml")
+    public void testAsyncFaultManagement() throws Exception {
+
+        webServiceMock.setTo(Integer.MAX_VALUE);
+        processEngineConfiguration.setWsAsyncInvocationEnabled(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("webServiceInvocation");
+            waitForProcessInstanceToEnd(processInstance.getId());
+
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                    .processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("theEndWithError", historicProcessInstance.getEndActivityId());
+        } finally {
+            processEngineConfiguration.setWsAsyncInvocationEnabled(false);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/impl/webservice/WebServiceTaskTest.testWebServiceInvocation.bpmn20.xml")
+    public void testAsyncWebServiceResponseHandedToJob() throws Exception {
+
+        // the first trigger with the response fails, the response is then continued by a job
+        FlowableEventListener failingListener = new FlowableEventListener() {
+
+            protected boolean failed;
+
+            public void onEvent(FlowableEvent event) {
+                if (!failed) {
+                    failed = true;
+                    throw new FlowableException("Cannot handle the response now");
+                }
+            }
+
+            public boolean isFailOnException() {
+                return true;
+            }
+        };
+
+        runtimeService.addEventListener(failingListener, FlowableEngineEventType.ACTIVITY_SIGNALED);
+        processEngineConfiguration.setWsAsyncInvocationEnabled(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("webServiceInvocation");
+
+            long timeout = System.currentTimeMillis() + 10000L;
+            while (managementService.createJobQuery().processInstanceId(processInstance.getId()).count() == 0) {
+                if (System.currentTimeMillis() > timeout) {
+                    fail("No job was created for the web service response");
+                }
+                Thread.sleep(100L);
+            }
+            assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+            Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            managementService.executeJob(job.getId());
+
+            assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+            assertEquals(0, webServiceMock.getCount());
+        } finally {
+            processEngineConfiguration.setWsAsyncInvocationEnabled(false);
+            runtimeService.removeEventListener(failingListener);
+        }
+    }
+
+    public void testClientSharedPerWsdl() throws Exception {
+        String wsdl = WEBSERVICE_MOCK_ADDRESS + "?wsdl";
+        CxfWebServiceClient firstClient = new CxfWebServiceClient(wsdl);
+        CxfWebServiceClient secondClient = new CxfWebServiceClient(wsdl);
+
+        assertSame(firstClient.client, secondClient.client);
+        assertTrue(firstClient.client.isThreadLocalRequestContext());
+    }
+
+    protected void waitForProcessInstanceToEnd(String processInstanceId) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() > 0) {
+            if (System.currentTimeMillis() > timeout) {
+                fail("Process instance " + processInstanceId + " did not end in time");
+            }
+            Thread.sleep(100L);
+        }
+    }
+
 }
@@ -13,6 +13,7 @@
 package org.flowable.dmn.engine;
 
 import java.io.InputStream;
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -86,6 +87,7 @@ import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.runtime.Clock;
@@ -174,6 +176,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
     protected Map<String, Method> customExpressionFunctions = new HashMap<String, Method>();
     protected Map<Class<?>, PropertyHandler> customPropertyHandlers = new HashMap<Class<?>, PropertyHandler>();
 
+    /**
+     * The maximum number of compiled MVEL expressions kept by the rule engine executor. A value of zero or less disables the cache.
+     */
+    protected int expressionCacheSize = ExpressionCache.DEFAULT_CACHE_LIMIT;
+
     // HIT POLICIES
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
     protected Map<String, AbstractHitPolicy> customHitPolicyBehaviors;
@@ -608,7 +615,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
     // rule engine executor
     /////////////////////////////////////////////////////////////
     public void initRuleEngineExecutor() {
-        ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors);
+        if (expressionCacheSize > 0) {
+            ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, new ExpressionCache<Serializable>(expressionCacheSize));
+        } else {
+            ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors);
+        }
     }
 
 
@@ -1034,6 +1045,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    public DmnEngineConfiguration setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        return this;
+    }
+
     public Map<Class<?>, PropertyHandler> getCustomPropertyHandlers() {
         return customPropertyHandlers;
     }
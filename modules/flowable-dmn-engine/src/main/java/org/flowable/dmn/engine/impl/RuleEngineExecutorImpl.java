@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
@@ -38,6 +39,7 @@ import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.RuleInputClauseContainer;
 import org.flowable.dmn.model.RuleOutputClauseContainer;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.mvel2.integration.PropertyHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,10 +53,22 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
 
+    /**
+     * Compiled MVEL expressions, keyed by expression text. The compiled expressions depend on the custom expression functions that are imported in the parser context, so the cache is
+     * cleared when a different set of custom expression functions is passed.
+     */
+    protected ExpressionCache<Serializable> expressionCache;
+    protected volatile Map<String, Method> cachedCustomExpressionFunctions;
+
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
         this.hitPolicyBehaviors = hitPolicyBehaviors;
     }
 
+    public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionCache<Serializable> expressionCache) {
+        this.hitPolicyBehaviors = hitPolicyBehaviors;
+        this.expressionCache = expressionCache;
+    }
+
     /**
      * Executes the given decision table and creates the outcome results
      *
@@ -79,6 +93,14 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, inputVariables,
             customExpressionFunctions, propertyHandlers);
 
+        if (expressionCache != null) {
+            if (cachedCustomExpressionFunctions != customExpressionFunctions) {
+                expressionCache.clear();
+                cachedCustomExpressionFunctions = customExpressionFunctions;
+            }
+            executionContext.setExpressionCache(expressionCache);
+        }
+
         List<Map<String, Object>> decisionResult = null;
         RuleEngineExecutionResult executionResult;
         try {
@@ -327,4 +349,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
         }
     }
-}
\ No newline at end of file
+
+    public ExpressionCache<Serializable> getExpressionCache() {
+        return expressionCache;
+    }
+
+    public void setExpressionCache(ExpressionCache<Serializable> expressionCache) {
+        this.expressionCache = expressionCache;
+    }
+}
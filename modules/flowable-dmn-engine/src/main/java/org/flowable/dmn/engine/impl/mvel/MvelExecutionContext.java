@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.mvel;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -22,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.model.BuiltinAggregator;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.mvel2.ParserContext;
 import org.mvel2.integration.PropertyHandler;
 
@@ -34,6 +36,7 @@ public class MvelExecutionContext {
     protected List<Map<String, Object>> decisionResults;
     protected Map<String, Object> stackVariables;
     protected ParserContext parserContext;
+    protected ExpressionCache<Serializable> expressionCache;
     protected Map<Class<?>, PropertyHandler> propertyHandlers = new HashMap<>();
     protected DecisionExecutionAuditContainer auditContainer;
     protected Map<String, List<Object>> outputValues = new HashMap<>();
@@ -95,6 +98,14 @@ public class MvelExecutionContext {
         this.parserContext = parserContext;
     }
 
+    public ExpressionCache<Serializable> getExpressionCache() {
+        return expressionCache;
+    }
+
+    public void setExpressionCache(ExpressionCache<Serializable> expressionCache) {
+        this.expressionCache = expressionCache;
+    }
+
     public Map<Class<?>, PropertyHandler> getPropertyHandlers() {
         return propertyHandlers;
     }
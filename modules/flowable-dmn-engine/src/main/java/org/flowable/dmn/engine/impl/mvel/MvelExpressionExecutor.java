@@ -19,6 +19,7 @@ import org.flowable.dmn.model.InputClause;
 import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.OutputClause;
 import org.flowable.dmn.model.UnaryTests;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.mvel2.MVEL;
 import org.mvel2.integration.PropertyHandlerFactory;
 import org.slf4j.Logger;
@@ -56,7 +57,7 @@ public class MvelExpressionExecutor {
         String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
 
         // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        Serializable compiledExpression = compileExpression(parsedExpression, executionContext);
 
         // execute MVEL expression
         Boolean result;
@@ -83,7 +84,7 @@ public class MvelExpressionExecutor {
         }
 
         // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        Serializable compiledExpression = compileExpression(outputEntry.getText(), executionContext);
 
         // execute MVEL expression
         Object result = null;
@@ -97,4 +98,20 @@ public class MvelExpressionExecutor {
 
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Compiles the given MVEL expression, reusing a previously compiled version of the same expression text when the execution context has an expression cache.
+     */
+    public static Serializable compileExpression(String expression, MvelExecutionContext executionContext) {
+        ExpressionCache<Serializable> expressionCache = executionContext.getExpressionCache();
+        if (expressionCache == null) {
+            return MVEL.compileExpression(expression, executionContext.getParserContext());
+        }
+
+        Serializable compiledExpression = expressionCache.get(expression);
+        if (compiledExpression == null) {
+            compiledExpression = expressionCache.put(expression, MVEL.compileExpression(expression, executionContext.getParserContext()));
+        }
+        return compiledExpression;
+    }
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.el;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of parsed (or compiled) expressions, keyed by the expression text. Used by the expression managers of the engines so that the same expression text isn't parsed again every time an
+ * expression object is created for it.
+ * 
+ * Lookups don't lock: the cache is backed by a {@link ConcurrentHashMap}. When the limit is reached, the expressions that were added first are evicted. The cached objects must be immutable or at
+ * least safe to be used by multiple threads at the same time.
+ */
+public class ExpressionCache<T> {
+
+    public static final int DEFAULT_CACHE_LIMIT = 4096;
+
+    protected final int limit;
+    protected final ConcurrentMap<String, T> cache;
+    protected final Queue<String> insertionOrder = new ConcurrentLinkedQueue<String>();
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+
+    public ExpressionCache() {
+        this(DEFAULT_CACHE_LIMIT);
+    }
+
+    public ExpressionCache(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Expression cache limit must be a positive number, but was " + limit);
+        }
+        this.limit = limit;
+        this.cache = new ConcurrentHashMap<String, T>(Math.min(limit, 256));
+    }
+
+    /**
+     * @return the cached expression for the given expression text, or null if it is not cached (which counts as a miss).
+     */
+    public T get(String expressionText) {
+        T expression = cache.get(expressionText);
+        if (expression != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return expression;
+    }
+
+    /**
+     * Adds the expression to the cache, unless another thread did so already.
+     * 
+     * @return the expression that is cached for the expression text after this call.
+     */
+    public T put(String expressionText, T expression) {
+        T existingExpression = cache.putIfAbsent(expressionText, expression);
+        if (existingExpression != null) {
+            return existingExpression;
+        }
+
+        insertionOrder.add(expressionText);
+        while (cache.size() > limit) {
+            String eldestExpressionText = insertionOrder.poll();
+            if (eldestExpressionText == null) {
+                break;
+            }
+            cache.remove(eldestExpressionText);
+        }
+        return expression;
+    }
+
+    public void clear() {
+        cache.clear();
+        insertionOrder.clear();
+    }
+
+    public void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the ratio of lookups that were served from the cache, between 0 and 1 (0 when there were no lookups yet).
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+}
@@ -81,7 +81,10 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         if (commandContext != null) {
             BpmnModel bpmnModel = extractBpmnModelFromEvent(event);
             if (bpmnModel != null) {
-                ((FlowableEventSupport) bpmnModel.getEventSupport()).dispatchEvent(event);
+                FlowableEventSupport processEventSupport = (FlowableEventSupport) bpmnModel.getEventSupport();
+                if (processEventSupport.hasListeners()) {
+                    processEventSupport.dispatchEvent(event);
+                }
             }
         }
 
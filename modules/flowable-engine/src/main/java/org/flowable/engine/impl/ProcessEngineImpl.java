@@ -120,6 +120,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             asyncExecutor.shutdown();
         }
 
+        if (processEngineConfiguration.isProcessValidationExecutorServiceCreated()) {
+            processEngineConfiguration.getProcessValidationExecutorService().shutdown();
+        }
+
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
             closeRunnable.run();
@@ -15,6 +15,7 @@ package org.flowable.engine.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.common.api.FlowableException;
@@ -24,6 +25,7 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.persistence.entity.SuspensionState;
+import org.flowable.engine.impl.task.TaskSearchIndex;
 import org.flowable.engine.impl.variable.VariableTypes;
 import org.flowable.engine.task.DelegationState;
 import org.flowable.engine.task.Task;
@@ -48,6 +50,9 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected String nameLikeIgnoreCase;
     protected List<String> nameList;
     protected List<String> nameListIgnoreCase;
+    protected String searchText;
+    protected List<List<String>> searchTaskIdChunks;
+    protected String searchTextLikeIgnoreCase;
     protected String description;
     protected String descriptionLike;
     protected String descriptionLikeIgnoreCase;
@@ -252,6 +257,20 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery taskSearchText(String searchText) {
+        if (searchText == null) {
+            throw new FlowableIllegalArgumentException("Task searchText is null");
+        }
+
+        if (orActive) {
+            currentOrQueryObject.searchText = searchText;
+        } else {
+            this.searchText = searchText;
+        }
+        return this;
+    }
+
     public TaskQueryImpl taskDescription(String description) {
         if (description == null) {
             throw new FlowableIllegalArgumentException("Description is null");
@@ -1176,6 +1195,33 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    /**
+     * Resolves the search text to the ids of the matching tasks using the {@link TaskSearchIndex}, or to a like on the task name when no index is configured.
+     */
+    protected void ensureSearchTextResolved() {
+        if (searchText != null) {
+            TaskSearchIndex taskSearchIndex = Context.getProcessEngineConfiguration().getTaskSearchIndex();
+            if (taskSearchIndex == null) {
+                searchTextLikeIgnoreCase = "%" + searchText.toLowerCase() + "%";
+
+            } else {
+                Set<String> taskIds = taskSearchIndex.findTaskIds(searchText);
+                if (taskIds != null) {
+                    // Some databases limit the number of expressions in an IN list to 1000
+                    List<String> taskIdList = new ArrayList<String>(taskIds);
+                    searchTaskIdChunks = new ArrayList<List<String>>();
+                    for (int i = 0; i < taskIdList.size(); i += 1000) {
+                        searchTaskIdChunks.add(new ArrayList<String>(taskIdList.subList(i, Math.min(i + 1000, taskIdList.size()))));
+                    }
+                }
+            }
+        }
+
+        for (TaskQueryImpl orQueryObject : orQueryObjects) {
+            orQueryObject.ensureSearchTextResolved();
+        }
+    }
+
     // or query ////////////////////////////////////////////////////////////////
 
     @Override
@@ -1286,6 +1332,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
     public List<Task> executeList(CommandContext commandContext, Page page) {
         ensureVariablesInitialized();
+        ensureSearchTextResolved();
         checkQueryOk();
         List<Task> tasks = null;
         if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
@@ -1305,6 +1352,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
+        ensureSearchTextResolved();
         checkQueryOk();
         return commandContext.getTaskEntityManager().findTaskCountByQueryCriteria(this);
     }
@@ -1574,6 +1622,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return nameLikeIgnoreCase;
     }
 
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public List<List<String>> getSearchTaskIdChunks() {
+        return searchTaskIdChunks;
+    }
+
+    public String getSearchTextLikeIgnoreCase() {
+        return searchTextLikeIgnoreCase;
+    }
+
     public String getDescriptionLikeIgnoreCase() {
         return descriptionLikeIgnoreCase;
     }
@@ -19,6 +19,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.impl.cmd.AcquireJobsCmd;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +77,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         try {
             AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity));
 
+            ProcessEngineMetrics processEngineMetrics = asyncExecutor.getProcessEngineConfiguration().getProcessEngineMetrics();
+            if (processEngineMetrics != null) {
+                processEngineMetrics.recordAcquiredAsyncJobs(acquiredJobs.size());
+            }
+
             List<JobEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             log.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
@@ -19,6 +19,7 @@ import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
             try {
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
+                ProcessEngineMetrics processEngineMetrics = asyncExecutor.getProcessEngineConfiguration().getProcessEngineMetrics();
+                if (processEngineMetrics != null) {
+                    processEngineMetrics.recordAcquiredTimerJobs(acquiredJobs.size());
+                }
+
                 commandExecutor.execute(new Command<Void>() {
 
                     @Override
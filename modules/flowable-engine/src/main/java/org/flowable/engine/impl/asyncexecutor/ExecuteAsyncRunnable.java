@@ -95,9 +95,13 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected void executeJob() {
         try {
             processEngineConfiguration.getCommandExecutor().execute(new ExecuteAsyncJobCmd(jobId));
+            if (processEngineConfiguration.getProcessEngineMetrics() != null) {
+                processEngineConfiguration.getProcessEngineMetrics().recordExecutedJob();
+            }
 
         } catch (final FlowableOptimisticLockingException e) {
 
+            recordFailedJob();
             handleFailedJob(e);
 
             if (log.isDebugEnabled()) {
@@ -108,6 +112,7 @@ public class ExecuteAsyncRunnable implements Runnable {
             }
 
         } catch (Throwable exception) {
+            recordFailedJob();
             handleFailedJob(exception);
 
             // Finally, Throw the exception to indicate the ExecuteAsyncJobCmd failed
@@ -116,6 +121,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    protected void recordFailedJob() {
+        if (processEngineConfiguration.getProcessEngineMetrics() != null) {
+            processEngineConfiguration.getProcessEngineMetrics().recordFailedJob();
+        }
+    }
+
     protected void unlockJobIfNeeded() {
         try {
             if (job.isExclusive()) {
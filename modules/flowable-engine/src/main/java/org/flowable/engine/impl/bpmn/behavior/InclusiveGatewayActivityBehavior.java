@@ -22,6 +22,8 @@ import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,11 +67,15 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
 
         Collection<ExecutionEntity> allExecutions = executionEntityManager.findChildExecutionsByProcessInstanceId(execution.getProcessInstanceId());
         Iterator<ExecutionEntity> executionIterator = allExecutions.iterator();
+        ProcessReachabilityIndex reachabilityIndex = null;
         boolean oneExecutionCanReachGateway = false;
         while (!oneExecutionCanReachGateway && executionIterator.hasNext()) {
             ExecutionEntity executionEntity = executionIterator.next();
             if (!executionEntity.getActivityId().equals(execution.getCurrentActivityId())) {
-                boolean canReachGateway = ExecutionGraphUtil.isReachable(execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId());
+                if (reachabilityIndex == null) {
+                    reachabilityIndex = ProcessDefinitionUtil.getProcessReachabilityIndex(execution.getProcessDefinitionId());
+                }
+                boolean canReachGateway = ExecutionGraphUtil.isReachable(reachabilityIndex, execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId());
                 if (canReachGateway) {
                     oneExecutionCanReachGateway = true;
                 }
@@ -67,6 +67,7 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
     protected Expression loopCardinalityExpression;
     protected Expression completionConditionExpression;
     protected Expression collectionExpression;
+    protected Expression instanceChunkSizeExpression;
     protected String collectionVariable;
     protected String collectionElementVariable;
     // default variable name for loop counter for inner instances (as described in the spec)
@@ -194,11 +195,16 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
             Collection collection = (Collection) resolveCollection(execution);
 
             Object value = null;
-            int index = 0;
-            Iterator it = collection.iterator();
-            while (index <= loopCounter) {
-                value = it.next();
-                index++;
+            if (collection instanceof List) {
+                value = ((List) collection).get(loopCounter);
+
+            } else {
+                int index = 0;
+                Iterator it = collection.iterator();
+                while (index <= loopCounter) {
+                    value = it.next();
+                    index++;
+                }
             }
             setLoopVariable(execution, collectionElementVariable, value);
         }
@@ -263,6 +269,32 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         }
     }
 
+    /**
+     * @return the number of instances that should be created in one transaction, or 0 if all instances are created at once.
+     */
+    protected int resolveInstanceChunkSize(DelegateExecution execution) {
+        if (instanceChunkSizeExpression == null) {
+            return 0;
+        }
+
+        Object value = instanceChunkSizeExpression.getValue(execution);
+        int instanceChunkSize;
+        if (value instanceof Number) {
+            instanceChunkSize = ((Number) value).intValue();
+
+        } else if (value instanceof String) {
+            instanceChunkSize = Integer.valueOf((String) value);
+
+        } else {
+            throw new FlowableIllegalArgumentException("Could not resolve instanceChunkSize expression '" + instanceChunkSizeExpression.getExpressionText() + "': not a number nor number String");
+        }
+
+        if (instanceChunkSize < 0) {
+            throw new FlowableIllegalArgumentException("Invalid instance chunk size: must be non-negative integer value, but was " + instanceChunkSize);
+        }
+        return instanceChunkSize;
+    }
+
     protected boolean completionConditionSatisfied(DelegateExecution execution) {
         if (completionConditionExpression != null) {
             Object value = completionConditionExpression.getValue(execution);
@@ -357,6 +389,14 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         this.collectionExpression = collectionExpression;
     }
 
+    public Expression getInstanceChunkSizeExpression() {
+        return instanceChunkSizeExpression;
+    }
+
+    public void setInstanceChunkSizeExpression(Expression instanceChunkSizeExpression) {
+        this.instanceChunkSizeExpression = instanceChunkSizeExpression;
+    }
+
     public String getCollectionVariable() {
         return collectionVariable;
     }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.bpmn.behavior;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
@@ -30,9 +31,13 @@ import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityManager;
 
 /**
  * @author Joram Barrez
@@ -42,6 +47,9 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    // Only used when the instances are created in chunks, suffixed with the index of the chunk
+    protected final String NUMBER_OF_COMPLETED_INSTANCES_OF_CHUNK = "nrOfCompletedInstancesOfChunk";
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -61,22 +69,20 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
-        List<DelegateExecution> concurrentExecutions = new ArrayList<DelegateExecution>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            DelegateExecution concurrentExecution = Context.getCommandContext().getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) execution);
-            concurrentExecution.setCurrentFlowElement(activity);
-            concurrentExecution.setActive(true);
-            concurrentExecution.setScope(false);
-
-            concurrentExecutions.add(concurrentExecution);
-            logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
+        // With an instance chunk size, only the first chunk is created in this transaction, the others are created by async jobs
+        int nrOfInstancesToCreate = nrOfInstances;
+        int instanceChunkSize = resolveInstanceChunkSize(execution);
+        if (instanceChunkSize > 0 && instanceChunkSize < nrOfInstances) {
+            nrOfInstancesToCreate = instanceChunkSize;
+            scheduleInstanceChunk((ExecutionEntity) execution, nrOfInstancesToCreate);
         }
 
+        List<DelegateExecution> concurrentExecutions = createConcurrentExecutions(execution, 0, nrOfInstancesToCreate, nrOfInstances);
+
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+        for (int loopCounter = 0; loopCounter < nrOfInstancesToCreate; loopCounter++) {
             DelegateExecution concurrentExecution = concurrentExecutions.get(loopCounter);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
@@ -98,6 +104,100 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         return nrOfInstances;
     }
 
+    /**
+     * Creates the instances of the next chunk, starting from the given loop counter. Called by the {@link ParallelMultiInstanceChunkJobHandler} when the multi-instance has an instance chunk size.
+     */
+    public void createInstanceChunk(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        int instanceChunkSize = resolveInstanceChunkSize(multiInstanceRootExecution);
+        int toLoopCounter = nrOfInstances;
+        if (instanceChunkSize > 0 && fromLoopCounter + instanceChunkSize < nrOfInstances) {
+            toLoopCounter = fromLoopCounter + instanceChunkSize;
+            scheduleInstanceChunk(multiInstanceRootExecution, toLoopCounter);
+        }
+
+        // Instances of the previous chunks could be completing concurrently
+        multiInstanceRootExecution.forceUpdate();
+
+        List<DelegateExecution> concurrentExecutions = createConcurrentExecutions(multiInstanceRootExecution, fromLoopCounter, toLoopCounter, nrOfInstances);
+        for (int loopCounter = fromLoopCounter; loopCounter < toLoopCounter; loopCounter++) {
+            DelegateExecution concurrentExecution = concurrentExecutions.get(loopCounter - fromLoopCounter);
+            if (concurrentExecution.isActive() && !concurrentExecution.isEnded() && concurrentExecution.getParent().isMultiInstanceRoot() && !concurrentExecution.getParent().isEnded()) {
+                setLoopVariable(concurrentExecution, getCollectionElementIndexVariable(), loopCounter);
+                executeOriginalBehavior(concurrentExecution, loopCounter);
+            }
+        }
+    }
+
+    protected List<DelegateExecution> createConcurrentExecutions(DelegateExecution multiInstanceRootExecution, int fromLoopCounter, int toLoopCounter, int nrOfInstances) {
+        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+        List<DelegateExecution> concurrentExecutions = new ArrayList<DelegateExecution>(toLoopCounter - fromLoopCounter);
+        for (int loopCounter = fromLoopCounter; loopCounter < toLoopCounter; loopCounter++) {
+            DelegateExecution concurrentExecution = executionEntityManager.createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+            concurrentExecution.setCurrentFlowElement(activity);
+            concurrentExecution.setActive(true);
+            concurrentExecution.setScope(false);
+
+            concurrentExecutions.add(concurrentExecution);
+            logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
+        }
+        return concurrentExecutions;
+    }
+
+    protected void scheduleInstanceChunk(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter) {
+        JobManager jobManager = Context.getCommandContext().getJobManager();
+        JobEntity job = jobManager.createAsyncJob(multiInstanceRootExecution, true);
+        job.setJobHandlerType(ParallelMultiInstanceChunkJobHandler.TYPE);
+        job.setJobHandlerConfiguration(String.valueOf(fromLoopCounter));
+        jobManager.scheduleAsyncJob(job);
+    }
+
+    protected void deleteInstanceChunkJobs(ExecutionEntity multiInstanceRootExecution) {
+        CommandContext commandContext = Context.getCommandContext();
+        JobEntityManager jobEntityManager = commandContext.getJobEntityManager();
+        List<JobEntity> jobs = jobEntityManager.findJobsByExecutionId(multiInstanceRootExecution.getId());
+        for (JobEntity job : jobs) {
+            // The job creating the current chunk is already deleted
+            if (ParallelMultiInstanceChunkJobHandler.TYPE.equals(job.getJobHandlerType()) && !commandContext.getDbSqlSession().isEntityToBeDeleted(job)) {
+                jobEntityManager.delete(job);
+            }
+        }
+    }
+
+    /**
+     * When instance chunks are used, a completing instance doesn't update the counters of the multi-instance root, which every instance would write. It only
+     * increments the completed instances of its own chunk. The counters of the root are the sum of the chunks: they are set as transient variables for the
+     * completion condition and are only stored when the multi-instance ends.
+     */
+    protected boolean usesChunkInstanceCounters() {
+        return instanceChunkSizeExpression != null;
+    }
+
+    protected void countCompletedInstanceOfChunk(DelegateExecution multiInstanceRootExecution, int loopCounter) {
+        int instanceChunkSize = resolveInstanceChunkSize(multiInstanceRootExecution);
+        String variableName = NUMBER_OF_COMPLETED_INSTANCES_OF_CHUNK + (instanceChunkSize > 0 ? loopCounter / instanceChunkSize : 0);
+        Integer nrOfCompletedInstancesOfChunk = getLocalLoopVariable(multiInstanceRootExecution, variableName);
+        setLoopVariable(multiInstanceRootExecution, variableName, nrOfCompletedInstancesOfChunk != null ? nrOfCompletedInstancesOfChunk + 1 : 1);
+    }
+
+    protected int sumCompletedInstancesOfChunks(DelegateExecution multiInstanceRootExecution) {
+        int nrOfCompletedInstances = 0;
+        for (Map.Entry<String, Object> variable : multiInstanceRootExecution.getVariablesLocal().entrySet()) {
+            if (variable.getKey().startsWith(NUMBER_OF_COMPLETED_INSTANCES_OF_CHUNK)) {
+                nrOfCompletedInstances += (Integer) variable.getValue();
+            }
+        }
+        return nrOfCompletedInstances;
+    }
+
+    protected void removeCompletedInstancesOfChunks(DelegateExecution multiInstanceRootExecution) {
+        for (String variableName : multiInstanceRootExecution.getVariableNamesLocal()) {
+            if (variableName.startsWith(NUMBER_OF_COMPLETED_INSTANCES_OF_CHUNK)) {
+                removeLocalLoopVariable(multiInstanceRootExecution, variableName);
+            }
+        }
+    }
+
     /**
      * Called when the wrapped {@link ActivityBehavior} calls the {@link AbstractBpmnActivityBehavior#leave(DelegateExecution)} method. Handles the completion of one of the parallel instances
      */
@@ -114,8 +214,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         int loopCounter = getLoopVariable(execution, getCollectionElementIndexVariable());
         int nrOfInstances = getLoopVariable(execution, NUMBER_OF_INSTANCES);
-        int nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
-        int nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+        int nrOfCompletedInstances = 0;
+        int nrOfActiveInstances = 0;
+        if (!usesChunkInstanceCounters()) {
+            nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
+            nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+        }
 
         Context.getCommandContext().getHistoryManager().recordActivityEnd((ExecutionEntity) execution, null);
         callActivityEndListeners(execution);
@@ -126,8 +230,17 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
         if (miRootExecution != null) { // will be null in case of empty collection
-            setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
-            setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+            if (usesChunkInstanceCounters()) {
+                countCompletedInstanceOfChunk(miRootExecution, loopCounter);
+                nrOfCompletedInstances = sumCompletedInstancesOfChunks(miRootExecution);
+                nrOfActiveInstances = nrOfInstances - nrOfCompletedInstances;
+                miRootExecution.setTransientVariableLocal(NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+                miRootExecution.setTransientVariableLocal(NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+            } else {
+                setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+                setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+            }
         }
 
         // executeCompensationBoundaryEvents(execution.getCurrentFlowElement(), execution);
@@ -206,6 +319,15 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                     }
                 }
 
+                if (usesChunkInstanceCounters() && nrOfInstances > 0) {
+                    setLoopVariable(executionToUse, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+                    setLoopVariable(executionToUse, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+                    removeCompletedInstancesOfChunks(executionToUse);
+
+                    // Chunks that weren't created yet aren't needed anymore when the completion condition is met
+                    deleteInstanceChunkJobs(executionToUse);
+                }
+
                 deleteChildExecutions(executionToUse, false, Context.getCommandContext());
                 removeLocalLoopVariable(executionToUse, getCollectionElementIndexVariable());
                 executionToUse.setScope(false);
@@ -28,6 +28,8 @@ import org.flowable.bpmn.model.Message;
 import org.flowable.bpmn.model.SendTask;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.Expression;
@@ -43,18 +45,28 @@ import org.flowable.engine.impl.bpmn.data.TransformationDataOutputAssociation;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
 import org.flowable.engine.impl.bpmn.parser.XMLImporter;
 import org.flowable.engine.impl.bpmn.webservice.BpmnInterface;
+import org.flowable.engine.impl.bpmn.webservice.MessageCallback;
 import org.flowable.engine.impl.bpmn.webservice.MessageDefinition;
 import org.flowable.engine.impl.bpmn.webservice.MessageImplicitDataInputAssociation;
 import org.flowable.engine.impl.bpmn.webservice.MessageImplicitDataOutputAssociation;
 import org.flowable.engine.impl.bpmn.webservice.MessageInstance;
 import org.flowable.engine.impl.bpmn.webservice.Operation;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.el.ExpressionManager;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.WebServiceResponseJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.impl.util.ReflectUtil;
 import org.flowable.engine.impl.webservice.WSOperation;
 import org.flowable.engine.impl.webservice.WSService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * An activity behavior that allows calling Web services
@@ -67,7 +79,11 @@ public class WebServiceActivityBehavior extends AbstractBpmnActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebServiceActivityBehavior.class);
+
     public static final String CURRENT_MESSAGE = "org.flowable.engine.impl.bpmn.CURRENT_MESSAGE";
+    public static final String RESPONSE_MESSAGE = "org.flowable.engine.impl.bpmn.RESPONSE_MESSAGE";
+    public static final String RESPONSE_FAULT = "org.flowable.engine.impl.bpmn.RESPONSE_FAULT";
 
     protected Map<String, XMLImporter> xmlImporterMap = new HashMap<String, XMLImporter>();
     protected Map<String, WSOperation> wsOperationMap = new HashMap<String, WSOperation>();
@@ -133,41 +149,120 @@ public class WebServiceActivityBehavior extends AbstractBpmnActivityBehavior {
             fillMessage(dataInputAssociations, execution);
 
             ProcessEngineConfigurationImpl processEngineConfig = Context.getProcessEngineConfiguration();
+            if (processEngineConfig.isWsAsyncInvocationEnabled()) {
+                // the activity becomes a wait state, the response triggers the execution once it arrives
+                execution.setVariable(CURRENT_MESSAGE, null);
+                sendMessageAfterCommit(operation, message, execution.getId(), processEngineConfig);
+                return;
+            }
+
             MessageInstance receivedMessage = operation.sendMessage(message,
                     processEngineConfig.getWsOverridenEndpointAddresses());
 
-            execution.setVariable(CURRENT_MESSAGE, receivedMessage);
+            handleReceivedMessage(receivedMessage, ioSpecification, dataOutputAssociations, execution);
+        } catch (Exception exc) {
+            handleException(exc, execution);
+        }
+    }
+
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        Object fault = execution.getTransientVariable(RESPONSE_FAULT);
+        if (fault instanceof Exception) {
+            handleException((Exception) fault, execution);
+            return;
+        }
 
-            if (ioSpecification != null && ioSpecification.getDataOutputRefs().size() > 0) {
-                String firstDataOutputName = ioSpecification.getDataOutputRefs().get(0);
-                if (firstDataOutputName != null) {
-                    ItemInstance outputItem = (ItemInstance) execution.getVariable(firstDataOutputName);
-                    outputItem.getStructureInstance().loadFrom(receivedMessage.getStructureInstance().toArray());
+        FlowElement flowElement = execution.getCurrentFlowElement();
+        IOSpecification ioSpecification = null;
+        String operationRef = null;
+        List<DataAssociation> dataOutputAssociations = null;
+        if (flowElement instanceof SendTask) {
+            ioSpecification = ((SendTask) flowElement).getIoSpecification();
+            operationRef = ((SendTask) flowElement).getOperationRef();
+            dataOutputAssociations = ((SendTask) flowElement).getDataOutputAssociations();
+        } else if (flowElement instanceof ServiceTask) {
+            ioSpecification = ((ServiceTask) flowElement).getIoSpecification();
+            operationRef = ((ServiceTask) flowElement).getOperationRef();
+            dataOutputAssociations = ((ServiceTask) flowElement).getDataOutputAssociations();
+        } else {
+            throw new FlowableException("Unsupported flow element type " + flowElement);
+        }
+
+        try {
+            MessageInstance receivedMessage = null;
+            Object response = execution.getTransientVariable(RESPONSE_MESSAGE);
+            if (response instanceof Object[]) {
+                // the response was stored for a WebServiceResponseJobHandler job, only the values of the message are kept
+                fillDefinitionMaps(ProcessDefinitionUtil.getBpmnModel(execution.getProcessDefinitionId()));
+                MessageDefinition outMessage = operationMap.get(operationRef).getOutMessage();
+                if (outMessage != null) {
+                    receivedMessage = outMessage.createInstance();
+                    receivedMessage.getStructureInstance().loadFrom((Object[]) response);
                 }
+            } else {
+                receivedMessage = (MessageInstance) response;
             }
+            handleReceivedMessage(receivedMessage, ioSpecification, dataOutputAssociations, execution);
+        } catch (Exception exc) {
+            handleException(exc, execution);
+        }
+    }
 
-            returnMessage(dataOutputAssociations, execution);
+    protected void handleReceivedMessage(MessageInstance receivedMessage, IOSpecification ioSpecification,
+            List<DataAssociation> dataOutputAssociations, DelegateExecution execution) {
 
-            execution.setVariable(CURRENT_MESSAGE, null);
-            leave(execution);
-        } catch (Exception exc) {
+        execution.setVariable(CURRENT_MESSAGE, receivedMessage);
 
-            Throwable cause = exc;
-            BpmnError error = null;
-            while (cause != null) {
-                if (cause instanceof BpmnError) {
-                    error = (BpmnError) cause;
-                    break;
-                }
-                cause = cause.getCause();
+        if (ioSpecification != null && ioSpecification.getDataOutputRefs().size() > 0) {
+            String firstDataOutputName = ioSpecification.getDataOutputRefs().get(0);
+            if (firstDataOutputName != null) {
+                ItemInstance outputItem = (ItemInstance) execution.getVariable(firstDataOutputName);
+                outputItem.getStructureInstance().loadFrom(receivedMessage.getStructureInstance().toArray());
             }
+        }
+
+        returnMessage(dataOutputAssociations, execution);
+
+        execution.setVariable(CURRENT_MESSAGE, null);
+        leave(execution);
+    }
 
-            if (error != null) {
-                ErrorPropagation.propagateError(error, execution);
-            } else if (exc instanceof RuntimeException) {
-                throw (RuntimeException) exc;
+    protected void handleException(Exception exc, DelegateExecution execution) {
+        Throwable cause = exc;
+        BpmnError error = null;
+        while (cause != null) {
+            if (cause instanceof BpmnError) {
+                error = (BpmnError) cause;
+                break;
             }
+            cause = cause.getCause();
         }
+
+        if (error != null) {
+            ErrorPropagation.propagateError(error, execution);
+        } else if (exc instanceof RuntimeException) {
+            throw (RuntimeException) exc;
+        }
+    }
+
+    /**
+     * Sends the message once the transaction that reached the activity has committed, so the execution is persisted before the response can trigger it.
+     */
+    protected void sendMessageAfterCommit(final Operation operation, final MessageInstance message, final String executionId,
+            final ProcessEngineConfigurationImpl processEngineConfig) {
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+            public void execute(CommandContext commandContext) {
+                MessageCallback callback = new TriggerExecutionMessageCallback(executionId, processEngineConfig);
+                try {
+                    operation.sendMessageAsync(message, processEngineConfig.getWsOverridenEndpointAddresses(), callback);
+                } catch (Exception e) {
+                    callback.onFault(e);
+                }
+            }
+        });
     }
 
     protected void initializeIoSpecification(IOSpecification activityIoSpecification, DelegateExecution execution, BpmnModel bpmnModel) {
@@ -329,4 +424,82 @@ public class WebServiceActivityBehavior extends AbstractBpmnActivityBehavior {
             return dataOutputAssociation;
         }
     }
+
+    /**
+     * Continues the waiting execution with the outcome of an asynchronous web service call. Optimistic locking failures are retried, when the execution still
+     * can't be triggered the response is stored on the execution and handed to a {@link WebServiceResponseJobHandler} job, so the job retries and dead letter
+     * handling apply.
+     */
+    protected static class TriggerExecutionMessageCallback implements MessageCallback {
+
+        protected static final int MAX_TRIGGER_ATTEMPTS = 3;
+
+        protected String executionId;
+        protected ProcessEngineConfigurationImpl processEngineConfig;
+
+        public TriggerExecutionMessageCallback(String executionId, ProcessEngineConfigurationImpl processEngineConfig) {
+            this.executionId = executionId;
+            this.processEngineConfig = processEngineConfig;
+        }
+
+        public void onMessage(MessageInstance receivedMessage) {
+            try {
+                trigger(RESPONSE_MESSAGE, receivedMessage);
+            } catch (RuntimeException e) {
+                scheduleResponseJob(RESPONSE_MESSAGE, receivedMessage != null ? receivedMessage.getStructureInstance().toArray() : null, e);
+            }
+        }
+
+        public void onFault(Exception fault) {
+            try {
+                trigger(RESPONSE_FAULT, fault);
+            } catch (RuntimeException e) {
+                scheduleResponseJob(RESPONSE_FAULT, fault, e);
+            }
+        }
+
+        protected void trigger(String variableName, Object value) {
+            Map<String, Object> transientVariables = new HashMap<String, Object>();
+            transientVariables.put(variableName, value);
+            for (int attempt = 1;; attempt++) {
+                try {
+                    processEngineConfig.getRuntimeService().trigger(executionId, null, transientVariables);
+                    return;
+                } catch (FlowableOptimisticLockingException e) {
+                    if (attempt >= MAX_TRIGGER_ATTEMPTS) {
+                        throw e;
+                    }
+                    LOGGER.debug("Execution {} was modified concurrently, retrying the web service response", executionId);
+                }
+            }
+        }
+
+        protected void scheduleResponseJob(final String variableName, final Object value, RuntimeException triggerException) {
+            LOGGER.warn("Could not continue execution {} with the web service response, handing it to a job", executionId, triggerException);
+            try {
+                processEngineConfig.getCommandExecutor().execute(new Command<Void>() {
+
+                    public Void execute(CommandContext commandContext) {
+                        ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(executionId);
+                        if (execution == null) {
+                            LOGGER.warn("Execution {} no longer exists, ignoring the web service response", executionId);
+                            return null;
+                        }
+
+                        execution.setVariableLocal(variableName, value);
+
+                        JobManager jobManager = commandContext.getJobManager();
+                        JobEntity job = jobManager.createAsyncJob(execution, true);
+                        job.setJobHandlerType(WebServiceResponseJobHandler.TYPE);
+                        job.setJobHandlerConfiguration(variableName);
+                        jobManager.scheduleAsyncJob(job);
+                        return null;
+                    }
+                });
+
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not store the web service response of execution {}", executionId, e);
+            }
+        }
+    }
 }
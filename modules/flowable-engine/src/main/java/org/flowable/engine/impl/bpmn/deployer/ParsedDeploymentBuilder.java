@@ -13,14 +13,24 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
+import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
@@ -35,6 +45,9 @@ public class ParsedDeploymentBuilder {
     protected BpmnParser bpmnParser;
     protected Map<String, Object> deploymentSettings;
 
+    protected int parseParallelism = 1;
+    protected ExecutorService parseExecutorService;
+
     public ParsedDeploymentBuilder(DeploymentEntity deployment,
             BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
         this.deployment = deployment;
@@ -42,20 +55,47 @@ public class ParsedDeploymentBuilder {
         this.deploymentSettings = deploymentSettings;
     }
 
+    /**
+     * @param parseParallelism
+     *            the number of BPMN resources of a deployment that are converted and validated at the same time.
+     * @param parseExecutorService
+     *            executes the parsing of the resources when parallelism is used. When null, a fork join pool is created for the deployment.
+     */
+    public ParsedDeploymentBuilder(DeploymentEntity deployment, BpmnParser bpmnParser, Map<String, Object> deploymentSettings,
+            int parseParallelism, ExecutorService parseExecutorService) {
+        this(deployment, bpmnParser, deploymentSettings);
+        this.parseParallelism = parseParallelism;
+        this.parseExecutorService = parseExecutorService;
+    }
+
     public ParsedDeployment build() {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<ProcessDefinitionEntity>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<ProcessDefinitionEntity, BpmnParse>();
         Map<ProcessDefinitionEntity, ResourceEntity> processDefinitionsToResourceMap = new LinkedHashMap<ProcessDefinitionEntity, ResourceEntity>();
 
+        List<ResourceEntity> bpmnResources = new ArrayList<ResourceEntity>();
+        List<BpmnParse> bpmnParses = new ArrayList<BpmnParse>();
         for (ResourceEntity resource : deployment.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                log.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+                bpmnParses.add(createBpmnParse(resource));
+            }
+        }
+
+        // The xml conversion and validation of the resources can happen in parallel,
+        // the parse handlers need the command context and are applied on this thread in resource order
+        if (bpmnParses.size() > 1 && (parseParallelism > 1 || parseExecutorService != null)) {
+            parseModelsInParallel(bpmnParses);
+        }
+
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            ResourceEntity resource = bpmnResources.get(i);
+            log.debug("Processing BPMN resource {}", resource.getName());
+            BpmnParse parse = bpmnParses.get(i).execute();
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -63,7 +103,63 @@ public class ParsedDeploymentBuilder {
                 processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
     }
 
-    protected BpmnParse createBpmnParseFromResource(ResourceEntity resource) {
+    protected void parseModelsInParallel(List<BpmnParse> bpmnParses) {
+        final ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        ExecutorService executorService = parseExecutorService;
+        boolean ownExecutorService = executorService == null;
+        if (ownExecutorService) {
+            executorService = new ForkJoinPool(Math.min(parseParallelism, bpmnParses.size()));
+        }
+
+        List<Future<BpmnParse>> futures = new ArrayList<Future<BpmnParse>>(bpmnParses.size());
+        try {
+            for (final BpmnParse bpmnParse : bpmnParses) {
+                futures.add(executorService.submit(new Callable<BpmnParse>() {
+
+                    @Override
+                    public BpmnParse call() {
+                        Thread currentThread = Thread.currentThread();
+                        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+                        currentThread.setContextClassLoader(contextClassLoader);
+                        try {
+                            return bpmnParse.parseModel(processEngineConfiguration);
+                        } finally {
+                            currentThread.setContextClassLoader(originalClassLoader);
+                        }
+                    }
+
+                }));
+            }
+
+            // Waiting in resource order, so the first invalid resource is always the one reported
+            for (Future<BpmnParse> future : futures) {
+                future.get();
+            }
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error parsing XML", e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while parsing the resources of deployment " + deployment.getName(), e);
+
+        } finally {
+            if (ownExecutorService) {
+                executorService.shutdownNow();
+            } else {
+                for (Future<BpmnParse> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    protected BpmnParse createBpmnParse(ResourceEntity resource) {
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
 
@@ -91,10 +187,30 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
-        bpmnParse.execute();
+        // Resources with the same content have the same validation result
+        if (bpmnParse.isValidateProcess()) {
+            ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+            if (processEngineConfiguration != null && processEngineConfiguration.getProcessValidationCache() != null) {
+                bpmnParse.setValidationCacheKey(getContentHash(resource.getBytes()));
+            }
+        }
+
         return bpmnParse;
     }
 
+    protected String getContentHash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder contentHash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                contentHash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return contentHash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("Could not hash the content of a resource of deployment " + deployment.getName(), e);
+        }
+    }
+
     protected boolean isBpmnResource(String resourceName) {
         for (String suffix : ResourceNameUtil.BPMN_RESOURCE_SUFFIXES) {
             if (resourceName.endsWith(suffix)) {
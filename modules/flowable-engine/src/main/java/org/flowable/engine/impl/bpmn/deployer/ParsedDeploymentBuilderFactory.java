@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
@@ -20,6 +21,8 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 public class ParsedDeploymentBuilderFactory {
 
     protected BpmnParser bpmnParser;
+    protected int parseParallelism = 1;
+    protected ExecutorService parseExecutorService;
 
     public BpmnParser getBpmnParser() {
         return bpmnParser;
@@ -29,13 +32,29 @@ public class ParsedDeploymentBuilderFactory {
         this.bpmnParser = bpmnParser;
     }
 
+    public int getParseParallelism() {
+        return parseParallelism;
+    }
+
+    public void setParseParallelism(int parseParallelism) {
+        this.parseParallelism = parseParallelism;
+    }
+
+    public ExecutorService getParseExecutorService() {
+        return parseExecutorService;
+    }
+
+    public void setParseExecutorService(ExecutorService parseExecutorService) {
+        this.parseExecutorService = parseExecutorService;
+    }
+
     public ParsedDeploymentBuilder getBuilderForDeployment(DeploymentEntity deployment) {
         return getBuilderForDeploymentAndSettings(deployment, null);
     }
 
     public ParsedDeploymentBuilder getBuilderForDeploymentAndSettings(DeploymentEntity deployment,
             Map<String, Object> deploymentSettings) {
-        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings);
+        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings, parseParallelism, parseExecutorService);
     }
 
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,6 +46,7 @@ import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.io.ResourceStreamSource;
@@ -80,11 +82,17 @@ public class BpmnParse implements BpmnXMLConstants {
     protected boolean validateSchema = true;
     protected boolean validateProcess = true;
 
+    // Key of the process validation result in the process validation cache, null when the result isn't cached
+    protected String validationCacheKey;
+
     protected StreamSource streamSource;
     protected String sourceSystemId;
 
     protected BpmnModel bpmnModel;
 
+    // Set when the xml was already converted and validated upfront, see parseModel()
+    protected boolean modelParsed;
+
     protected String targetNamespace;
 
     /** The deployment to which the parsed process definitions will be added. */
@@ -134,7 +142,35 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+            if (!modelParsed) {
+                parseModel(Context.getProcessEngineConfiguration());
+            }
+
+            bpmnModel.setSourceSystemId(sourceSystemId);
+            bpmnModel.setEventSupport(new FlowableEventSupport());
+
+            // Validation successful (or no validation)
+
+            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
+            applyParseHandlers();
+
+            // Finally, process the diagram interchange info
+            processDI();
+
+        } catch (Exception e) {
+            throw wrapParseException(e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Converts the xml to a {@link BpmnModel} and validates it (xsd and process validation), without applying the parse handlers. Unlike {@link #execute()}, this doesn't need a command context, so it
+     * can be done upfront for multiple resources at the same time. {@link #execute()} then continues with the parsed model.
+     */
+    public BpmnParse parseModel(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+
             BpmnXMLConverter converter = new BpmnXMLConverter();
 
             boolean enableSafeBpmnXml = false;
@@ -156,7 +192,7 @@ public class BpmnParse implements BpmnXMLConstants {
                 if (processValidator == null) {
                     LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
                 } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                    List<ValidationError> validationErrors = validateProcess(processEngineConfiguration, processValidator);
                     if (validationErrors != null && !validationErrors.isEmpty()) {
 
                         StringBuilder warningBuilder = new StringBuilder();
@@ -186,28 +222,42 @@ public class BpmnParse implements BpmnXMLConstants {
                 }
             }
 
-            bpmnModel.setSourceSystemId(sourceSystemId);
-            bpmnModel.setEventSupport(new FlowableEventSupport());
+            modelParsed = true;
 
-            // Validation successful (or no validation)
+        } catch (Exception e) {
+            throw wrapParseException(e);
+        }
 
-            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
-            applyParseHandlers();
+        return this;
+    }
 
-            // Finally, process the diagram interchange info
-            processDI();
+    protected List<ValidationError> validateProcess(ProcessEngineConfigurationImpl processEngineConfiguration, ProcessValidator processValidator) {
+        DeploymentCache<List<ValidationError>> processValidationCache = processEngineConfiguration.getProcessValidationCache();
+        if (validationCacheKey == null || processValidationCache == null) {
+            return processValidator.validate(bpmnModel);
+        }
 
-        } catch (Exception e) {
-            if (e instanceof FlowableException) {
-                throw (FlowableException) e;
-            } else if (e instanceof XMLException) {
-                throw (XMLException) e;
-            } else {
-                throw new FlowableException("Error parsing XML", e);
+        List<ValidationError> validationErrors = processValidationCache.get(validationCacheKey);
+        if (validationErrors == null) {
+            validationErrors = processValidator.validate(bpmnModel);
+            if (validationErrors == null) {
+                validationErrors = Collections.emptyList();
             }
+            processValidationCache.add(validationCacheKey, validationErrors);
+        } else {
+            LOGGER.debug("Using cached process validation result of {}", name);
         }
+        return validationErrors;
+    }
 
-        return this;
+    protected RuntimeException wrapParseException(Exception e) {
+        if (e instanceof FlowableException) {
+            return (FlowableException) e;
+        } else if (e instanceof XMLException) {
+            return (XMLException) e;
+        } else {
+            return new FlowableException("Error parsing XML", e);
+        }
     }
 
     public BpmnParse name(String name) {
@@ -426,6 +476,14 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateSchema = validateSchema;
     }
 
+    public String getValidationCacheKey() {
+        return validationCacheKey;
+    }
+
+    public void setValidationCacheKey(String validationCacheKey) {
+        this.validationCacheKey = validationCacheKey;
+    }
+
     public boolean isValidateProcess() {
         return validateProcess;
     }
@@ -83,5 +83,10 @@ public abstract class AbstractActivityBpmnParseHandler<T extends FlowNode> exten
             miActivityBehavior.setCollectionElementIndexVariable(loopCharacteristics.getElementIndexVariable());
         }
 
+        // flowable:instanceChunkSize
+        if (StringUtils.isNotEmpty(loopCharacteristics.getInstanceChunkSize())) {
+            miActivityBehavior.setInstanceChunkSizeExpression(expressionManager.createExpression(loopCharacteristics.getInstanceChunkSize()));
+        }
+
     }
 }
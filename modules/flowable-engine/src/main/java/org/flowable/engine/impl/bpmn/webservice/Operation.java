@@ -54,6 +54,10 @@ public class Operation {
         return this.implementation.sendFor(message, this, overridenEndpointAddresses);
     }
 
+    public void sendMessageAsync(MessageInstance message, ConcurrentMap<QName, URL> overridenEndpointAddresses, MessageCallback callback) throws Exception {
+        this.implementation.sendAsyncFor(message, this, overridenEndpointAddresses, callback);
+    }
+
     public String getId() {
         return id;
     }
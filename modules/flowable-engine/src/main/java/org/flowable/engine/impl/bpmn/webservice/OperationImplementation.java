@@ -46,4 +46,18 @@ public interface OperationImplementation {
      * @return the resulting message
      */
     MessageInstance sendFor(MessageInstance message, Operation operation, ConcurrentMap<QName, URL> overriddenEndpointAddresses) throws Exception;
+
+    /**
+     * Sends the message on behalf of operation without waiting for the response
+     * 
+     * @param message
+     *            the message to be sent
+     * @param operation
+     *            the operation that is interested on sending the message
+     * @param overriddenEndpointAddresses
+     *            a not null map of overridden endpoint addresses. The key is the endpoint qualified name.
+     * @param callback
+     *            the callback notified with the resulting message
+     */
+    void sendAsyncFor(MessageInstance message, Operation operation, ConcurrentMap<QName, URL> overriddenEndpointAddresses, MessageCallback callback) throws Exception;
 }
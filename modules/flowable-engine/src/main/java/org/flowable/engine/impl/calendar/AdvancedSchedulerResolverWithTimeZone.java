@@ -18,6 +18,8 @@ import java.util.TimeZone;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.runtime.ClockReader;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.context.Context;
 
 /**
  * Resolves a due date taking into account the specified time zone.
@@ -30,11 +32,19 @@ public class AdvancedSchedulerResolverWithTimeZone implements AdvancedSchedulerR
     public Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone) {
         Calendar nextRun = null;
 
+        // The resolvers are shared by all engines, the parsed expressions are cached by the engine of the current command
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        ScheduleExpressionCache scheduleExpressionCache = processEngineConfiguration != null ? processEngineConfiguration.getScheduleExpressionCache() : null;
+
         try {
             if (duedateDescription.startsWith("R")) {
-                nextRun = new DurationHelper(duedateDescription, clockReader).getCalendarAfter(clockReader.getCurrentCalendar(timeZone));
+                DurationHelper durationHelper = scheduleExpressionCache != null ? scheduleExpressionCache.getDurationHelper(duedateDescription, clockReader)
+                        : new DurationHelper(duedateDescription, clockReader);
+                nextRun = durationHelper.getCalendarAfter(clockReader.getCurrentCalendar(timeZone));
             } else {
-                nextRun = new CronExpression(duedateDescription, clockReader, timeZone).getTimeAfter(clockReader.getCurrentCalendar(timeZone));
+                CronExpression cronExpression = scheduleExpressionCache != null ? scheduleExpressionCache.getCronExpression(duedateDescription, clockReader, timeZone)
+                        : new CronExpression(duedateDescription, clockReader, timeZone);
+                nextRun = cronExpression.getTimeAfter(clockReader.getCurrentCalendar(timeZone));
             }
 
         } catch (Exception e) {
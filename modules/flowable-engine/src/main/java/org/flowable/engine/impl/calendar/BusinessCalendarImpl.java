@@ -16,6 +16,7 @@ import org.flowable.engine.common.runtime.ClockReader;
 import org.joda.time.DateTimeZone;
 import org.joda.time.format.ISODateTimeFormat;
 
+import java.text.ParseException;
 import java.util.Date;
 
 /**
@@ -24,11 +25,17 @@ import java.util.Date;
 public abstract class BusinessCalendarImpl implements BusinessCalendar {
 
     protected ClockReader clockReader;
+    protected ScheduleExpressionCache scheduleExpressionCache;
 
     public BusinessCalendarImpl(ClockReader clockReader) {
         this.clockReader = clockReader;
     }
 
+    public BusinessCalendarImpl(ClockReader clockReader, ScheduleExpressionCache scheduleExpressionCache) {
+        this.clockReader = clockReader;
+        this.scheduleExpressionCache = scheduleExpressionCache;
+    }
+
     @Override
     public Date resolveDuedate(String duedateDescription) {
         return resolveDuedate(duedateDescription, -1);
@@ -46,4 +53,26 @@ public abstract class BusinessCalendarImpl implements BusinessCalendar {
         return ISODateTimeFormat.dateTimeParser().withZone(DateTimeZone.forTimeZone(clockReader.getCurrentTimeZone())).parseDateTime(endDateString).toCalendar(null).getTime();
     }
 
+    protected CronExpression getCronExpression(String expression) throws ParseException {
+        if (scheduleExpressionCache != null) {
+            return scheduleExpressionCache.getCronExpression(expression, clockReader, null);
+        }
+        return new CronExpression(expression, clockReader);
+    }
+
+    protected DurationHelper getDurationHelper(String expression, int maxIterations) throws Exception {
+        if (scheduleExpressionCache != null) {
+            return scheduleExpressionCache.getDurationHelper(expression, maxIterations, clockReader);
+        }
+        return new DurationHelper(expression, maxIterations, clockReader);
+    }
+
+    public ScheduleExpressionCache getScheduleExpressionCache() {
+        return scheduleExpressionCache;
+    }
+
+    public void setScheduleExpressionCache(ScheduleExpressionCache scheduleExpressionCache) {
+        this.scheduleExpressionCache = scheduleExpressionCache;
+    }
+
 }
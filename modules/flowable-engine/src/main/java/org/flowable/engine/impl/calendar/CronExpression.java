@@ -20,10 +20,12 @@ package org.flowable.engine.impl.calendar;
 
 import java.io.Serializable;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
@@ -252,6 +254,37 @@ public class CronExpression implements Serializable, Cloneable {
         buildExpression(this.cronExpression);
     }
 
+    /**
+     * Constructs a new <CODE>CronExpression</CODE> that shares the parsed schedule of the given expression, without parsing the string representation again.
+     * 
+     * @param parsedExpression
+     *            The expression of which the parsed schedule is reused. The schedule is never changed after parsing, so it can be shared safely.
+     * @param clockReader
+     *            The reader which will provide the current time
+     * @param timeZone
+     *            The time zone that will be used for calculations, or null to use the time zone of the clock reader
+     */
+    public CronExpression(CronExpression parsedExpression, ClockReader clockReader, TimeZone timeZone) {
+        this.clockReader = clockReader;
+        this.timeZone = timeZone;
+        this.cronExpression = parsedExpression.cronExpression;
+
+        this.seconds = parsedExpression.seconds;
+        this.minutes = parsedExpression.minutes;
+        this.hours = parsedExpression.hours;
+        this.daysOfMonth = parsedExpression.daysOfMonth;
+        this.months = parsedExpression.months;
+        this.daysOfWeek = parsedExpression.daysOfWeek;
+        this.years = parsedExpression.years;
+
+        this.lastdayOfWeek = parsedExpression.lastdayOfWeek;
+        this.nthdayOfWeek = parsedExpression.nthdayOfWeek;
+        this.lastdayOfMonth = parsedExpression.lastdayOfMonth;
+        this.nearestWeekday = parsedExpression.nearestWeekday;
+        this.lastdayOffset = parsedExpression.lastdayOffset;
+        this.expressionParsed = parsedExpression.expressionParsed;
+    }
+
     /**
      * Returns the time zone for which this <code>CronExpression</code> will be resolved.
      */
@@ -905,6 +938,79 @@ public class CronExpression implements Serializable, Cloneable {
         return after == null ? null : after.getTime();
     }
 
+    /**
+     * Returns the next <code>numberOfFireTimes</code> times after the given time on which this expression fires. Less times are returned if the schedule ends before.
+     * 
+     * Once a fire time has been found, the following fire times on the same day are derived directly from the second, minute and hour sets. The full calendar computation of
+     * {@link #getTimeAfter(Calendar)} is only needed to move to the next day on which the expression fires.
+     */
+    public List<Date> nextFireTimes(Date afterTime, int numberOfFireTimes) {
+        List<Date> fireTimes = new ArrayList<Date>(numberOfFireTimes);
+        if (numberOfFireTimes <= 0) {
+            return fireTimes;
+        }
+
+        Calendar date = new GregorianCalendar();
+        date.setTime(afterTime);
+        Calendar fireTime = getTimeAfter(date);
+
+        while (fireTime != null) {
+            fireTimes.add(fireTime.getTime());
+            if (fireTimes.size() >= numberOfFireTimes) {
+                break;
+            }
+
+            if (!setNextTimeOfDay(fireTime)) {
+                fireTime = getTimeAfter(fireTime);
+            }
+        }
+
+        return fireTimes;
+    }
+
+    /**
+     * Moves the given fire time to the next fire time on the same day, if there is one.
+     * 
+     * @return false if the expression doesn't fire anymore on the day of the given fire time (or if the time of day can't be set because of a daylight saving transition), the calendar is unchanged
+     *         in that case.
+     */
+    protected boolean setNextTimeOfDay(Calendar fireTime) {
+        int hour = fireTime.get(Calendar.HOUR_OF_DAY);
+        int minute = fireTime.get(Calendar.MINUTE);
+        int second = fireTime.get(Calendar.SECOND);
+
+        Integer nextSecond = seconds.higher(second);
+        if (nextSecond != null) {
+            second = nextSecond;
+
+        } else {
+            second = seconds.first();
+            Integer nextMinute = minutes.higher(minute);
+            if (nextMinute != null) {
+                minute = nextMinute;
+
+            } else {
+                minute = minutes.first();
+                Integer nextHour = hours.higher(hour);
+                if (nextHour == null) {
+                    return false;
+                }
+                hour = nextHour;
+            }
+        }
+
+        Calendar nextFireTime = (Calendar) fireTime.clone();
+        nextFireTime.set(Calendar.HOUR_OF_DAY, hour);
+        nextFireTime.set(Calendar.MINUTE, minute);
+        nextFireTime.set(Calendar.SECOND, second);
+        if (nextFireTime.get(Calendar.HOUR_OF_DAY) != hour || nextFireTime.get(Calendar.MINUTE) != minute || !nextFireTime.after(fireTime)) {
+            return false;
+        }
+
+        fireTime.setTimeInMillis(nextFireTime.getTimeInMillis());
+        return true;
+    }
+
     public Calendar getTimeAfter(Calendar afterTime) {
 
         // Computation is based on Gregorian year only.
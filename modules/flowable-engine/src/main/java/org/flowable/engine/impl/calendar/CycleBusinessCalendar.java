@@ -25,12 +25,16 @@ public class CycleBusinessCalendar extends BusinessCalendarImpl {
         super(clockReader);
     }
 
+    public CycleBusinessCalendar(ClockReader clockReader, ScheduleExpressionCache scheduleExpressionCache) {
+        super(clockReader, scheduleExpressionCache);
+    }
+
     public Date resolveDuedate(String duedateDescription, int maxIterations) {
         try {
             if (duedateDescription != null && duedateDescription.startsWith("R")) {
-                return new DurationHelper(duedateDescription, maxIterations, clockReader).getDateAfter();
+                return getDurationHelper(duedateDescription, maxIterations).getDateAfter();
             } else {
-                CronExpression ce = new CronExpression(duedateDescription, clockReader);
+                CronExpression ce = getCronExpression(duedateDescription);
                 return ce.getTimeAfter(clockReader.getCurrentTime());
             }
 
@@ -47,7 +51,7 @@ public class CycleBusinessCalendar extends BusinessCalendarImpl {
         // end date could be part of the cron expression
         try {
             if (duedateDescription != null && duedateDescription.startsWith("R")) {
-                return new DurationHelper(duedateDescription, maxIterations, clockReader).isValidDate(newTimer);
+                return getDurationHelper(duedateDescription, maxIterations).isValidDate(newTimer);
             } else {
                 return true;
             }
@@ -28,9 +28,13 @@ public class DurationBusinessCalendar extends BusinessCalendarImpl {
         super(clockReader);
     }
 
+    public DurationBusinessCalendar(ClockReader clockReader, ScheduleExpressionCache scheduleExpressionCache) {
+        super(clockReader, scheduleExpressionCache);
+    }
+
     public Date resolveDuedate(String duedate, int maxIterations) {
         try {
-            DurationHelper dh = new DurationHelper(duedate, clockReader);
+            DurationHelper dh = getDurationHelper(duedate, -1);
             return dh.getDateAfter();
         } catch (Exception e) {
             throw new FlowableException("couldn't resolve duedate: " + e.getMessage(), e);
@@ -45,6 +45,7 @@ public class DurationHelper {
     private int times;
     private int maxIterations = -1;
     private boolean repeatWithNoBounds;
+    private boolean startFromCurrentTime;
 
     private DatatypeFactory datatypeFactory;
 
@@ -103,11 +104,29 @@ public class DurationHelper {
             }
         }
         if (start == null) {
+            startFromCurrentTime = true;
             start = clockReader.getCurrentCalendar();
         }
 
     }
 
+    /**
+     * Creates a helper for the same expression as the given (already parsed) helper, without parsing the expression again. When the expression has no explicit start date, the current time of the
+     * given clock reader is used as start.
+     */
+    public DurationHelper(DurationHelper parsedDurationHelper, int maxIterations, ClockReader clockReader) {
+        this.clockReader = clockReader;
+        this.maxIterations = maxIterations;
+        this.datatypeFactory = parsedDurationHelper.datatypeFactory;
+        this.isRepeat = parsedDurationHelper.isRepeat;
+        this.times = parsedDurationHelper.times;
+        this.repeatWithNoBounds = parsedDurationHelper.repeatWithNoBounds;
+        this.period = parsedDurationHelper.period;
+        this.end = parsedDurationHelper.end != null ? (Calendar) parsedDurationHelper.end.clone() : null;
+        this.startFromCurrentTime = parsedDurationHelper.startFromCurrentTime;
+        this.start = startFromCurrentTime ? clockReader.getCurrentCalendar() : (Calendar) parsedDurationHelper.start.clone();
+    }
+
     public DurationHelper(String expressionS, ClockReader clockReader) throws Exception {
         this(expressionS, -1, clockReader);
     }
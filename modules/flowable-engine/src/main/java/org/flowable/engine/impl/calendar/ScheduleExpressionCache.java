@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.calendar;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.flowable.engine.common.runtime.ClockReader;
+import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
+
+/**
+ * Cache of parsed timer schedules, so that the same cron and ISO 8601 repeat/duration expressions are not parsed again every time a timer is created or rescheduled.
+ * 
+ * Cron expressions are cached by their expression only, as parsing them doesn't depend on the time zone (the time zone is only used when computing fire times). Duration expressions are cached by
+ * expression and time zone of the clock, as explicit dates in the expression are parsed in that time zone.
+ * 
+ * The cached objects are never handed out: every lookup returns a new {@link CronExpression} or {@link DurationHelper} bound to the given clock, sharing the parsed (immutable) schedule.
+ * 
+ * An instance is owned by the process engine configuration, see {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setScheduleExpressionCacheLimit(int)}.
+ */
+public class ScheduleExpressionCache {
+
+    public static final int DEFAULT_CACHE_LIMIT = 1000;
+
+    protected DefaultDeploymentCache<CronExpression> cronExpressionCache;
+    protected DefaultDeploymentCache<DurationHelper> durationHelperCache;
+
+    public ScheduleExpressionCache(int cacheLimit) {
+        this.cronExpressionCache = new DefaultDeploymentCache<CronExpression>(cacheLimit);
+        this.durationHelperCache = new DefaultDeploymentCache<DurationHelper>(cacheLimit);
+    }
+
+    /**
+     * @param timeZone
+     *            the time zone used to compute the fire times, or null to use the time zone of the clock reader.
+     */
+    public CronExpression getCronExpression(String expression, ClockReader clockReader, TimeZone timeZone) throws ParseException {
+        if (expression == null) {
+            throw new IllegalArgumentException("cronExpression cannot be null");
+        }
+
+        String key = expression.toUpperCase(Locale.US);
+        CronExpression parsedExpression = cronExpressionCache.get(key);
+        if (parsedExpression == null) {
+            parsedExpression = new CronExpression(key, clockReader);
+            cronExpressionCache.add(key, parsedExpression);
+        }
+        return new CronExpression(parsedExpression, clockReader, timeZone);
+    }
+
+    public DurationHelper getDurationHelper(String expression, int maxIterations, ClockReader clockReader) throws Exception {
+        String key = clockReader.getCurrentTimeZone().getID() + "|" + expression;
+        DurationHelper parsedDurationHelper = durationHelperCache.get(key);
+        if (parsedDurationHelper == null) {
+            parsedDurationHelper = new DurationHelper(expression, maxIterations, clockReader);
+            durationHelperCache.add(key, parsedDurationHelper);
+        }
+        return new DurationHelper(parsedDurationHelper, maxIterations, clockReader);
+    }
+
+    public DurationHelper getDurationHelper(String expression, ClockReader clockReader) throws Exception {
+        return getDurationHelper(expression, -1, clockReader);
+    }
+
+    public void clear() {
+        cronExpressionCache.clear();
+        durationHelperCache.clear();
+    }
+
+    public int getCronExpressionCacheSize() {
+        return cronExpressionCache.size();
+    }
+
+    public int getDurationHelperCacheSize() {
+        return durationHelperCache.size();
+    }
+
+}
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -31,7 +32,10 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
+import javax.el.ValueExpression;
 import javax.xml.namespace.QName;
 
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
@@ -64,6 +68,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.transaction.ContextAwareJdbcTransactionFactory;
@@ -146,7 +151,10 @@ import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.engine.impl.calendar.DueDateBusinessCalendar;
 import org.flowable.engine.impl.calendar.DurationBusinessCalendar;
 import org.flowable.engine.impl.calendar.MapBusinessCalendarManager;
+import org.flowable.engine.impl.calendar.ScheduleExpressionCache;
 import org.flowable.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
+import org.flowable.engine.impl.cmd.IndexProcessDefinitionEngineVersionsCmd;
+import org.flowable.engine.impl.cmd.IndexTasksCmd;
 import org.flowable.engine.impl.cmd.RedeployV5ProcessDefinitionsCmd;
 import org.flowable.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
@@ -155,7 +163,9 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.engine.impl.db.IbatisVariableTypeHandler;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
+import org.flowable.engine.impl.el.AbstractExpressionManager;
 import org.flowable.engine.impl.el.DefaultExpressionManager;
 import org.flowable.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.el.FlowableDateFunctionDelegate;
@@ -183,25 +193,32 @@ import org.flowable.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LogInterceptor;
+import org.flowable.engine.impl.interceptor.MetricsInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.JobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.WebServiceResponseJobHandler;
 import org.flowable.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
+import org.flowable.engine.impl.persistence.cache.DefaultSecondLevelEntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.cache.SecondLevelEntityCache;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionEngineVersionIndex;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -211,6 +228,7 @@ import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
@@ -237,8 +255,10 @@ import org.flowable.engine.impl.persistence.entity.JobEntityManager;
 import org.flowable.engine.impl.persistence.entity.JobEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
@@ -310,6 +330,9 @@ import org.flowable.engine.impl.scripting.ResolverFactory;
 import org.flowable.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.impl.scripting.VariableScopeResolverFactory;
+import org.flowable.engine.impl.task.InMemoryTaskSearchIndex;
+import org.flowable.engine.impl.task.TaskSearchIndex;
+import org.flowable.engine.impl.task.TaskSearchIndexEventListener;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
 import org.flowable.engine.impl.util.ReflectUtil;
 import org.flowable.engine.impl.variable.BooleanType;
@@ -339,9 +362,12 @@ import org.flowable.engine.impl.variable.VariableTypes;
 import org.flowable.engine.parse.BpmnParseHandler;
 import org.flowable.form.api.FormRepositoryService;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.image.impl.CachingProcessDiagramGenerator;
 import org.flowable.image.impl.DefaultProcessDiagramGenerator;
 import org.flowable.validation.ProcessValidator;
 import org.flowable.validation.ProcessValidatorFactory;
+import org.flowable.validation.ProcessValidatorImpl;
+import org.flowable.validation.ValidationError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -404,6 +430,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected List<CommandInterceptor> commandInterceptors;
 
+    /**
+     * Collects {@link ProcessEngineMetrics}: command latencies, executed statements, flush sizes, entity cache hits, optimistic locking failures and async executor throughput.
+     */
+    protected boolean enableProcessEngineMetrics;
+    protected ProcessEngineMetrics processEngineMetrics;
+
+    /**
+     * Profiles the execution count, time and rows of every mapped statement, and captures the statements slower than the threshold (in milliseconds) with their bound parameters. The
+     * {@link SqlStatementProfiler} is always created, so profiling can also be switched on at runtime (JMX, REST), the enabled flag is only its initial state.
+     */
+    protected boolean enableSqlStatementProfiling;
+    protected long sqlStatementProfilingSlowThreshold = 100L;
+    protected int sqlStatementProfilingMaxSlowStatements = 100;
+    protected SqlStatementProfiler sqlStatementProfiler;
+
     /** this will be initialized during the configurationComplete() */
     protected CommandExecutor commandExecutor;
 
@@ -494,6 +535,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected AppDeployer appDeployer;
     protected BpmnParser bpmnParser;
     protected ParsedDeploymentBuilderFactory parsedDeploymentBuilderFactory;
+
+    /**
+     * The number of BPMN resources of one deployment that are converted to a model and validated at the same time. By default, resources are parsed one after another. Parse handlers and the
+     * persistence of the deployment always happen on the deploying thread, in resource order.
+     */
+    protected int deploymentParseParallelism = 1;
+
+    /**
+     * Executes the parallel parsing of deployment resources. When not set, a fork join pool with {@link #deploymentParseParallelism} threads is created for each deployment with multiple BPMN
+     * resources.
+     */
+    protected ExecutorService deploymentParseExecutorService;
     protected TimerManager timerManager;
     protected EventSubscriptionManager eventSubscriptionManager;
     protected BpmnDeploymentHelper bpmnDeploymentHelper;
@@ -510,6 +563,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * Keeps read-mostly entities (process definitions, deployments and process definition info) in a cache shared by all commands, instead of fetching them from the database in every command that
+     * needs them. Changes done through this engine invalidate the cached entities of the changed type. When multiple engines use the same database, set a
+     * {@link #secondLevelEntityCacheTimeToLive} to bound the time changes done by another engine remain invisible.
+     */
+    protected boolean enableSecondLevelEntityCache;
+    protected int secondLevelEntityCacheLimit = DefaultSecondLevelEntityCache.DEFAULT_LIMIT;
+    protected long secondLevelEntityCacheTimeToLive = -1L; // By default, cached entities don't expire
+    protected SecondLevelEntityCache secondLevelEntityCache;
+
+    /**
+     * Keeps a {@link TaskSearchIndex} of the name, description and {@link #taskSearchIndexVariableNames} variables of the active tasks, used by
+     * {@link org.flowable.engine.task.TaskQuery#taskSearchText(String)} instead of a like on the task names. The index is fed by the events of this engine and rebuilt from
+     * the database when the engine boots (see {@link #rebuildTaskSearchIndex()}), tasks changed by other engines on the same database are only found after a rebuild.
+     */
+    protected boolean enableTaskSearchIndex;
+    protected Set<String> taskSearchIndexVariableNames;
+    protected TaskSearchIndex taskSearchIndex;
+    protected int taskSearchIndexRebuildPageSize = 1000;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -694,6 +767,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected ProcessValidator processValidator;
 
+    /**
+     * The number of validators of the default {@link ProcessValidatorImpl} that validate a model at the same time. By default, the validators run one after another on the deploying thread.
+     */
+    protected int processValidationParallelism = 1;
+
+    /**
+     * Executes the validators of the default {@link ProcessValidatorImpl}. When not set and {@link #processValidationParallelism} is larger than 1, a fork join pool with that many threads is created.
+     */
+    protected ExecutorService processValidationExecutorService;
+
+    /**
+     * Whether the {@link #processValidationExecutorService} was created by the engine, in which case it is shut down when the engine is closed.
+     */
+    protected boolean processValidationExecutorServiceCreated;
+
+    /**
+     * Caches the process validation errors (and warnings) of BPMN resources by the hash of the resource content, so a resource with the same content isn't validated again when it is deployed again.
+     */
+    protected boolean enableProcessValidationCache = true;
+    protected int processValidationCacheLimit = 1000;
+    protected DeploymentCache<List<ValidationError>> processValidationCache;
+
     // OTHER ////////////////////////////////////////////////////////////////////
 
     protected List<FormEngine> customFormEngines;
@@ -717,13 +812,38 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Byte arrays (for example the value of a serializable variable) containing more bytes than this are streamed from the database and are not kept in the entity cache. A negative value (the
+     * default) keeps all fetched byte arrays in the entity cache.
+     */
+    protected int maxCachedByteArraySize = -1;
+
     protected ExpressionManager expressionManager;
+
+    /**
+     * The maximum number of parsed expressions kept by the default expression manager, so that the same expression text isn't parsed again. A value of zero or less disables the cache.
+     */
+    protected int expressionCacheSize = ExpressionCache.DEFAULT_CACHE_LIMIT;
+
+    /**
+     * When no process diagram generator is set, a {@link CachingProcessDiagramGenerator} is used when this is enabled. It renders the diagram of a process definition only once and draws the
+     * highlights of the active activities on a copy of it.
+     */
+    protected boolean enableProcessDiagramCache;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
     protected BusinessCalendarManager businessCalendarManager;
 
+    /**
+     * Caches the parsed cron and ISO 8601 repeat/duration expressions of timers, used by the default business calendars, the time zone aware cycle resolver and the failed job retry cycle. The
+     * cache is disabled when {@link #enableScheduleExpressionCache} is false or when {@link #scheduleExpressionCacheLimit} is zero or negative.
+     */
+    protected boolean enableScheduleExpressionCache = true;
+    protected int scheduleExpressionCacheLimit = ScheduleExpressionCache.DEFAULT_CACHE_LIMIT;
+    protected ScheduleExpressionCache scheduleExpressionCache;
+
     protected int executionQueryLimit = 20000;
     protected int taskQueryLimit = 20000;
     protected int historicTaskQueryLimit = 20000;
@@ -732,6 +852,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected String wsSyncFactoryClassName = DEFAULT_WS_SYNC_FACTORY;
     protected ConcurrentMap<QName, URL> wsOverridenEndpointAddresses = new ConcurrentHashMap<QName, URL>();
 
+    /**
+     * When enabled, web service tasks send their request after the transaction has committed and wait for the response as a wait state, so no engine thread is blocked for
+     * the duration of the call. The response continues the process in a new transaction.
+     */
+    protected boolean wsAsyncInvocationEnabled;
+
     protected CommandContextFactory commandContextFactory;
     protected TransactionContextFactory<TransactionListener, CommandContext> transactionContextFactory;
 
@@ -812,6 +938,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected Flowable5CompatibilityHandlerFactory flowable5CompatibilityHandlerFactory;
     protected Flowable5CompatibilityHandler flowable5CompatibilityHandler;
 
+    /**
+     * Index of the engine version of the process definitions, used to route jobs and api calls to the Flowable 5 engine without fetching the process definition. Created
+     * by default when {@link #flowable5CompatibilityEnabled} is set and loaded from the database when the engine boots, in pages of
+     * {@link #processDefinitionEngineVersionIndexLoadPageSize} process definitions.
+     */
+    protected boolean enableProcessDefinitionEngineVersionIndex = true;
+    protected ProcessDefinitionEngineVersionIndex processDefinitionEngineVersionIndex;
+    protected int processDefinitionEngineVersionIndexLoadPageSize = 10000;
+
     // Can't have a dependency on the Flowable5-engine module
     protected Object flowable5ActivityBehaviorFactory;
     protected Object flowable5ListenerFactory;
@@ -865,9 +1000,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initFormTypes();
         initScriptingEngines();
         initClock();
+        initScheduleExpressionCache();
         initBusinessCalendarManager();
         initCommandContextFactory();
         initTransactionContextFactory();
+        initProcessEngineMetrics();
         initCommandExecutors();
         initServices();
         initIdGenerator();
@@ -900,7 +1037,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initEventDispatcher();
         initProcessValidator();
         initDatabaseEventLogging();
+        initTaskSearchIndex();
         initFlowable5CompatibilityHandler();
+        initProcessDefinitionEngineVersionIndex();
         configuratorsAfterInit();
     }
 
@@ -913,6 +1052,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    // metrics
+    // ////////////////////////////////////////////////////////
+
+    public void initProcessEngineMetrics() {
+        if (processEngineMetrics == null && enableProcessEngineMetrics) {
+            processEngineMetrics = new ProcessEngineMetrics();
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -950,6 +1098,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public Collection<? extends CommandInterceptor> getDefaultCommandInterceptors() {
         List<CommandInterceptor> interceptors = new ArrayList<CommandInterceptor>();
+        if (processEngineMetrics != null) {
+            interceptors.add(new MetricsInterceptor(processEngineMetrics));
+        }
         interceptors.add(new LogInterceptor());
 
         CommandInterceptor transactionInterceptor = createTransactionInterceptor();
@@ -1284,9 +1435,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        initSecondLevelEntityCache();
+        dbSqlSessionFactory.setSecondLevelEntityCache(secondLevelEntityCache);
+        dbSqlSessionFactory.setProcessEngineMetrics(processEngineMetrics);
+        initSqlStatementProfiler();
+        dbSqlSessionFactory.setSqlStatementProfiler(sqlStatementProfiler);
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    public void initSqlStatementProfiler() {
+        if (sqlStatementProfiler == null) {
+            sqlStatementProfiler = new SqlStatementProfiler();
+            sqlStatementProfiler.setEnabled(enableSqlStatementProfiling);
+            sqlStatementProfiler.setSlowStatementThresholdInMillis(sqlStatementProfilingSlowThreshold);
+            sqlStatementProfiler.setMaxSlowStatements(sqlStatementProfilingMaxSlowStatements);
+        }
+    }
+
+    public void initSecondLevelEntityCache() {
+        if (secondLevelEntityCache == null && enableSecondLevelEntityCache) {
+            List<Class<?>> cachedEntityClasses = Arrays.<Class<?>>asList(ProcessDefinitionEntityImpl.class, DeploymentEntityImpl.class, ProcessDefinitionInfoEntityImpl.class);
+            secondLevelEntityCache = new DefaultSecondLevelEntityCache(cachedEntityClasses, secondLevelEntityCacheLimit, secondLevelEntityCacheTimeToLive);
+        }
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory();
     }
@@ -1451,6 +1623,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
             parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
         }
+        parsedDeploymentBuilderFactory.setParseParallelism(deploymentParseParallelism);
+        if (parsedDeploymentBuilderFactory.getParseExecutorService() == null) {
+            parsedDeploymentBuilderFactory.setParseExecutorService(deploymentParseExecutorService);
+        }
 
         if (timerManager == null) {
             timerManager = new TimerManager();
@@ -1623,7 +1799,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDiagramGenerator() {
         if (processDiagramGenerator == null) {
-            processDiagramGenerator = new DefaultProcessDiagramGenerator();
+            if (enableProcessDiagramCache) {
+                processDiagramGenerator = new CachingProcessDiagramGenerator();
+            } else {
+                processDiagramGenerator = new DefaultProcessDiagramGenerator();
+            }
         }
     }
 
@@ -1633,9 +1813,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncContinuationJobHandler asyncContinuationJobHandler = new AsyncContinuationJobHandler();
         jobHandlers.put(asyncContinuationJobHandler.getType(), asyncContinuationJobHandler);
 
+        ParallelMultiInstanceChunkJobHandler parallelMultiInstanceChunkJobHandler = new ParallelMultiInstanceChunkJobHandler();
+        jobHandlers.put(parallelMultiInstanceChunkJobHandler.getType(), parallelMultiInstanceChunkJobHandler);
+
         TriggerTimerEventJobHandler triggerTimerEventJobHandler = new TriggerTimerEventJobHandler();
         jobHandlers.put(triggerTimerEventJobHandler.getType(), triggerTimerEventJobHandler);
 
+        WebServiceResponseJobHandler webServiceResponseJobHandler = new WebServiceResponseJobHandler();
+        jobHandlers.put(webServiceResponseJobHandler.getType(), webServiceResponseJobHandler);
+
         TimerStartEventJobHandler timerStartEvent = new TimerStartEventJobHandler();
         jobHandlers.put(timerStartEvent.getType(), timerStartEvent);
 
@@ -1706,6 +1892,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         asyncExecutor.setProcessEngineConfiguration(this);
         asyncExecutor.setAutoActivate(asyncExecutorActivate);
+
+        if (processEngineMetrics != null) {
+            processEngineMetrics.setAsyncExecutor(asyncExecutor);
+        }
     }
 
     // history
@@ -1861,15 +2051,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             expressionManager = new DefaultExpressionManager(delegateInterceptor, beans, true);
         }
 
+        if (expressionCacheSize > 0) {
+            if (expressionManager instanceof DefaultExpressionManager && ((DefaultExpressionManager) expressionManager).getExpressionCache() == null) {
+                ((DefaultExpressionManager) expressionManager).setExpressionCache(new ExpressionCache<ValueExpression>(expressionCacheSize));
+
+            } else if (expressionManager instanceof AbstractExpressionManager && ((AbstractExpressionManager) expressionManager).getExpressionCache() == null) {
+                ((AbstractExpressionManager) expressionManager).setExpressionCache(new ExpressionCache<ValueExpression>(expressionCacheSize));
+            }
+        }
+
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
     }
 
+    public void initScheduleExpressionCache() {
+        if (enableScheduleExpressionCache && scheduleExpressionCache == null && scheduleExpressionCacheLimit > 0) {
+            scheduleExpressionCache = new ScheduleExpressionCache(scheduleExpressionCacheLimit);
+        }
+    }
+
     public void initBusinessCalendarManager() {
         if (businessCalendarManager == null) {
             MapBusinessCalendarManager mapBusinessCalendarManager = new MapBusinessCalendarManager();
-            mapBusinessCalendarManager.addBusinessCalendar(DurationBusinessCalendar.NAME, new DurationBusinessCalendar(this.clock));
+            mapBusinessCalendarManager.addBusinessCalendar(DurationBusinessCalendar.NAME, new DurationBusinessCalendar(this.clock, scheduleExpressionCache));
             mapBusinessCalendarManager.addBusinessCalendar(DueDateBusinessCalendar.NAME, new DueDateBusinessCalendar(this.clock));
-            mapBusinessCalendarManager.addBusinessCalendar(CycleBusinessCalendar.NAME, new CycleBusinessCalendar(this.clock));
+            mapBusinessCalendarManager.addBusinessCalendar(CycleBusinessCalendar.NAME, new CycleBusinessCalendar(this.clock, scheduleExpressionCache));
 
             businessCalendarManager = mapBusinessCalendarManager;
         }
@@ -1969,6 +2174,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (this.processValidator == null) {
             this.processValidator = new ProcessValidatorFactory().createDefaultProcessValidator();
         }
+
+        if (processValidator instanceof ProcessValidatorImpl) {
+            ProcessValidatorImpl processValidatorImpl = (ProcessValidatorImpl) processValidator;
+            if (processValidationExecutorService == null && processValidationParallelism > 1) {
+                processValidationExecutorService = new ForkJoinPool(processValidationParallelism);
+                processValidationExecutorServiceCreated = true;
+            }
+            if (processValidatorImpl.getExecutorService() == null) {
+                processValidatorImpl.setExecutorService(processValidationExecutorService);
+            }
+        }
+
+        if (enableProcessValidationCache && processValidationCache == null) {
+            if (processValidationCacheLimit <= 0) {
+                processValidationCache = new DefaultDeploymentCache<List<ValidationError>>();
+            } else {
+                processValidationCache = new DefaultDeploymentCache<List<ValidationError>>(processValidationCacheLimit);
+            }
+        }
     }
 
     public void initFunctionDelegates() {
@@ -1990,6 +2214,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initTaskSearchIndex() {
+        if (taskSearchIndex == null && enableTaskSearchIndex) {
+            taskSearchIndex = new InMemoryTaskSearchIndex();
+        }
+
+        if (taskSearchIndex != null) {
+            getEventDispatcher().addEventListener(new TaskSearchIndexEventListener(taskSearchIndex, taskSearchIndexVariableNames));
+        }
+    }
+
+    /**
+     * Replaces the content of the {@link TaskSearchIndex} with the active tasks of the database, reading them in pages of {@link #taskSearchIndexRebuildPageSize} tasks.
+     */
+    public void rebuildTaskSearchIndex() {
+        if (taskSearchIndex == null) {
+            return;
+        }
+
+        taskSearchIndex.clear();
+        int firstResult = 0;
+        int indexedTasks;
+        do {
+            indexedTasks = commandExecutor.execute(new IndexTasksCmd(taskSearchIndex, taskSearchIndexVariableNames, firstResult, taskSearchIndexRebuildPageSize));
+            firstResult += indexedTasks;
+        } while (indexedTasks == taskSearchIndexRebuildPageSize);
+    }
+
     public void initFlowable5CompatibilityHandler() {
 
         // If Flowable 5 compatibility is disabled, no need to do anything
@@ -2011,6 +2262,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     }
 
+    public void initProcessDefinitionEngineVersionIndex() {
+        if (processDefinitionEngineVersionIndex == null && enableProcessDefinitionEngineVersionIndex && flowable5CompatibilityEnabled) {
+            processDefinitionEngineVersionIndex = new ProcessDefinitionEngineVersionIndex();
+        }
+    }
+
+    /**
+     * Replaces the content of the {@link ProcessDefinitionEngineVersionIndex} with the process definitions of the database, reading them in pages of
+     * {@link #processDefinitionEngineVersionIndexLoadPageSize} process definitions.
+     */
+    public void rebuildProcessDefinitionEngineVersionIndex() {
+        if (processDefinitionEngineVersionIndex == null) {
+            return;
+        }
+
+        processDefinitionEngineVersionIndex.clear();
+        int firstResult = 0;
+        int indexedProcessDefinitions;
+        do {
+            indexedProcessDefinitions = commandExecutor.execute(new IndexProcessDefinitionEngineVersionsCmd(processDefinitionEngineVersionIndex, firstResult,
+                    processDefinitionEngineVersionIndexLoadPageSize));
+            firstResult += indexedProcessDefinitions;
+        } while (indexedProcessDefinitions == processDefinitionEngineVersionIndexLoadPageSize);
+    }
+
     /**
      * Called when the {@link ProcessEngine} is initialized, but before it is returned
      */
@@ -2023,6 +2299,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             commandExecutor.execute(new RedeployV5ProcessDefinitionsCmd());
         }
 
+        rebuildProcessDefinitionEngineVersionIndex();
+
         if (performanceSettings.isValidateExecutionRelationshipCountConfigOnBoot()) {
             commandExecutor.execute(new ValidateExecutionRelatedEntityCountCfgCmd());
         }
@@ -2030,6 +2308,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (performanceSettings.isValidateTaskRelationshipCountConfigOnBoot()) {
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
+
+        rebuildTaskSearchIndex();
     }
 
     public Runnable getProcessEngineCloseRunnable() {
@@ -2084,6 +2364,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return customPreCommandInterceptors;
     }
 
+    public boolean isEnableProcessEngineMetrics() {
+        return enableProcessEngineMetrics;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessEngineMetrics(boolean enableProcessEngineMetrics) {
+        this.enableProcessEngineMetrics = enableProcessEngineMetrics;
+        return this;
+    }
+
+    public ProcessEngineMetrics getProcessEngineMetrics() {
+        return processEngineMetrics;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessEngineMetrics(ProcessEngineMetrics processEngineMetrics) {
+        this.processEngineMetrics = processEngineMetrics;
+        return this;
+    }
+
+    public boolean isEnableSqlStatementProfiling() {
+        return enableSqlStatementProfiling;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSqlStatementProfiling(boolean enableSqlStatementProfiling) {
+        this.enableSqlStatementProfiling = enableSqlStatementProfiling;
+        return this;
+    }
+
+    public long getSqlStatementProfilingSlowThreshold() {
+        return sqlStatementProfilingSlowThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setSqlStatementProfilingSlowThreshold(long sqlStatementProfilingSlowThreshold) {
+        this.sqlStatementProfilingSlowThreshold = sqlStatementProfilingSlowThreshold;
+        return this;
+    }
+
+    public int getSqlStatementProfilingMaxSlowStatements() {
+        return sqlStatementProfilingMaxSlowStatements;
+    }
+
+    public ProcessEngineConfigurationImpl setSqlStatementProfilingMaxSlowStatements(int sqlStatementProfilingMaxSlowStatements) {
+        this.sqlStatementProfilingMaxSlowStatements = sqlStatementProfilingMaxSlowStatements;
+        return this;
+    }
+
+    public SqlStatementProfiler getSqlStatementProfiler() {
+        return sqlStatementProfiler;
+    }
+
+    public ProcessEngineConfigurationImpl setSqlStatementProfiler(SqlStatementProfiler sqlStatementProfiler) {
+        this.sqlStatementProfiler = sqlStatementProfiler;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setCustomPreCommandInterceptors(List<CommandInterceptor> customPreCommandInterceptors) {
         this.customPreCommandInterceptors = customPreCommandInterceptors;
         return this;
@@ -2366,6 +2700,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getDeploymentParseParallelism() {
+        return deploymentParseParallelism;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseParallelism(int deploymentParseParallelism) {
+        this.deploymentParseParallelism = deploymentParseParallelism;
+        return this;
+    }
+
+    public ExecutorService getDeploymentParseExecutorService() {
+        return deploymentParseExecutorService;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseExecutorService(ExecutorService deploymentParseExecutorService) {
+        this.deploymentParseExecutorService = deploymentParseExecutorService;
+        return this;
+    }
+
     public TimerManager getTimerManager() {
         return timerManager;
     }
@@ -2465,6 +2817,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isWsAsyncInvocationEnabled() {
+        return wsAsyncInvocationEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setWsAsyncInvocationEnabled(boolean wsAsyncInvocationEnabled) {
+        this.wsAsyncInvocationEnabled = wsAsyncInvocationEnabled;
+        return this;
+    }
+
     public Map<String, FormEngine> getFormEngines() {
         return formEngines;
     }
@@ -2509,6 +2870,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public int getMaxCachedByteArraySize() {
+        return maxCachedByteArraySize;
+    }
+
+    public ProcessEngineConfigurationImpl setMaxCachedByteArraySize(int maxCachedByteArraySize) {
+        this.maxCachedByteArraySize = maxCachedByteArraySize;
+        return this;
+    }
+
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        return this;
+    }
+
+    public boolean isEnableProcessDiagramCache() {
+        return enableProcessDiagramCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDiagramCache(boolean enableProcessDiagramCache) {
+        this.enableProcessDiagramCache = enableProcessDiagramCache;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2527,6 +2915,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableScheduleExpressionCache() {
+        return enableScheduleExpressionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableScheduleExpressionCache(boolean enableScheduleExpressionCache) {
+        this.enableScheduleExpressionCache = enableScheduleExpressionCache;
+        return this;
+    }
+
+    public int getScheduleExpressionCacheLimit() {
+        return scheduleExpressionCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setScheduleExpressionCacheLimit(int scheduleExpressionCacheLimit) {
+        this.scheduleExpressionCacheLimit = scheduleExpressionCacheLimit;
+        return this;
+    }
+
+    public ScheduleExpressionCache getScheduleExpressionCache() {
+        return scheduleExpressionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setScheduleExpressionCache(ScheduleExpressionCache scheduleExpressionCache) {
+        this.scheduleExpressionCache = scheduleExpressionCache;
+        return this;
+    }
+
     public int getExecutionQueryLimit() {
         return executionQueryLimit;
     }
@@ -2652,6 +3067,78 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableSecondLevelEntityCache() {
+        return enableSecondLevelEntityCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSecondLevelEntityCache(boolean enableSecondLevelEntityCache) {
+        this.enableSecondLevelEntityCache = enableSecondLevelEntityCache;
+        return this;
+    }
+
+    public int getSecondLevelEntityCacheLimit() {
+        return secondLevelEntityCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setSecondLevelEntityCacheLimit(int secondLevelEntityCacheLimit) {
+        this.secondLevelEntityCacheLimit = secondLevelEntityCacheLimit;
+        return this;
+    }
+
+    public long getSecondLevelEntityCacheTimeToLive() {
+        return secondLevelEntityCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setSecondLevelEntityCacheTimeToLive(long secondLevelEntityCacheTimeToLive) {
+        this.secondLevelEntityCacheTimeToLive = secondLevelEntityCacheTimeToLive;
+        return this;
+    }
+
+    public boolean isEnableTaskSearchIndex() {
+        return enableTaskSearchIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableTaskSearchIndex(boolean enableTaskSearchIndex) {
+        this.enableTaskSearchIndex = enableTaskSearchIndex;
+        return this;
+    }
+
+    public Set<String> getTaskSearchIndexVariableNames() {
+        return taskSearchIndexVariableNames;
+    }
+
+    public ProcessEngineConfigurationImpl setTaskSearchIndexVariableNames(Set<String> taskSearchIndexVariableNames) {
+        this.taskSearchIndexVariableNames = taskSearchIndexVariableNames;
+        return this;
+    }
+
+    public TaskSearchIndex getTaskSearchIndex() {
+        return taskSearchIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setTaskSearchIndex(TaskSearchIndex taskSearchIndex) {
+        this.taskSearchIndex = taskSearchIndex;
+        return this;
+    }
+
+    public int getTaskSearchIndexRebuildPageSize() {
+        return taskSearchIndexRebuildPageSize;
+    }
+
+    public ProcessEngineConfigurationImpl setTaskSearchIndexRebuildPageSize(int taskSearchIndexRebuildPageSize) {
+        this.taskSearchIndexRebuildPageSize = taskSearchIndexRebuildPageSize;
+        return this;
+    }
+
+    public SecondLevelEntityCache getSecondLevelEntityCache() {
+        return secondLevelEntityCache;
+    }
+
+    public ProcessEngineConfigurationImpl setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setTransactionFactory(TransactionFactory transactionFactory) {
         this.transactionFactory = transactionFactory;
@@ -2959,6 +3446,56 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getProcessValidationParallelism() {
+        return processValidationParallelism;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessValidationParallelism(int processValidationParallelism) {
+        this.processValidationParallelism = processValidationParallelism;
+        return this;
+    }
+
+    public ExecutorService getProcessValidationExecutorService() {
+        return processValidationExecutorService;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessValidationExecutorService(ExecutorService processValidationExecutorService) {
+        this.processValidationExecutorService = processValidationExecutorService;
+        this.processValidationExecutorServiceCreated = false;
+        return this;
+    }
+
+    public boolean isProcessValidationExecutorServiceCreated() {
+        return processValidationExecutorServiceCreated;
+    }
+
+    public boolean isEnableProcessValidationCache() {
+        return enableProcessValidationCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessValidationCache(boolean enableProcessValidationCache) {
+        this.enableProcessValidationCache = enableProcessValidationCache;
+        return this;
+    }
+
+    public int getProcessValidationCacheLimit() {
+        return processValidationCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessValidationCacheLimit(int processValidationCacheLimit) {
+        this.processValidationCacheLimit = processValidationCacheLimit;
+        return this;
+    }
+
+    public DeploymentCache<List<ValidationError>> getProcessValidationCache() {
+        return processValidationCache;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessValidationCache(DeploymentCache<List<ValidationError>> processValidationCache) {
+        this.processValidationCache = processValidationCache;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -3633,6 +4170,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableProcessDefinitionEngineVersionIndex() {
+        return enableProcessDefinitionEngineVersionIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionEngineVersionIndex(boolean enableProcessDefinitionEngineVersionIndex) {
+        this.enableProcessDefinitionEngineVersionIndex = enableProcessDefinitionEngineVersionIndex;
+        return this;
+    }
+
+    public ProcessDefinitionEngineVersionIndex getProcessDefinitionEngineVersionIndex() {
+        return processDefinitionEngineVersionIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionEngineVersionIndex(ProcessDefinitionEngineVersionIndex processDefinitionEngineVersionIndex) {
+        this.processDefinitionEngineVersionIndex = processDefinitionEngineVersionIndex;
+        return this;
+    }
+
+    public int getProcessDefinitionEngineVersionIndexLoadPageSize() {
+        return processDefinitionEngineVersionIndexLoadPageSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionEngineVersionIndexLoadPageSize(int processDefinitionEngineVersionIndexLoadPageSize) {
+        this.processDefinitionEngineVersionIndexLoadPageSize = processDefinitionEngineVersionIndexLoadPageSize;
+        return this;
+    }
+
     public Object getFlowable5ActivityBehaviorFactory() {
         return flowable5ActivityBehaviorFactory;
     }
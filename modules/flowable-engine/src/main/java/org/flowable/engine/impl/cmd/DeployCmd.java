@@ -24,14 +24,18 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionEngineVersionIndex;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.repository.DeploymentBuilderImpl;
+import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.DeploymentProperties;
+import org.flowable.engine.repository.ProcessDefinition;
 
 /**
  * @author Tom Baeyens
@@ -132,7 +136,15 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
             throw new FlowableException("Found Flowable 5 process definition, but no compatibility handler on the classpath. "
                     + "Cannot use the deployment property " + DeploymentProperties.DEPLOY_AS_FLOWABLE5_PROCESS_DEFINITION);
         }
-        return flowable5CompatibilityHandler.deploy(deploymentBuilder);
+        Deployment deployment = flowable5CompatibilityHandler.deploy(deploymentBuilder);
+
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = commandContext.getProcessEngineConfiguration().getProcessDefinitionEngineVersionIndex();
+        if (engineVersionIndex != null && deployment != null) {
+            for (ProcessDefinition processDefinition : new ProcessDefinitionQueryImpl().deploymentId(deployment.getId()).list()) {
+                Flowable5Util.indexProcessDefinition(engineVersionIndex, processDefinition, commandContext.getProcessEngineConfiguration());
+            }
+        }
+        return deployment;
     }
 
     protected boolean deploymentsDiffer(DeploymentEntity deployment, DeploymentEntity saved) {
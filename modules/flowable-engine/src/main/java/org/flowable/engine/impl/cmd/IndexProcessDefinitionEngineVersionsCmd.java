@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionEngineVersionIndex;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Adds one page of the process definitions, ordered by id, to a {@link ProcessDefinitionEngineVersionIndex}. Returns the number of process definitions read, a page with
+ * less process definitions than requested is the last one.
+ */
+public class IndexProcessDefinitionEngineVersionsCmd implements Command<Integer> {
+
+    protected ProcessDefinitionEngineVersionIndex processDefinitionEngineVersionIndex;
+    protected int firstResult;
+    protected int maxResults;
+
+    public IndexProcessDefinitionEngineVersionsCmd(ProcessDefinitionEngineVersionIndex processDefinitionEngineVersionIndex, int firstResult, int maxResults) {
+        this.processDefinitionEngineVersionIndex = processDefinitionEngineVersionIndex;
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl().orderByProcessDefinitionId().asc().listPage(firstResult, maxResults);
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            Flowable5Util.indexProcessDefinition(processDefinitionEngineVersionIndex, processDefinition, commandContext.getProcessEngineConfiguration());
+        }
+        return processDefinitions.size();
+    }
+
+}
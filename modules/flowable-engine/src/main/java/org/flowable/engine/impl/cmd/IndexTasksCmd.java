@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.engine.impl.TaskQueryImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.task.TaskSearchIndex;
+import org.flowable.engine.task.Task;
+
+/**
+ * Adds one page of the active tasks, ordered by id, to a {@link TaskSearchIndex}. Returns the number of tasks read, a page with less tasks than requested is the last one.
+ */
+public class IndexTasksCmd implements Command<Integer> {
+
+    protected TaskSearchIndex taskSearchIndex;
+    protected Collection<String> variableNames;
+    protected int firstResult;
+    protected int maxResults;
+
+    public IndexTasksCmd(TaskSearchIndex taskSearchIndex, Collection<String> variableNames, int firstResult, int maxResults) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.variableNames = variableNames;
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        List<Task> tasks = new TaskQueryImpl().orderByTaskId().asc().listPage(firstResult, maxResults);
+        for (Task task : tasks) {
+            TaskEntity taskEntity = (TaskEntity) task;
+            taskSearchIndex.indexTask(taskEntity.getId(), taskEntity.getName(), taskEntity.getDescription(),
+                    variableNames != null && !variableNames.isEmpty() ? taskEntity.getVariables(variableNames) : null);
+        }
+        return tasks.size();
+    }
+
+}
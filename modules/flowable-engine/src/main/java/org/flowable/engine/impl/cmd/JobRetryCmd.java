@@ -26,6 +26,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.calendar.DurationHelper;
+import org.flowable.engine.impl.calendar.ScheduleExpressionCache;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.AbstractJobEntity;
@@ -89,7 +90,9 @@ public class JobRetryCmd implements Command<Object> {
 
         } else {
             try {
-                DurationHelper durationHelper = new DurationHelper(failedJobRetryTimeCycleValue, processEngineConfig.getClock());
+                ScheduleExpressionCache scheduleExpressionCache = commandContext.getProcessEngineConfiguration().getScheduleExpressionCache();
+                DurationHelper durationHelper = scheduleExpressionCache != null ? scheduleExpressionCache.getDurationHelper(failedJobRetryTimeCycleValue, processEngineConfig.getClock())
+                        : new DurationHelper(failedJobRetryTimeCycleValue, processEngineConfig.getClock());
                 int jobRetries = job.getRetries();
                 if (job.getExceptionMessage() == null) {
                     // change default retries to the ones configured
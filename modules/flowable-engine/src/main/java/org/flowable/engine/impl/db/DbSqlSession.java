@@ -35,6 +35,7 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
@@ -42,10 +43,13 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.api.FlowableWrongDbException;
 import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.cfg.BaseTransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.common.impl.db.HasRevision;
 import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.common.impl.transaction.TransactionContextHolder;
 import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.impl.DeploymentQueryImpl;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -60,10 +64,14 @@ import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.TaskQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionContext;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.upgrade.DbUpgradeStep;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.cache.SecondLevelEntityCache;
+import org.flowable.engine.impl.persistence.cache.SecondLevelEntityCacheInvalidationListener;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.PropertyEntity;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityImpl;
@@ -158,20 +166,52 @@ public class DbSqlSession implements Session {
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
 
+    protected SecondLevelEntityCache secondLevelEntityCache;
+    protected TransactionContext transactionContext;
+
+    // Entity types changed in this session, these aren't read from or put in the second level cache anymore
+    protected Set<Class<?>> secondLevelEntityCacheInvalidations;
+
+    // Null when the engine doesn't collect metrics
+    protected ProcessEngineMetrics processEngineMetrics;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
-        this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession();
+        this.sqlSession = wrapSqlSession(dbSqlSessionFactory.getSqlSessionFactory().openSession());
         this.entityCache = entityCache;
         this.connectionMetadataDefaultCatalog = dbSqlSessionFactory.getDatabaseCatalog();
         this.connectionMetadataDefaultSchema = dbSqlSessionFactory.getDatabaseSchema();
+        this.processEngineMetrics = dbSqlSessionFactory.getProcessEngineMetrics();
+        initSecondLevelEntityCache();
     }
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
-        this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(connection); // Note the use of connection param here, different from other constructor
+        this.sqlSession = wrapSqlSession(dbSqlSessionFactory.getSqlSessionFactory().openSession(connection)); // Note the use of connection param here, different from other constructor
         this.entityCache = entityCache;
         this.connectionMetadataDefaultCatalog = catalog;
         this.connectionMetadataDefaultSchema = schema;
+        this.processEngineMetrics = dbSqlSessionFactory.getProcessEngineMetrics();
+        initSecondLevelEntityCache();
+    }
+
+    protected SqlSession wrapSqlSession(SqlSession sqlSession) {
+        SqlStatementProfiler sqlStatementProfiler = dbSqlSessionFactory.getSqlStatementProfiler();
+        if (sqlStatementProfiler != null) {
+            return sqlStatementProfiler.wrap(sqlSession);
+        }
+        return sqlSession;
+    }
+
+    protected void initSecondLevelEntityCache() {
+        this.secondLevelEntityCache = dbSqlSessionFactory.getSecondLevelEntityCache();
+        if (secondLevelEntityCache != null) {
+            // The transaction context is no longer available when the session is flushed
+            BaseTransactionContext<?, ?> currentTransactionContext = TransactionContextHolder.getTransactionContext();
+            if (currentTransactionContext instanceof TransactionContext) {
+                this.transactionContext = (TransactionContext) currentTransactionContext;
+            }
+        }
     }
 
     // insert ///////////////////////////////////////////////////////////////////
@@ -202,6 +242,9 @@ public class DbSqlSession implements Session {
 
     public int update(String statement, Object parameters) {
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordUpdate(updateStatement);
+        }
         return getSqlSession().update(updateStatement, parameters);
     }
 
@@ -314,6 +357,9 @@ public class DbSqlSession implements Session {
             return Collections.EMPTY_LIST;
         }
 
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordSelect(statement);
+        }
         List loadedObjects = sqlSession.selectList(statement, parameter);
         if (useCache) {
             return cacheLoadOrStore(loadedObjects);
@@ -328,11 +374,17 @@ public class DbSqlSession implements Session {
         if (firstResult == -1 || maxResults == -1) {
             return Collections.EMPTY_LIST;
         }
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordSelect(statement);
+        }
         return sqlSession.selectList(statement, parameter);
     }
 
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordSelect(statement);
+        }
         Object result = sqlSession.selectOne(statement, parameter);
         if (result instanceof Entity) {
             Entity loadedObject = (Entity) result;
@@ -341,6 +393,17 @@ public class DbSqlSession implements Session {
         return result;
     }
 
+    /**
+     * Executes the select statement and passes every row to the given {@link ResultHandler}, while the result set is still open. Nothing is stored in the entity cache.
+     */
+    public void select(String statement, Object parameter, ResultHandler<?> resultHandler) {
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordSelect(statement);
+        }
+        sqlSession.select(statement, parameter, resultHandler);
+    }
+
     public <T extends Entity> T selectById(Class<T> entityClass, String id) {
         return selectById(entityClass, id, true);
     }
@@ -351,22 +414,124 @@ public class DbSqlSession implements Session {
 
         if (useCache) {
             entity = entityCache.findInCache(entityClass, id);
+            if (processEngineMetrics != null) {
+                if (entity != null) {
+                    processEngineMetrics.recordEntityCacheHit();
+                } else {
+                    processEngineMetrics.recordEntityCacheMiss();
+                }
+            }
+            if (entity != null) {
+                return entity;
+            }
+        }
+
+        boolean useSecondLevelEntityCache = isSecondLevelEntityCacheUsed(entityClass);
+        long secondLevelEntityCacheVersion = -1L;
+        if (useSecondLevelEntityCache) {
+            entity = secondLevelEntityCache.get(entityClass, id);
             if (entity != null) {
+                entityCache.put(entity, true);
                 return entity;
             }
+            secondLevelEntityCacheVersion = secondLevelEntityCache.getVersion(entityClass);
         }
 
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordSelect(entityClass);
+        }
         entity = (T) sqlSession.selectOne(selectStatement, id);
         if (entity == null) {
             return null;
         }
 
+        if (useSecondLevelEntityCache) {
+            secondLevelEntityCache.put(entityClass, entity, secondLevelEntityCacheVersion);
+        }
+
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
 
+    /**
+     * Selects a single entity with the given statement. When the entity type is kept in the {@link SecondLevelEntityCache}, the id of the selected entity is remembered for the given lookup key
+     * (which needs to identify the statement and its parameters), so that the entity can be fetched by id next time.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T selectOneWithLookupKey(Class<T> entityClass, String lookupKey, String statement, Object parameter) {
+        if (!isSecondLevelEntityCacheUsed(entityClass)) {
+            return (T) selectOne(statement, parameter);
+        }
+
+        String id = secondLevelEntityCache.getLookup(entityClass, lookupKey);
+        if (id != null) {
+            T entity = selectById(entityClass, id);
+            if (entity != null) {
+                return entity;
+            }
+        }
+
+        long secondLevelEntityCacheVersion = secondLevelEntityCache.getVersion(entityClass);
+        T entity = (T) selectOne(statement, parameter);
+        if (entity != null) {
+            secondLevelEntityCache.putLookup(entityClass, lookupKey, entity.getId(), secondLevelEntityCacheVersion);
+        }
+        return entity;
+    }
+
+    // second level cache
+    // ///////////////////////////////////////////////////
+
+    protected boolean isSecondLevelEntityCacheUsed(Class<?> entityClass) {
+        return secondLevelEntityCache != null && secondLevelEntityCache.isCached(entityClass)
+                && (secondLevelEntityCacheInvalidations == null || !secondLevelEntityCacheInvalidations.contains(entityClass));
+    }
+
+    /**
+     * Invalidates the given entity type in the {@link SecondLevelEntityCache}, right away and again when the transaction ends. From then on, this session doesn't use the second level cache for the
+     * entity type anymore.
+     * 
+     * Happens automatically when entities are inserted, updated or deleted through this session, but needs to be called explicitly when entities of a cached type are changed in another way (eg. with
+     * a bulk update statement).
+     */
+    public void invalidateSecondLevelEntityCache(Class<?> entityClass) {
+        if (secondLevelEntityCache == null || !secondLevelEntityCache.isCached(entityClass)) {
+            return;
+        }
+
+        secondLevelEntityCache.invalidate(entityClass);
+
+        if (secondLevelEntityCacheInvalidations == null) {
+            secondLevelEntityCacheInvalidations = new HashSet<Class<?>>();
+            if (transactionContext != null) {
+                SecondLevelEntityCacheInvalidationListener invalidationListener = new SecondLevelEntityCacheInvalidationListener(secondLevelEntityCache, secondLevelEntityCacheInvalidations);
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, invalidationListener);
+                transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, invalidationListener);
+            }
+        }
+        secondLevelEntityCacheInvalidations.add(entityClass);
+    }
+
+    protected void invalidateSecondLevelEntityCacheForFlush() {
+        if (secondLevelEntityCache == null) {
+            return;
+        }
+
+        Set<Class<?>> changedEntityClasses = new HashSet<Class<?>>();
+        changedEntityClasses.addAll(insertedObjects.keySet());
+        changedEntityClasses.addAll(deletedObjects.keySet());
+        changedEntityClasses.addAll(bulkDeleteOperations.keySet());
+        for (Entity updatedObject : updatedObjects) {
+            changedEntityClasses.add(updatedObject.getClass());
+        }
+
+        for (Class<?> changedEntityClass : changedEntityClasses) {
+            invalidateSecondLevelEntityCache(changedEntityClass);
+        }
+    }
+
     // internal session cache
     // ///////////////////////////////////////////////////
 
@@ -411,11 +576,31 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        invalidateSecondLevelEntityCacheForFlush();
+
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordFlush(getFlushSize());
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
     }
 
+    protected int getFlushSize() {
+        int flushSize = updatedObjects.size();
+        for (Map<String, Entity> entities : insertedObjects.values()) {
+            flushSize += entities.size();
+        }
+        for (Map<String, Entity> entities : deletedObjects.values()) {
+            flushSize += entities.size();
+        }
+        for (List<BulkDeleteOperation> operations : bulkDeleteOperations.values()) {
+            flushSize += operations.size();
+        }
+        return flushSize;
+    }
+
     /**
      * Clears all deleted and inserted objects from the cache, and removes inserts and deletes that cancel each other.
      * 
@@ -644,6 +829,9 @@ public class DbSqlSession implements Session {
         }
 
         log.debug("inserting: {}", entity);
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordInsert(clazz);
+        }
         sqlSession.insert(insertStatement, entity);
 
         // See https://activiti.atlassian.net/browse/ACT-1290
@@ -675,6 +863,9 @@ public class DbSqlSession implements Session {
                 }
                 index++;
             }
+            if (processEngineMetrics != null) {
+                processEngineMetrics.recordInsert(clazz);
+            }
             sqlSession.insert(insertStatement, subList);
         }
 
@@ -704,8 +895,12 @@ public class DbSqlSession implements Session {
             }
 
             log.debug("updating: {}", updatedObject);
+            if (processEngineMetrics != null) {
+                processEngineMetrics.recordUpdate(updatedObject.getClass());
+            }
             int updatedRecords = sqlSession.update(updateStatement, updatedObject);
             if (updatedRecords == 0) {
+                recordOptimisticLockingFailure();
                 throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
             }
 
@@ -748,6 +943,9 @@ public class DbSqlSession implements Session {
         // Bulk deletes
         if (bulkDeleteOperations.containsKey(entityClass)) {
             for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
+                if (processEngineMetrics != null) {
+                    processEngineMetrics.recordDelete(bulkDeleteOperation.getStatement());
+                }
                 bulkDeleteOperation.execute(sqlSession);
             }
         }
@@ -761,11 +959,16 @@ public class DbSqlSession implements Session {
                 throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
             }
 
+            if (processEngineMetrics != null) {
+                processEngineMetrics.recordDelete(entityClass);
+            }
+
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
             if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
+                    recordOptimisticLockingFailure();
                     throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
                 }
             } else {
@@ -774,8 +977,21 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void recordOptimisticLockingFailure() {
+        if (processEngineMetrics != null) {
+            processEngineMetrics.recordOptimisticLockingFailure();
+        }
+    }
+
     public void close() {
         sqlSession.close();
+
+        // Without a transaction context, the changed entity types are invalidated again when the session is closed
+        if (transactionContext == null && secondLevelEntityCacheInvalidations != null) {
+            for (Class<?> entityClass : secondLevelEntityCacheInvalidations) {
+                secondLevelEntityCache.invalidate(entityClass);
+            }
+        }
     }
 
     public void commit() {
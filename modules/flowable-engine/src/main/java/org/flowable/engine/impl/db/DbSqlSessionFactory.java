@@ -26,6 +26,8 @@ import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
+import org.flowable.engine.impl.persistence.cache.SecondLevelEntityCache;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +72,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected boolean isDbHistoryUsed = true;
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    protected SecondLevelEntityCache secondLevelEntityCache;
+    protected ProcessEngineMetrics processEngineMetrics;
+    protected SqlStatementProfiler sqlStatementProfiler;
+
     public Class<?> getSessionType() {
         return DbSqlSession.class;
     }
@@ -338,4 +344,28 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public SecondLevelEntityCache getSecondLevelEntityCache() {
+        return secondLevelEntityCache;
+    }
+
+    public void setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+    }
+
+    public ProcessEngineMetrics getProcessEngineMetrics() {
+        return processEngineMetrics;
+    }
+
+    public void setProcessEngineMetrics(ProcessEngineMetrics processEngineMetrics) {
+        this.processEngineMetrics = processEngineMetrics;
+    }
+
+    public SqlStatementProfiler getSqlStatementProfiler() {
+        return sqlStatementProfiler;
+    }
+
+    public void setSqlStatementProfiler(SqlStatementProfiler sqlStatementProfiler) {
+        this.sqlStatementProfiler = sqlStatementProfiler;
+    }
+
 }
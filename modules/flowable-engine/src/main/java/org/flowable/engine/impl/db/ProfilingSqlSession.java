@@ -0,0 +1,244 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * {@link SqlSession} that reports the duration and number of rows of every executed statement to the {@link SqlStatementProfiler}, and delegates everything to the wrapped session.
+ */
+public class ProfilingSqlSession implements SqlSession {
+
+    protected SqlSession sqlSession;
+    protected SqlStatementProfiler sqlStatementProfiler;
+
+    public ProfilingSqlSession(SqlSession sqlSession, SqlStatementProfiler sqlStatementProfiler) {
+        this.sqlSession = sqlSession;
+        this.sqlStatementProfiler = sqlStatementProfiler;
+    }
+
+    @Override
+    public <T> T selectOne(String statement) {
+        return selectOne(statement, null);
+    }
+
+    @Override
+    public <T> T selectOne(String statement, Object parameter) {
+        long startTime = System.nanoTime();
+        T result = sqlSession.selectOne(statement, parameter);
+        record(statement, parameter, startTime, result != null ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement) {
+        return selectList(statement, null);
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement, Object parameter) {
+        long startTime = System.nanoTime();
+        List<E> result = sqlSession.selectList(statement, parameter);
+        record(statement, parameter, startTime, result.size());
+        return result;
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement, Object parameter, RowBounds rowBounds) {
+        long startTime = System.nanoTime();
+        List<E> result = sqlSession.selectList(statement, parameter, rowBounds);
+        record(statement, parameter, startTime, result.size());
+        return result;
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, String mapKey) {
+        return selectMap(statement, null, mapKey);
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey) {
+        long startTime = System.nanoTime();
+        Map<K, V> result = sqlSession.selectMap(statement, parameter, mapKey);
+        record(statement, parameter, startTime, result.size());
+        return result;
+    }
+
+    @Override
+    public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey, RowBounds rowBounds) {
+        long startTime = System.nanoTime();
+        Map<K, V> result = sqlSession.selectMap(statement, parameter, mapKey, rowBounds);
+        record(statement, parameter, startTime, result.size());
+        return result;
+    }
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement) {
+        return selectCursor(statement, null);
+    }
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement, Object parameter) {
+        // Only the time to open the cursor is known here, the rows are fetched later on
+        long startTime = System.nanoTime();
+        Cursor<T> result = sqlSession.selectCursor(statement, parameter);
+        record(statement, parameter, startTime, 0);
+        return result;
+    }
+
+    @Override
+    public <T> Cursor<T> selectCursor(String statement, Object parameter, RowBounds rowBounds) {
+        long startTime = System.nanoTime();
+        Cursor<T> result = sqlSession.selectCursor(statement, parameter, rowBounds);
+        record(statement, parameter, startTime, 0);
+        return result;
+    }
+
+    @Override
+    public void select(String statement, ResultHandler handler) {
+        select(statement, null, RowBounds.DEFAULT, handler);
+    }
+
+    @Override
+    public void select(String statement, Object parameter, ResultHandler handler) {
+        select(statement, parameter, RowBounds.DEFAULT, handler);
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void select(String statement, Object parameter, RowBounds rowBounds, final ResultHandler handler) {
+        final int[] rowCount = new int[1];
+        ResultHandler countingHandler = new ResultHandler() {
+
+            @Override
+            public void handleResult(ResultContext resultContext) {
+                rowCount[0]++;
+                handler.handleResult(resultContext);
+            }
+
+        };
+
+        long startTime = System.nanoTime();
+        sqlSession.select(statement, parameter, rowBounds, countingHandler);
+        record(statement, parameter, startTime, rowCount[0]);
+    }
+
+    @Override
+    public int insert(String statement) {
+        return insert(statement, null);
+    }
+
+    @Override
+    public int insert(String statement, Object parameter) {
+        long startTime = System.nanoTime();
+        int result = sqlSession.insert(statement, parameter);
+        record(statement, parameter, startTime, result);
+        return result;
+    }
+
+    @Override
+    public int update(String statement) {
+        return update(statement, null);
+    }
+
+    @Override
+    public int update(String statement, Object parameter) {
+        long startTime = System.nanoTime();
+        int result = sqlSession.update(statement, parameter);
+        record(statement, parameter, startTime, result);
+        return result;
+    }
+
+    @Override
+    public int delete(String statement) {
+        return delete(statement, null);
+    }
+
+    @Override
+    public int delete(String statement, Object parameter) {
+        long startTime = System.nanoTime();
+        int result = sqlSession.delete(statement, parameter);
+        record(statement, parameter, startTime, result);
+        return result;
+    }
+
+    protected void record(String statement, Object parameter, long startTime, int rowCount) {
+        sqlStatementProfiler.record(sqlSession.getConfiguration(), statement, parameter, startTime, rowCount);
+    }
+
+    @Override
+    public void commit() {
+        sqlSession.commit();
+    }
+
+    @Override
+    public void commit(boolean force) {
+        sqlSession.commit(force);
+    }
+
+    @Override
+    public void rollback() {
+        sqlSession.rollback();
+    }
+
+    @Override
+    public void rollback(boolean force) {
+        sqlSession.rollback(force);
+    }
+
+    @Override
+    public List<BatchResult> flushStatements() {
+        return sqlSession.flushStatements();
+    }
+
+    @Override
+    public void close() {
+        sqlSession.close();
+    }
+
+    @Override
+    public void clearCache() {
+        sqlSession.clearCache();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return sqlSession.getConfiguration();
+    }
+
+    @Override
+    public <T> T getMapper(Class<T> type) {
+        // Bind the mapper to this session, so the statements of custom mappers are profiled as well
+        return getConfiguration().getMapper(type, this);
+    }
+
+    @Override
+    public Connection getConnection() {
+        return sqlSession.getConnection();
+    }
+
+    public SqlSession getSqlSession() {
+        return sqlSession;
+    }
+
+}
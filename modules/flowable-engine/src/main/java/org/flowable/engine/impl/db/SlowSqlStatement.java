@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single execution of a mapped statement that took longer than the slow statement threshold of the {@link SqlStatementProfiler}, with the sql and the parameter values bound to it.
+ */
+public class SlowSqlStatement {
+
+    protected String statementId;
+    protected String sql;
+    protected List<String> parameters;
+    protected long durationInMillis;
+    protected Date startTime;
+
+    public SlowSqlStatement(String statementId, String sql, List<String> parameters, long durationInMillis, Date startTime) {
+        this.statementId = statementId;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.durationInMillis = durationInMillis;
+        this.startTime = startTime;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("statementId", statementId);
+        map.put("sql", sql);
+        map.put("parameters", parameters);
+        map.put("duration", durationInMillis);
+        map.put("startTime", startTime);
+        return map;
+    }
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution count, total and max time and number of rows of one mapped statement, as recorded by the {@link SqlStatementProfiler}. Rows are the number of returned objects for selects and the
+ * update count for inserts, updates and deletes.
+ */
+public class SqlStatementProfile {
+
+    protected String statementId;
+    protected AtomicLong count = new AtomicLong();
+    protected AtomicLong totalTimeInNanos = new AtomicLong();
+    protected AtomicLong maxTimeInNanos = new AtomicLong();
+    protected AtomicLong rows = new AtomicLong();
+
+    public SqlStatementProfile(String statementId) {
+        this.statementId = statementId;
+    }
+
+    public void record(long durationInNanos, int rowCount) {
+        count.incrementAndGet();
+        totalTimeInNanos.addAndGet(durationInNanos);
+        if (rowCount > 0) {
+            rows.addAndGet(rowCount);
+        }
+
+        long currentMax = maxTimeInNanos.get();
+        while (durationInNanos > currentMax && !maxTimeInNanos.compareAndSet(currentMax, durationInNanos)) {
+            currentMax = maxTimeInNanos.get();
+        }
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalTimeInMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(totalTimeInNanos.get());
+    }
+
+    public long getMaxTimeInMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxTimeInNanos.get());
+    }
+
+    public double getMeanTimeInMicros() {
+        long currentCount = count.get();
+        return currentCount > 0 ? (double) getTotalTimeInMicros() / currentCount : 0.0;
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("statementId", statementId);
+        map.put("count", getCount());
+        map.put("totalTime", getTotalTimeInMicros());
+        map.put("maxTime", getMaxTimeInMicros());
+        map.put("meanTime", getMeanTimeInMicros());
+        map.put("rows", getRows());
+        return map;
+    }
+
+}
@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Profiles the mapped statements executed by the {@link DbSqlSession}s of a process engine: the execution count, total and max time and rows per statement id, and the last executions that took
+ * longer than the slow statement threshold, with their sql and bound parameters.
+ * 
+ * Profiling can be switched on and off at runtime. When it's off, a {@link DbSqlSession} uses the plain MyBatis {@link SqlSession} and the only cost is reading the enabled flag when the session is
+ * opened. When it's on, the session is wrapped in a {@link ProfilingSqlSession}; binding the parameters of a statement is only done for slow statements.
+ */
+public class SqlStatementProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatementProfiler.class);
+
+    protected volatile boolean enabled;
+    protected volatile long slowStatementThresholdInMillis = 100L;
+    protected int maxSlowStatements = 100;
+
+    protected ConcurrentMap<String, SqlStatementProfile> statementProfiles = new ConcurrentHashMap<String, SqlStatementProfile>();
+    protected Deque<SlowSqlStatement> slowStatements = new ArrayDeque<SlowSqlStatement>();
+
+    public SqlSession wrap(SqlSession sqlSession) {
+        if (enabled) {
+            return new ProfilingSqlSession(sqlSession, this);
+        }
+        return sqlSession;
+    }
+
+    public void record(Configuration configuration, String statementId, Object parameter, long startTimeInNanos, int rowCount) {
+        long durationInNanos = System.nanoTime() - startTimeInNanos;
+
+        SqlStatementProfile statementProfile = statementProfiles.get(statementId);
+        if (statementProfile == null) {
+            SqlStatementProfile newStatementProfile = new SqlStatementProfile(statementId);
+            statementProfile = statementProfiles.putIfAbsent(statementId, newStatementProfile);
+            if (statementProfile == null) {
+                statementProfile = newStatementProfile;
+            }
+        }
+        statementProfile.record(durationInNanos, rowCount);
+
+        long durationInMillis = TimeUnit.NANOSECONDS.toMillis(durationInNanos);
+        if (durationInMillis >= slowStatementThresholdInMillis && maxSlowStatements > 0) {
+            Date startTime = new Date(System.currentTimeMillis() - durationInMillis);
+            addSlowStatement(createSlowStatement(configuration, statementId, parameter, durationInMillis, startTime));
+        }
+    }
+
+    protected SlowSqlStatement createSlowStatement(Configuration configuration, String statementId, Object parameter, long durationInMillis, Date startTime) {
+        String sql = null;
+        List<String> parameterValues = new ArrayList<String>();
+        try {
+            MappedStatement mappedStatement = configuration.getMappedStatement(statementId);
+            BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+            sql = boundSql.getSql();
+
+            MetaObject metaObject = null;
+            for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+                String property = parameterMapping.getProperty();
+                Object value = null;
+                if (boundSql.hasAdditionalParameter(property)) {
+                    value = boundSql.getAdditionalParameter(property);
+                } else if (parameter == null || configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                    value = parameter;
+                } else {
+                    if (metaObject == null) {
+                        metaObject = configuration.newMetaObject(parameter);
+                    }
+                    value = metaObject.getValue(property);
+                }
+                parameterValues.add(toParameterString(value));
+            }
+
+        } catch (Exception e) {
+            LOGGER.debug("Could not bind the parameters of slow statement {}", statementId, e);
+            parameterValues.clear();
+            parameterValues.add(toParameterString(parameter));
+        }
+
+        return new SlowSqlStatement(statementId, sql, parameterValues, durationInMillis, startTime);
+    }
+
+    protected String toParameterString(Object value) {
+        if (value instanceof byte[]) {
+            return "byte[" + ((byte[]) value).length + "]";
+        }
+        return String.valueOf(value);
+    }
+
+    protected void addSlowStatement(SlowSqlStatement slowStatement) {
+        LOGGER.debug("Slow statement {} took {} ms", slowStatement.getStatementId(), slowStatement.getDurationInMillis());
+        synchronized (slowStatements) {
+            slowStatements.addLast(slowStatement);
+            while (slowStatements.size() > maxSlowStatements) {
+                slowStatements.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * @return the profiles of the executed statements, the statements with the highest total time first
+     */
+    public List<SqlStatementProfile> getStatementProfiles() {
+        List<SqlStatementProfile> profiles = new ArrayList<SqlStatementProfile>(statementProfiles.values());
+        Collections.sort(profiles, new Comparator<SqlStatementProfile>() {
+
+            @Override
+            public int compare(SqlStatementProfile profile1, SqlStatementProfile profile2) {
+                long totalTime1 = profile1.getTotalTimeInMicros();
+                long totalTime2 = profile2.getTotalTimeInMicros();
+                return totalTime1 > totalTime2 ? -1 : (totalTime1 == totalTime2 ? 0 : 1);
+            }
+
+        });
+        return profiles;
+    }
+
+    public SqlStatementProfile getStatementProfile(String statementId) {
+        return statementProfiles.get(statementId);
+    }
+
+    /**
+     * @return the captured slow statements, the most recent first
+     */
+    public List<SlowSqlStatement> getSlowStatements() {
+        List<SlowSqlStatement> result;
+        synchronized (slowStatements) {
+            result = new ArrayList<SlowSqlStatement>(slowStatements);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public void reset() {
+        statementProfiles.clear();
+        synchronized (slowStatements) {
+            slowStatements.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSlowStatementThresholdInMillis() {
+        return slowStatementThresholdInMillis;
+    }
+
+    public void setSlowStatementThresholdInMillis(long slowStatementThresholdInMillis) {
+        this.slowStatementThresholdInMillis = slowStatementThresholdInMillis;
+    }
+
+    public int getMaxSlowStatements() {
+        return maxSlowStatements;
+    }
+
+    public void setMaxSlowStatements(int maxSlowStatements) {
+        this.maxSlowStatements = maxSlowStatements;
+    }
+
+}
@@ -25,6 +25,7 @@ import javax.el.ListELResolver;
 import javax.el.MapELResolver;
 import javax.el.ValueExpression;
 
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.delegate.FlowableFunctionDelegate;
 import org.flowable.engine.delegate.VariableScope;
@@ -57,6 +58,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     // Default implementation (does nothing)
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+    protected ExpressionCache<ValueExpression> expressionCache;
 
     public DefaultExpressionManager() {
         this(null);
@@ -89,12 +91,43 @@ public class DefaultExpressionManager implements ExpressionManager {
             this.parsingElContext = new ParsingElContext(functionDelegates);
         }
 
-        ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
+        ValueExpression valueExpression = createValueExpression(expression.trim());
         return new JuelExpression(this, this.delegateInterceptor, valueExpression, expression);
     }
 
+    protected ValueExpression createValueExpression(String expressionText) {
+        if (expressionCache == null) {
+            return expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
+        }
+
+        // The parsed expression trees are immutable, so they can be shared by all expressions with the same text
+        ValueExpression valueExpression = expressionCache.get(expressionText);
+        if (valueExpression == null) {
+            valueExpression = expressionCache.put(expressionText, expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class));
+        }
+        return valueExpression;
+    }
+
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        clearExpressionCache();
+    }
+
+    public ExpressionCache<ValueExpression> getExpressionCache() {
+        return expressionCache;
+    }
+
+    /**
+     * Sets the cache of parsed expressions, or null to parse every expression again.
+     */
+    public void setExpressionCache(ExpressionCache<ValueExpression> expressionCache) {
+        this.expressionCache = expressionCache;
+    }
+
+    protected void clearExpressionCache() {
+        if (expressionCache != null) {
+            expressionCache.clear();
+        }
     }
 
     public ELContext getElContext(VariableScope variableScope) {
@@ -152,5 +185,9 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     public void setFunctionDelegates(List<FlowableFunctionDelegate> functionDelegates) {
         this.functionDelegates = functionDelegates;
+
+        // Functions are resolved when parsing, the parsed expressions can't be reused with other functions
+        this.parsingElContext = null;
+        clearExpressionCache();
     }
 }
@@ -30,6 +30,7 @@ import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.cache.InactiveExecutionIndex;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
@@ -75,6 +76,7 @@ public class CommandContext extends AbstractCommandContext {
     protected FlowableEngineAgenda agenda;
     protected Map<String, ExecutionEntity> involvedExecutions = new HashMap<String, ExecutionEntity>(1); // The executions involved with the command
     protected LinkedList<Object> resultStack = new LinkedList<Object>(); // needs to be a stack, as JavaDelegates can do api calls again
+    protected InactiveExecutionIndex inactiveExecutionIndex;
 
     public CommandContext(Command<?> command, ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(command);
@@ -237,6 +239,19 @@ public class CommandContext extends AbstractCommandContext {
         return involvedExecutions.values();
     }
 
+    // Inactive executions ////////////////////////////////////////////////////////
+
+    public InactiveExecutionIndex getInactiveExecutionIndex() {
+        if (inactiveExecutionIndex == null) {
+            inactiveExecutionIndex = new InactiveExecutionIndex();
+        }
+        return inactiveExecutionIndex;
+    }
+
+    public boolean hasInactiveExecutionIndex() {
+        return inactiveExecutionIndex != null;
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the next chunk of instances of a parallel multi-instance activity that has an instance chunk size. The job configuration contains the loop counter of the first instance of the chunk.
+ */
+public class ParallelMultiInstanceChunkJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelMultiInstanceChunkJobHandler.class);
+
+    public static final String TYPE = "parallel-multi-instance-chunk";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        FlowElement currentFlowElement = execution.getCurrentFlowElement();
+        if (execution.isEnded() || !execution.isMultiInstanceRoot() || !(currentFlowElement instanceof Activity)
+                || !(((Activity) currentFlowElement).getBehavior() instanceof ParallelMultiInstanceBehavior)) {
+
+            LOGGER.debug("Execution {} is no longer the root of a parallel multi-instance, ignoring instance chunk {}", execution.getId(), configuration);
+            return;
+        }
+
+        ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) currentFlowElement).getBehavior();
+        multiInstanceBehavior.createInstanceChunk(execution, Integer.parseInt(configuration));
+    }
+
+}
@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.impl.cmd.TriggerCmd;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+
+/**
+ * Triggers an execution waiting for an asynchronous web service response that could not be handled when it arrived. The job configuration contains the name of
+ * the local execution variable holding the response, which is passed on to the activity as a transient variable of the same name.
+ */
+public class WebServiceResponseJobHandler implements JobHandler {
+
+    public static final String TYPE = "web-service-response";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        Object response = execution.getVariableLocal(configuration);
+        execution.removeVariableLocal(configuration);
+
+        Map<String, Object> transientVariables = new HashMap<String, Object>();
+        transientVariables.put(configuration, response);
+        new TriggerCmd(execution.getId(), null, transientVariables).execute(commandContext);
+    }
+
+}
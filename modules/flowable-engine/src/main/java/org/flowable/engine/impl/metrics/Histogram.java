@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distribution of recorded values (latencies, sizes), kept in buckets with power of two bounds. Recording a value is lock free and doesn't allocate, the percentiles are the upper bounds of the
+ * buckets they fall in, so they are accurate within a factor two.
+ */
+public class Histogram {
+
+    protected AtomicLongArray buckets = new AtomicLongArray(Long.SIZE + 1);
+    protected AtomicLong count = new AtomicLong();
+    protected AtomicLong sum = new AtomicLong();
+    protected AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        // Bucket i holds the values from 2^(i-1) up to 2^i - 1, bucket 0 holds 0
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getSum() {
+        return sum.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long currentCount = count.get();
+        return currentCount > 0 ? (double) sum.get() / currentCount : 0.0;
+    }
+
+    /**
+     * @param percentile
+     *            between 0 and 1
+     * @return the upper bound of the values below which the given percentile of the recorded values falls, or 0 when nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] bucketCounts = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = buckets.get(i);
+            total += bucketCounts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank && bucketCounts[i] > 0) {
+                long upperBound = i == 0 ? 0 : (i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.min(upperBound, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("count", getCount());
+        values.put("mean", getMean());
+        values.put("max", getMax());
+        values.put("p50", getPercentile(0.5));
+        values.put("p95", getPercentile(0.95));
+        values.put("p99", getPercentile(0.99));
+        return values;
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts events and their rate: the mean rate since the meter was created (or reset) and an exponentially weighted one minute rate, which is updated every five seconds when the meter is used.
+ */
+public class Meter {
+
+    protected static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    protected static final double ONE_MINUTE_ALPHA = 1 - Math.exp(-5.0 / 60.0);
+
+    protected AtomicLong count = new AtomicLong();
+    protected AtomicLong uncounted = new AtomicLong();
+    protected AtomicLong lastTick;
+    protected volatile long startTime;
+    protected volatile double oneMinuteRate = -1.0; // per second, negative until the first tick
+
+    public Meter() {
+        startTime = System.nanoTime();
+        lastTick = new AtomicLong(startTime);
+    }
+
+    public void mark() {
+        mark(1);
+    }
+
+    public void mark(long events) {
+        tickIfNecessary();
+        count.addAndGet(events);
+        uncounted.addAndGet(events);
+    }
+
+    protected void tickIfNecessary() {
+        long oldTick = lastTick.get();
+        long now = System.nanoTime();
+        long age = now - oldTick;
+        if (age > TICK_INTERVAL) {
+            long newTick = now - age % TICK_INTERVAL;
+            // Only the thread that moves the tick updates the rate
+            if (lastTick.compareAndSet(oldTick, newTick)) {
+                long ticks = age / TICK_INTERVAL;
+                for (long i = 0; i < ticks; i++) {
+                    tick();
+                }
+            }
+        }
+    }
+
+    protected void tick() {
+        double instantRate = uncounted.getAndSet(0) / (double) TimeUnit.NANOSECONDS.toSeconds(TICK_INTERVAL);
+        if (oneMinuteRate < 0) {
+            oneMinuteRate = instantRate;
+        } else {
+            oneMinuteRate += ONE_MINUTE_ALPHA * (instantRate - oneMinuteRate);
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the events per second since the meter was created or reset.
+     */
+    public double getMeanRate() {
+        double elapsedSeconds = (System.nanoTime() - startTime) / (double) TimeUnit.SECONDS.toNanos(1);
+        return elapsedSeconds > 0 ? count.get() / elapsedSeconds : 0.0;
+    }
+
+    /**
+     * @return the events per second of (about) the last minute, or the mean rate during the first five seconds.
+     */
+    public double getOneMinuteRate() {
+        tickIfNecessary();
+        double rate = oneMinuteRate;
+        return rate < 0 ? getMeanRate() : rate;
+    }
+
+    public void reset() {
+        startTime = System.nanoTime();
+        lastTick.set(startTime);
+        count.set(0);
+        uncounted.set(0);
+        oneMinuteRate = -1.0;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("count", getCount());
+        values.put("meanRate", getMeanRate());
+        values.put("oneMinuteRate", getOneMinuteRate());
+        return values;
+    }
+
+}
@@ -0,0 +1,299 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+
+/**
+ * Collects the metrics of a process engine: the latency of every {@link org.flowable.engine.impl.interceptor.Command} class, the statements executed by the
+ * {@link org.flowable.engine.impl.db.DbSqlSession} per statement type and entity, the number of entities per flush, the entity cache hit ratio, optimistic locking failures and the async executor
+ * throughput.
+ * 
+ * Recording a metric only updates atomic counters, so the metrics can stay enabled in production. Latencies are kept in microseconds.
+ */
+public class ProcessEngineMetrics {
+
+    public static final String STATEMENT_SELECT = "select";
+    public static final String STATEMENT_INSERT = "insert";
+    public static final String STATEMENT_UPDATE = "update";
+    public static final String STATEMENT_DELETE = "delete";
+
+    protected ConcurrentMap<Class<?>, Histogram> commandLatencies = new ConcurrentHashMap<Class<?>, Histogram>();
+
+    // Keyed by statement name for selects and bulk statements, by entity class for entity inserts, updates and deletes
+    protected ConcurrentMap<Object, AtomicLong> selectCounts = new ConcurrentHashMap<Object, AtomicLong>();
+    protected ConcurrentMap<Object, AtomicLong> insertCounts = new ConcurrentHashMap<Object, AtomicLong>();
+    protected ConcurrentMap<Object, AtomicLong> updateCounts = new ConcurrentHashMap<Object, AtomicLong>();
+    protected ConcurrentMap<Object, AtomicLong> deleteCounts = new ConcurrentHashMap<Object, AtomicLong>();
+
+    protected Histogram flushSizes = new Histogram();
+    protected AtomicLong entityCacheHits = new AtomicLong();
+    protected AtomicLong entityCacheMisses = new AtomicLong();
+    protected AtomicLong optimisticLockingFailures = new AtomicLong();
+
+    protected Meter acquiredAsyncJobs = new Meter();
+    protected Meter acquiredTimerJobs = new Meter();
+    protected Meter executedJobs = new Meter();
+    protected Meter failedJobs = new Meter();
+
+    protected AsyncExecutor asyncExecutor;
+
+    // recording ///////////////////////////////////////////////////////////////
+
+    public void recordCommand(Class<?> commandClass, long durationInNanos) {
+        Histogram histogram = commandLatencies.get(commandClass);
+        if (histogram == null) {
+            Histogram newHistogram = new Histogram();
+            histogram = commandLatencies.putIfAbsent(commandClass, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(TimeUnit.NANOSECONDS.toMicros(durationInNanos));
+    }
+
+    /**
+     * @param entityClassOrStatement
+     *            the class of the selected entity, or the name of the statement
+     */
+    public void recordSelect(Object entityClassOrStatement) {
+        increment(selectCounts, entityClassOrStatement, 1);
+    }
+
+    public void recordInsert(Object entityClassOrStatement) {
+        increment(insertCounts, entityClassOrStatement, 1);
+    }
+
+    public void recordUpdate(Object entityClassOrStatement) {
+        increment(updateCounts, entityClassOrStatement, 1);
+    }
+
+    public void recordDelete(Object entityClassOrStatement) {
+        increment(deleteCounts, entityClassOrStatement, 1);
+    }
+
+    protected void increment(ConcurrentMap<Object, AtomicLong> counts, Object key, long delta) {
+        if (key == null) {
+            return;
+        }
+        AtomicLong count = counts.get(key);
+        if (count == null) {
+            AtomicLong newCount = new AtomicLong();
+            count = counts.putIfAbsent(key, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        count.addAndGet(delta);
+    }
+
+    public void recordFlush(int entityCount) {
+        flushSizes.record(entityCount);
+    }
+
+    public void recordEntityCacheHit() {
+        entityCacheHits.incrementAndGet();
+    }
+
+    public void recordEntityCacheMiss() {
+        entityCacheMisses.incrementAndGet();
+    }
+
+    public void recordOptimisticLockingFailure() {
+        optimisticLockingFailures.incrementAndGet();
+    }
+
+    public void recordAcquiredAsyncJobs(int jobCount) {
+        acquiredAsyncJobs.mark(jobCount);
+    }
+
+    public void recordAcquiredTimerJobs(int jobCount) {
+        acquiredTimerJobs.mark(jobCount);
+    }
+
+    public void recordExecutedJob() {
+        executedJobs.mark();
+    }
+
+    public void recordFailedJob() {
+        failedJobs.mark();
+    }
+
+    // reading /////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the latency distribution (in microseconds) per command class name.
+     */
+    public Map<String, Map<String, Object>> getCommandLatencies() {
+        Map<String, Map<String, Object>> latencies = new TreeMap<String, Map<String, Object>>();
+        for (Map.Entry<Class<?>, Histogram> entry : commandLatencies.entrySet()) {
+            latencies.put(entry.getKey().getName(), entry.getValue().toMap());
+        }
+        return latencies;
+    }
+
+    /**
+     * @return the number of executed statements, keyed by statement type and entity (or statement name), for example <code>insert:TaskEntityImpl</code>.
+     */
+    public Map<String, Long> getStatementCounts() {
+        Map<String, Long> statementCounts = new TreeMap<String, Long>();
+        addStatementCounts(statementCounts, STATEMENT_SELECT, selectCounts);
+        addStatementCounts(statementCounts, STATEMENT_INSERT, insertCounts);
+        addStatementCounts(statementCounts, STATEMENT_UPDATE, updateCounts);
+        addStatementCounts(statementCounts, STATEMENT_DELETE, deleteCounts);
+        return statementCounts;
+    }
+
+    protected void addStatementCounts(Map<String, Long> statementCounts, String statementType, ConcurrentMap<Object, AtomicLong> counts) {
+        for (Map.Entry<Object, AtomicLong> entry : counts.entrySet()) {
+            Object key = entry.getKey();
+            String name = key instanceof Class ? ((Class<?>) key).getSimpleName() : key.toString();
+            statementCounts.put(statementType + ":" + name, entry.getValue().get());
+        }
+    }
+
+    public long getStatementCount(String statementType) {
+        ConcurrentMap<Object, AtomicLong> counts;
+        if (STATEMENT_SELECT.equals(statementType)) {
+            counts = selectCounts;
+        } else if (STATEMENT_INSERT.equals(statementType)) {
+            counts = insertCounts;
+        } else if (STATEMENT_UPDATE.equals(statementType)) {
+            counts = updateCounts;
+        } else if (STATEMENT_DELETE.equals(statementType)) {
+            counts = deleteCounts;
+        } else {
+            return 0L;
+        }
+
+        long total = 0L;
+        for (AtomicLong count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public Histogram getFlushSizes() {
+        return flushSizes;
+    }
+
+    public long getEntityCacheHits() {
+        return entityCacheHits.get();
+    }
+
+    public long getEntityCacheMisses() {
+        return entityCacheMisses.get();
+    }
+
+    public double getEntityCacheHitRatio() {
+        long hits = entityCacheHits.get();
+        long lookups = hits + entityCacheMisses.get();
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    public long getOptimisticLockingFailures() {
+        return optimisticLockingFailures.get();
+    }
+
+    public Meter getAcquiredAsyncJobs() {
+        return acquiredAsyncJobs;
+    }
+
+    public Meter getAcquiredTimerJobs() {
+        return acquiredTimerJobs;
+    }
+
+    public Meter getExecutedJobs() {
+        return executedJobs;
+    }
+
+    public Meter getFailedJobs() {
+        return failedJobs;
+    }
+
+    /**
+     * @return the number of acquired jobs waiting for an async executor thread, or -1 when the async executor doesn't have a queue.
+     */
+    public int getAsyncExecutorQueueSize() {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor) {
+            BlockingQueue<Runnable> threadPoolQueue = ((DefaultAsyncJobExecutor) asyncExecutor).getThreadPoolQueue();
+            if (threadPoolQueue != null) {
+                return threadPoolQueue.size();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return all metrics, as nested maps of simple values.
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<String, Object>();
+        metrics.put("commandLatencies", getCommandLatencies());
+        metrics.put("statementCounts", getStatementCounts());
+        metrics.put("flushSizes", flushSizes.toMap());
+
+        Map<String, Object> entityCache = new LinkedHashMap<String, Object>();
+        entityCache.put("hits", getEntityCacheHits());
+        entityCache.put("misses", getEntityCacheMisses());
+        entityCache.put("hitRatio", getEntityCacheHitRatio());
+        metrics.put("entityCache", entityCache);
+
+        metrics.put("optimisticLockingFailures", getOptimisticLockingFailures());
+
+        Map<String, Object> asyncExecutorMetrics = new LinkedHashMap<String, Object>();
+        asyncExecutorMetrics.put("queueSize", getAsyncExecutorQueueSize());
+        asyncExecutorMetrics.put("acquiredAsyncJobs", acquiredAsyncJobs.toMap());
+        asyncExecutorMetrics.put("acquiredTimerJobs", acquiredTimerJobs.toMap());
+        asyncExecutorMetrics.put("executedJobs", executedJobs.toMap());
+        asyncExecutorMetrics.put("failedJobs", failedJobs.toMap());
+        metrics.put("asyncExecutor", asyncExecutorMetrics);
+
+        return metrics;
+    }
+
+    public void reset() {
+        commandLatencies.clear();
+        selectCounts.clear();
+        insertCounts.clear();
+        updateCounts.clear();
+        deleteCounts.clear();
+        flushSizes.reset();
+        entityCacheHits.set(0);
+        entityCacheMisses.set(0);
+        optimisticLockingFailures.set(0);
+        acquiredAsyncJobs.reset();
+        acquiredTimerJobs.reset();
+        executedJobs.reset();
+        failedJobs.reset();
+    }
+
+    public AsyncExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    public void setAsyncExecutor(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+}
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence;
+
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeReference;
+
+/**
+ * MyBatis TypeHandler that exposes a binary column as an {@link InputStream}, without reading it into a byte array first.
+ * 
+ * The returned stream is only valid as long as the current row of the result set is, so it should be consumed in a {@link org.apache.ibatis.session.ResultHandler}.
+ */
+public class InputStreamTypeHandler extends TypeReference<InputStream> implements TypeHandler<InputStream> {
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBinaryStream(i, parameter);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, String columnName) throws SQLException {
+        return rs.getBinaryStream(columnName);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return rs.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        throw new UnsupportedOperationException("Streaming binary output parameters is not supported");
+    }
+
+}
@@ -0,0 +1,283 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.db.HasRevision;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SecondLevelEntityCache}: keeps a serialized copy of every cached entity in memory (the id and revision, which are defined in non serializable superclasses, are kept next to it), with a limit on the number of entities and lookups per entity type (least recently used ones are
+ * evicted first) and an optional time to live.
+ * 
+ * Invalidation only happens for changes done through this engine. When multiple engines share the same database, a time to live should be set to bound the time changes done by another engine
+ * remain invisible.
+ */
+public class DefaultSecondLevelEntityCache implements SecondLevelEntityCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultSecondLevelEntityCache.class);
+
+    public static final int DEFAULT_LIMIT = 1000;
+
+    protected Map<Class<?>, CacheRegion> regions = new HashMap<Class<?>, CacheRegion>();
+    protected long timeToLive;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param entityClasses
+     *            the entity types to cache, entities of other types are never cached.
+     * @param limit
+     *            the maximum number of entities, and the maximum number of lookups, kept per entity type.
+     * @param timeToLive
+     *            the time in milliseconds a cached entity or lookup can be used, zero or less to keep them until invalidated or evicted.
+     */
+    public DefaultSecondLevelEntityCache(Collection<Class<?>> entityClasses, int limit, long timeToLive) {
+        for (Class<?> entityClass : entityClasses) {
+            regions.put(entityClass, new CacheRegion(limit));
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public boolean isCached(Class<?> entityClass) {
+        return regions.containsKey(entityClass);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        CacheRegion region = regions.get(entityClass);
+        if (region == null) {
+            return null;
+        }
+
+        CacheValue<byte[]> cacheValue = null;
+        synchronized (region) {
+            cacheValue = region.entities.get(id);
+            if (cacheValue != null && isExpired(cacheValue)) {
+                region.entities.remove(id);
+                cacheValue = null;
+            }
+        }
+
+        if (cacheValue == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        T entity = (T) deserialize(cacheValue.value, entityClass);
+        entity.setId(id);
+        if (entity instanceof HasRevision) {
+            ((HasRevision) entity).setRevision(cacheValue.revision);
+        }
+        return entity;
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Entity entity, long version) {
+        CacheRegion region = regions.get(entityClass);
+        if (region == null || !(entity instanceof Serializable)) {
+            return;
+        }
+
+        byte[] serializedEntity = serialize(entity);
+        if (serializedEntity == null) {
+            return;
+        }
+
+        synchronized (region) {
+            if (region.version == version) {
+                int revision = entity instanceof HasRevision ? ((HasRevision) entity).getRevision() : 0;
+                region.entities.put(entity.getId(), new CacheValue<byte[]>(serializedEntity, revision));
+            }
+        }
+    }
+
+    @Override
+    public String getLookup(Class<?> entityClass, String lookupKey) {
+        CacheRegion region = regions.get(entityClass);
+        if (region == null) {
+            return null;
+        }
+
+        synchronized (region) {
+            CacheValue<String> cacheValue = region.lookups.get(lookupKey);
+            if (cacheValue != null) {
+                if (!isExpired(cacheValue)) {
+                    return cacheValue.value;
+                }
+                region.lookups.remove(lookupKey);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void putLookup(Class<?> entityClass, String lookupKey, String id, long version) {
+        CacheRegion region = regions.get(entityClass);
+        if (region == null) {
+            return;
+        }
+
+        synchronized (region) {
+            if (region.version == version) {
+                region.lookups.put(lookupKey, new CacheValue<String>(id, 0));
+            }
+        }
+    }
+
+    @Override
+    public long getVersion(Class<?> entityClass) {
+        CacheRegion region = regions.get(entityClass);
+        if (region == null) {
+            return -1L;
+        }
+
+        synchronized (region) {
+            return region.version;
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass) {
+        CacheRegion region = regions.get(entityClass);
+        if (region != null) {
+            synchronized (region) {
+                region.version++;
+                region.entities.clear();
+                region.lookups.clear();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Class<?> entityClass : regions.keySet()) {
+            invalidate(entityClass);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    protected boolean isExpired(CacheValue<?> cacheValue) {
+        return timeToLive > 0 && System.currentTimeMillis() - cacheValue.timestamp > timeToLive;
+    }
+
+    protected byte[] serialize(Entity entity) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(entity);
+            objectOutputStream.close();
+            return byteArrayOutputStream.toByteArray();
+
+        } catch (IOException e) {
+            logger.debug("Entity {} can't be serialized and won't be cached", entity, e);
+            return null;
+        }
+    }
+
+    protected Object deserialize(byte[] serializedEntity, final Class<?> entityClass) {
+        try {
+            ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serializedEntity)) {
+
+                @Override
+                protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                    try {
+                        return Class.forName(desc.getName(), false, entityClass.getClassLoader());
+                    } catch (ClassNotFoundException e) {
+                        return super.resolveClass(desc);
+                    }
+                }
+
+            };
+            try {
+                return objectInputStream.readObject();
+            } finally {
+                objectInputStream.close();
+            }
+
+        } catch (Exception e) {
+            throw new FlowableException("Could not copy cached entity of type " + entityClass.getName(), e);
+        }
+    }
+
+    protected static class CacheRegion {
+
+        protected long version;
+        protected Map<String, CacheValue<byte[]>> entities;
+        protected Map<String, CacheValue<String>> lookups;
+
+        public CacheRegion(int limit) {
+            this.entities = createLruMap(limit);
+            this.lookups = createLruMap(limit);
+        }
+
+        protected static <V> Map<String, V> createLruMap(final int limit) {
+            return new LinkedHashMap<String, V>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                    return size() > limit;
+                }
+
+            };
+        }
+
+    }
+
+    protected static class CacheValue<V> {
+
+        protected final V value;
+        protected final int revision;
+        protected final long timestamp;
+
+        public CacheValue(V value, int revision) {
+            this.value = value;
+            this.revision = revision;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Index of the inactive executions per (process instance id, activity id) during the execution of one {@link Command}.
+ *
+ * A combination is only indexed after it has been fetched once through the regular query (which checks both the database and the {@link EntityCache}). From then on, every execution that becomes
+ * inactive or changes its current activity is registered through {@link #register(ExecutionEntity)}, so that the joining gateways can find the executions waiting in them without querying again.
+ * Registered executions are only candidates: their state is verified again when they are looked up.
+ */
+public class InactiveExecutionIndex {
+
+    protected Map<String, Map<String, Set<ExecutionEntity>>> executionsByProcessInstance = new HashMap<String, Map<String, Set<ExecutionEntity>>>();
+
+    public boolean isIndexed(String processInstanceId, String activityId) {
+        return getIndexedExecutions(processInstanceId, activityId) != null;
+    }
+
+    /**
+     * Marks the combination of process instance id and activity id as indexed, with the given executions as the result of the initial fetch.
+     */
+    public void index(String processInstanceId, String activityId, Collection<ExecutionEntity> executions) {
+        Map<String, Set<ExecutionEntity>> executionsByActivity = executionsByProcessInstance.get(processInstanceId);
+        if (executionsByActivity == null) {
+            executionsByActivity = new HashMap<String, Set<ExecutionEntity>>();
+            executionsByProcessInstance.put(processInstanceId, executionsByActivity);
+        }
+
+        executionsByActivity.put(activityId, new LinkedHashSet<ExecutionEntity>(executions));
+    }
+
+    /**
+     * Registers an execution of which the active flag or current activity has changed. Only relevant when the new combination of process instance and activity already has been indexed.
+     */
+    public void register(ExecutionEntity execution) {
+        if (execution.isActive()) {
+            return;
+        }
+
+        Set<ExecutionEntity> indexedExecutions = getIndexedExecutions(execution.getProcessInstanceId(), execution.getActivityId());
+        if (indexedExecutions != null) {
+            indexedExecutions.add(execution);
+        }
+    }
+
+    /**
+     * Returns the inactive executions for an indexed combination of process instance id and activity id, or null if the combination was not indexed yet.
+     */
+    public List<ExecutionEntity> findInactiveExecutions(String processInstanceId, String activityId, DbSqlSession dbSqlSession) {
+        Set<ExecutionEntity> indexedExecutions = getIndexedExecutions(processInstanceId, activityId);
+        if (indexedExecutions == null) {
+            return null;
+        }
+
+        List<ExecutionEntity> result = new ArrayList<ExecutionEntity>(indexedExecutions.size());
+        Iterator<ExecutionEntity> executionIterator = indexedExecutions.iterator();
+        while (executionIterator.hasNext()) {
+            ExecutionEntity execution = executionIterator.next();
+            if (!execution.isActive()
+                    && processInstanceId.equals(execution.getProcessInstanceId())
+                    && activityId.equals(execution.getActivityId())
+                    && !dbSqlSession.isEntityToBeDeleted(execution)) {
+                result.add(execution);
+            } else {
+                executionIterator.remove();
+            }
+        }
+        return result;
+    }
+
+    protected Set<ExecutionEntity> getIndexedExecutions(String processInstanceId, String activityId) {
+        if (processInstanceId == null || activityId == null) {
+            return null;
+        }
+
+        Map<String, Set<ExecutionEntity>> executionsByActivity = executionsByProcessInstance.get(processInstanceId);
+        if (executionsByActivity != null) {
+            return executionsByActivity.get(activityId);
+        }
+        return null;
+    }
+
+}
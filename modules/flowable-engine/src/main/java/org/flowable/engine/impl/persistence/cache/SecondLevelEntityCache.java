@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * Engine wide cache for entities that are read a lot but rarely change (eg. process definitions and deployments), which is consulted when an entity isn't found in the {@link EntityCache} of the
+ * current command.
+ * 
+ * Contrary to the {@link EntityCache}, the cached entities are shared between commands (and threads). Implementations therefore never hand out the same instance twice: every lookup returns a new
+ * copy of the entity as it was fetched from the database.
+ * 
+ * Besides entities by id, the ids of the entities found by a specific query (eg. the latest process definition for a key) can be cached as lookups. All entities and lookups of an entity type are
+ * invalidated when an entity of that type is inserted, updated or deleted. Every invalidation changes the version of the entity type, so that a value fetched before an invalidation is not cached
+ * afterwards.
+ */
+public interface SecondLevelEntityCache {
+
+    /**
+     * @return whether entities of the given type are kept in this cache.
+     */
+    boolean isCached(Class<?> entityClass);
+
+    /**
+     * @return a copy of the cached entity, or null if the entity is not cached.
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Caches (a copy of) the given entity, fetched from the database, unless the entity type was invalidated since the given version was retrieved.
+     */
+    void put(Class<?> entityClass, Entity entity, long version);
+
+    /**
+     * @return the id of the entity that was found by the query identified by the lookup key, or null if that lookup is not cached.
+     */
+    String getLookup(Class<?> entityClass, String lookupKey);
+
+    /**
+     * Caches the id of the entity found by the query identified by the lookup key, unless the entity type was invalidated since the given version was retrieved.
+     */
+    void putLookup(Class<?> entityClass, String lookupKey, String id, long version);
+
+    /**
+     * @return the current version of the entity type, to be retrieved before fetching an entity or lookup that will be cached.
+     */
+    long getVersion(Class<?> entityClass);
+
+    /**
+     * Removes all cached entities and lookups of the given type.
+     */
+    void invalidate(Class<?> entityClass);
+
+    /**
+     * Removes everything from the cache.
+     */
+    void clear();
+
+}
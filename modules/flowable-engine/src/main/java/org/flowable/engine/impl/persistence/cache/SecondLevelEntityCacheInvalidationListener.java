@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import java.util.Set;
+
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+/**
+ * Invalidates the entity types changed in a transaction in the {@link SecondLevelEntityCache} again when that transaction is committed or rolled back. Values fetched by other transactions between
+ * the changes and the commit (which still see the old data) are thus not kept in the cache.
+ */
+public class SecondLevelEntityCacheInvalidationListener implements TransactionListener {
+
+    protected SecondLevelEntityCache secondLevelEntityCache;
+    protected Set<Class<?>> entityClasses;
+
+    public SecondLevelEntityCacheInvalidationListener(SecondLevelEntityCache secondLevelEntityCache, Set<Class<?>> entityClasses) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+        this.entityClasses = entityClasses;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        for (Class<?> entityClass : entityClasses) {
+            secondLevelEntityCache.invalidate(entityClass);
+        }
+    }
+
+}
@@ -59,6 +59,13 @@ public class DeploymentManager {
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = processEngineConfiguration.getProcessDefinitionEngineVersionIndex();
+        if (engineVersionIndex != null) {
+            for (ProcessDefinitionEntity processDefinition : deployment.getDeployedArtifacts(ProcessDefinitionEntity.class)) {
+                Flowable5Util.indexProcessDefinition(engineVersionIndex, processDefinition, processEngineConfiguration);
+            }
+        }
     }
 
     public ProcessDefinition findDeployedProcessDefinitionById(String processDefinitionId) {
@@ -183,6 +190,7 @@ public class DeploymentManager {
         }
 
         if (Flowable5Util.isFlowable5Deployment(deployment, processEngineConfiguration)) {
+            removeFromEngineVersionIndex(new ProcessDefinitionQueryImpl().deploymentId(deploymentId).list());
             processEngineConfiguration.getFlowable5CompatibilityHandler().deleteDeployment(deploymentId, cascade);
             return;
         }
@@ -211,11 +219,21 @@ public class DeploymentManager {
             processDefinitionCache.remove(processDefinition.getId());
             processDefinitionInfoCache.remove(processDefinition.getId());
         }
+        removeFromEngineVersionIndex(processDefinitions);
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
     }
 
+    protected void removeFromEngineVersionIndex(List<ProcessDefinition> processDefinitions) {
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = processEngineConfiguration.getProcessDefinitionEngineVersionIndex();
+        if (engineVersionIndex != null) {
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                engineVersionIndex.removeProcessDefinition(processDefinition.getId());
+            }
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -16,6 +16,7 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -29,6 +30,9 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected BpmnModel bpmnModel;
     protected Process process;
 
+    // Built on first use only, most process definitions never need it (it's used by the inclusive gateway join)
+    protected volatile ProcessReachabilityIndex reachabilityIndex;
+
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
         this.bpmnModel = bpmnModel;
@@ -57,6 +61,21 @@ public class ProcessDefinitionCacheEntry implements Serializable {
 
     public void setProcess(Process process) {
         this.process = process;
+        this.reachabilityIndex = null;
+    }
+
+    public ProcessReachabilityIndex getReachabilityIndex() {
+        ProcessReachabilityIndex index = reachabilityIndex;
+        if (index == null && process != null) {
+            synchronized (this) {
+                index = reachabilityIndex;
+                if (index == null) {
+                    index = new ProcessReachabilityIndex(process);
+                    reachabilityIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
 }
@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers for each known process definition id whether it belongs to the Flowable 5 engine, so the v5 compatibility routing doesn't need to fetch the process
+ * definition or its deployment.
+ * 
+ * To stay small with hundreds of thousands of process definitions, only the (few) Flowable 5 process definition ids are kept as strings. All other ids are kept as a
+ * 64 bit fingerprint in an open addressing table of longs. Lookups are lock free, additions are synchronized.
+ * 
+ * Ids of removed process definitions keep their fingerprint, process definition ids are never reused.
+ */
+public class ProcessDefinitionEngineVersionIndex {
+
+    protected static final long EMPTY = 0L;
+
+    protected Set<String> flowable5ProcessDefinitionIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    protected volatile AtomicLongArray fingerprints;
+    protected int fingerprintCount;
+
+    public ProcessDefinitionEngineVersionIndex() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedSize the number of process definitions the index is sized for initially, it grows when more are added
+     */
+    public ProcessDefinitionEngineVersionIndex(int expectedSize) {
+        this.fingerprints = new AtomicLongArray(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @return true for a Flowable 5 process definition, false for a process definition of this engine and null when the process definition isn't known by the index.
+     */
+    public Boolean isFlowable5ProcessDefinition(String processDefinitionId) {
+        if (flowable5ProcessDefinitionIds.contains(processDefinitionId)) {
+            return Boolean.TRUE;
+        }
+        return containsFingerprint(fingerprints, fingerprint(processDefinitionId)) ? Boolean.FALSE : null;
+    }
+
+    public void addProcessDefinition(String processDefinitionId, boolean flowable5) {
+        if (flowable5) {
+            flowable5ProcessDefinitionIds.add(processDefinitionId);
+        } else {
+            addFingerprint(fingerprint(processDefinitionId));
+        }
+    }
+
+    public void removeProcessDefinition(String processDefinitionId) {
+        flowable5ProcessDefinitionIds.remove(processDefinitionId);
+    }
+
+    public synchronized void clear() {
+        flowable5ProcessDefinitionIds.clear();
+        fingerprints = new AtomicLongArray(fingerprints.length());
+        fingerprintCount = 0;
+    }
+
+    public synchronized int size() {
+        return flowable5ProcessDefinitionIds.size() + fingerprintCount;
+    }
+
+    protected synchronized void addFingerprint(long fingerprint) {
+        if (containsFingerprint(fingerprints, fingerprint)) {
+            return;
+        }
+
+        // Keep the table at most half full, so probe sequences stay short
+        if ((fingerprintCount + 1) * 2 > fingerprints.length()) {
+            AtomicLongArray resizedFingerprints = new AtomicLongArray(fingerprints.length() * 2);
+            for (int i = 0; i < fingerprints.length(); i++) {
+                long existingFingerprint = fingerprints.get(i);
+                if (existingFingerprint != EMPTY) {
+                    insertFingerprint(resizedFingerprints, existingFingerprint);
+                }
+            }
+            fingerprints = resizedFingerprints;
+        }
+
+        insertFingerprint(fingerprints, fingerprint);
+        fingerprintCount++;
+    }
+
+    protected static boolean containsFingerprint(AtomicLongArray table, long fingerprint) {
+        int mask = table.length() - 1;
+        int index = (int) fingerprint & mask;
+        while (true) {
+            long value = table.get(index);
+            if (value == fingerprint) {
+                return true;
+            } else if (value == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    protected static void insertFingerprint(AtomicLongArray table, long fingerprint) {
+        int mask = table.length() - 1;
+        int index = (int) fingerprint & mask;
+        while (table.get(index) != EMPTY) {
+            index = (index + 1) & mask;
+        }
+        table.set(index, fingerprint);
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the id, followed by a final mix so the low bits used as table index are well distributed.
+     */
+    protected static long fingerprint(String processDefinitionId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < processDefinitionId.length(); i++) {
+            hash ^= processDefinitionId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash != EMPTY ? hash : 1L;
+    }
+
+    protected static int tableSizeFor(int expectedSize) {
+        int tableSize = 16;
+        while (tableSize < expectedSize * 2 && tableSize < (1 << 30)) {
+            tableSize <<= 1;
+        }
+        return tableSize;
+    }
+
+}
@@ -32,4 +32,22 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Returns the {@link ByteArrayEntity} with the given id, without fetching its bytes. Only intended to be used when the bytes are going to be overwritten.
+     */
+    ByteArrayEntity findByIdWithoutBytes(String byteArrayEntityId);
+
+    /**
+     * Returns the {@link ByteArrayEntity} with the given id. The entity is only kept in the entity cache when it contains no more than the given number of bytes, so changes to a bigger entity
+     * need to be registered explicitly through {@code update}.
+     */
+    ByteArrayEntity findById(String byteArrayEntityId, int maxCachedSize);
+
+    /**
+     * Passes the bytes of the {@link ByteArrayEntity} with the given id as a stream to the given reader, without loading them in memory or in the entity cache.
+     * 
+     * @return the result of the reader, or null if the byte array doesn't exist or contains no bytes
+     */
+    <T> T readBytes(String byteArrayEntityId, ByteArrayStreamReader<T> reader);
+
 }
\ No newline at end of file
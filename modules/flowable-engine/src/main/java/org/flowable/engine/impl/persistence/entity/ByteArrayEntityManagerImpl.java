@@ -47,6 +47,21 @@ public class ByteArrayEntityManagerImpl extends AbstractEntityManager<ByteArrayE
         byteArrayDataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public ByteArrayEntity findByIdWithoutBytes(String byteArrayEntityId) {
+        return byteArrayDataManager.findByIdWithoutBytes(byteArrayEntityId);
+    }
+
+    @Override
+    public ByteArrayEntity findById(String byteArrayEntityId, int maxCachedSize) {
+        return byteArrayDataManager.findById(byteArrayEntityId, maxCachedSize);
+    }
+
+    @Override
+    public <T> T readBytes(String byteArrayEntityId, ByteArrayStreamReader<T> reader) {
+        return byteArrayDataManager.readBytes(byteArrayEntityId, reader);
+    }
+
     public ByteArrayDataManager getByteArrayDataManager() {
         return byteArrayDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 
 import org.flowable.engine.impl.context.Context;
@@ -49,10 +50,39 @@ public class ByteArrayRef implements Serializable {
     }
 
     public byte[] getBytes() {
+        if (id != null && entity == null) {
+            int maxCachedByteArraySize = Context.getProcessEngineConfiguration().getMaxCachedByteArraySize();
+            if (maxCachedByteArraySize >= 0) {
+                ByteArrayEntity byteArrayEntity = Context.getCommandContext().getByteArrayEntityManager().findById(id, maxCachedByteArraySize);
+                name = byteArrayEntity.getName();
+                byte[] bytes = byteArrayEntity.getBytes();
+
+                // Large byte arrays aren't kept around, they're fetched again when needed
+                if (bytes == null || bytes.length <= maxCachedByteArraySize) {
+                    entity = byteArrayEntity;
+                }
+                return bytes;
+            }
+        }
+
         ensureInitialized();
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Passes the bytes as a stream to the given reader. When the bytes haven't been loaded yet, they are streamed from the database without being kept in memory.
+     * 
+     * @return the result of the reader, or null when there are no bytes
+     */
+    public <T> T readBytes(ByteArrayStreamReader<T> reader) {
+        if (id != null && entity == null) {
+            return Context.getCommandContext().getByteArrayEntityManager().readBytes(id, reader);
+        }
+
+        byte[] bytes = entity != null ? entity.getBytes() : null;
+        return bytes != null ? reader.read(new ByteArrayInputStream(bytes)) : null;
+    }
+
     public void setValue(String name, byte[] bytes) {
         this.name = name;
         setBytes(bytes);
@@ -68,8 +98,13 @@ public class ByteArrayRef implements Serializable {
                 byteArrayEntityManager.insert(entity);
                 id = entity.getId();
             }
+        } else if (entity == null) {
+            // No need to fetch the current bytes to overwrite them
+            ByteArrayEntityManager byteArrayEntityManager = Context.getCommandContext().getByteArrayEntityManager();
+            entity = byteArrayEntityManager.findByIdWithoutBytes(id);
+            entity.setBytes(bytes);
+            byteArrayEntityManager.update(entity, false);
         } else {
-            ensureInitialized();
             entity.setBytes(bytes);
         }
     }
@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.InputStream;
+
+/**
+ * Callback to read the bytes of a {@link ByteArrayEntity} as a stream (see {@link ByteArrayRef#readBytes(ByteArrayStreamReader)}), without materializing them in a byte array.
+ * 
+ * The stream is only valid during the invocation of {@link #read(InputStream)} and is closed afterwards.
+ */
+public interface ByteArrayStreamReader<T> {
+
+    T read(InputStream inputStream);
+
+}
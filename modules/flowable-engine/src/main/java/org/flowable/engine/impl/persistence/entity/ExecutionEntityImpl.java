@@ -271,6 +271,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.activityId = null;
         }
+        registerInactiveExecution();
     }
 
     public FlowableListener getCurrentFlowableListener() {
@@ -378,6 +379,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
         }
+        registerInactiveExecution();
     }
 
     public boolean isProcessInstanceType() {
@@ -649,6 +651,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        registerInactiveExecution();
     }
 
     public String getParentId() {
@@ -677,10 +680,22 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        registerInactiveExecution();
     }
 
     public void inactivate() {
         this.isActive = false;
+        registerInactiveExecution();
+    }
+
+    // Called on every change of the active flag, activity or process instance: the activity or process instance id can still be unset when an execution is inactivated
+    protected void registerInactiveExecution() {
+        if (!isActive && activityId != null) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null && commandContext.hasInactiveExecutionIndex()) {
+                commandContext.getInactiveExecutionIndex().register(this);
+            }
+        }
     }
 
     public boolean isEnded() {
@@ -51,6 +51,11 @@ public interface JobEntityManager extends EntityManager<JobEntity> {
      */
     List<JobEntity> findJobsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Returns the {@link JobEntity} instances with the given ids, fetched with one statement. Ids of jobs that don't exist are ignored.
+     */
+    List<JobEntity> findJobsByIds(List<String> jobIds);
+
     /**
      * Returns all {@link JobEntity} instance which are expired, which means that the lock time of the {@link JobEntity} is past a certain configurable date and is deemed to be in error.
      */
@@ -98,6 +98,11 @@ public class JobEntityManagerImpl extends AbstractEntityManager<JobEntity> imple
         return jobDataManager.findJobsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<JobEntity> findJobsByIds(List<String> jobIds) {
+        return jobDataManager.findJobsByIds(jobIds);
+    }
+
     @Override
     public List<JobEntity> findExpiredJobs(Page page) {
         return jobDataManager.findExpiredJobs(page);
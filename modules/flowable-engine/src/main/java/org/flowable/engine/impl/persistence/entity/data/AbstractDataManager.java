@@ -22,6 +22,7 @@ import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
@@ -59,6 +60,14 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         // Cache
         EntityImpl cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), entityId);
+        ProcessEngineMetrics processEngineMetrics = processEngineConfiguration != null ? processEngineConfiguration.getProcessEngineMetrics() : null;
+        if (processEngineMetrics != null) {
+            if (cachedEntity != null) {
+                processEngineMetrics.recordEntityCacheHit();
+            } else {
+                processEngineMetrics.recordEntityCacheMiss();
+            }
+        }
         if (cachedEntity != null) {
             return cachedEntity;
         }
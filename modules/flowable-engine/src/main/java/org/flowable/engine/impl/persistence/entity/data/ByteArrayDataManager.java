@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.impl.persistence.entity.ByteArrayStreamReader;
 
 /**
  * @author Joram Barrez
@@ -26,4 +27,10 @@ public interface ByteArrayDataManager extends DataManager<ByteArrayEntity> {
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    ByteArrayEntity findByIdWithoutBytes(String byteArrayEntityId);
+
+    ByteArrayEntity findById(String byteArrayEntityId, int maxCachedSize);
+
+    <T> T readBytes(String byteArrayEntityId, ByteArrayStreamReader<T> reader);
+
 }
@@ -31,6 +31,8 @@ public interface JobDataManager extends DataManager<JobEntity> {
 
     List<JobEntity> findJobsByProcessInstanceId(final String processInstanceId);
 
+    List<JobEntity> findJobsByIds(List<String> jobIds);
+
     List<JobEntity> findExpiredJobs(Page page);
 
     List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery, Page page);
@@ -12,11 +12,20 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.flowable.engine.common.impl.util.IoUtil;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayStreamReader;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ByteArrayDataManager;
 
@@ -50,4 +59,99 @@ public class MybatisByteArrayDataManager extends AbstractDataManager<ByteArrayEn
         getDbSqlSession().delete("deleteByteArrayNoRevisionCheck", byteArrayEntityId, ByteArrayEntityImpl.class);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public ByteArrayEntity findByIdWithoutBytes(String byteArrayEntityId) {
+        ByteArrayEntity cachedByteArray = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedByteArray != null) {
+            return cachedByteArray;
+        }
+
+        // Not stored in the entity cache: an entity without bytes can't be compared with its original state
+        List<ByteArrayEntity> byteArrays = getDbSqlSession().selectList("selectByteArrayWithoutBytes", byteArrayEntityId, false);
+        return !byteArrays.isEmpty() ? byteArrays.get(0) : null;
+    }
+
+    @Override
+    public ByteArrayEntity findById(String byteArrayEntityId, int maxCachedSize) {
+        ByteArrayEntity cachedByteArray = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedByteArray != null) {
+            return cachedByteArray;
+        }
+
+        // Streamed through a ResultHandler, which also keeps the bytes out of the MyBatis session cache
+        ByteArrayEntity byteArray = selectByteArray(byteArrayEntityId, new ByteArrayRowReader<ByteArrayEntity>() {
+
+            @Override
+            public ByteArrayEntity read(Map<String, Object> row, InputStream inputStream) {
+                ByteArrayEntityImpl byteArray = new ByteArrayEntityImpl();
+                byteArray.setId((String) row.get("id"));
+                byteArray.setRevision(((Number) row.get("revision")).intValue());
+                byteArray.setName((String) row.get("name"));
+                byteArray.setDeploymentId((String) row.get("deploymentId"));
+                if (inputStream != null) {
+                    byteArray.setBytes(IoUtil.readInputStream(inputStream, "byte array " + byteArray.getId()));
+                }
+                return byteArray;
+            }
+
+        });
+
+        if (byteArray != null && (byteArray.getBytes() == null || byteArray.getBytes().length <= maxCachedSize)) {
+            getEntityCache().put(byteArray, true);
+        }
+        return byteArray;
+    }
+
+    @Override
+    public <T> T readBytes(String byteArrayEntityId, final ByteArrayStreamReader<T> reader) {
+        ByteArrayEntity cachedByteArray = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedByteArray != null) {
+            // Could contain changes that are not flushed yet
+            return cachedByteArray.getBytes() != null ? reader.read(new ByteArrayInputStream(cachedByteArray.getBytes())) : null;
+        }
+
+        return selectByteArray(byteArrayEntityId, new ByteArrayRowReader<T>() {
+
+            @Override
+            public T read(Map<String, Object> row, InputStream inputStream) {
+                return inputStream != null ? reader.read(inputStream) : null;
+            }
+
+        });
+    }
+
+    protected <T> T selectByteArray(String byteArrayEntityId, final ByteArrayRowReader<T> rowReader) {
+        final List<T> results = new ArrayList<T>(1);
+        final List<RuntimeException> exceptions = new ArrayList<RuntimeException>(1);
+        getDbSqlSession().select("selectByteArrayStream", byteArrayEntityId, new ResultHandler<Map<String, Object>>() {
+
+            @Override
+            public void handleResult(ResultContext<? extends Map<String, Object>> resultContext) {
+                Map<String, Object> row = resultContext.getResultObject();
+                InputStream inputStream = (InputStream) row.get("bytes");
+                try {
+                    results.add(rowReader.read(row, inputStream));
+                } catch (RuntimeException e) {
+                    // Rethrown after the select, otherwise MyBatis wraps it in a PersistenceException
+                    exceptions.add(e);
+                } finally {
+                    IoUtil.closeSilently(inputStream);
+                }
+            }
+
+        });
+
+        if (!exceptions.isEmpty()) {
+            throw exceptions.get(0);
+        }
+        return !results.isEmpty() ? results.get(0) : null;
+    }
+
+    protected interface ByteArrayRowReader<T> {
+
+        T read(Map<String, Object> row, InputStream inputStream);
+
+    }
+
 }
@@ -25,8 +25,11 @@ import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.InactiveExecutionIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -200,17 +203,40 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
 
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId) {
+        // Once fetched in the current command, all changes to executions are tracked in the index
+        InactiveExecutionIndex inactiveExecutionIndex = getInactiveExecutionIndex();
+        if (inactiveExecutionIndex != null) {
+            List<ExecutionEntity> indexedExecutions = inactiveExecutionIndex.findInactiveExecutions(processInstanceId, activityId, getDbSqlSession());
+            if (indexedExecutions != null) {
+                return indexedExecutions;
+            }
+        }
+
         HashMap<String, Object> params = new HashMap<String, Object>(3);
         params.put("activityId", activityId);
         params.put("processInstanceId", processInstanceId);
         params.put("isActive", false);
 
+        List<ExecutionEntity> inactiveExecutions = null;
         if (performanceSettings.isEnableEagerExecutionTreeFetching()) {
             findByIdAndFetchExecutionTree(processInstanceId);
-            return getListFromCache(inactiveExecutionsInActivityAndProcInstMatcher, params);
+            inactiveExecutions = getListFromCache(inactiveExecutionsInActivityAndProcInstMatcher, params);
         } else {
-            return getList("selectInactiveExecutionsInActivityAndProcessInstance", params, inactiveExecutionsInActivityAndProcInstMatcher, true);
+            inactiveExecutions = getList("selectInactiveExecutionsInActivityAndProcessInstance", params, inactiveExecutionsInActivityAndProcInstMatcher, true);
+        }
+
+        if (inactiveExecutionIndex != null) {
+            inactiveExecutionIndex.index(processInstanceId, activityId, inactiveExecutions);
         }
+        return inactiveExecutions;
+    }
+
+    protected InactiveExecutionIndex getInactiveExecutionIndex() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            return commandContext.getInactiveExecutionIndex();
+        }
+        return null;
     }
 
     @SuppressWarnings("unchecked")
@@ -317,6 +343,9 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
 
         int result = getDbSqlSession().update("updateProcessInstanceLockTime", params);
         if (result == 0) {
+            if (processEngineConfiguration.getProcessEngineMetrics() != null) {
+                processEngineConfiguration.getProcessEngineMetrics().recordOptimisticLockingFailure();
+            }
             throw new FlowableOptimisticLockingException("Could not lock process instance");
         }
     }
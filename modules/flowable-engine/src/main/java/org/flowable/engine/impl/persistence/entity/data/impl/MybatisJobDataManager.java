@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +68,21 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsByIds(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return new ArrayList<JobEntity>();
+        }
+
+        // Some databases limit the number of expressions in an IN list to 1000
+        List<List<String>> jobIdChunks = new ArrayList<List<String>>();
+        for (int i = 0; i < jobIds.size(); i += 1000) {
+            jobIdChunks.add(new ArrayList<String>(jobIds.subList(i, Math.min(i + 1000, jobIds.size()))));
+        }
+        return getDbSqlSession().selectList("selectJobsByIds", jobIdChunks);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<JobEntity> findExpiredJobs(Page page) {
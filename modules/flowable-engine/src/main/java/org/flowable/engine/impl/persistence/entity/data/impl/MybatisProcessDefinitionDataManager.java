@@ -47,7 +47,8 @@ public class MybatisProcessDefinitionDataManager extends AbstractDataManager<Pro
 
     @Override
     public ProcessDefinitionEntity findLatestProcessDefinitionByKey(String processDefinitionKey) {
-        return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKey", processDefinitionKey);
+        return getDbSqlSession().selectOneWithLookupKey(ProcessDefinitionEntityImpl.class, "latestByKey:" + processDefinitionKey,
+                "selectLatestProcessDefinitionByKey", processDefinitionKey);
     }
 
     @Override
@@ -55,7 +56,8 @@ public class MybatisProcessDefinitionDataManager extends AbstractDataManager<Pro
         Map<String, Object> params = new HashMap<String, Object>(2);
         params.put("processDefinitionKey", processDefinitionKey);
         params.put("tenantId", tenantId);
-        return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKeyAndTenantId", params);
+        return getDbSqlSession().selectOneWithLookupKey(ProcessDefinitionEntityImpl.class, "latestByKeyAndTenantId:" + processDefinitionKey + ":" + tenantId,
+                "selectLatestProcessDefinitionByKeyAndTenantId", params);
     }
 
     @Override
@@ -154,6 +156,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractDataManager<Pro
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().invalidateSecondLevelEntityCache(ProcessDefinitionEntityImpl.class);
     }
 
 }
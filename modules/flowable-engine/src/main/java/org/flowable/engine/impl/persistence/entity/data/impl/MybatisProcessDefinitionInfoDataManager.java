@@ -39,6 +39,7 @@ public class MybatisProcessDefinitionInfoDataManager extends AbstractDataManager
 
     @Override
     public ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId) {
-        return (ProcessDefinitionInfoEntity) getDbSqlSession().selectOne("selectProcessDefinitionInfoByProcessDefinitionId", processDefinitionId);
+        return getDbSqlSession().selectOneWithLookupKey(ProcessDefinitionInfoEntityImpl.class, "byProcessDefinitionId:" + processDefinitionId,
+                "selectProcessDefinitionInfoByProcessDefinitionId", processDefinitionId);
     }
 }
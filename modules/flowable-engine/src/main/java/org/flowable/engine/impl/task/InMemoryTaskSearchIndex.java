@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link TaskSearchIndex} keeping an inverted index from lower cased words to task ids in memory. Words are kept sorted, so the tasks matching a prefix are found with a
+ * single range lookup.
+ */
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    protected static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    protected ConcurrentNavigableMap<String, Set<String>> taskIdsByWord = new ConcurrentSkipListMap<String, Set<String>>();
+    protected ConcurrentMap<String, Set<String>> wordsByTaskId = new ConcurrentHashMap<String, Set<String>>();
+
+    @Override
+    public synchronized void indexTask(String taskId, String name, String description, Map<String, Object> variables) {
+        removeTask(taskId);
+
+        Set<String> words = new HashSet<String>();
+        words.addAll(tokenize(name));
+        words.addAll(tokenize(description));
+        if (variables != null) {
+            for (Object value : variables.values()) {
+                if (value instanceof String || value instanceof Number) {
+                    words.addAll(tokenize(value.toString()));
+                }
+            }
+        }
+
+        if (words.isEmpty()) {
+            return;
+        }
+
+        for (String word : words) {
+            Set<String> taskIds = taskIdsByWord.get(word);
+            if (taskIds == null) {
+                taskIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                taskIdsByWord.put(word, taskIds);
+            }
+            taskIds.add(taskId);
+        }
+        wordsByTaskId.put(taskId, words);
+    }
+
+    @Override
+    public synchronized void removeTask(String taskId) {
+        Set<String> words = wordsByTaskId.remove(taskId);
+        if (words != null) {
+            for (String word : words) {
+                Set<String> taskIds = taskIdsByWord.get(word);
+                if (taskIds != null) {
+                    taskIds.remove(taskId);
+                    if (taskIds.isEmpty()) {
+                        taskIdsByWord.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<String> findTaskIds(String searchText) {
+        List<String> prefixes = tokenize(searchText);
+        if (prefixes.isEmpty()) {
+            return null;
+        }
+
+        Set<String> result = null;
+        for (String prefix : prefixes) {
+            Set<String> prefixTaskIds = new HashSet<String>();
+            for (Set<String> taskIds : taskIdsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                prefixTaskIds.addAll(taskIds);
+            }
+
+            if (result == null) {
+                result = prefixTaskIds;
+            } else {
+                result.retainAll(prefixTaskIds);
+            }
+
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void clear() {
+        taskIdsByWord.clear();
+        wordsByTaskId.clear();
+    }
+
+    protected List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+
+        Set<String> words = new LinkedHashSet<String>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() > 0) {
+                words.add(word);
+            }
+        }
+        return new ArrayList<String>(words);
+    }
+
+}
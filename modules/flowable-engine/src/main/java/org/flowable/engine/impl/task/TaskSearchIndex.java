@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.task;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A text index over the active tasks, used to resolve {@link org.flowable.engine.task.TaskQuery#taskSearchText(String)} without scanning the task table.
+ * <p>
+ * The query still applies all its criteria on the database to the task ids returned by the index, so an index returning ids of tasks that no longer exist is harmless,
+ * while a missing task id hides the task from the search results.
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * Adds the task to the index, or replaces the indexed content of the task when it was indexed before.
+     */
+    void indexTask(String taskId, String name, String description, Map<String, Object> variables);
+
+    void removeTask(String taskId);
+
+    /**
+     * @return the ids of the tasks having, for every word of the search text, an indexed word starting with it. Null when the search text contains no word.
+     */
+    Set<String> findTaskIds(String searchText);
+
+    void clear();
+
+}
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.FlowableVariableEvent;
+import org.flowable.engine.impl.cfg.TransactionContext;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+
+/**
+ * Feeds a {@link TaskSearchIndex} from the task and variable events of the engine.
+ * 
+ * The tasks changed by a transaction are collected while it runs. Their indexed content is read when the transaction is about to commit, so it reflects the final state of
+ * the tasks, and is applied to the index once the transaction has committed, so rolled back changes never reach the index.
+ */
+public class TaskSearchIndexEventListener implements FlowableEventListener {
+
+    protected static final String PENDING_UPDATES_ATTRIBUTE = TaskSearchIndexEventListener.class.getName() + ".pendingUpdates";
+
+    protected TaskSearchIndex taskSearchIndex;
+    protected Collection<String> variableNames;
+
+    public TaskSearchIndexEventListener(TaskSearchIndex taskSearchIndex, Collection<String> variableNames) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.variableNames = variableNames;
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event instanceof FlowableEntityEvent && ((FlowableEntityEvent) event).getEntity() instanceof TaskEntity) {
+            TaskEntity task = (TaskEntity) ((FlowableEntityEvent) event).getEntity();
+            if (event.getType() == FlowableEngineEventType.TASK_CREATED || event.getType() == FlowableEngineEventType.ENTITY_UPDATED) {
+                getPendingUpdates().put(task.getId(), task);
+
+            } else if (event.getType() == FlowableEngineEventType.TASK_COMPLETED || event.getType() == FlowableEngineEventType.ENTITY_DELETED) {
+                getPendingUpdates().put(task.getId(), null);
+            }
+
+        } else if (event instanceof FlowableVariableEvent && variableNames != null) {
+            FlowableVariableEvent variableEvent = (FlowableVariableEvent) event;
+            if (!variableNames.contains(variableEvent.getVariableName())) {
+                return;
+            }
+
+            CommandContext commandContext = Context.getCommandContext();
+            if (variableEvent.getTaskId() != null) {
+                TaskEntity task = commandContext.getTaskEntityManager().findById(variableEvent.getTaskId());
+                if (task != null) {
+                    getPendingUpdates().put(task.getId(), task);
+                }
+
+            } else if (variableEvent.getProcessInstanceId() != null) {
+                for (TaskEntity task : commandContext.getTaskEntityManager().findTasksByProcessInstanceId(variableEvent.getProcessInstanceId())) {
+                    getPendingUpdates().put(task.getId(), task);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the tasks to index (or to remove, for null values) when the current transaction commits
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, TaskEntity> getPendingUpdates() {
+        CommandContext commandContext = Context.getCommandContext();
+        Map<String, TaskEntity> pendingUpdates = (Map<String, TaskEntity>) commandContext.getAttribute(PENDING_UPDATES_ATTRIBUTE);
+        if (pendingUpdates == null) {
+            pendingUpdates = new LinkedHashMap<String, TaskEntity>();
+            commandContext.addAttribute(PENDING_UPDATES_ATTRIBUTE, pendingUpdates);
+
+            final Map<String, TaskEntity> tasks = pendingUpdates;
+            final List<Runnable> indexUpdates = new ArrayList<Runnable>();
+            TransactionContext transactionContext = Context.getTransactionContext();
+            transactionContext.addTransactionListener(TransactionState.COMMITTING, new TransactionListener() {
+
+                public void execute(CommandContext commandContext) {
+                    for (Map.Entry<String, TaskEntity> entry : tasks.entrySet()) {
+                        indexUpdates.add(createIndexUpdate(entry.getKey(), entry.getValue()));
+                    }
+                }
+            });
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                public void execute(CommandContext commandContext) {
+                    for (Runnable indexUpdate : indexUpdates) {
+                        indexUpdate.run();
+                    }
+                }
+            });
+        }
+        return pendingUpdates;
+    }
+
+    protected Runnable createIndexUpdate(final String taskId, TaskEntity task) {
+        if (task == null || task.isDeleted()) {
+            return new Runnable() {
+
+                public void run() {
+                    taskSearchIndex.removeTask(taskId);
+                }
+            };
+        }
+
+        final String name = task.getName();
+        final String description = task.getDescription();
+        final Map<String, Object> variables = variableNames != null && !variableNames.isEmpty() ? task.getVariables(variableNames) : null;
+        return new Runnable() {
+
+            public void run() {
+                taskSearchIndex.indexTask(taskId, name, description, variables);
+            }
+        };
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+}
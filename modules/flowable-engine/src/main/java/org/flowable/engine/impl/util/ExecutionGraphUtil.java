@@ -69,6 +69,16 @@ public class ExecutionGraphUtil {
      */
     public static boolean isReachable(String processDefinitionId, String sourceElementId, String targetElementId) {
 
+        // Use the reachability index of the process definition when available
+        ProcessReachabilityIndex reachabilityIndex = ProcessDefinitionUtil.getProcessReachabilityIndex(processDefinitionId);
+        if (reachabilityIndex != null) {
+            return isReachable(reachabilityIndex, processDefinitionId, sourceElementId, targetElementId);
+        }
+        return isReachableByTraversal(processDefinitionId, sourceElementId, targetElementId);
+    }
+
+    protected static boolean isReachableByTraversal(String processDefinitionId, String sourceElementId, String targetElementId) {
+
         // Fetch source and target elements
         Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
 
@@ -99,6 +109,22 @@ public class ExecutionGraphUtil {
         return isReachable(process, sourceElement, targetElement, visitedElements);
     }
 
+    /**
+     * Same as {@link #isReachable(String, String, String)}, but using an already resolved {@link ProcessReachabilityIndex}, which is a constant-time lookup.
+     */
+    public static boolean isReachable(ProcessReachabilityIndex reachabilityIndex, String processDefinitionId, String sourceElementId, String targetElementId) {
+        if (reachabilityIndex == null) {
+            return isReachableByTraversal(processDefinitionId, sourceElementId, targetElementId);
+        }
+        if (!reachabilityIndex.containsElement(sourceElementId)) {
+            throw new FlowableException("Invalid sourceElementId '" + sourceElementId + "': no element found for this id n process definition '" + processDefinitionId + "'");
+        }
+        if (!reachabilityIndex.containsElement(targetElementId)) {
+            throw new FlowableException("Invalid targetElementId '" + targetElementId + "': no element found for this id n process definition '" + processDefinitionId + "'");
+        }
+        return reachabilityIndex.isReachable(sourceElementId, targetElementId);
+    }
+
     public static boolean isReachable(Process process, FlowNode sourceElement, FlowNode targetElement, Set<String> visitedElements) {
 
         // No outgoing seq flow: could be the end of eg . the process or an embedded subprocess
@@ -20,6 +20,7 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionEngineVersionIndex;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.ProcessDefinition;
 
@@ -37,12 +38,25 @@ public class Flowable5Util {
             return false;
         }
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = processEngineConfiguration.getProcessDefinitionEngineVersionIndex();
+        if (engineVersionIndex != null) {
+            Boolean isFlowable5ProcessDefinition = engineVersionIndex.isFlowable5ProcessDefinition(processDefinitionId);
+            if (isFlowable5ProcessDefinition != null) {
+                return isFlowable5ProcessDefinition;
+            }
+        }
+
         try {
             ProcessDefinition processDefinition = ProcessDefinitionUtil.getProcessDefinition(processDefinitionId);
             if (processDefinition == null) {
                 return false;
             }
-            return isFlowable5ProcessDefinition(processDefinition, commandContext);
+            boolean isFlowable5ProcessDefinition = isFlowable5ProcessDefinition(processDefinition, commandContext);
+            if (engineVersionIndex != null) {
+                engineVersionIndex.addProcessDefinition(processDefinitionId, isFlowable5ProcessDefinition);
+            }
+            return isFlowable5ProcessDefinition;
 
         } catch (FlowableObjectNotFoundException e) {
             return false;
@@ -50,7 +64,8 @@ public class Flowable5Util {
     }
 
     /**
-     * Use this method when running outside a {@link CommandContext}. It will check the cache first and only start a new {@link CommandContext} when no result is found in the cache.
+     * Use this method when running outside a {@link CommandContext}. It will check the engine version index and the cache first and only start a new {@link CommandContext}
+     * when no result is found in either of them.
      */
     public static boolean isFlowable5ProcessDefinitionId(final ProcessEngineConfigurationImpl processEngineConfiguration, final String processDefinitionId) {
 
@@ -58,10 +73,22 @@ public class Flowable5Util {
             return false;
         }
 
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = processEngineConfiguration.getProcessDefinitionEngineVersionIndex();
+        if (engineVersionIndex != null) {
+            Boolean isFlowable5ProcessDefinition = engineVersionIndex.isFlowable5ProcessDefinition(processDefinitionId);
+            if (isFlowable5ProcessDefinition != null) {
+                return isFlowable5ProcessDefinition;
+            }
+        }
+
         ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinitionId);
         if (cacheEntry != null) {
             ProcessDefinition processDefinition = cacheEntry.getProcessDefinition();
-            return isFlowable5ProcessDefinition(processDefinition, processEngineConfiguration);
+            boolean isFlowable5ProcessDefinition = isFlowable5ProcessDefinition(processDefinition, processEngineConfiguration);
+            if (engineVersionIndex != null) {
+                engineVersionIndex.addProcessDefinition(processDefinitionId, isFlowable5ProcessDefinition);
+            }
+            return isFlowable5ProcessDefinition;
 
         } else {
             return processEngineConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
@@ -100,6 +127,23 @@ public class Flowable5Util {
         return false;
     }
 
+    /**
+     * Adds the process definition to the engine version index. Process definitions with an engine tag that would be refused by {@link #isV5Entity(String, String, String, ProcessEngineConfigurationImpl)}
+     * are left out, so the regular lookup keeps reporting them.
+     */
+    public static void indexProcessDefinition(ProcessDefinitionEngineVersionIndex engineVersionIndex, ProcessDefinition processDefinition,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        String engineVersion = processDefinition.getEngineVersion();
+        if (engineVersion == null) {
+            engineVersionIndex.addProcessDefinition(processDefinition.getId(), false);
+
+        } else if (isVersion5Tag(engineVersion) && processEngineConfiguration.isFlowable5CompatibilityEnabled()
+                && processEngineConfiguration.getFlowable5CompatibilityHandler() != null) {
+            engineVersionIndex.addProcessDefinition(processDefinition.getId(), true);
+        }
+    }
+
     public static boolean isV5Entity(String tag, String id, String entityType, ProcessEngineConfigurationImpl processEngineConfiguration) {
         if (isVersion5Tag(tag)) {
             if (!processEngineConfiguration.isFlowable5CompatibilityEnabled() || processEngineConfiguration.getFlowable5CompatibilityHandler() == null) {
@@ -63,6 +63,22 @@ public class ProcessDefinitionUtil {
         }
     }
 
+    /**
+     * @return the {@link ProcessReachabilityIndex} of the process definition, or null when the process definition is not handled by this engine (eg. a Flowable 5 process definition).
+     */
+    public static ProcessReachabilityIndex getProcessReachabilityIndex(String processDefinitionId) {
+        if (Context.getProcessEngineConfiguration() == null) {
+            return null;
+
+        } else {
+            DeploymentManager deploymentManager = Context.getProcessEngineConfiguration().getDeploymentManager();
+
+            // This will check the cache in the findDeployedProcessDefinitionById and resolveProcessDefinition method
+            ProcessDefinition processDefinitionEntity = deploymentManager.findDeployedProcessDefinitionById(processDefinitionId);
+            return deploymentManager.resolveProcessDefinition(processDefinitionEntity).getReachabilityIndex();
+        }
+    }
+
     public static BpmnModel getBpmnModel(String processDefinitionId) {
         if (Context.getProcessEngineConfiguration() == null) {
             return Flowable5Util.getFlowable5CompatibilityHandler().getProcessDefinitionBpmnModel(processDefinitionId);
@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Precomputed transitive closure of the sequence flow graph of a {@link Process}.
+ *
+ * The index is built once per process definition, on first use (see {@link org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry}) and answers the same question as
+ * {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)} with a single bit lookup: a flow node without outgoing sequence flow continues in its parent
+ * embedded subprocess, and sequence flow ids are resolved to their target flow node.
+ */
+public class ProcessReachabilityIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, Integer> flowNodeIndexes = new HashMap<String, Integer>();
+    protected Map<String, String> sequenceFlowTargets = new HashMap<String, String>();
+
+    /**
+     * For every flow node index: the index of the node where a path through this node actually continues (the node itself or its parent subprocess), or -1 if it is a dead end.
+     */
+    protected int[] continuationIndexes;
+
+    /**
+     * For every flow node index that is a continuation node: the set of all continuation node indexes reachable from it (including itself).
+     */
+    protected BitSet[] reachableNodes;
+
+    public ProcessReachabilityIndex(Process process) {
+        List<FlowNode> flowNodes = new ArrayList<FlowNode>();
+        Map<String, FlowElementsContainer> parentContainers = new HashMap<String, FlowElementsContainer>();
+        collectFlowNodes(process, flowNodes, parentContainers);
+
+        int nrOfFlowNodes = flowNodes.size();
+        continuationIndexes = new int[nrOfFlowNodes];
+        for (int i = 0; i < nrOfFlowNodes; i++) {
+            FlowNode flowNode = flowNodes.get(i);
+            if (flowNode.getOutgoingFlows() != null && !flowNode.getOutgoingFlows().isEmpty()) {
+                continuationIndexes[i] = i;
+            } else {
+                FlowElementsContainer parentContainer = parentContainers.get(flowNode.getId());
+                if (parentContainer instanceof SubProcess) {
+                    continuationIndexes[i] = flowNodeIndexes.get(((SubProcess) parentContainer).getId());
+                } else {
+                    continuationIndexes[i] = -1;
+                }
+            }
+        }
+
+        // Direct successors, expressed as continuation nodes
+        int[][] successors = new int[nrOfFlowNodes][];
+        for (int i = 0; i < nrOfFlowNodes; i++) {
+            List<SequenceFlow> outgoingFlows = flowNodes.get(i).getOutgoingFlows();
+            int[] nodeSuccessors = new int[outgoingFlows != null ? outgoingFlows.size() : 0];
+            int nrOfSuccessors = 0;
+            if (outgoingFlows != null) {
+                for (SequenceFlow sequenceFlow : outgoingFlows) {
+                    Integer targetIndex = flowNodeIndexes.get(sequenceFlow.getTargetRef());
+                    if (targetIndex != null && continuationIndexes[targetIndex] >= 0) {
+                        nodeSuccessors[nrOfSuccessors++] = continuationIndexes[targetIndex];
+                    }
+                }
+            }
+            successors[i] = nrOfSuccessors == nodeSuccessors.length ? nodeSuccessors : Arrays.copyOf(nodeSuccessors, nrOfSuccessors);
+        }
+
+        reachableNodes = new BitSet[nrOfFlowNodes];
+        int[] stack = new int[nrOfFlowNodes];
+        for (int i = 0; i < nrOfFlowNodes; i++) {
+            int continuationIndex = continuationIndexes[i];
+            if (continuationIndex >= 0 && reachableNodes[continuationIndex] == null) {
+                reachableNodes[continuationIndex] = calculateReachableNodes(continuationIndex, successors, stack);
+            }
+        }
+    }
+
+    protected void collectFlowNodes(FlowElementsContainer container, List<FlowNode> flowNodes, Map<String, FlowElementsContainer> parentContainers) {
+        for (FlowElement flowElement : container.getFlowElements()) {
+            if (flowElement instanceof FlowNode && !flowNodeIndexes.containsKey(flowElement.getId())) {
+                flowNodeIndexes.put(flowElement.getId(), flowNodes.size());
+                flowNodes.add((FlowNode) flowElement);
+                parentContainers.put(flowElement.getId(), container);
+
+            } else if (flowElement instanceof SequenceFlow) {
+                sequenceFlowTargets.put(flowElement.getId(), ((SequenceFlow) flowElement).getTargetRef());
+            }
+
+            if (flowElement instanceof FlowElementsContainer) {
+                collectFlowNodes((FlowElementsContainer) flowElement, flowNodes, parentContainers);
+            }
+        }
+    }
+
+    protected BitSet calculateReachableNodes(int startIndex, int[][] successors, int[] stack) {
+        BitSet reachable = new BitSet(successors.length);
+        reachable.set(startIndex);
+
+        int stackSize = 0;
+        stack[stackSize++] = startIndex;
+        while (stackSize > 0) {
+            int current = stack[--stackSize];
+            for (int successor : successors[current]) {
+                if (!reachable.get(successor)) {
+                    reachable.set(successor);
+                    stack[stackSize++] = successor;
+                }
+            }
+        }
+
+        return reachable;
+    }
+
+    /**
+     * @return whether the given id references a flow node or a sequence flow of the process (including nested subprocesses).
+     */
+    public boolean containsElement(String elementId) {
+        return resolveFlowNodeIndex(elementId) != null;
+    }
+
+    /**
+     * Verifies if the element with the given source identifier can reach the element with the target identifier through following sequence flow. Both identifiers must be known to
+     * this index (see {@link #containsElement(String)}).
+     */
+    public boolean isReachable(String sourceElementId, String targetElementId) {
+        Integer sourceIndex = resolveFlowNodeIndex(sourceElementId);
+        Integer targetIndex = resolveFlowNodeIndex(targetElementId);
+        if (sourceIndex == null || targetIndex == null) {
+            return false;
+        }
+
+        int continuationIndex = continuationIndexes[sourceIndex];
+        if (continuationIndex < 0) {
+            return false;
+        }
+        return reachableNodes[continuationIndex].get(targetIndex);
+    }
+
+    protected Integer resolveFlowNodeIndex(String elementId) {
+        if (elementId == null) {
+            return null;
+        }
+
+        Integer index = flowNodeIndexes.get(elementId);
+        if (index == null) {
+            String sequenceFlowTarget = sequenceFlowTargets.get(elementId);
+            if (sequenceFlowTarget != null) {
+                index = flowNodeIndexes.get(sequenceFlowTarget);
+            }
+        }
+        return index;
+    }
+
+}
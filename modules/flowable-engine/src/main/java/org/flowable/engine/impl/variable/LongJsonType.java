@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.variable;
 
+import java.io.InputStream;
+
 import org.flowable.engine.common.api.FlowableException;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -57,6 +59,16 @@ public class LongJsonType extends SerializableType {
         }
     }
 
+    public Object deserialize(InputStream inputStream, ValueFields valueFields) {
+        JsonNode valueNode = null;
+        try {
+            valueNode = objectMapper.readTree(inputStream);
+        } catch (Exception e) {
+            throw new FlowableException("Error reading json variable", e);
+        }
+        return valueNode;
+    }
+
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         JsonNode valueNode = null;
         try {
@@ -25,6 +25,10 @@ import java.io.Serializable;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.impl.persistence.entity.ByteArrayStreamReader;
+import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.engine.impl.util.ReflectUtil;
 
@@ -56,6 +60,16 @@ public class SerializableType extends ByteArrayType {
             return cachedObject;
         }
 
+        if (!trackDeserializedObjects) {
+            // The serialized bytes aren't needed afterwards, so they are deserialized while streaming them from the database
+            ByteArrayRef byteArrayRef = getByteArrayRef(valueFields);
+            if (byteArrayRef != null) {
+                Object deserializedObject = byteArrayRef.readBytes(new DeserializingStreamReader(valueFields));
+                valueFields.setCachedValue(deserializedObject);
+                return deserializedObject;
+            }
+        }
+
         byte[] bytes = (byte[]) super.getValue(valueFields);
         if (bytes != null) {
 
@@ -105,14 +119,20 @@ public class SerializableType extends ByteArrayType {
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
-            ObjectInputStream ois = createObjectInputStream(bais);
+            return deserialize(bais, valueFields);
+        } finally {
+            IoUtil.closeSilently(bais);
+        }
+    }
+
+    public Object deserialize(InputStream inputStream, ValueFields valueFields) {
+        try {
+            ObjectInputStream ois = createObjectInputStream(inputStream);
             Object deserializedObject = ois.readObject();
 
             return deserializedObject;
         } catch (Exception e) {
             throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
-        } finally {
-            IoUtil.closeSilently(bais);
         }
     }
 
@@ -121,6 +141,17 @@ public class SerializableType extends ByteArrayType {
         return value instanceof Serializable;
     }
 
+    protected ByteArrayRef getByteArrayRef(ValueFields valueFields) {
+        if (valueFields instanceof VariableInstanceEntity) {
+            return ((VariableInstanceEntity) valueFields).getByteArrayRef();
+        } else if (valueFields instanceof HistoricVariableInstanceEntity) {
+            return ((HistoricVariableInstanceEntity) valueFields).getByteArrayRef();
+        } else if (valueFields instanceof HistoricDetailVariableInstanceUpdateEntity) {
+            return ((HistoricDetailVariableInstanceUpdateEntity) valueFields).getByteArrayRef();
+        }
+        return null;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
@@ -132,4 +163,19 @@ public class SerializableType extends ByteArrayType {
     protected ObjectOutputStream createObjectOutputStream(OutputStream os) throws IOException {
         return new ObjectOutputStream(os);
     }
+
+    protected class DeserializingStreamReader implements ByteArrayStreamReader<Object> {
+
+        protected ValueFields valueFields;
+
+        public DeserializingStreamReader(ValueFields valueFields) {
+            this.valueFields = valueFields;
+        }
+
+        @Override
+        public Object read(InputStream inputStream) {
+            return deserialize(inputStream, valueFields);
+        }
+
+    }
 }
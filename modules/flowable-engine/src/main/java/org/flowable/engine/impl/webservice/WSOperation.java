@@ -17,6 +17,7 @@ import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.namespace.QName;
 
+import org.flowable.engine.impl.bpmn.webservice.MessageCallback;
 import org.flowable.engine.impl.bpmn.webservice.MessageDefinition;
 import org.flowable.engine.impl.bpmn.webservice.MessageInstance;
 import org.flowable.engine.impl.bpmn.webservice.Operation;
@@ -59,6 +60,34 @@ public class WSOperation implements OperationImplementation {
         return this.createResponseMessage(results, operation);
     }
 
+    public void sendAsyncFor(MessageInstance message, final Operation operation, ConcurrentMap<QName, URL> overridenEndpointAddresses, final MessageCallback callback) throws Exception {
+        Object[] arguments = this.getArguments(message);
+        SyncWebServiceClient client = this.service.getClient();
+        if (client instanceof AsyncWebServiceClient) {
+            ((AsyncWebServiceClient) client).sendAsync(this.name, arguments, overridenEndpointAddresses, new AsyncWebServiceCallback() {
+
+                public void onResponse(Object[] results) {
+                    callback.onMessage(createResponseMessage(results != null ? results : new Object[] {}, operation));
+                }
+
+                public void onFault(Exception fault) {
+                    callback.onFault(fault);
+                }
+            });
+
+        } else {
+            LOGGER.debug("Web service client {} does not support asynchronous calls, sending synchronously", client);
+            MessageInstance receivedMessage = null;
+            try {
+                receivedMessage = this.createResponseMessage(this.safeSend(arguments, overridenEndpointAddresses), operation);
+            } catch (Exception e) {
+                callback.onFault(e);
+                return;
+            }
+            callback.onMessage(receivedMessage);
+        }
+    }
+
     private Object[] getArguments(MessageInstance message) {
         return message.getStructureInstance().toArray();
     }
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.engine.impl.bpmn.webservice.BpmnInterface;
 import org.flowable.engine.impl.bpmn.webservice.BpmnInterfaceImplementation;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.util.ReflectUtil;
 
 /**
@@ -57,8 +58,9 @@ public class WSService implements BpmnInterfaceImplementation {
 
     SyncWebServiceClient getClient() {
         if (this.client == null) {
-            // TODO refactor to use configuration
-            SyncWebServiceClientFactory factory = (SyncWebServiceClientFactory) ReflectUtil.instantiate(ProcessEngineConfigurationImpl.DEFAULT_WS_SYNC_FACTORY);
+            ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+            String factoryClassName = processEngineConfiguration != null ? processEngineConfiguration.getWsSyncFactoryClassName() : ProcessEngineConfigurationImpl.DEFAULT_WS_SYNC_FACTORY;
+            SyncWebServiceClientFactory factory = (SyncWebServiceClientFactory) ReflectUtil.instantiate(factoryClassName);
             this.client = factory.create(this.wsdlLocation);
         }
         return this.client;
@@ -36,6 +36,12 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      */
     TaskQuery taskCandidateOrAssigned(String userIdForCandidateAndAssignee);
 
+    /**
+     * Only select tasks having, for every word of the given text, a word starting with it in their name, description or indexed variables. Uses the task search index when it is
+     * enabled in the process engine configuration, otherwise only tasks whose name contains the text (ignoring case) are selected.
+     */
+    TaskQuery taskSearchText(String searchText);
+
     /** Only select tasks that have no parent (i.e. do not select subtasks). */
     TaskQuery excludeSubtasks();
 
@@ -15,6 +15,7 @@ package org.flowable.engine.test.api.mgmt;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -163,6 +164,34 @@ public class JobQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testFindJobsByIds() {
+        final List<String> jobIds = new ArrayList<String>();
+        for (int i = 0; i < 2500; i++) {
+            jobIds.add(UUID.randomUUID().toString());
+        }
+        // The existing job is part of the third chunk of ids
+        jobIds.set(2200, messageId);
+
+        List<JobEntity> jobs = managementService.executeCommand(new Command<List<JobEntity>>() {
+
+            @Override
+            public List<JobEntity> execute(CommandContext commandContext) {
+                return commandContext.getJobEntityManager().findJobsByIds(jobIds);
+            }
+        });
+        assertEquals(1, jobs.size());
+        assertEquals(messageId, jobs.get(0).getId());
+
+        jobs = managementService.executeCommand(new Command<List<JobEntity>>() {
+
+            @Override
+            public List<JobEntity> execute(CommandContext commandContext) {
+                return commandContext.getJobEntityManager().findJobsByIds(new ArrayList<String>());
+            }
+        });
+        assertTrue(jobs.isEmpty());
+    }
+
     public void testQueryByHandlerType() {
         final JobEntity job = (JobEntity) managementService.createJobQuery().singleResult();
         job.setJobHandlerType("test");
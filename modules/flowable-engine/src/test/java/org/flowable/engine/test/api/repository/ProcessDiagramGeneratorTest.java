@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.impl.util.io.InputStreamSource;
+import org.flowable.image.impl.CachingProcessDiagramGenerator;
+import org.flowable.image.impl.DefaultProcessDiagramGenerator;
+import org.flowable.image.impl.SvgGraphics2D;
+
+import junit.framework.TestCase;
+
+public class ProcessDiagramGeneratorTest extends TestCase {
+
+    protected static final String PROCESS_RESOURCE = "org/flowable/engine/test/api/repository/diagram/testProcessFromActivitiDesigner.bpmn20.xml";
+
+    protected static final List<String> HIGHLIGHTED_ACTIVITIES = Arrays.asList("Review_Tweet_3", "Publish_on_Twitter_3");
+    protected static final List<String> HIGHLIGHTED_FLOWS = Arrays.asList("yes");
+
+    public void testDiagramWithoutHighLightsIsRenderedOnce() throws Exception {
+        CachingProcessDiagramGenerator diagramGenerator = new CachingProcessDiagramGenerator();
+        BpmnModel bpmnModel = readBpmnModel();
+
+        byte[] firstDiagram = IOUtils.toByteArray(diagramGenerator.generateDiagram(bpmnModel, "png", Collections.<String>emptyList()));
+        byte[] secondDiagram = IOUtils.toByteArray(diagramGenerator.generateDiagram(bpmnModel, "png", Collections.<String>emptyList()));
+        assertTrue(firstDiagram.length > 0);
+        assertTrue(Arrays.equals(firstDiagram, secondDiagram));
+        assertEquals(1, diagramGenerator.getCachedModelCount());
+
+        byte[] defaultDiagram = IOUtils.toByteArray(new DefaultProcessDiagramGenerator().generateDiagram(readBpmnModel(), "png", Collections.<String>emptyList()));
+        assertTrue(Arrays.equals(defaultDiagram, firstDiagram));
+
+        diagramGenerator.clearCache();
+        assertEquals(0, diagramGenerator.getCachedModelCount());
+    }
+
+    public void testHighLightOverlay() {
+        BufferedImage expectedImage = new DefaultProcessDiagramGenerator().generateImage(readBpmnModel(), "png", HIGHLIGHTED_ACTIVITIES, HIGHLIGHTED_FLOWS, 1.0);
+
+        CachingProcessDiagramGenerator diagramGenerator = new CachingProcessDiagramGenerator();
+        BpmnModel bpmnModel = readBpmnModel();
+        BufferedImage baseImage = diagramGenerator.generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), 1.0);
+        BufferedImage overlayImage = diagramGenerator.generateImage(bpmnModel, "png", HIGHLIGHTED_ACTIVITIES, HIGHLIGHTED_FLOWS, 1.0);
+
+        assertEquals(expectedImage.getWidth(), overlayImage.getWidth());
+        assertEquals(expectedImage.getHeight(), overlayImage.getHeight());
+
+        // The highlights are drawn on top of the diagram instead of in between the other elements, so only a few pixels can differ
+        int totalPixels = expectedImage.getWidth() * expectedImage.getHeight();
+        assertTrue(countDifferentPixels(expectedImage, overlayImage) < totalPixels / 100);
+        assertTrue(countDifferentPixels(baseImage, overlayImage) > 0);
+
+        // Highlights of one request don't end up in the cached diagram
+        BufferedImage secondBaseImage = diagramGenerator.generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), 1.0);
+        assertEquals(0, countDifferentPixels(baseImage, secondBaseImage));
+    }
+
+    public void testSvgDiagram() throws Exception {
+        CachingProcessDiagramGenerator diagramGenerator = new CachingProcessDiagramGenerator();
+        BpmnModel bpmnModel = readBpmnModel();
+
+        String svg = IOUtils.toString(diagramGenerator.generateDiagram(bpmnModel, "svg", HIGHLIGHTED_ACTIVITIES, HIGHLIGHTED_FLOWS), "UTF-8");
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.endsWith("</svg>"));
+        assertTrue(svg.contains("<path d=\"M"));
+
+        // The diagram is drawn as vector elements, only the task icons are embedded as images
+        Matcher imageMatcher = Pattern.compile("<image [^>]*width=\"(\\d+)\" height=\"(\\d+)\"").matcher(svg);
+        int imageCount = 0;
+        while (imageMatcher.find()) {
+            assertTrue(Integer.parseInt(imageMatcher.group(1)) <= 20);
+            assertTrue(Integer.parseInt(imageMatcher.group(2)) <= 20);
+            imageCount++;
+        }
+        assertTrue(imageCount > 0);
+
+        // Two highlighted activities and the two segments of the highlighted flow, with its arrow head
+        int highLightCount = countOccurrences(svg, "stroke=\"#ff0000\"");
+        assertEquals(4, highLightCount);
+        assertEquals(1, countOccurrences(svg, "fill=\"#ff0000\""));
+
+        String defaultSvg = IOUtils.toString(new DefaultProcessDiagramGenerator().generateDiagram(readBpmnModel(), "svg", HIGHLIGHTED_ACTIVITIES, HIGHLIGHTED_FLOWS), "UTF-8");
+        assertEquals(highLightCount, countOccurrences(defaultSvg, "stroke=\"#ff0000\""));
+
+        // Without highlights, the cached svg is the same as a rendered one
+        String cachedSvg = IOUtils.toString(diagramGenerator.generateDiagram(bpmnModel, "svg", Collections.<String>emptyList()), "UTF-8");
+        String renderedSvg = IOUtils.toString(new DefaultProcessDiagramGenerator().generateDiagram(readBpmnModel(), "svg", Collections.<String>emptyList()), "UTF-8");
+        assertEquals(renderedSvg, cachedSvg);
+        assertEquals(0, countOccurrences(cachedSvg, "#ff0000"));
+    }
+
+    public void testSvgDiagramImageEncoding() throws Exception {
+        String[] values = { "", "f", "fo", "foo", "foob", "fooba", "foobar" };
+        String[] encodedValues = { "", "Zg==", "Zm8=", "Zm9v", "Zm9vYg==", "Zm9vYmE=", "Zm9vYmFy" };
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(encodedValues[i], TestSvgGraphics2D.encode(values[i].getBytes("UTF-8")));
+        }
+        assertEquals("//79AA==", TestSvgGraphics2D.encode(new byte[] { (byte) 0xff, (byte) 0xfe, (byte) 0xfd, 0 }));
+    }
+
+    protected int countOccurrences(String value, String part) {
+        int count = 0;
+        int index = value.indexOf(part);
+        while (index >= 0) {
+            count++;
+            index = value.indexOf(part, index + part.length());
+        }
+        return count;
+    }
+
+    protected int countDifferentPixels(BufferedImage image, BufferedImage otherImage) {
+        int differentPixels = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) != otherImage.getRGB(x, y)) {
+                    differentPixels++;
+                }
+            }
+        }
+        return differentPixels;
+    }
+
+    protected BpmnModel readBpmnModel() {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(PROCESS_RESOURCE);
+        return new BpmnXMLConverter().convertToBpmnModel(new InputStreamSource(inputStream), false, false);
+    }
+
+    protected static class TestSvgGraphics2D extends SvgGraphics2D {
+
+        public TestSvgGraphics2D() {
+            super(1, 1);
+        }
+
+        public static String encode(byte[] bytes) {
+            return encodeBase64(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.history.HistoricVariableInstance;
+import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ByteArrayVariablesTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLongStringVariableIsStreamed() {
+        String longString = StringUtils.repeat("flowable", 2000);
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("longString", longString);
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        assertEquals(longString, runtimeService.getVariable(processInstance.getId(), "longString"));
+
+        Boolean byteArrayCached = managementService.executeCommand(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                VariableInstanceEntity variable = commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(processInstance.getId(), "longString");
+                assertEquals("longString", variable.getTypeName());
+                assertEquals(16000, ((String) variable.getValue()).length());
+                return isByteArrayCached(commandContext, variable.getByteArrayRef().getId());
+            }
+
+        });
+        assertFalse(byteArrayCached);
+
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            HistoricVariableInstance historicVariable = historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).variableName("longString").singleResult();
+            assertEquals(longString, historicVariable.getValue());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLongJsonVariableIsStreamed() {
+        ObjectNode jsonNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        jsonNode.put("value", StringUtils.repeat("flowable", 2000));
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("longJson", jsonNode);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        assertEquals(jsonNode, runtimeService.getVariable(processInstance.getId(), "longJson"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdateByteArrayVariable() {
+        String byteArrayTable = managementService.getTableName(ByteArrayEntity.class);
+        long initialByteArrayCount = managementService.getTableCount().get(byteArrayTable);
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("bytes", new byte[] { 1, 2, 3 });
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+
+        // The bytes aren't fetched to be overwritten
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                VariableInstanceEntity variable = commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(processInstance.getId(), "bytes");
+                variable.setValue(new byte[] { 4, 5, 6, 7 });
+                return null;
+            }
+
+        });
+
+        byte[] bytes = (byte[]) runtimeService.getVariable(processInstance.getId(), "bytes");
+        assertEquals(4, bytes.length);
+        assertEquals(7, bytes[3]);
+        assertEquals(byteArrayCount, managementService.getTableCount().get(byteArrayTable).longValue());
+
+        runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 8 });
+        assertEquals(1, ((byte[]) runtimeService.getVariable(processInstance.getId(), "bytes")).length);
+
+        runtimeService.removeVariable(processInstance.getId(), "bytes");
+        assertNull(runtimeService.getVariable(processInstance.getId(), "bytes"));
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), null);
+        if (!processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            assertEquals(initialByteArrayCount, managementService.getTableCount().get(byteArrayTable).longValue());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testMaxCachedByteArraySize() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("smallBytes", new byte[10]);
+        variables.put("largeBytes", new byte[1000]);
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        int originalMaxCachedByteArraySize = processEngineConfiguration.getMaxCachedByteArraySize();
+        processEngineConfiguration.setMaxCachedByteArraySize(100);
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    VariableInstanceEntity smallVariable = commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(processInstance.getId(), "smallBytes");
+                    assertEquals(10, smallVariable.getBytes().length);
+                    assertTrue(isByteArrayCached(commandContext, smallVariable.getByteArrayRef().getId()));
+
+                    VariableInstanceEntity largeVariable = commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(processInstance.getId(), "largeBytes");
+                    byte[] largeBytes = largeVariable.getBytes();
+                    assertEquals(1000, largeBytes.length);
+                    assertFalse(isByteArrayCached(commandContext, largeVariable.getByteArrayRef().getId()));
+
+                    // Changes to a large byte array still need to be flushed
+                    largeBytes = new byte[2000];
+                    largeBytes[1999] = 1;
+                    largeVariable.setValue(largeBytes);
+                    return null;
+                }
+
+            });
+        } finally {
+            processEngineConfiguration.setMaxCachedByteArraySize(originalMaxCachedByteArraySize);
+        }
+
+        byte[] largeBytes = (byte[]) runtimeService.getVariable(processInstance.getId(), "largeBytes");
+        assertEquals(2000, largeBytes.length);
+        assertEquals(1, largeBytes[1999]);
+    }
+
+    protected boolean isByteArrayCached(CommandContext commandContext, String byteArrayId) {
+        return commandContext.getSession(EntityCache.class).findInCache(ByteArrayEntityImpl.class, byteArrayId) != null;
+    }
+
+}
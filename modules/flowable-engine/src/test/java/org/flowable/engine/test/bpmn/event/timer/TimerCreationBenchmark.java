@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.event.timer;
+
+import java.util.Date;
+
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.impl.calendar.CronExpression;
+import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of creating cycle timers, both when resolving the due dates directly and when starting process instances with a cycle timer.
+ *
+ * Not part of the default test run (the class name doesn't match the surefire includes), run it explicitly with
+ * <code>mvn test -Dtest=TimerCreationBenchmark</code>.
+ */
+public class TimerCreationBenchmark extends PluggableFlowableTestCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerCreationBenchmark.class);
+
+    protected static final String CRON_CYCLE = "0 0/5 8-18 ? * MON-FRI";
+    protected static final String DURATION_CYCLE = "R/PT1H";
+
+    protected static final int RESOLVE_ITERATIONS = 100000;
+    protected static final int NR_OF_PROCESS_INSTANCES = 500;
+
+    public void testResolveCronDuedate() throws Exception {
+        CycleBusinessCalendar businessCalendar = new CycleBusinessCalendar(processEngineConfiguration.getClock());
+
+        // warmup
+        for (int i = 0; i < RESOLVE_ITERATIONS; i++) {
+            new CronExpression(CRON_CYCLE, processEngineConfiguration.getClock()).getTimeAfter(new Date());
+            businessCalendar.resolveDuedate(CRON_CYCLE);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RESOLVE_ITERATIONS; i++) {
+            new CronExpression(CRON_CYCLE, processEngineConfiguration.getClock()).getTimeAfter(processEngineConfiguration.getClock().getCurrentTime());
+        }
+        long parsingTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < RESOLVE_ITERATIONS; i++) {
+            businessCalendar.resolveDuedate(CRON_CYCLE);
+        }
+        long cachedTime = System.nanoTime() - start;
+
+        logger.info("Resolving '{}' {} times: {} ms when parsing every time, {} ms with the schedule cache", CRON_CYCLE, RESOLVE_ITERATIONS,
+                parsingTime / 1000000.0, cachedTime / 1000000.0);
+    }
+
+    public void testResolveDurationDuedate() throws Exception {
+        CycleBusinessCalendar businessCalendar = new CycleBusinessCalendar(processEngineConfiguration.getClock());
+        for (int i = 0; i < RESOLVE_ITERATIONS; i++) {
+            businessCalendar.resolveDuedate(DURATION_CYCLE);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RESOLVE_ITERATIONS; i++) {
+            businessCalendar.resolveDuedate(DURATION_CYCLE);
+        }
+        logger.info("Resolving '{}' {} times: {} ms", DURATION_CYCLE, RESOLVE_ITERATIONS, (System.nanoTime() - start) / 1000000.0);
+    }
+
+    public void testStartProcessInstancesWithCronCycleTimer() {
+        runTimerCreation(CRON_CYCLE);
+    }
+
+    public void testStartProcessInstancesWithDurationCycleTimer() {
+        runTimerCreation(DURATION_CYCLE);
+    }
+
+    protected void runTimerCreation(String timeCycle) {
+        Deployment deployment = repositoryService.createDeployment()
+                .addBpmnModel("cycleTimer.bpmn20.xml", createCycleTimerProcess(timeCycle))
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        // warmup
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES / 10; i++) {
+            runtimeService.startProcessInstanceByKey("cycleTimer");
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES; i++) {
+            runtimeService.startProcessInstanceByKey("cycleTimer");
+        }
+        long time = System.nanoTime() - start;
+
+        assertEquals(NR_OF_PROCESS_INSTANCES + NR_OF_PROCESS_INSTANCES / 10, managementService.createTimerJobQuery().count());
+        logger.info("Starting {} process instances with cycle timer '{}': {} ms ({} timers/s)", NR_OF_PROCESS_INSTANCES, timeCycle, time / 1000000.0,
+                (long) (NR_OF_PROCESS_INSTANCES / (time / 1000000000.0)));
+    }
+
+    protected BpmnModel createCycleTimerProcess(String timeCycle) {
+        BpmnModel model = new BpmnModel();
+        org.flowable.bpmn.model.Process process = new org.flowable.bpmn.model.Process();
+        model.addProcess(process);
+        process.setId("cycleTimer");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        UserTask userTask = new UserTask();
+        userTask.setId("task");
+        process.addFlowElement(userTask);
+        process.addFlowElement(new SequenceFlow("start", "task"));
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(endEvent);
+        process.addFlowElement(new SequenceFlow("task", "end"));
+
+        TimerEventDefinition timerEventDefinition = new TimerEventDefinition();
+        timerEventDefinition.setTimeCycle(timeCycle);
+        BoundaryEvent boundaryEvent = new BoundaryEvent();
+        boundaryEvent.setId("timer");
+        boundaryEvent.setAttachedToRefId("task");
+        boundaryEvent.setAttachedToRef(userTask);
+        boundaryEvent.setCancelActivity(false);
+        boundaryEvent.addEventDefinition(timerEventDefinition);
+        process.addFlowElement(boundaryEvent);
+
+        UserTask timerFiredTask = new UserTask();
+        timerFiredTask.setId("timerFiredTask");
+        process.addFlowElement(timerFiredTask);
+        process.addFlowElement(new SequenceFlow("timer", "timerFiredTask"));
+
+        return model;
+    }
+
+}
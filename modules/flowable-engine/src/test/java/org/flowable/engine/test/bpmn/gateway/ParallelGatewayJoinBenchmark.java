@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.gateway;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.ManualTask;
+import org.flowable.bpmn.model.ParallelGateway;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures a parallel fan-out/fan-in (all branches joined in the same transaction) with an increasing number of branches.
+ *
+ * Not part of the default test run (the class name doesn't match the surefire includes), run it explicitly with
+ * <code>mvn test -Dtest=ParallelGatewayJoinBenchmark</code>.
+ */
+public class ParallelGatewayJoinBenchmark extends PluggableFlowableTestCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelGatewayJoinBenchmark.class);
+
+    protected static final int WARMUP_ITERATIONS = 3;
+    protected static final int MEASURED_ITERATIONS = 5;
+
+    public void testFanOutFanIn10Branches() {
+        runFanOutFanIn(10);
+    }
+
+    public void testFanOutFanIn100Branches() {
+        runFanOutFanIn(100);
+    }
+
+    public void testFanOutFanIn1000Branches() {
+        runFanOutFanIn(1000);
+    }
+
+    protected void runFanOutFanIn(int nrOfBranches) {
+        Deployment deployment = repositoryService.createDeployment()
+                .addBpmnModel("fanOutFanIn.bpmn20.xml", createFanOutFanInProcess(nrOfBranches))
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            startAndVerify();
+        }
+
+        long totalTime = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            startAndVerify();
+            totalTime += System.nanoTime() - start;
+        }
+
+        logger.info("Fan-out/fan-in with {} branches: {} ms per process instance", nrOfBranches, (totalTime / MEASURED_ITERATIONS) / 1000000.0);
+    }
+
+    protected void startAndVerify() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("fanOutFanIn");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("afterJoin", task.getTaskDefinitionKey());
+        assertEquals(2, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count());
+        runtimeService.deleteProcessInstance(processInstance.getId(), null);
+    }
+
+    protected BpmnModel createFanOutFanInProcess(int nrOfBranches) {
+        BpmnModel model = new BpmnModel();
+        org.flowable.bpmn.model.Process process = new org.flowable.bpmn.model.Process();
+        model.addProcess(process);
+        process.setId("fanOutFanIn");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        ParallelGateway fork = new ParallelGateway();
+        fork.setId("fork");
+        process.addFlowElement(fork);
+        process.addFlowElement(new SequenceFlow("start", "fork"));
+
+        ParallelGateway join = new ParallelGateway();
+        join.setId("join");
+        process.addFlowElement(join);
+
+        for (int i = 0; i < nrOfBranches; i++) {
+            ManualTask branch = new ManualTask();
+            branch.setId("branch" + i);
+            process.addFlowElement(branch);
+            process.addFlowElement(new SequenceFlow("fork", branch.getId()));
+            process.addFlowElement(new SequenceFlow(branch.getId(), "join"));
+        }
+
+        UserTask userTask = new UserTask();
+        userTask.setId("afterJoin");
+        process.addFlowElement(userTask);
+        process.addFlowElement(new SequenceFlow("join", "afterJoin"));
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(endEvent);
+        process.addFlowElement(new SequenceFlow("afterJoin", "end"));
+
+        return model;
+    }
+
+}
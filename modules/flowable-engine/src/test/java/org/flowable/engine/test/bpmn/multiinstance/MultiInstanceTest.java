@@ -252,6 +252,101 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Deployment
+    public void testParallelUserTasksInChunks() {
+        List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba", "waldorf", "statler");
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksInChunks", CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+
+        // Only the first chunk is created when starting the process instance
+        assertEquals(3, taskService.createTaskQuery().processInstanceId(procId).count());
+        Task firstTask = taskService.createTaskQuery().processInstanceId(procId).list().get(0);
+        String miRootExecutionId = runtimeService.createExecutionQuery().executionId(firstTask.getExecutionId()).singleResult().getParentId();
+        assertEquals(7, runtimeService.getVariableLocal(miRootExecutionId, "nrOfInstances"));
+
+        Job job = managementService.createJobQuery().processInstanceId(procId).singleResult();
+        managementService.executeJob(job.getId());
+        assertEquals(6, taskService.createTaskQuery().processInstanceId(procId).count());
+
+        // Completing instances only count per chunk, the counters of the root are stored when the multi-instance ends
+        for (Task task : taskService.createTaskQuery().processInstanceId(procId).list()) {
+            taskService.complete(task.getId());
+        }
+        assertEquals(3, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstancesOfChunk0"));
+        assertEquals(3, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstancesOfChunk1"));
+        assertEquals(0, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(7, runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances"));
+
+        job = managementService.createJobQuery().processInstanceId(procId).singleResult();
+        managementService.executeJob(job.getId());
+        assertNull(managementService.createJobQuery().processInstanceId(procId).singleResult());
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        assertEquals(1, tasks.size());
+        assertEquals("statler", tasks.get(0).getAssignee());
+        assertEquals("My Task 6", tasks.get(0).getName());
+        taskService.complete(tasks.get(0).getId());
+
+        Task afterMiTask = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertEquals("afterMi", afterMiTask.getTaskDefinitionKey());
+        assertEquals(7, runtimeService.getVariable(afterMiTask.getExecutionId(), "nrOfCompletedInstances"));
+        assertEquals(0, runtimeService.getVariable(afterMiTask.getExecutionId(), "nrOfActiveInstances"));
+        assertNull(runtimeService.getVariable(afterMiTask.getExecutionId(), "nrOfCompletedInstancesOfChunk0"));
+
+        taskService.complete(afterMiTask.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Deployment
+    public void testParallelUserTasksInChunksWithCompletionCondition() {
+        Map<String, Object> vars = new HashMap<String, Object>();
+        vars.put("assigneeList", Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba"));
+        vars.put("chunkSize", 2);
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksInChunksWithCompletionCondition", vars).getId();
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        assertEquals(2, tasks.size());
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(procId).count());
+
+        managementService.executeJob(managementService.createJobQuery().processInstanceId(procId).singleResult().getId());
+        tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        assertEquals(2, tasks.size());
+        assertEquals(1, managementService.createJobQuery().processInstanceId(procId).count());
+
+        // The completion condition is satisfied: the remaining instances and the pending chunk are removed
+        taskService.complete(tasks.get(0).getId());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+        Task afterMiTask = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertEquals("afterMi", afterMiTask.getTaskDefinitionKey());
+        assertEquals(3, runtimeService.getVariable(afterMiTask.getExecutionId(), "nrOfCompletedInstances"));
+
+        taskService.complete(afterMiTask.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Deployment
+    public void testParallelSubProcessInChunks() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelSubProcessInChunks").getId();
+
+        for (int i = 0; i < 2; i++) {
+            managementService.executeJob(managementService.createJobQuery().processInstanceId(procId).singleResult().getId());
+        }
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        assertEquals(5, tasks.size());
+        for (Task task : tasks) {
+            assertEquals("subProcessTask", task.getTaskDefinitionKey());
+            taskService.complete(task.getId());
+        }
+
+        Task afterMiTask = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertEquals("afterMi", afterMiTask.getTaskDefinitionKey());
+        taskService.complete(afterMiTask.getId());
+        assertProcessEnded(procId);
+    }
+
     @Deployment
     public void testParallelUserTasksCustomExtensions() {
         checkParallelUserTasksCustomExtensions("miParallelUserTasks");
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.el;
+
+import javax.el.ValueExpression;
+
+import org.flowable.engine.common.impl.el.ExpressionCache;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.engine.impl.el.NoExecutionVariableScope;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the creation of expressions with and without the cache of parsed expressions. The number of distinct expressions is larger than the tree cache of the JUEL expression factory,
+ * like it would be on an engine with many deployed process definitions.
+ *
+ * Not part of the default test run (the class name doesn't match the surefire includes), run it explicitly with
+ * <code>mvn test -Dtest=ExpressionManagerBenchmark</code>.
+ */
+public class ExpressionManagerBenchmark extends PluggableFlowableTestCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpressionManagerBenchmark.class);
+
+    protected static final int NR_OF_DISTINCT_EXPRESSIONS = 2000;
+    protected static final int WARMUP_ITERATIONS = 20000;
+    protected static final int MEASURED_ITERATIONS = 200000;
+
+    public void testCreateExpressions() {
+        DefaultExpressionManager expressionManager = (DefaultExpressionManager) processEngineConfiguration.getExpressionManager();
+        ExpressionCache<ValueExpression> originalExpressionCache = expressionManager.getExpressionCache();
+
+        String[] expressionTexts = new String[NR_OF_DISTINCT_EXPRESSIONS];
+        for (int i = 0; i < expressionTexts.length; i++) {
+            expressionTexts[i] = "${" + i + " * 3 > 100 ? 'large' : 'small'}";
+        }
+
+        try {
+            expressionManager.setExpressionCache(null);
+            run(expressionManager, expressionTexts, WARMUP_ITERATIONS);
+            long uncachedTime = run(expressionManager, expressionTexts, MEASURED_ITERATIONS);
+
+            ExpressionCache<ValueExpression> expressionCache = new ExpressionCache<ValueExpression>(NR_OF_DISTINCT_EXPRESSIONS * 2);
+            expressionManager.setExpressionCache(expressionCache);
+            run(expressionManager, expressionTexts, WARMUP_ITERATIONS);
+            expressionCache.resetStatistics();
+            long cachedTime = run(expressionManager, expressionTexts, MEASURED_ITERATIONS);
+
+            logger.info("{} expressions created: {} ms without cache, {} ms with cache (hit ratio {})",
+                    MEASURED_ITERATIONS, uncachedTime / 1000000L, cachedTime / 1000000L, expressionCache.getHitRatio());
+            assertEquals(1.0, expressionCache.getHitRatio());
+
+        } finally {
+            expressionManager.setExpressionCache(originalExpressionCache);
+        }
+    }
+
+    protected long run(DefaultExpressionManager expressionManager, String[] expressionTexts, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertNotNull(expressionManager.createExpression(expressionTexts[i % expressionTexts.length]));
+        }
+        long time = System.nanoTime() - start;
+
+        assertEquals("small", expressionManager.createExpression(expressionTexts[0]).getValue(new NoExecutionVariableScope()));
+        return time;
+    }
+
+}
@@ -18,7 +18,12 @@ import static org.junit.Assert.assertThat;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.el.ValueExpression;
+
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.el.NoExecutionVariableScope;
 import org.flowable.engine.impl.identity.Authentication;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -42,6 +47,24 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
         assertThat(value, Is.<Object>is(true));
     }
 
+    public void testParsedExpressionsAreCached() {
+        ExpressionManager expressionManager = processEngineConfiguration.getExpressionManager();
+        ExpressionCache<ValueExpression> expressionCache = ((DefaultExpressionManager) expressionManager).getExpressionCache();
+        assertNotNull(expressionCache);
+
+        String expressionText = "#{'" + getName() + "'.length() + 1}";
+        long hitCount = expressionCache.getHitCount();
+        Expression first = expressionManager.createExpression(expressionText);
+        Expression second = expressionManager.createExpression(" " + expressionText + " ");
+        assertEquals(hitCount + 1, expressionCache.getHitCount());
+
+        // the original text is kept, only the parsed expression is shared
+        assertEquals(expressionText, first.getExpressionText());
+        assertEquals(" " + expressionText + " ", second.getExpressionText());
+        assertEquals(getName().length() + 1L, first.getValue(new NoExecutionVariableScope()));
+        assertEquals(getName().length() + 1L, second.getValue(new NoExecutionVariableScope()));
+    }
+
     @Deployment
     public void testMethodExpressions() {
         // Process contains 2 service tasks. one containing a method with no
@@ -0,0 +1,167 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.impl.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Verifies that the inactive executions found through the {@link org.flowable.engine.impl.persistence.cache.InactiveExecutionIndex} within a command are the ones the query finds afterwards.
+ */
+public class InactiveExecutionIndexTest extends PluggableFlowableTestCase {
+
+    protected static final String PROCESS_RESOURCE = "org/flowable/engine/test/impl/persistence/InactiveExecutionIndexTest.parallelJoin.bpmn20.xml";
+
+    @Deployment(resources = PROCESS_RESOURCE)
+    public void testIndexedLookupMatchesQuery() {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelJoin");
+        final String execution1Id = getExecutionId(processInstance, "receive1");
+        final String execution2Id = getExecutionId(processInstance, "receive2");
+        final String execution3Id = getExecutionId(processInstance, "receive3");
+
+        List<String> indexedExecutionIds = managementService.executeCommand(new Command<List<String>>() {
+
+            @Override
+            public List<String> execute(CommandContext commandContext) {
+                ExecutionEntityManager executionEntityManager = commandContext.getExecutionEntityManager();
+                FlowElement join = ProcessDefinitionUtil.getProcess(processInstance.getProcessDefinitionId()).getFlowElement("join");
+
+                // The executions are moved from their receive task to the join by hand, ending the receive tasks in the history.
+                // The first lookup queries and indexes the combination
+                assertTrue(findInactiveExecutionIds(executionEntityManager, processInstance.getId()).isEmpty());
+                assertTrue(commandContext.getInactiveExecutionIndex().isIndexed(processInstance.getId(), "join"));
+
+                // Registered on inactivate
+                ExecutionEntity execution1 = executionEntityManager.findById(execution1Id);
+                commandContext.getHistoryManager().recordActivityEnd(execution1, null);
+                execution1.setCurrentFlowElement(join);
+                execution1.inactivate();
+                assertEquals(asSet(execution1Id), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+
+                // Deregistered on reactivate
+                ExecutionEntity execution2 = executionEntityManager.findById(execution2Id);
+                commandContext.getHistoryManager().recordActivityEnd(execution2, null);
+                execution2.setCurrentFlowElement(join);
+                execution2.setActive(false);
+                assertEquals(asSet(execution1Id, execution2Id), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+                execution2.setActive(true);
+                assertEquals(asSet(execution1Id), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+
+                // Deregistered on delete
+                ExecutionEntity execution3 = executionEntityManager.findById(execution3Id);
+                commandContext.getHistoryManager().recordActivityEnd(execution3, null);
+                execution3.inactivate();
+                execution3.setCurrentFlowElement(join);
+                assertEquals(asSet(execution1Id, execution3Id), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+                executionEntityManager.delete(execution3);
+                assertEquals(asSet(execution1Id), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+
+                // Registered when the process instance id is only set after the execution was inactivated in the join
+                ExecutionEntity processInstanceEntity = executionEntityManager.findById(processInstance.getId());
+                ExecutionEntity execution4 = executionEntityManager.create();
+                execution4.setCurrentFlowElement(join);
+                execution4.inactivate();
+                execution4.setParentId(processInstanceEntity.getId());
+                execution4.setProcessDefinitionId(processInstanceEntity.getProcessDefinitionId());
+                execution4.setRootProcessInstanceId(processInstanceEntity.getRootProcessInstanceId());
+                execution4.setProcessInstanceId(processInstanceEntity.getId());
+                executionEntityManager.insert(execution4);
+                assertEquals(asSet(execution1Id, execution4.getId()), findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+
+                return new ArrayList<String>(findInactiveExecutionIds(executionEntityManager, processInstance.getId()));
+            }
+
+        });
+
+        // A new command has no index yet and queries the database
+        Set<String> queriedExecutionIds = managementService.executeCommand(new Command<Set<String>>() {
+
+            @Override
+            public Set<String> execute(CommandContext commandContext) {
+                assertFalse(commandContext.hasInactiveExecutionIndex());
+                return findInactiveExecutionIds(commandContext.getExecutionEntityManager(), processInstance.getId());
+            }
+
+        });
+        assertEquals(new HashSet<String>(indexedExecutionIds), queriedExecutionIds);
+        assertEquals(2, queriedExecutionIds.size());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = PROCESS_RESOURCE)
+    public void testJoinCompletesWithIndex() {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelJoin");
+        final List<String> executionIds = new ArrayList<String>();
+        for (String activityId : new String[] { "receive1", "receive2", "receive3" }) {
+            executionIds.add(getExecutionId(processInstance, activityId));
+        }
+
+        // All branches arrive in the join within the same command, so all but the first lookup use the index
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                for (String executionId : executionIds) {
+                    commandContext.getAgenda().planTriggerExecutionOperation(commandContext.getExecutionEntityManager().findById(executionId));
+                }
+                return null;
+            }
+
+        });
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertNotNull(task);
+        assertEquals("afterJoin", task.getTaskDefinitionKey());
+        assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().count());
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected String getExecutionId(ProcessInstance processInstance, String activityId) {
+        return runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId(activityId).singleResult().getId();
+    }
+
+    protected static Set<String> findInactiveExecutionIds(ExecutionEntityManager executionEntityManager, String processInstanceId) {
+        Collection<ExecutionEntity> executions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId("join", processInstanceId);
+        Set<String> executionIds = new HashSet<String>();
+        for (ExecutionEntity execution : executions) {
+            executionIds.add(execution.getId());
+        }
+        return executionIds;
+    }
+
+    protected static Set<String> asSet(String... values) {
+        Set<String> set = new HashSet<String>();
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.impl.util;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.engine.common.impl.util.io.InputStreamSource;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
+
+import junit.framework.TestCase;
+
+public class ProcessReachabilityIndexTest extends TestCase {
+
+    public void testIndexMatchesGraphTraversal() {
+        assertIndexMatchesGraphTraversal("org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testJoinAfterSubprocesses.bpmn20.xml");
+        assertIndexMatchesGraphTraversal("org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml");
+        assertIndexMatchesGraphTraversal("org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testParentActivationOnNonJoiningEnd.bpmn20.xml");
+        assertIndexMatchesGraphTraversal("org/flowable/engine/test/bpmn/subprocess/SubProcessTest.testNestedSimpleSubProcessWithoutEndEvent.bpmn20.xml");
+        assertIndexMatchesGraphTraversal("org/flowable/engine/test/bpmn/subprocess/SubProcessTest.testTwoSubProcessInParallelWithinSubProcess.bpmn20.xml");
+    }
+
+    public void testSequenceFlowIdsAreResolved() {
+        Process process = readProcess("org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml");
+        ProcessReachabilityIndex reachabilityIndex = new ProcessReachabilityIndex(process);
+
+        for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                if (sequenceFlow.getId() != null) {
+                    assertTrue(reachabilityIndex.containsElement(sequenceFlow.getId()));
+                }
+            }
+        }
+        assertFalse(reachabilityIndex.containsElement("unexisting"));
+        assertFalse(reachabilityIndex.isReachable("unexisting", "unexisting"));
+    }
+
+    protected void assertIndexMatchesGraphTraversal(String resource) {
+        Process process = readProcess(resource);
+        ProcessReachabilityIndex reachabilityIndex = new ProcessReachabilityIndex(process);
+
+        List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class);
+        for (FlowNode source : flowNodes) {
+            for (FlowNode target : flowNodes) {
+                boolean expected = ExecutionGraphUtil.isReachable(process, source, target, new HashSet<String>());
+                assertEquals(resource + ": " + source.getId() + " -> " + target.getId(), expected, reachabilityIndex.isReachable(source.getId(), target.getId()));
+            }
+        }
+    }
+
+    protected Process readProcess(String resource) {
+        InputStreamSource xmlSource = new InputStreamSource(getClass().getClassLoader().getResourceAsStream(resource));
+        BpmnModel bpmnModel = new BpmnXMLConverter().convertToBpmnModel(xmlSource, false, false);
+        return bpmnModel.getMainProcess();
+    }
+
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.calendar;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.engine.impl.calendar.CronExpression;
+import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.calendar.DurationHelper;
+import org.flowable.engine.impl.calendar.ScheduleExpressionCache;
+import org.flowable.engine.impl.test.AbstractTestCase;
+
+public class ScheduleExpressionCacheTest extends AbstractTestCase {
+
+    protected static final String[] CRON_EXPRESSIONS = { "0 0 0 1 * ?", "0 0/15 * * * ?", "0/20 0,30 8-18 ? * MON-FRI", "0 15 10 L * ?", "0 0 12 15W * ?", "0 30 2 ? * 6#2",
+            "0 0/30 1-3 * * ?" };
+
+    public void testCachedCronExpressionMatchesParsedExpression() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        testingClock.setCurrentTime(new SimpleDateFormat("yyyy MM dd - HH:mm").parse("2011 03 11 - 17:23"));
+        ScheduleExpressionCache cache = new ScheduleExpressionCache(10);
+
+        for (String expression : CRON_EXPRESSIONS) {
+            CronExpression parsedExpression = new CronExpression(expression, testingClock);
+            CronExpression cachedExpression = cache.getCronExpression(expression.toLowerCase(), testingClock, null);
+            assertEquals(parsedExpression.getTimeAfter(testingClock.getCurrentTime()), cachedExpression.getTimeAfter(testingClock.getCurrentTime()));
+            cache.getCronExpression(expression, testingClock, null);
+        }
+        assertEquals(CRON_EXPRESSIONS.length, cache.getCronExpressionCacheSize());
+    }
+
+    public void testCycleBusinessCalendarUsesCache() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        testingClock.setCurrentTime(new SimpleDateFormat("yyyy MM dd - HH:mm").parse("2011 03 11 - 17:23"));
+        ScheduleExpressionCache cache = new ScheduleExpressionCache(10);
+        CycleBusinessCalendar cachingCalendar = new CycleBusinessCalendar(testingClock, cache);
+        CycleBusinessCalendar calendar = new CycleBusinessCalendar(testingClock);
+
+        assertEquals(calendar.resolveDuedate("0 0 0 1 * ?"), cachingCalendar.resolveDuedate("0 0 0 1 * ?"));
+        assertEquals(calendar.resolveDuedate("R2/PT10S"), cachingCalendar.resolveDuedate("R2/PT10S"));
+        assertEquals(1, cache.getCronExpressionCacheSize());
+        assertEquals(1, cache.getDurationHelperCacheSize());
+    }
+
+    public void testNextFireTimesMatchesTimeAfter() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        Date start = new SimpleDateFormat("yyyy MM dd - HH:mm").parse("2016 03 24 - 17:23");
+
+        // Europe/Brussels has a daylight saving transition within the computed ranges
+        for (TimeZone timeZone : new TimeZone[] { TimeZone.getTimeZone("UTC"), TimeZone.getTimeZone("Europe/Brussels") }) {
+            for (String expression : CRON_EXPRESSIONS) {
+                CronExpression cronExpression = new CronExpression(expression, testingClock, timeZone);
+                List<Date> fireTimes = cronExpression.nextFireTimes(start, 200);
+                assertEquals(expression, 200, fireTimes.size());
+
+                Date expectedFireTime = start;
+                for (Date fireTime : fireTimes) {
+                    expectedFireTime = cronExpression.getTimeAfter(expectedFireTime);
+                    assertEquals(expression + " in " + timeZone.getID(), expectedFireTime, fireTime);
+                }
+            }
+        }
+    }
+
+    public void testNextFireTimesStopsWhenScheduleEnds() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        CronExpression cronExpression = new CronExpression("0 0 12 1 1 ? 2020", testingClock, TimeZone.getTimeZone("UTC"));
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy MM dd - HH:mm");
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        List<Date> fireTimes = cronExpression.nextFireTimes(simpleDateFormat.parse("2019 06 01 - 00:00"), 5);
+        assertEquals(1, fireTimes.size());
+        assertEquals(simpleDateFormat.parse("2020 01 01 - 12:00"), fireTimes.get(0));
+        assertTrue(cronExpression.nextFireTimes(simpleDateFormat.parse("2019 06 01 - 00:00"), 0).isEmpty());
+    }
+
+    public void testCachedDurationUsesCurrentTimeAsStart() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        ScheduleExpressionCache cache = new ScheduleExpressionCache(10);
+
+        testingClock.setCurrentTime(new Date(0));
+        assertEquals(10000, cache.getDurationHelper("R2/PT10S", testingClock).getDateAfter().getTime());
+
+        testingClock.setCurrentTime(new Date(60000));
+        DurationHelper durationHelper = cache.getDurationHelper("R2/PT10S", testingClock);
+        assertEquals(70000, durationHelper.getDateAfter().getTime());
+        assertEquals(2, durationHelper.getTimes());
+        assertEquals(1, cache.getDurationHelperCacheSize());
+    }
+
+    public void testCachedDurationWithExplicitDates() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        ScheduleExpressionCache cache = new ScheduleExpressionCache(10);
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyyMMdd-HH:mm:ss");
+
+        testingClock.setCurrentTime(simpleDateFormat.parse("19700101-00:00:00"));
+        String expression = "R2/1970-01-01T00:00:00/1970-01-01T00:00:10";
+        assertEquals(new DurationHelper(expression, testingClock).getDateAfter(), cache.getDurationHelper(expression, testingClock).getDateAfter());
+
+        testingClock.setCurrentTime(simpleDateFormat.parse("19700101-00:00:15"));
+        assertEquals(new DurationHelper(expression, testingClock).getDateAfter(), cache.getDurationHelper(expression, testingClock).getDateAfter());
+    }
+
+}
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class ParallelDeploymentParsingTest extends ResourceFlowableTestCase {
+
+    public ParallelDeploymentParsingTest() {
+        super("org/flowable/standalone/deploy/parallel.deployment.parsing.test.flowable.cfg.xml");
+    }
+
+    public void testDeployMultipleResources() {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment().name("parallel");
+        for (int i = 1; i <= 20; i++) {
+            deploymentBuilder.addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i));
+        }
+        Deployment deployment = deploymentBuilder.deploy();
+
+        List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().deploymentId(deployment.getId()).list();
+        assertEquals(20, processDefinitions.size());
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            assertEquals(processDefinition.getKey().replace("myProcess", "Process ") + ".bpmn20.xml", processDefinition.getResourceName());
+        }
+
+        assertNotNull(runtimeService.startProcessInstanceByKey("myProcess7"));
+
+        repositoryService.deleteDeployment(deployment.getId(), true);
+    }
+
+    public void testInvalidResourceFailsDeployment() {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment().name("parallel");
+        for (int i = 1; i <= 10; i++) {
+            deploymentBuilder.addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i));
+        }
+        deploymentBuilder.addString("Invalid.bpmn20.xml", "<definitions><process id=\"invalid\"></definitions>");
+
+        try {
+            deploymentBuilder.deploy();
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        assertEquals(0, repositoryService.createDeploymentQuery().count());
+        assertEquals(0, repositoryService.createProcessDefinitionQuery().count());
+    }
+
+}
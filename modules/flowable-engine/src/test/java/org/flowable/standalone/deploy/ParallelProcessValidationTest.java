@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.impl.util.io.InputStreamSource;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.validation.ProcessValidatorFactory;
+import org.flowable.validation.ProcessValidatorImpl;
+import org.flowable.validation.ValidationError;
+
+public class ParallelProcessValidationTest extends ResourceFlowableTestCase {
+
+    protected static final String INVALID_PROCESS = "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" "
+            + "xmlns:flowable=\"http://flowable.org/bpmn\" targetNamespace=\"Examples\">"
+            + "<process id=\"invalidProcess\">"
+            + "<startEvent id=\"start\" />"
+            + "<sequenceFlow id=\"flow1\" sourceRef=\"start\" targetRef=\"script\" />"
+            + "<scriptTask id=\"script\" />"
+            + "<sequenceFlow id=\"flow2\" sourceRef=\"script\" targetRef=\"service\" />"
+            + "<serviceTask id=\"service\" />"
+            + "<subProcess id=\"subProcess\"><userTask id=\"nested\" /><serviceTask id=\"nestedService\" /></subProcess>"
+            + "</process>"
+            + "</definitions>";
+
+    public ParallelProcessValidationTest() {
+        super("org/flowable/standalone/deploy/parallel.process.validation.test.flowable.cfg.xml");
+    }
+
+    public void testParallelValidationReportsSameErrors() {
+        BpmnModel bpmnModel = new BpmnXMLConverter().convertToBpmnModel(
+                new InputStreamSource(new ByteArrayInputStream(INVALID_PROCESS.getBytes(StandardCharsets.UTF_8))), false, false);
+
+        ProcessValidatorImpl processValidator = (ProcessValidatorImpl) processEngineConfiguration.getProcessValidator();
+        assertNotNull(processValidator.getExecutorService());
+
+        List<ValidationError> sequentialErrors = new ProcessValidatorFactory().createDefaultProcessValidator().validate(bpmnModel);
+        List<ValidationError> parallelErrors = processValidator.validate(bpmnModel);
+        assertTrue(sequentialErrors.size() >= 3);
+        assertEquals(sequentialErrors.toString(), parallelErrors.toString());
+    }
+
+    public void testCreatedExecutorServiceShutDownWhenEngineClosed() {
+        ProcessEngineConfigurationImpl engineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration()
+                .setEngineName(getClass().getName())
+                .setJdbcUrl("jdbc:h2:mem:flowable-parallel-validation;DB_CLOSE_DELAY=1000");
+        engineConfiguration.setProcessValidationParallelism(2);
+        ProcessEngine processEngine = engineConfiguration.buildProcessEngine();
+
+        ExecutorService executorService = engineConfiguration.getProcessValidationExecutorService();
+        assertTrue(engineConfiguration.isProcessValidationExecutorServiceCreated());
+        assertFalse(executorService.isShutdown());
+
+        processEngine.close();
+        assertTrue(executorService.isShutdown());
+    }
+
+    public void testProvidedExecutorServiceNotShutDownWhenEngineClosed() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            ProcessEngineConfigurationImpl engineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration()
+                    .setEngineName(getClass().getName())
+                    .setJdbcUrl("jdbc:h2:mem:flowable-parallel-validation;DB_CLOSE_DELAY=1000");
+            engineConfiguration.setProcessValidationParallelism(2);
+            engineConfiguration.setProcessValidationExecutorService(executorService);
+            ProcessEngine processEngine = engineConfiguration.buildProcessEngine();
+
+            assertFalse(engineConfiguration.isProcessValidationExecutorServiceCreated());
+            processEngine.close();
+            assertFalse(executorService.isShutdown());
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    public void testValidationResultCachedByContent() {
+        DefaultDeploymentCache<List<ValidationError>> processValidationCache = (DefaultDeploymentCache<List<ValidationError>>) processEngineConfiguration.getProcessValidationCache();
+        processValidationCache.clear();
+
+        String processDefinition = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        Deployment deployment1 = repositoryService.createDeployment().addString("Process.bpmn20.xml", processDefinition.replace("{0}", "1")).deploy();
+        Deployment deployment2 = repositoryService.createDeployment().addString("Process.bpmn20.xml", processDefinition.replace("{0}", "1")).deploy();
+        assertEquals(1, processValidationCache.size());
+
+        Deployment deployment3 = repositoryService.createDeployment().addString("Process.bpmn20.xml", processDefinition.replace("{0}", "2")).deploy();
+        assertEquals(2, processValidationCache.size());
+        assertEquals(3, repositoryService.createProcessDefinitionQuery().count());
+
+        // Invalid content keeps failing the deployment when its validation result is cached
+        for (int i = 0; i < 2; i++) {
+            try {
+                repositoryService.createDeployment().addString("Invalid.bpmn20.xml", INVALID_PROCESS).deploy();
+                fail("Exception expected");
+            } catch (RuntimeException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("Errors while parsing"));
+            }
+        }
+        assertEquals(3, processValidationCache.size());
+
+        repositoryService.deleteDeployment(deployment1.getId(), true);
+        repositoryService.deleteDeployment(deployment2.getId(), true);
+        repositoryService.deleteDeployment(deployment3.getId(), true);
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.persistence.cache.DefaultSecondLevelEntityCache;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class SecondLevelEntityCacheTest extends ResourceFlowableTestCase {
+
+    public SecondLevelEntityCacheTest() {
+        super("org/flowable/standalone/deploy/second.level.entity.cache.test.flowable.cfg.xml");
+    }
+
+    public void testLatestProcessDefinitionServedFromCache() {
+        DefaultSecondLevelEntityCache secondLevelEntityCache = (DefaultSecondLevelEntityCache) processEngineConfiguration.getSecondLevelEntityCache();
+        assertNotNull(secondLevelEntityCache);
+
+        String deploymentId = deployOneTaskProcess();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
+        assertEquals(deploymentId, processDefinition.getDeploymentId());
+
+        // The first lookup only remembers the id, the definition itself is cached when it is fetched by that id
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        long hitCount = secondLevelEntityCache.getHitCount();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(processDefinition.getId(), runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId());
+        }
+        assertTrue(secondLevelEntityCache.getHitCount() >= hitCount + 5);
+
+        // A new version is picked up immediately
+        deployOneTaskProcess();
+        ProcessInstance newProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertFalse(processDefinition.getId().equals(newProcessInstance.getProcessDefinitionId()));
+        assertEquals(2, repositoryService.getProcessDefinition(newProcessInstance.getProcessDefinitionId()).getVersion());
+
+        deleteDeployments();
+    }
+
+    public void testChangesInvalidateCache() {
+        deployOneTaskProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        repositoryService.suspendProcessDefinitionByKey("oneTaskProcess");
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            // expected
+        }
+
+        repositoryService.activateProcessDefinitionByKey("oneTaskProcess");
+        assertNotNull(runtimeService.startProcessInstanceByKey("oneTaskProcess"));
+
+        deleteDeployments();
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            fail("Exception expected");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    protected String deployOneTaskProcess() {
+        return repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+    }
+
+    protected void deleteDeployments() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.el;
+
+import org.flowable.engine.common.impl.el.ExpressionCache;
+
+import junit.framework.TestCase;
+
+public class ExpressionCacheTest extends TestCase {
+
+    public void testHitAndMissStatistics() {
+        ExpressionCache<String> cache = new ExpressionCache<String>(10);
+        assertEquals(0.0, cache.getHitRatio());
+
+        assertNull(cache.get("${a}"));
+        assertEquals("parsed a", cache.put("${a}", "parsed a"));
+        assertEquals("parsed a", cache.get("${a}"));
+        assertEquals("parsed a", cache.get("${a}"));
+        assertEquals("parsed a", cache.get("${a}"));
+
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.75, cache.getHitRatio());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    public void testFirstPutWins() {
+        ExpressionCache<String> cache = new ExpressionCache<String>(10);
+        assertEquals("first", cache.put("${a}", "first"));
+        assertEquals("first", cache.put("${a}", "second"));
+        assertEquals("first", cache.get("${a}"));
+    }
+
+    public void testEldestExpressionsAreEvicted() {
+        ExpressionCache<String> cache = new ExpressionCache<String>(3);
+        for (int i = 0; i < 5; i++) {
+            cache.put("${" + i + "}", String.valueOf(i));
+        }
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get("${0}"));
+        assertNull(cache.get("${1}"));
+        assertEquals("2", cache.get("${2}"));
+        assertEquals("4", cache.get("${4}"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public void testInvalidLimit() {
+        try {
+            new ExpressionCache<String>(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.metrics;
+
+import java.util.Map;
+
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.metrics.Histogram;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class ProcessEngineMetricsTest extends ResourceFlowableTestCase {
+
+    public ProcessEngineMetricsTest() {
+        super("org/flowable/standalone/metrics/metrics.test.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processEngineConfiguration.getProcessEngineMetrics().reset();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCommandAndStatementMetrics() {
+        ProcessEngineMetrics metrics = processEngineConfiguration.getProcessEngineMetrics();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        Map<String, Object> startLatency = metrics.getCommandLatencies().get(StartProcessInstanceCmd.class.getName());
+        assertNotNull(startLatency);
+        assertEquals(1L, startLatency.get("count"));
+
+        Map<String, Long> statementCounts = metrics.getStatementCounts();
+        assertTrue(statementCounts.get("insert:ExecutionEntityImpl") > 0);
+        assertTrue(statementCounts.get("insert:TaskEntityImpl") > 0);
+        assertTrue(statementCounts.get("delete:TaskEntityImpl") > 0);
+        assertTrue(metrics.getStatementCount(ProcessEngineMetrics.STATEMENT_SELECT) > 0);
+
+        assertTrue(metrics.getFlushSizes().getCount() > 0);
+        assertTrue(metrics.getFlushSizes().getMax() > 0);
+        assertTrue(metrics.getEntityCacheHits() + metrics.getEntityCacheMisses() > 0);
+        assertEquals(0L, metrics.getOptimisticLockingFailures());
+
+        Map<String, Object> allMetrics = metrics.getMetrics();
+        assertTrue(allMetrics.containsKey("commandLatencies"));
+        assertTrue(allMetrics.containsKey("asyncExecutor"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncScript.bpmn20.xml")
+    public void testAsyncExecutorMetrics() {
+        ProcessEngineMetrics metrics = processEngineConfiguration.getProcessEngineMetrics();
+
+        runtimeService.startProcessInstanceByKey("asyncScript");
+        waitForJobExecutorToProcessAllJobs(5000L, 100L);
+
+        assertEquals(1L, metrics.getExecutedJobs().getCount());
+        assertEquals(0L, metrics.getFailedJobs().getCount());
+        assertTrue(metrics.getExecutedJobs().getMeanRate() > 0.0);
+        assertTrue(metrics.getAsyncExecutorQueueSize() >= 0);
+    }
+
+    public void testHistogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(100L, histogram.getCount());
+        assertEquals(100L, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.001);
+        assertEquals(63L, histogram.getPercentile(0.5));
+        assertEquals(100L, histogram.getPercentile(0.99));
+    }
+
+}
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.metrics;
+
+import java.util.List;
+
+import org.flowable.engine.impl.db.SlowSqlStatement;
+import org.flowable.engine.impl.db.SqlStatementProfile;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class SqlStatementProfilerTest extends ResourceFlowableTestCase {
+
+    public SqlStatementProfilerTest() {
+        super("org/flowable/standalone/metrics/sql.profiling.test.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        SqlStatementProfiler profiler = processEngineConfiguration.getSqlStatementProfiler();
+        profiler.setEnabled(true);
+        profiler.reset();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStatementProfiles() {
+        SqlStatementProfiler profiler = processEngineConfiguration.getSqlStatementProfiler();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(1, tasks.size());
+        taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+
+        SqlStatementProfile taskQueryProfile = profiler.getStatementProfile("selectTaskByQueryCriteria");
+        assertNotNull(taskQueryProfile);
+        assertEquals(2L, taskQueryProfile.getCount());
+        assertEquals(2L, taskQueryProfile.getRows());
+        assertTrue(taskQueryProfile.getTotalTimeInMicros() >= taskQueryProfile.getMaxTimeInMicros());
+
+        List<SqlStatementProfile> profiles = profiler.getStatementProfiles();
+        assertTrue(profiles.size() > 1);
+        for (int i = 1; i < profiles.size(); i++) {
+            assertTrue(profiles.get(i - 1).getTotalTimeInMicros() >= profiles.get(i).getTotalTimeInMicros());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testSlowStatementCapture() {
+        SqlStatementProfiler profiler = processEngineConfiguration.getSqlStatementProfiler();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        profiler.reset();
+        taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+
+        // With a threshold of 0 ms every statement is slow, the most recent one comes first
+        List<SlowSqlStatement> slowStatements = profiler.getSlowStatements();
+        assertFalse(slowStatements.isEmpty());
+        SlowSqlStatement slowStatement = slowStatements.get(0);
+        assertEquals("selectTaskByQueryCriteria", slowStatement.getStatementId());
+        assertTrue(slowStatement.getSql().contains("ACT_RU_TASK"));
+        assertTrue(slowStatement.getParameters().contains(processInstance.getId()));
+        assertNotNull(slowStatement.getStartTime());
+
+        // Only the configured number of slow statements is kept
+        for (int i = 0; i < 20; i++) {
+            taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        }
+        assertEquals(10, profiler.getSlowStatements().size());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDisableAtRuntime() {
+        SqlStatementProfiler profiler = processEngineConfiguration.getSqlStatementProfiler();
+        profiler.setEnabled(false);
+        profiler.reset();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertTrue(profiler.getStatementProfiles().isEmpty());
+        assertTrue(profiler.getSlowStatements().isEmpty());
+
+        profiler.setEnabled(true);
+        taskService.createTaskQuery().list();
+        assertNotNull(profiler.getStatementProfile("selectTaskByQueryCriteria"));
+    }
+
+}
@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.task;
+
+import java.util.Collections;
+
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class TaskSearchIndexTest extends ResourceFlowableTestCase {
+
+    public TaskSearchIndexTest() {
+        super("org/flowable/standalone/task/task.search.index.test.flowable.cfg.xml");
+    }
+
+    public void testSearchTasks() {
+        Task invoiceTask = createTask("Review invoice", "Check the amounts of the supplier invoice");
+        Task contractTask = createTask("Sign contract", "Check the supplier terms");
+
+        try {
+            assertEquals(1, taskService.createTaskQuery().taskSearchText("inv").count());
+            assertEquals(1, taskService.createTaskQuery().taskSearchText("INVOICE").count());
+            assertEquals(invoiceTask.getId(), taskService.createTaskQuery().taskSearchText("rev inv").singleResult().getId());
+            assertEquals(2, taskService.createTaskQuery().taskSearchText("supplier").count());
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("review contract").count());
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("nvoice").count());
+
+            // the other criteria still apply
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("supplier").taskName("Unknown").count());
+            assertEquals(contractTask.getId(), taskService.createTaskQuery().taskSearchText("supplier").taskName("Sign contract").singleResult().getId());
+            assertEquals(2, taskService.createTaskQuery().or().taskSearchText("invoice").taskName("Sign contract").endOr().count());
+
+            // updates replace the indexed words
+            contractTask.setName("Approve agreement");
+            taskService.saveTask(contractTask);
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("sign").count());
+            assertEquals(contractTask.getId(), taskService.createTaskQuery().taskSearchText("agree").singleResult().getId());
+
+            // completed tasks are removed from the index
+            taskService.complete(invoiceTask.getId());
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("invoice").count());
+            assertNotNull(processEngineConfiguration.getTaskSearchIndex().findTaskIds("invoice"));
+            assertTrue(processEngineConfiguration.getTaskSearchIndex().findTaskIds("invoice").isEmpty());
+
+        } finally {
+            deleteTasks(invoiceTask, contractTask);
+        }
+    }
+
+    @Deployment
+    public void testSearchIndexedVariables() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("invoiceProcess", Collections.<String, Object> singletonMap("customer", "Acme Corporation"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        assertEquals(task.getId(), taskService.createTaskQuery().taskSearchText("acme").singleResult().getId());
+        assertEquals(task.getId(), taskService.createTaskQuery().taskSearchText("invoice corp").singleResult().getId());
+
+        runtimeService.setVariable(processInstance.getId(), "customer", "Globex");
+        assertEquals(0, taskService.createTaskQuery().taskSearchText("acme").count());
+        assertEquals(task.getId(), taskService.createTaskQuery().taskSearchText("globex").singleResult().getId());
+
+        // variables which are not configured are not indexed
+        runtimeService.setVariable(processInstance.getId(), "comment", "urgent");
+        assertEquals(0, taskService.createTaskQuery().taskSearchText("urgent").count());
+    }
+
+    public void testRebuildIndex() {
+        Task task = createTask("Review invoice", null);
+
+        try {
+            processEngineConfiguration.getTaskSearchIndex().clear();
+            assertEquals(0, taskService.createTaskQuery().taskSearchText("invoice").count());
+
+            processEngineConfiguration.rebuildTaskSearchIndex();
+            assertEquals(task.getId(), taskService.createTaskQuery().taskSearchText("invoice").singleResult().getId());
+
+        } finally {
+            deleteTasks(task);
+        }
+    }
+
+    protected Task createTask(String name, String description) {
+        Task task = taskService.newTask();
+        task.setName(name);
+        task.setDescription(description);
+        taskService.saveTask(task);
+        return task;
+    }
+
+    protected void deleteTasks(Task... tasks) {
+        for (Task task : tasks) {
+            if (taskService.createTaskQuery().taskId(task.getId()).count() > 0) {
+                taskService.deleteTask(task.getId(), true);
+            } else {
+                historyService.deleteHistoricTaskInstance(task.getId());
+            }
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.el.ValueExpression;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
@@ -30,6 +31,7 @@ import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.runtime.Clock;
@@ -147,6 +149,11 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
 
     protected ExpressionManager expressionManager;
 
+    /**
+     * The maximum number of parsed expressions kept by the expression manager. A value of zero or less disables the cache.
+     */
+    protected int expressionCacheSize = ExpressionCache.DEFAULT_CACHE_LIMIT;
+
     protected FormJsonConverter formJsonConverter = new FormJsonConverter();
 
     // SESSION FACTORIES ///////////////////////////////////////////////
@@ -251,6 +258,10 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
         if (expressionManager == null) {
             expressionManager = new ExpressionManager();
         }
+
+        if (expressionCacheSize > 0 && expressionManager.getExpressionCache() == null) {
+            expressionManager.setExpressionCache(new ExpressionCache<ValueExpression>(expressionCacheSize));
+        }
     }
 
     // Data managers
@@ -855,6 +866,15 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    public FormEngineConfiguration setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        return this;
+    }
+
     public FormJsonConverter getFormJsonConverter() {
         return formJsonConverter;
     }
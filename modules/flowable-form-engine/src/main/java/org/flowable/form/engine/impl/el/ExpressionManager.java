@@ -24,6 +24,7 @@ import javax.el.ListELResolver;
 import javax.el.MapELResolver;
 import javax.el.ValueExpression;
 
+import org.flowable.engine.common.impl.el.ExpressionCache;
 import org.flowable.form.engine.FormExpression;
 
 /**
@@ -42,6 +43,7 @@ public class ExpressionManager {
     // Default implementation (does nothing)
     protected ELContext parsingElContext = new ParsingElContext();
     protected Map<Object, Object> beans;
+    protected ExpressionCache<ValueExpression> expressionCache;
 
     public ExpressionManager() {
         this(null);
@@ -61,12 +63,39 @@ public class ExpressionManager {
     }
 
     public FormExpression createExpression(String expression) {
-        ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
+        ValueExpression valueExpression = createValueExpression(expression.trim());
         return new JuelExpression(valueExpression, expression, this);
     }
 
+    protected ValueExpression createValueExpression(String expressionText) {
+        if (expressionCache == null) {
+            return expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
+        }
+
+        // The parsed expression trees are immutable, so they can be shared by all expressions with the same text
+        ValueExpression valueExpression = expressionCache.get(expressionText);
+        if (valueExpression == null) {
+            valueExpression = expressionCache.put(expressionText, expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class));
+        }
+        return valueExpression;
+    }
+
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        if (expressionCache != null) {
+            expressionCache.clear();
+        }
+    }
+
+    public ExpressionCache<ValueExpression> getExpressionCache() {
+        return expressionCache;
+    }
+
+    /**
+     * Sets the cache of parsed expressions, or null to parse every expression again.
+     */
+    public void setExpressionCache(ExpressionCache<ValueExpression> expressionCache) {
+        this.expressionCache = expressionCache;
     }
 
     public FlowableFormElContext createElContext(Map<String, Object> variables) {
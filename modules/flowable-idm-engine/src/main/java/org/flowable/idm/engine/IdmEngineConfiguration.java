@@ -43,6 +43,7 @@ import org.flowable.idm.engine.impl.IdmEngineImpl;
 import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
 import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.ServiceImpl;
+import org.flowable.idm.engine.impl.cache.MembershipCache;
 import org.flowable.idm.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
@@ -157,6 +158,29 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
     // SESSION FACTORIES ///////////////////////////////////////////////
     protected DbSqlSessionFactory dbSqlSessionFactory;
 
+    // MEMBERSHIP CACHE ////////////////////////////////////////////////
+
+    /**
+     * Set to true to cache the groups of a user for group queries that only filter on the group member, like the candidate group resolution of task queries. Membership and group changes made
+     * through this engine invalidate the cache.
+     */
+    protected boolean enableMembershipCache;
+    protected int membershipCacheLimit = 1000;
+
+    /**
+     * Time in milliseconds after which the cached groups of a user are fetched again (a value of zero or less means no expiration).
+     */
+    protected long membershipCacheTimeToLive = 60000L;
+
+    /**
+     * Set to true when multiple nodes share the database: every membership or group change then increments a version counter in the ACT_ID_PROPERTY table, which is checked by all nodes at most
+     * every {@link #membershipCacheVersionCheckInterval} milliseconds.
+     */
+    protected boolean enableMembershipCacheVersionCheck;
+    protected long membershipCacheVersionCheckInterval = 1000L;
+
+    protected MembershipCache membershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -215,6 +239,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
         initEntityManagers();
         initClock();
         initEventDispatcher();
+        initMembershipCache();
     }
 
     // services
@@ -456,6 +481,18 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
 
     }
 
+    // membership cache
+    // /////////////////////////////////////////////////////////////////////
+
+    public void initMembershipCache() {
+        if (membershipCache == null && enableMembershipCache) {
+            membershipCache = new MembershipCache(membershipCacheLimit, membershipCacheTimeToLive, clock);
+            if (enableMembershipCacheVersionCheck) {
+                membershipCache.setVersionCheckInterval(membershipCacheVersionCheckInterval);
+            }
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -938,4 +975,58 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration {
         this.clock = clock;
         return this;
     }
+
+    public boolean isEnableMembershipCache() {
+        return enableMembershipCache;
+    }
+
+    public IdmEngineConfiguration setEnableMembershipCache(boolean enableMembershipCache) {
+        this.enableMembershipCache = enableMembershipCache;
+        return this;
+    }
+
+    public int getMembershipCacheLimit() {
+        return membershipCacheLimit;
+    }
+
+    public IdmEngineConfiguration setMembershipCacheLimit(int membershipCacheLimit) {
+        this.membershipCacheLimit = membershipCacheLimit;
+        return this;
+    }
+
+    public long getMembershipCacheTimeToLive() {
+        return membershipCacheTimeToLive;
+    }
+
+    public IdmEngineConfiguration setMembershipCacheTimeToLive(long membershipCacheTimeToLive) {
+        this.membershipCacheTimeToLive = membershipCacheTimeToLive;
+        return this;
+    }
+
+    public boolean isEnableMembershipCacheVersionCheck() {
+        return enableMembershipCacheVersionCheck;
+    }
+
+    public IdmEngineConfiguration setEnableMembershipCacheVersionCheck(boolean enableMembershipCacheVersionCheck) {
+        this.enableMembershipCacheVersionCheck = enableMembershipCacheVersionCheck;
+        return this;
+    }
+
+    public long getMembershipCacheVersionCheckInterval() {
+        return membershipCacheVersionCheckInterval;
+    }
+
+    public IdmEngineConfiguration setMembershipCacheVersionCheckInterval(long membershipCacheVersionCheckInterval) {
+        this.membershipCacheVersionCheckInterval = membershipCacheVersionCheckInterval;
+        return this;
+    }
+
+    public MembershipCache getMembershipCache() {
+        return membershipCache;
+    }
+
+    public IdmEngineConfiguration setMembershipCache(MembershipCache membershipCache) {
+        this.membershipCache = membershipCache;
+        return this;
+    }
 }
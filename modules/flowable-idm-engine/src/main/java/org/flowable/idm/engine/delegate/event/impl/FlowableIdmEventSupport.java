@@ -12,10 +12,12 @@
  */
 package org.flowable.idm.engine.delegate.event.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
@@ -28,30 +30,37 @@ import org.slf4j.LoggerFactory;
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  * 
+ * The registered listeners are kept in an immutable snapshot, holding an array of global listeners and an array of listeners per event type, which is replaced as a whole when a listener is added
+ * or removed. Dispatching an event only reads the current snapshot and thus never blocks, nor is it blocked by a registration.
+ * 
  * @author Tijs Rademakers
  */
 public class FlowableIdmEventSupport {
 
     private static final Logger LOG = LoggerFactory.getLogger(FlowableIdmEventSupport.class);
 
-    protected List<FlowableEventListener> eventListeners;
-    protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
 
-    public FlowableIdmEventSupport() {
-        eventListeners = new CopyOnWriteArrayList<FlowableEventListener>();
-        typedListeners = new HashMap<FlowableEventType, List<FlowableEventListener>>();
-    }
+    /**
+     * Guards the replacement of the listener snapshot, only used when adding or removing listeners.
+     */
+    protected final Object listenersLock = new Object();
 
-    public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
+    protected volatile ListenerSnapshot listeners = new ListenerSnapshot(NO_LISTENERS, Collections.<FlowableEventType, FlowableEventListener[]> emptyMap());
+
+    public void addEventListener(FlowableEventListener listenerToAdd) {
         if (listenerToAdd == null) {
             throw new FlowableIllegalArgumentException("Listener cannot be null.");
         }
-        if (!eventListeners.contains(listenerToAdd)) {
-            eventListeners.add(listenerToAdd);
+
+        synchronized (listenersLock) {
+            if (!contains(listeners.eventListeners, listenerToAdd)) {
+                listeners = new ListenerSnapshot(add(listeners.eventListeners, listenerToAdd), listeners.typedListeners);
+            }
         }
     }
 
-    public synchronized void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
+    public void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
         if (listenerToAdd == null) {
             throw new FlowableIllegalArgumentException("Listener cannot be null.");
         }
@@ -60,17 +69,27 @@ public class FlowableIdmEventSupport {
             addEventListener(listenerToAdd);
 
         } else {
-            for (FlowableEventType type : types) {
-                addTypedEventListener(listenerToAdd, type);
+            synchronized (listenersLock) {
+                for (FlowableEventType type : types) {
+                    addTypedEventListener(listenerToAdd, type);
+                }
             }
         }
     }
 
     public void removeEventListener(FlowableEventListener listenerToRemove) {
-        eventListeners.remove(listenerToRemove);
+        synchronized (listenersLock) {
+            ListenerSnapshot current = listeners;
+
+            Map<FlowableEventType, FlowableEventListener[]> typedListeners = new HashMap<FlowableEventType, FlowableEventListener[]>();
+            for (Map.Entry<FlowableEventType, FlowableEventListener[]> entry : current.typedListeners.entrySet()) {
+                FlowableEventListener[] typed = remove(entry.getValue(), listenerToRemove);
+                if (typed.length > 0) {
+                    typedListeners.put(entry.getKey(), typed);
+                }
+            }
 
-        for (List<FlowableEventListener> listeners : typedListeners.values()) {
-            listeners.remove(listenerToRemove);
+            listeners = new ListenerSnapshot(remove(current.eventListeners, listenerToRemove), typedListeners);
         }
     }
 
@@ -83,22 +102,32 @@ public class FlowableIdmEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
+        ListenerSnapshot current = listeners;
+
         // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : current.eventListeners) {
+            dispatchEvent(event, listener);
         }
 
         // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
+        if (!current.typedListeners.isEmpty()) {
+            FlowableEventListener[] typed = current.typedListeners.get(event.getType());
+            if (typed != null) {
+                for (FlowableEventListener listener : typed) {
+                    dispatchEvent(event, listener);
+                }
             }
         }
     }
 
+    /**
+     * @return true when at least one listener is registered, regardless of the event types it listens to.
+     */
+    public boolean hasListeners() {
+        ListenerSnapshot current = listeners;
+        return current.eventListeners.length > 0 || !current.typedListeners.isEmpty();
+    }
+
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
         try {
             listener.onEvent(event);
@@ -113,16 +142,58 @@ public class FlowableIdmEventSupport {
         }
     }
 
-    protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
-        List<FlowableEventListener> listeners = typedListeners.get(type);
-        if (listeners == null) {
-            // Add an empty list of listeners for this type
-            listeners = new CopyOnWriteArrayList<FlowableEventListener>();
-            typedListeners.put(type, listeners);
+    /**
+     * Needs to be called while holding the {@link #listenersLock}.
+     */
+    protected void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
+        ListenerSnapshot current = listeners;
+        FlowableEventListener[] typed = current.typedListeners.get(type);
+        if (typed == null) {
+            typed = NO_LISTENERS;
         }
 
-        if (!listeners.contains(listener)) {
-            listeners.add(listener);
+        if (!contains(typed, listener)) {
+            Map<FlowableEventType, FlowableEventListener[]> typedListeners = new HashMap<FlowableEventType, FlowableEventListener[]>(current.typedListeners);
+            typedListeners.put(type, add(typed, listener));
+            listeners = new ListenerSnapshot(current.eventListeners, typedListeners);
         }
     }
+
+    protected static boolean contains(FlowableEventListener[] listeners, FlowableEventListener listener) {
+        for (FlowableEventListener existingListener : listeners) {
+            if (existingListener.equals(listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static FlowableEventListener[] add(FlowableEventListener[] listeners, FlowableEventListener listener) {
+        FlowableEventListener[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    protected static FlowableEventListener[] remove(FlowableEventListener[] listeners, FlowableEventListener listener) {
+        List<FlowableEventListener> result = new ArrayList<FlowableEventListener>(Arrays.asList(listeners));
+        if (!result.remove(listener)) {
+            return listeners;
+        }
+        return result.toArray(new FlowableEventListener[result.size()]);
+    }
+
+    /**
+     * Immutable view on the registered listeners, replaced as a whole when the listeners change.
+     */
+    protected static class ListenerSnapshot {
+
+        protected final FlowableEventListener[] eventListeners;
+        protected final Map<FlowableEventType, FlowableEventListener[]> typedListeners;
+
+        public ListenerSnapshot(FlowableEventListener[] eventListeners, Map<FlowableEventType, FlowableEventListener[]> typedListeners) {
+            this.eventListeners = eventListeners;
+            this.typedListeners = typedListeners;
+        }
+
+    }
 }
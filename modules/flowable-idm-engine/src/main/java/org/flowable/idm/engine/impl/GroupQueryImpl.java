@@ -141,6 +141,14 @@ public class GroupQueryImpl extends AbstractQuery<GroupQuery, Group> implements
 
     // getters ////////////////////////////////////////////////////////
 
+    /**
+     * @return whether the group member is the only criterion of this (unpaged) query, in which case the result can come from the membership cache.
+     */
+    public boolean isGroupMemberOnlyQuery() {
+        return userId != null && id == null && ids == null && name == null && nameLike == null && nameLikeIgnoreCase == null && type == null && userIds == null && orderBy == null
+                && firstResult == 0 && maxResults == Integer.MAX_VALUE;
+    }
+
     public String getId() {
         return id;
     }
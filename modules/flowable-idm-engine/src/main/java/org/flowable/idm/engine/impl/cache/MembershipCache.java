@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+
+/**
+ * Cache of the groups a user is member of, used for group queries that only filter on the group member (which is what the candidate group resolution of task queries does).
+ * 
+ * Entries expire after the configured time to live and the least recently used entries are evicted when the limit is reached. Changes to memberships and groups made through this engine
+ * invalidate the cache (see {@link MembershipCacheInvalidation}). Optionally, a version counter stored in the database is checked regularly, so that changes made by other nodes also
+ * invalidate the cache.
+ */
+public class MembershipCache {
+
+    public static final String VERSION_PROPERTY_NAME = "membership.cache.version";
+
+    protected final int limit;
+    protected final long timeToLive;
+    protected final Clock clock;
+    protected final Map<String, CachedGroups> cache;
+
+    /**
+     * Incremented on every invalidation, so that groups fetched before an invalidation are never added to the cache after it.
+     */
+    protected long generation;
+
+    protected long versionCheckInterval = -1L;
+    protected long knownVersion = -1L;
+    protected long nextVersionCheckTime;
+
+    public MembershipCache(final int limit, long timeToLive, Clock clock) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Membership cache limit must be a positive number, but was " + limit);
+        }
+        this.limit = limit;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<String, CachedGroups>(Math.min(limit, 128) + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedGroups> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    /**
+     * @return a copy of the cached groups of the user, or null if they are not cached or expired.
+     */
+    public synchronized List<Group> get(String userId) {
+        CachedGroups cachedGroups = cache.get(userId);
+        if (cachedGroups == null) {
+            return null;
+        }
+
+        if (timeToLive > 0 && currentTime() - cachedGroups.cachedTime > timeToLive) {
+            cache.remove(userId);
+            return null;
+        }
+
+        List<Group> groups = new ArrayList<Group>(cachedGroups.groups.size());
+        for (Group group : cachedGroups.groups) {
+            groups.add(copy(group));
+        }
+        return groups;
+    }
+
+    /**
+     * Caches the groups of the user, unless the cache was invalidated since the given generation (see {@link #getGeneration()}) was retrieved.
+     */
+    public synchronized void put(String userId, List<Group> groups, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+
+        List<Group> copiedGroups = new ArrayList<Group>(groups.size());
+        for (Group group : groups) {
+            copiedGroups.add(copy(group));
+        }
+        cache.put(userId, new CachedGroups(Collections.unmodifiableList(copiedGroups), currentTime()));
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public synchronized void invalidate(String userId) {
+        generation++;
+        cache.remove(userId);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    // version check /////////////////////////////////////////////////////
+
+    public boolean isVersionCheckEnabled() {
+        return versionCheckInterval >= 0;
+    }
+
+    /**
+     * @return whether the version counter in the database should be read again before using the cache.
+     */
+    public synchronized boolean isVersionCheckDue() {
+        return isVersionCheckEnabled() && currentTime() >= nextVersionCheckTime;
+    }
+
+    /**
+     * Registers the version counter read from the database. The whole cache is invalidated when it differs from the previously read version.
+     */
+    public synchronized void checkVersion(long version) {
+        if (knownVersion != version) {
+            invalidateAll();
+            knownVersion = version;
+        }
+        nextVersionCheckTime = currentTime() + versionCheckInterval;
+    }
+
+    public long getVersionCheckInterval() {
+        return versionCheckInterval;
+    }
+
+    /**
+     * @param versionCheckInterval the minimum time in milliseconds between two reads of the version counter, or a negative value to disable the version check.
+     */
+    public synchronized void setVersionCheckInterval(long versionCheckInterval) {
+        this.versionCheckInterval = versionCheckInterval;
+        this.nextVersionCheckTime = 0L;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    protected long currentTime() {
+        return clock.getCurrentTime().getTime();
+    }
+
+    protected Group copy(Group group) {
+        GroupEntityImpl copy = new GroupEntityImpl();
+        copy.setId(group.getId());
+        copy.setName(group.getName());
+        copy.setType(group.getType());
+        if (group instanceof GroupEntityImpl) {
+            copy.setRevision(((GroupEntityImpl) group).getRevision());
+        }
+        return copy;
+    }
+
+    protected static class CachedGroups {
+
+        protected final List<Group> groups;
+        protected final long cachedTime;
+
+        public CachedGroups(List<Group> groups, long cachedTime) {
+            this.groups = groups;
+            this.cachedTime = cachedTime;
+        }
+    }
+
+}
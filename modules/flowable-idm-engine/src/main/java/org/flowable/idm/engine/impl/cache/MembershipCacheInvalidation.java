@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.interceptor.CommandContext;
+import org.flowable.idm.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.idm.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.idm.engine.impl.persistence.entity.PropertyEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the {@link MembershipCache} invalidations of one command.
+ * 
+ * The cache entries are invalidated right away and once more when the command context is closed, so that groups that were read by another thread before the change was committed aren't
+ * kept. When the version check of the cache is enabled, the version counter in the database is incremented once per command, in the same transaction as the change.
+ */
+public class MembershipCacheInvalidation implements CommandContextCloseListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MembershipCacheInvalidation.class);
+
+    protected static final String ATTRIBUTE_KEY = MembershipCacheInvalidation.class.getName();
+
+    protected MembershipCache membershipCache;
+    protected Set<String> userIds = new HashSet<String>();
+    protected boolean allUsers;
+
+    public MembershipCacheInvalidation(MembershipCache membershipCache) {
+        this.membershipCache = membershipCache;
+    }
+
+    /**
+     * Invalidates the cached groups of the given user, or of all users when the user id is null. Does nothing when the membership cache is disabled.
+     */
+    public static void invalidate(CommandContext commandContext, String userId) {
+        IdmEngineConfiguration idmEngineConfiguration = commandContext.getIdmEngineConfiguration();
+        MembershipCache membershipCache = idmEngineConfiguration.getMembershipCache();
+        if (membershipCache == null) {
+            return;
+        }
+
+        MembershipCacheInvalidation invalidation = (MembershipCacheInvalidation) commandContext.getAttribute(ATTRIBUTE_KEY);
+        if (invalidation == null) {
+            invalidation = new MembershipCacheInvalidation(membershipCache);
+            commandContext.addAttribute(ATTRIBUTE_KEY, invalidation);
+            commandContext.addCloseListener(invalidation);
+
+            if (membershipCache.isVersionCheckEnabled()) {
+                incrementVersion(commandContext.getPropertyEntityManager());
+            }
+        }
+
+        invalidation.add(userId);
+    }
+
+    /**
+     * The version property is inserted by the create and upgrade scripts of the IDM schema, so that concurrent first changes on different nodes only ever update the same row.
+     */
+    protected static void incrementVersion(PropertyEntityManager propertyEntityManager) {
+        if (propertyEntityManager.incrementRevision(MembershipCache.VERSION_PROPERTY_NAME) == 0) {
+            logger.warn("Property {} is missing in ACT_ID_PROPERTY, membership changes are not propagated to the membership caches of other nodes. Upgrade the IDM schema to add it.",
+                    MembershipCache.VERSION_PROPERTY_NAME);
+        }
+    }
+
+    /**
+     * @return the version counter of the membership cache as stored in the database (0 if no change was made yet).
+     */
+    public static long readVersion(PropertyEntityManager propertyEntityManager) {
+        PropertyEntity versionProperty = propertyEntityManager.findById(MembershipCache.VERSION_PROPERTY_NAME);
+        return versionProperty != null ? versionProperty.getRevision() : 0L;
+    }
+
+    public void add(String userId) {
+        if (userId == null) {
+            allUsers = true;
+            membershipCache.invalidateAll();
+        } else {
+            userIds.add(userId);
+            membershipCache.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (allUsers) {
+            membershipCache.invalidateAll();
+        } else {
+            for (String userId : userIds) {
+                membershipCache.invalidate(userId);
+            }
+        }
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        closed(commandContext);
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.idm.engine.impl.persistence;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.cache.MembershipCacheInvalidation;
 import org.flowable.idm.engine.impl.context.Context;
 import org.flowable.idm.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.engine.impl.interceptor.CommandExecutor;
@@ -70,4 +71,13 @@ public abstract class AbstractManager {
         return getIdmEngineConfiguration().getIdentityInfoEntityManager();
     }
 
+    /**
+     * Invalidates the cached groups of the given user, or of all users when the user id is null.
+     */
+    protected void invalidateMembershipCache(String userId) {
+        if (getIdmEngineConfiguration().getMembershipCache() != null) {
+            MembershipCacheInvalidation.invalidate(getCommandContext(), userId);
+        }
+    }
+
 }
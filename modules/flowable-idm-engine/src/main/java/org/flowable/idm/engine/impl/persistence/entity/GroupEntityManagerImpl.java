@@ -24,6 +24,8 @@ import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
 import org.flowable.idm.engine.impl.GroupQueryImpl;
+import org.flowable.idm.engine.impl.cache.MembershipCache;
+import org.flowable.idm.engine.impl.cache.MembershipCacheInvalidation;
 import org.flowable.idm.engine.impl.persistence.entity.data.GroupDataManager;
 
 /**
@@ -66,12 +68,42 @@ public class GroupEntityManagerImpl extends AbstractEntityManager<GroupEntity> i
         }
     }
 
+    @Override
+    public GroupEntity update(GroupEntity entity, boolean fireUpdateEvent) {
+        GroupEntity updatedEntity = super.update(entity, fireUpdateEvent);
+
+        // The cached groups contain the name and type of the group
+        invalidateMembershipCache(null);
+        return updatedEntity;
+    }
+
+    @Override
+    public void delete(GroupEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+        invalidateMembershipCache(null);
+    }
+
     public GroupQuery createNewGroupQuery() {
         return new GroupQueryImpl(getCommandExecutor());
     }
 
     public List<Group> findGroupByQueryCriteria(GroupQueryImpl query, Page page) {
-        return groupDataManager.findGroupByQueryCriteria(query, page);
+        MembershipCache membershipCache = getIdmEngineConfiguration().getMembershipCache();
+        if (membershipCache == null || page != null || !query.isGroupMemberOnlyQuery()) {
+            return groupDataManager.findGroupByQueryCriteria(query, page);
+        }
+
+        if (membershipCache.isVersionCheckDue()) {
+            membershipCache.checkVersion(MembershipCacheInvalidation.readVersion(getIdmEngineConfiguration().getPropertyEntityManager()));
+        }
+
+        List<Group> groups = membershipCache.get(query.getUserId());
+        if (groups == null) {
+            long generation = membershipCache.getGeneration();
+            groups = groupDataManager.findGroupByQueryCriteria(query, null);
+            membershipCache.put(query.getUserId(), groups, generation);
+        }
+        return groups;
     }
 
     public long findGroupCountByQueryCriteria(GroupQueryImpl query) {
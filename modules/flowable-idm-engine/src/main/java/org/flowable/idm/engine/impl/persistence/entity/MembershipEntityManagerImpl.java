@@ -42,6 +42,7 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateMembershipCache(userId);
 
         if (getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_CREATED, groupId, userId));
@@ -50,6 +51,7 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
 
     public void deleteMembership(String userId, String groupId) {
         membershipDataManager.deleteMembership(userId, groupId);
+        invalidateMembershipCache(userId);
         if (getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId));
         }
@@ -58,11 +60,13 @@ public class MembershipEntityManagerImpl extends AbstractEntityManager<Membershi
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         membershipDataManager.deleteMembershipByGroupId(groupId);
+        invalidateMembershipCache(null);
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         membershipDataManager.deleteMembershipByUserId(userId);
+        invalidateMembershipCache(userId);
     }
 
     public MembershipDataManager getMembershipDataManager() {
@@ -23,4 +23,11 @@ public interface PropertyEntityManager extends EntityManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    /**
+     * Increments the revision of the property directly in the database, without optimistic locking.
+     * 
+     * @return the number of updated properties (0 if the property doesn't exist)
+     */
+    int incrementRevision(String name);
+
 }
\ No newline at end of file
@@ -42,4 +42,9 @@ public class PropertyEntityManagerImpl extends AbstractEntityManager<PropertyEnt
         return propertyDataManager.findAll();
     }
 
+    @Override
+    public int incrementRevision(String name) {
+        return propertyDataManager.incrementRevision(name);
+    }
+
 }
@@ -24,4 +24,6 @@ public interface PropertyDataManager extends DataManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    int incrementRevision(String name);
+
 }
@@ -45,4 +45,9 @@ public class MybatisPropertyDataManager extends AbstractDataManager<PropertyEnti
         return getDbSqlSession().selectList("selectProperties");
     }
 
+    @Override
+    public int incrementRevision(String name) {
+        return getDbSqlSession().update("incrementPropertyRevision", name);
+    }
+
 }
@@ -8,6 +8,9 @@ create table ACT_ID_PROPERTY (
 insert into ACT_ID_PROPERTY
 values ('schema.version', '6.1.0.0', 1);
 
+insert into ACT_ID_PROPERTY
+values ('membership.cache.version', 'the revision is the version of the membership cache', 1);
+
 create table ACT_ID_BYTEARRAY (
     ID_ varchar(64),
     REV_ integer,
@@ -1 +1,3 @@
 update ACT_ID_PROPERTY set VALUE_ = '6.1.0.0' where NAME_ = 'schema.version';
+
+insert into ACT_ID_PROPERTY values ('membership.cache.version', 'the revision is the version of the membership cache', 1);
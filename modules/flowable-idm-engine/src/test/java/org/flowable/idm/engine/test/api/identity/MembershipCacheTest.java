@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.IdmEngine;
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.cache.MembershipCache;
+import org.flowable.idm.engine.impl.interceptor.Command;
+import org.flowable.idm.engine.impl.interceptor.CommandContext;
+import org.flowable.idm.engine.impl.persistence.entity.MembershipEntity;
+import org.flowable.idm.engine.impl.persistence.entity.data.MembershipDataManager;
+import org.flowable.idm.engine.test.ResourceFlowableIdmTestCase;
+
+public class MembershipCacheTest extends ResourceFlowableIdmTestCase {
+
+    public MembershipCacheTest() {
+        super("membershipcache/flowable.idm.cfg.xml");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        createUser("kermit");
+        createGroup("muppets", "Muppet show characters", "user");
+        createGroup("frogs", "Famous frogs", "user");
+        createGroup("admins", "Administrators", "security-role");
+        idmIdentityService.createMembership("kermit", "muppets");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        idmEngineConfiguration.getClock().reset();
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+        idmIdentityService.deleteGroup("admins");
+        super.tearDown();
+    }
+
+    public void testCacheInvalidatedOnMembershipChanges() {
+        MembershipCache membershipCache = idmEngineConfiguration.getMembershipCache();
+        assertNotNull(membershipCache);
+
+        assertGroupIds(findGroupsOfKermit(), "muppets");
+        assertEquals(1, membershipCache.size());
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertEquals(0, membershipCache.size());
+        assertGroupIds(findGroupsOfKermit(), "frogs", "muppets");
+
+        idmIdentityService.deleteMembership("kermit", "muppets");
+        assertGroupIds(findGroupsOfKermit(), "frogs");
+
+        Group frogs = idmIdentityService.createGroupQuery().groupId("frogs").singleResult();
+        frogs.setName("Frogs");
+        idmIdentityService.saveGroup(frogs);
+        assertEquals("Frogs", findGroupsOfKermit().get(0).getName());
+
+        idmIdentityService.deleteGroup("frogs");
+        assertGroupIds(findGroupsOfKermit());
+    }
+
+    public void testCachedGroupsAreCopies() {
+        findGroupsOfKermit().get(0).setName("changed");
+        assertEquals("Muppet show characters", findGroupsOfKermit().get(0).getName());
+    }
+
+    public void testOnlyGroupMemberQueriesAreCached() {
+        idmIdentityService.createMembership("kermit", "admins");
+        MembershipCache membershipCache = idmEngineConfiguration.getMembershipCache();
+
+        assertGroupIds(idmIdentityService.createGroupQuery().groupMember("kermit").groupType("security-role").list(), "admins");
+        assertGroupIds(idmIdentityService.createGroupQuery().groupMember("kermit").orderByGroupId().desc().list(), "muppets", "admins");
+        assertEquals(1, idmIdentityService.createGroupQuery().groupMember("kermit").listPage(0, 1).size());
+        assertEquals(0, membershipCache.size());
+
+        assertGroupIds(findGroupsOfKermit(), "admins", "muppets");
+        assertEquals(1, membershipCache.size());
+    }
+
+    public void testCachedMembershipsExpire() {
+        assertGroupIds(findGroupsOfKermit(), "muppets");
+
+        // Bypass the entity manager, so the cache isn't invalidated
+        idmEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                MembershipDataManager membershipDataManager = idmEngineConfiguration.getMembershipDataManager();
+                MembershipEntity membership = membershipDataManager.create();
+                membership.setUserId("kermit");
+                membership.setGroupId("frogs");
+                membershipDataManager.insert(membership);
+                return null;
+            }
+        });
+        assertGroupIds(findGroupsOfKermit(), "muppets");
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + idmEngineConfiguration.getMembershipCacheTimeToLive() + 1000L));
+        assertGroupIds(findGroupsOfKermit(), "frogs", "muppets");
+
+        idmIdentityService.deleteMembership("kermit", "frogs");
+    }
+
+    public void testChangesOfOtherEngineAreDetected() {
+        assertGroupIds(findGroupsOfKermit(), "muppets");
+
+        IdmEngineConfiguration otherEngineConfiguration = IdmEngineConfiguration.createIdmEngineConfigurationFromResource("membershipcache/flowable.idm.cfg.xml");
+        otherEngineConfiguration.setEngineName("membershipCacheOtherNode");
+        otherEngineConfiguration.setDatabaseSchemaUpdate(IdmEngineConfiguration.DB_SCHEMA_UPDATE_FALSE);
+        IdmEngine otherEngine = otherEngineConfiguration.buildIdmEngine();
+        try {
+            otherEngine.getIdmIdentityService().createMembership("kermit", "frogs");
+            assertGroupIds(findGroupsOfKermit(), "frogs", "muppets");
+
+            otherEngine.getIdmIdentityService().deleteMembership("kermit", "frogs");
+            assertGroupIds(findGroupsOfKermit(), "muppets");
+
+        } finally {
+            otherEngine.close();
+        }
+    }
+
+    protected List<Group> findGroupsOfKermit() {
+        return idmIdentityService.createGroupQuery().groupMember("kermit").list();
+    }
+
+    protected void assertGroupIds(List<Group> groups, String... expectedGroupIds) {
+        assertEquals(expectedGroupIds.length, groups.size());
+        for (int i = 0; i < expectedGroupIds.length; i++) {
+            assertEquals(expectedGroupIds[i], groups.get(i).getId());
+        }
+    }
+
+    protected User createUser(String id) {
+        User user = idmIdentityService.newUser(id);
+        idmIdentityService.saveUser(user);
+        return user;
+    }
+
+    protected Group createGroup(String id, String name, String type) {
+        Group group = idmIdentityService.newGroup(id);
+        group.setName(name);
+        group.setType(type);
+        idmIdentityService.saveGroup(group);
+        return group;
+    }
+
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.flowable.bpmn.model.BpmnModel;
+
+/**
+ * {@link DefaultProcessDiagramGenerator} that renders the diagram of a {@link BpmnModel} only once per image type, scale factor, fonts and class loader. Highlighted activities and flows are
+ * drawn on top of a copy of the cached diagram (or after the cached svg elements for svg diagrams), and a diagram without highlights is returned from the cached encoded image.
+ *
+ * The cache holds the models weakly, so diagrams are removed together with the models (eg. when the process definition is evicted from the process definition cache). The models must not be
+ * changed after a diagram has been generated for them.
+ */
+public class CachingProcessDiagramGenerator extends DefaultProcessDiagramGenerator {
+
+    protected final Map<BpmnModel, Map<String, CachedDiagram>> diagramCache = new WeakHashMap<BpmnModel, Map<String, CachedDiagram>>();
+
+    public CachingProcessDiagramGenerator() {
+        super();
+    }
+
+    public CachingProcessDiagramGenerator(double scaleFactor) {
+        super(scaleFactor);
+    }
+
+    @Override
+    public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        if (highLightedActivities.isEmpty() && highLightedFlows.isEmpty()) {
+            CachedDiagram cachedDiagram = getCachedDiagram(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+            return new ByteArrayInputStream(cachedDiagram.getEncodedImage());
+        }
+
+        return super.generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+    }
+
+    @Override
+    protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        CachedDiagram cachedDiagram = getCachedDiagram(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        DefaultProcessDiagramCanvas processDiagramCanvas = cachedDiagram.createCanvas();
+        synchronized (cachedDiagram.getModelLock()) {
+            drawHighLights(processDiagramCanvas, bpmnModel, highLightedActivities, highLightedFlows, scaleFactor);
+        }
+        return processDiagramCanvas;
+    }
+
+    protected CachedDiagram getCachedDiagram(BpmnModel bpmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        String cacheKey = imageType.toLowerCase() + '|' + scaleFactor + '|' + activityFontName + '|' + labelFontName + '|' + annotationFontName
+                + '|' + (customClassLoader != null ? System.identityHashCode(customClassLoader) : 0);
+
+        Map<String, CachedDiagram> modelDiagrams = null;
+        synchronized (diagramCache) {
+            modelDiagrams = diagramCache.get(bpmnModel);
+            if (modelDiagrams == null) {
+                modelDiagrams = new HashMap<String, CachedDiagram>();
+                diagramCache.put(bpmnModel, modelDiagrams);
+            }
+        }
+
+        // Rendering is done while holding the lock of the model, as drawing also updates the graphic info of the model
+        synchronized (modelDiagrams) {
+            CachedDiagram cachedDiagram = modelDiagrams.get(cacheKey);
+            if (cachedDiagram == null) {
+                DefaultProcessDiagramCanvas processDiagramCanvas = super.generateProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(), Collections.<String>emptyList(),
+                        activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+                cachedDiagram = new CachedDiagram(processDiagramCanvas, imageType, modelDiagrams);
+                modelDiagrams.put(cacheKey, cachedDiagram);
+            }
+            return cachedDiagram;
+        }
+    }
+
+    public void clearCache() {
+        synchronized (diagramCache) {
+            diagramCache.clear();
+        }
+    }
+
+    public int getCachedModelCount() {
+        synchronized (diagramCache) {
+            return diagramCache.size();
+        }
+    }
+
+    protected static class CachedDiagram {
+
+        protected final BufferedImage image;
+        protected final String svgContent;
+        protected final int width;
+        protected final int height;
+        protected final int minX;
+        protected final int minY;
+        protected final byte[] encodedImage;
+        protected final Object modelLock;
+
+        public CachedDiagram(DefaultProcessDiagramCanvas processDiagramCanvas, String imageType, Object modelLock) {
+            this.modelLock = modelLock;
+            this.image = processDiagramCanvas.getProcessDiagram();
+            this.svgContent = processDiagramCanvas.getSvgContent();
+            this.width = processDiagramCanvas.getCanvasWidth();
+            this.height = processDiagramCanvas.getCanvasHeight();
+            this.minX = processDiagramCanvas.getMinX();
+            this.minY = processDiagramCanvas.getMinY();
+            this.encodedImage = toByteArray(processDiagramCanvas.generateImage(imageType));
+            processDiagramCanvas.close();
+        }
+
+        public DefaultProcessDiagramCanvas createCanvas() {
+            if (svgContent != null) {
+                return new DefaultProcessDiagramCanvas(svgContent, width, height, minX, minY);
+            }
+            return new DefaultProcessDiagramCanvas(image, minX, minY);
+        }
+
+        public byte[] getEncodedImage() {
+            return encodedImage;
+        }
+
+        public Object getModelLock() {
+            return modelLock;
+        }
+
+    }
+
+}
@@ -41,6 +41,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.util.ArrayList;
@@ -193,7 +194,46 @@ public class DefaultProcessDiagramCanvas {
         initialize(imageType);
     }
 
+    /**
+     * Creates a canvas containing a copy of the given image, typically a previously rendered diagram without highlights (see {@link #getProcessDiagram()}). Only the graphics needed to draw
+     * highlights on top of the image are initialized, the icon images are not loaded.
+     */
+    public DefaultProcessDiagramCanvas(BufferedImage baseImage, int minX, int minY) {
+        this.canvasWidth = baseImage.getWidth();
+        this.canvasHeight = baseImage.getHeight();
+        this.minX = minX;
+        this.minY = minY;
+
+        this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, baseImage.getType());
+        this.g = processDiagram.createGraphics();
+        g.drawImage(baseImage, 0, 0, null);
+        initializeGraphics();
+    }
+
+    /**
+     * Creates an svg canvas containing the given svg elements, typically a previously drawn diagram without highlights (see {@link #getSvgContent()}). Only the graphics needed to draw
+     * highlights on top of the diagram are initialized, the icon images are not loaded.
+     */
+    public DefaultProcessDiagramCanvas(String baseSvgContent, int width, int height, int minX, int minY) {
+        this.canvasWidth = width;
+        this.canvasHeight = height;
+        this.minX = minX;
+        this.minY = minY;
+
+        SvgGraphics2D svgGraphics = new SvgGraphics2D(canvasWidth, canvasHeight);
+        svgGraphics.appendContent(baseSvgContent);
+        this.g = svgGraphics;
+        initializeGraphics();
+    }
+
     public void initialize(String imageType) {
+        if (DefaultProcessDiagramGenerator.SVG_IMAGE_TYPE.equalsIgnoreCase(imageType)) {
+            this.g = new SvgGraphics2D(canvasWidth, canvasHeight);
+            initializeGraphics();
+            initializeIcons();
+            return;
+        }
+
         if ("png".equalsIgnoreCase(imageType)) {
             this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
         } else {
@@ -206,6 +246,11 @@ public class DefaultProcessDiagramCanvas {
             this.g.clearRect(0, 0, canvasWidth, canvasHeight);
         }
 
+        initializeGraphics();
+        initializeIcons();
+    }
+
+    protected void initializeGraphics() {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setPaint(Color.black);
 
@@ -215,7 +260,9 @@ public class DefaultProcessDiagramCanvas {
 
         LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
         ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
+    }
 
+    protected void initializeIcons() {
         try {
             USERTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/userTask.png", customClassLoader));
             SCRIPTTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/scriptTask.png", customClassLoader));
@@ -252,6 +299,14 @@ public class DefaultProcessDiagramCanvas {
             throw new FlowableImageException("ProcessDiagramGenerator already closed");
         }
 
+        if (isSvg()) {
+            try {
+                return new ByteArrayInputStream(((SvgGraphics2D) g).getSvgDocument().getBytes("UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new FlowableImageException("Error while generating svg diagram", e);
+            }
+        }
+
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
             ImageIO.write(processDiagram, imageType, out);
@@ -279,6 +334,9 @@ public class DefaultProcessDiagramCanvas {
         if (closed) {
             throw new FlowableImageException("ProcessDiagramGenerator already closed");
         }
+        if (isSvg()) {
+            throw new FlowableImageException("An svg diagram can't be generated as an image");
+        }
 
         // Try to remove white space
         minX = (minX <= 5) ? 5 : minX;
@@ -298,6 +356,43 @@ public class DefaultProcessDiagramCanvas {
         closed = true;
     }
 
+    /**
+     * @return the image the canvas draws on, or null for an svg canvas. Changes made to the returned image are visible in the images generated afterwards.
+     */
+    public BufferedImage getProcessDiagram() {
+        return processDiagram;
+    }
+
+    /**
+     * @return whether the canvas draws svg elements instead of drawing on an image.
+     */
+    public boolean isSvg() {
+        return g instanceof SvgGraphics2D;
+    }
+
+    /**
+     * @return the svg elements drawn on an svg canvas so far, or null when the canvas draws on an image.
+     */
+    public String getSvgContent() {
+        return isSvg() ? ((SvgGraphics2D) g).getContent() : null;
+    }
+
+    public int getCanvasWidth() {
+        return canvasWidth;
+    }
+
+    public int getCanvasHeight() {
+        return canvasHeight;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
     public void drawNoneStartEvent(GraphicInfo graphicInfo) {
         drawStartEvent(graphicInfo, null, 1.0);
     }
@@ -14,6 +14,8 @@
 package org.flowable.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -67,6 +69,7 @@ import org.flowable.bpmn.model.ThrowEvent;
 import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * Class to generate an image based the diagram interchange information in a BPMN 2.0 process.
@@ -76,6 +79,11 @@ import org.flowable.image.ProcessDiagramGenerator;
  */
 public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
+    /**
+     * Image type producing an svg document. The diagram is drawn as svg elements (see {@link SvgGraphics2D}) instead of being rendered to an image, only the icons are embedded as images.
+     */
+    public static final String SVG_IMAGE_TYPE = "svg";
+
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<Class<? extends BaseElement>, ActivityDrawInstruction>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<Class<? extends BaseElement>, ArtifactDrawInstruction>();
 
@@ -647,44 +655,7 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         // Outgoing transitions of activity
         for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
             boolean highLighted = (highLightedFlows.contains(sequenceFlow.getId()));
-            String defaultFlow = null;
-            if (flowNode instanceof Activity) {
-                defaultFlow = ((Activity) flowNode).getDefaultFlow();
-            } else if (flowNode instanceof Gateway) {
-                defaultFlow = ((Gateway) flowNode).getDefaultFlow();
-            }
-
-            boolean isDefault = false;
-            if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
-                isDefault = true;
-            }
-            boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && !(flowNode instanceof Gateway);
-
-            String sourceRef = sequenceFlow.getSourceRef();
-            String targetRef = sequenceFlow.getTargetRef();
-            FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
-            FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
-            List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
-            if (graphicInfoList != null && graphicInfoList.size() > 0) {
-                graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
-                int xPoints[] = new int[graphicInfoList.size()];
-                int yPoints[] = new int[graphicInfoList.size()];
-
-                for (int i = 1; i < graphicInfoList.size(); i++) {
-                    GraphicInfo graphicInfo = graphicInfoList.get(i);
-                    GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
-
-                    if (i == 1) {
-                        xPoints[0] = (int) previousGraphicInfo.getX();
-                        yPoints[0] = (int) previousGraphicInfo.getY();
-                    }
-                    xPoints[i] = (int) graphicInfo.getX();
-                    yPoints[i] = (int) graphicInfo.getY();
-
-                }
-
-                processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
-
+            if (drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, highLighted, scaleFactor)) {
                 // Draw sequenceflow label
                 GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
                 if (labelGraphicInfo != null) {
@@ -704,6 +675,103 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         }
     }
 
+    /**
+     * Draws an outgoing sequence flow of the given flow node.
+     * 
+     * @return false if the sequence flow has no diagram interchange information and therefore isn't drawn
+     */
+    protected boolean drawSequenceFlow(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode, SequenceFlow sequenceFlow,
+            boolean highLighted, double scaleFactor) {
+
+        String defaultFlow = null;
+        if (flowNode instanceof Activity) {
+            defaultFlow = ((Activity) flowNode).getDefaultFlow();
+        } else if (flowNode instanceof Gateway) {
+            defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+        }
+
+        boolean isDefault = false;
+        if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
+            isDefault = true;
+        }
+        boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && !(flowNode instanceof Gateway);
+
+        List<GraphicInfo> graphicInfoList = getSequenceFlowGraphicInfo(processDiagramCanvas, bpmnModel, sequenceFlow);
+        if (graphicInfoList == null) {
+            return false;
+        }
+
+        int xPoints[] = new int[graphicInfoList.size()];
+        int yPoints[] = new int[graphicInfoList.size()];
+        for (int i = 0; i < graphicInfoList.size(); i++) {
+            xPoints[i] = (int) graphicInfoList.get(i).getX();
+            yPoints[i] = (int) graphicInfoList.get(i).getY();
+        }
+
+        processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+        return true;
+    }
+
+    /**
+     * @return the waypoints of the sequence flow, starting and ending at the border of its source and target element, or null if the sequence flow has no waypoints.
+     */
+    protected List<GraphicInfo> getSequenceFlowGraphicInfo(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, SequenceFlow sequenceFlow) {
+        List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+        if (graphicInfoList == null || graphicInfoList.isEmpty()) {
+            return null;
+        }
+
+        FlowElement sourceElement = bpmnModel.getFlowElement(sequenceFlow.getSourceRef());
+        FlowElement targetElement = bpmnModel.getFlowElement(sequenceFlow.getTargetRef());
+        return connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
+    }
+
+    /**
+     * Draws the highlights of the given activities and sequence flows on top of an already drawn diagram.
+     */
+    protected void drawHighLights(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            List<String> highLightedActivities, List<String> highLightedFlows, double scaleFactor) {
+
+        for (String activityId : highLightedActivities) {
+            FlowElement flowElement = bpmnModel.getFlowElement(activityId);
+            if (isHighLightedActivityDrawn(flowElement, bpmnModel)) {
+                drawHighLight(processDiagramCanvas, bpmnModel.getGraphicInfo(activityId));
+            }
+        }
+
+        for (String flowId : highLightedFlows) {
+            FlowElement flowElement = bpmnModel.getFlowElement(flowId);
+            if (flowElement instanceof SequenceFlow) {
+                SequenceFlow sequenceFlow = (SequenceFlow) flowElement;
+                FlowElement sourceElement = bpmnModel.getFlowElement(sequenceFlow.getSourceRef());
+                if (sourceElement instanceof FlowNode && !isPartOfCollapsedSubProcess(sourceElement, bpmnModel)) {
+                    drawSequenceFlow(processDiagramCanvas, bpmnModel, (FlowNode) sourceElement, sequenceFlow, true, scaleFactor);
+                }
+            }
+        }
+    }
+
+    protected boolean isHighLightedActivityDrawn(FlowElement flowElement, BpmnModel bpmnModel) {
+        return flowElement instanceof FlowNode
+                && activityDrawInstructions.containsKey(flowElement.getClass())
+                && !isPartOfCollapsedSubProcess(flowElement, bpmnModel)
+                && bpmnModel.getGraphicInfo(flowElement.getId()) != null;
+    }
+
+    protected static byte[] toByteArray(InputStream inputStream) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while reading process image", e);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * This method makes coordinates of connection flow better.
      * 
@@ -0,0 +1,816 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.text.AttributedCharacterIterator;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.flowable.image.exception.FlowableImageException;
+
+/**
+ * {@link Graphics2D} writing everything that is drawn as svg elements instead of rasterizing it: shapes become paths, strings become text elements and glyph vectors (as drawn by
+ * {@link TextLayout}) become the paths of their outlines, so the text looks the same as in the png diagrams regardless of the fonts available to the viewer.
+ *
+ * The graphics state (transform, paint, stroke, font, rendering hints, ...) and the font metrics are those of a graphics of a small image, so text is measured and wrapped exactly like when
+ * drawing on an image. Images, like the icons of tasks and events, are embedded as png images, which are encoded only once per distinct image. Clipping and xor mode are not supported.
+ */
+public class SvgGraphics2D extends Graphics2D {
+
+    protected static final char[] BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    protected static final int ENCODED_IMAGE_CACHE_LIMIT = 100;
+
+    /**
+     * Base64 encoded png images, per image content. The icons are read again for every diagram, so the image instances can't be used as key.
+     */
+    protected static final Map<ImageKey, String> ENCODED_IMAGE_CACHE = new LinkedHashMap<ImageKey, String>(32, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ImageKey, String> eldest) {
+            return size() > ENCODED_IMAGE_CACHE_LIMIT;
+        }
+    };
+
+    protected final int width;
+    protected final int height;
+    protected final StringBuilder content;
+    protected final Graphics2D graphics;
+
+    public SvgGraphics2D(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.content = new StringBuilder(16384);
+        this.graphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    }
+
+    protected SvgGraphics2D(SvgGraphics2D parent) {
+        this.width = parent.width;
+        this.height = parent.height;
+        this.content = parent.content;
+        this.graphics = (Graphics2D) parent.graphics.create();
+    }
+
+    /**
+     * Adds svg elements, typically the content of a previously drawn diagram (see {@link #getContent()}), to the elements drawn so far.
+     */
+    public void appendContent(String svgContent) {
+        content.append(svgContent);
+    }
+
+    /**
+     * @return the svg elements drawn so far.
+     */
+    public String getContent() {
+        return content.toString();
+    }
+
+    /**
+     * @return a complete svg document containing the elements drawn so far.
+     */
+    public String getSvgDocument() {
+        StringBuilder document = new StringBuilder(content.length() + 256);
+        document.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" version=\"1.1\"")
+                .append(" width=\"").append(width).append("\" height=\"").append(height).append("\"")
+                .append(" viewBox=\"0 0 ").append(width).append(' ').append(height).append("\">\n");
+        document.append(content);
+        document.append("</svg>");
+        return document.toString();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Drawing ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void draw(Shape shape) {
+        Stroke stroke = graphics.getStroke();
+        if (!(stroke instanceof BasicStroke)) {
+            fill(stroke.createStrokedShape(shape));
+            return;
+        }
+
+        content.append("<path d=\"");
+        appendPathData(shape);
+        content.append("\" fill=\"none\"");
+        appendStroke((BasicStroke) stroke);
+        appendTransform();
+        content.append("/>\n");
+    }
+
+    @Override
+    public void fill(Shape shape) {
+        content.append("<path d=\"");
+        PathIterator pathIterator = appendPathData(shape);
+        content.append('"');
+        appendColor("fill", graphics.getPaint());
+        if (pathIterator.getWindingRule() == PathIterator.WIND_EVEN_ODD) {
+            content.append(" fill-rule=\"evenodd\"");
+        }
+        appendTransform();
+        content.append("/>\n");
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        drawString(str, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        if (str == null || str.length() == 0) {
+            return;
+        }
+
+        Font font = graphics.getFont();
+        content.append("<text x=\"").append(formatNumber(x)).append("\" y=\"").append(formatNumber(y)).append('"')
+                .append(" font-family=\"").append(escapeXml(font.getFamily())).append("\" font-size=\"").append(formatNumber(font.getSize2D())).append('"');
+        if (font.isBold()) {
+            content.append(" font-weight=\"bold\"");
+        }
+        if (font.isItalic()) {
+            content.append(" font-style=\"italic\"");
+        }
+        appendColor("fill", graphics.getPaint());
+        appendTransform();
+        content.append(" xml:space=\"preserve\">").append(escapeXml(str)).append("</text>\n");
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        drawString(iterator, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        if (iterator.getEndIndex() > iterator.getBeginIndex()) {
+            new TextLayout(iterator, getFontRenderContext()).draw(this, x, y);
+        }
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphVector, float x, float y) {
+        fill(glyphVector.getOutline(x, y));
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null) {
+            AffineTransform originalTransform = graphics.getTransform();
+            if (xform != null) {
+                graphics.transform(xform);
+            }
+            appendImage(image, 0, 0, image.getWidth(), image.getHeight());
+            graphics.setTransform(originalTransform);
+        }
+        return true;
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        BufferedImage image = op != null ? op.filter(img, null) : img;
+        appendImage(image, x, y, image.getWidth(), image.getHeight());
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        BufferedImage image = null;
+        if (img instanceof BufferedImage) {
+            image = (BufferedImage) img;
+        } else {
+            image = new BufferedImage(img.getColorModel(), img.copyData(null), img.getColorModel().isAlphaPremultiplied(), null);
+        }
+        drawImage(image, xform, null);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        drawRenderedImage(img.createDefaultRendering(), xform);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null) {
+            appendImage(image, x, y, image.getWidth(), image.getHeight());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null) {
+            appendImage(image, x, y, width, height);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null) {
+            fillBackground(bgcolor, x, y, image.getWidth(), image.getHeight());
+            appendImage(image, x, y, image.getWidth(), image.getHeight());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null) {
+            fillBackground(bgcolor, x, y, width, height);
+            appendImage(image, x, y, width, height);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+        return drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img);
+        if (image != null && sx2 > sx1 && sy2 > sy1) {
+            BufferedImage subImage = image.getSubimage(sx1, sy1, sx2 - sx1, sy2 - sy1);
+            fillBackground(bgcolor, Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1));
+            appendImage(subImage, Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1));
+        }
+        return true;
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        draw(new Line2D.Float(x1, y1, x2, y2));
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        fill(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        fillBackground(getBackground(), x, y, width, height);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        draw(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        fill(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        draw(new Ellipse2D.Float(x, y, width, height));
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        fill(new Ellipse2D.Float(x, y, width, height));
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        draw(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        fill(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints > 0) {
+            Path2D.Float path = new Path2D.Float();
+            path.moveTo(xPoints[0], yPoints[0]);
+            for (int i = 1; i < nPoints; i++) {
+                path.lineTo(xPoints[i], yPoints[i]);
+            }
+            draw(path);
+        }
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        draw(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        fill(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        throw new UnsupportedOperationException("Copying an area is not supported when drawing svg");
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        return graphics.hit(rect, s, onStroke);
+    }
+
+    // Graphics state /////////////////////////////////////////////////////////
+
+    @Override
+    public Graphics create() {
+        return new SvgGraphics2D(this);
+    }
+
+    @Override
+    public void dispose() {
+        graphics.dispose();
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return graphics.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        graphics.setComposite(comp);
+    }
+
+    @Override
+    public Composite getComposite() {
+        return graphics.getComposite();
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        graphics.setPaint(paint);
+    }
+
+    @Override
+    public Paint getPaint() {
+        return graphics.getPaint();
+    }
+
+    @Override
+    public Color getColor() {
+        return graphics.getColor();
+    }
+
+    @Override
+    public void setColor(Color c) {
+        graphics.setColor(c);
+    }
+
+    @Override
+    public void setPaintMode() {
+        graphics.setPaintMode();
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+        throw new UnsupportedOperationException("Xor mode is not supported when drawing svg");
+    }
+
+    @Override
+    public void setBackground(Color color) {
+        graphics.setBackground(color);
+    }
+
+    @Override
+    public Color getBackground() {
+        return graphics.getBackground();
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        graphics.setStroke(s);
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return graphics.getStroke();
+    }
+
+    @Override
+    public Font getFont() {
+        return graphics.getFont();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        graphics.setFont(font);
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return graphics.getFontMetrics(f);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return graphics.getFontRenderContext();
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+        graphics.setRenderingHint(hintKey, hintValue);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return graphics.getRenderingHint(hintKey);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        graphics.setRenderingHints(hints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        graphics.addRenderingHints(hints);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return graphics.getRenderingHints();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        graphics.translate(x, y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        graphics.translate(tx, ty);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        graphics.rotate(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        graphics.rotate(theta, x, y);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        graphics.scale(sx, sy);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        graphics.shear(shx, shy);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        graphics.transform(tx);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        graphics.setTransform(tx);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return graphics.getTransform();
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return graphics.getClipBounds();
+    }
+
+    @Override
+    public Shape getClip() {
+        return graphics.getClip();
+    }
+
+    @Override
+    public void clip(Shape s) {
+        graphics.clip(s);
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        graphics.clipRect(x, y, width, height);
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        graphics.setClip(x, y, width, height);
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        graphics.setClip(clip);
+    }
+
+    // Svg output /////////////////////////////////////////////////////////////
+
+    protected PathIterator appendPathData(Shape shape) {
+        PathIterator pathIterator = shape.getPathIterator(null);
+        double[] coords = new double[6];
+        boolean first = true;
+        while (!pathIterator.isDone()) {
+            if (!first) {
+                content.append(' ');
+            }
+            first = false;
+
+            switch (pathIterator.currentSegment(coords)) {
+            case PathIterator.SEG_MOVETO:
+                content.append('M');
+                appendCoordinates(coords, 1);
+                break;
+            case PathIterator.SEG_LINETO:
+                content.append('L');
+                appendCoordinates(coords, 1);
+                break;
+            case PathIterator.SEG_QUADTO:
+                content.append('Q');
+                appendCoordinates(coords, 2);
+                break;
+            case PathIterator.SEG_CUBICTO:
+                content.append('C');
+                appendCoordinates(coords, 3);
+                break;
+            case PathIterator.SEG_CLOSE:
+                content.append('Z');
+                break;
+            }
+            pathIterator.next();
+        }
+        return pathIterator;
+    }
+
+    protected void appendCoordinates(double[] coords, int points) {
+        for (int i = 0; i < points; i++) {
+            if (i > 0) {
+                content.append(' ');
+            }
+            content.append(formatNumber(coords[i * 2])).append(',').append(formatNumber(coords[i * 2 + 1]));
+        }
+    }
+
+    protected void appendStroke(BasicStroke stroke) {
+        appendColor("stroke", graphics.getPaint());
+        content.append(" stroke-width=\"").append(formatNumber(stroke.getLineWidth())).append('"');
+
+        if (stroke.getEndCap() == BasicStroke.CAP_BUTT) {
+            content.append(" stroke-linecap=\"butt\"");
+        } else if (stroke.getEndCap() == BasicStroke.CAP_ROUND) {
+            content.append(" stroke-linecap=\"round\"");
+        } else {
+            content.append(" stroke-linecap=\"square\"");
+        }
+
+        if (stroke.getLineJoin() == BasicStroke.JOIN_ROUND) {
+            content.append(" stroke-linejoin=\"round\"");
+        } else if (stroke.getLineJoin() == BasicStroke.JOIN_BEVEL) {
+            content.append(" stroke-linejoin=\"bevel\"");
+        } else {
+            content.append(" stroke-miterlimit=\"").append(formatNumber(Math.max(1.0f, stroke.getMiterLimit()))).append('"');
+        }
+
+        float[] dashArray = stroke.getDashArray();
+        if (dashArray != null && dashArray.length > 0) {
+            content.append(" stroke-dasharray=\"");
+            for (int i = 0; i < dashArray.length; i++) {
+                if (i > 0) {
+                    content.append(',');
+                }
+                content.append(formatNumber(dashArray[i]));
+            }
+            content.append('"');
+            if (stroke.getDashPhase() != 0.0f) {
+                content.append(" stroke-dashoffset=\"").append(formatNumber(stroke.getDashPhase())).append('"');
+            }
+        }
+    }
+
+    protected void appendColor(String attribute, Paint paint) {
+        Color color = paint instanceof Color ? (Color) paint : Color.black;
+        content.append(' ').append(attribute).append("=\"").append(String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue())).append('"');
+        if (color.getAlpha() < 255) {
+            content.append(' ').append(attribute).append("-opacity=\"").append(formatNumber(color.getAlpha() / 255.0)).append('"');
+        }
+    }
+
+    protected void appendTransform() {
+        AffineTransform transform = graphics.getTransform();
+        if (!transform.isIdentity()) {
+            content.append(" transform=\"matrix(")
+                    .append(formatNumber(transform.getScaleX())).append(' ')
+                    .append(formatNumber(transform.getShearY())).append(' ')
+                    .append(formatNumber(transform.getShearX())).append(' ')
+                    .append(formatNumber(transform.getScaleY())).append(' ')
+                    .append(formatNumber(transform.getTranslateX())).append(' ')
+                    .append(formatNumber(transform.getTranslateY())).append(")\"");
+        }
+    }
+
+    protected void appendImage(BufferedImage image, int x, int y, int width, int height) {
+        content.append("<image x=\"").append(x).append("\" y=\"").append(y).append("\" width=\"").append(width).append("\" height=\"").append(height).append('"');
+        appendTransform();
+        content.append(" xlink:href=\"data:image/png;base64,").append(getEncodedImage(image)).append("\"/>\n");
+    }
+
+    protected void fillBackground(Color color, int x, int y, int width, int height) {
+        if (color != null) {
+            Paint originalPaint = graphics.getPaint();
+            graphics.setPaint(color);
+            fill(new Rectangle2D.Float(x, y, width, height));
+            graphics.setPaint(originalPaint);
+        }
+    }
+
+    protected BufferedImage toBufferedImage(Image img) {
+        if (img == null) {
+            return null;
+        }
+        if (img instanceof BufferedImage) {
+            return (BufferedImage) img;
+        }
+
+        int imageWidth = img.getWidth(null);
+        int imageHeight = img.getHeight(null);
+        if (imageWidth <= 0 || imageHeight <= 0) {
+            return null;
+        }
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D imageGraphics = image.createGraphics();
+        imageGraphics.drawImage(img, 0, 0, null);
+        imageGraphics.dispose();
+        return image;
+    }
+
+    protected static String getEncodedImage(BufferedImage image) {
+        ImageKey imageKey = new ImageKey(image);
+        synchronized (ENCODED_IMAGE_CACHE) {
+            String encodedImage = ENCODED_IMAGE_CACHE.get(imageKey);
+            if (encodedImage != null) {
+                return encodedImage;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while encoding image", e);
+        }
+        String encodedImage = encodeBase64(out.toByteArray());
+
+        synchronized (ENCODED_IMAGE_CACHE) {
+            ENCODED_IMAGE_CACHE.put(imageKey, encodedImage);
+        }
+        return encodedImage;
+    }
+
+    protected static String encodeBase64(byte[] bytes) {
+        StringBuilder encoded = new StringBuilder((bytes.length + 2) / 3 * 4);
+        for (int i = 0; i < bytes.length; i += 3) {
+            int remaining = bytes.length - i;
+            int block = (bytes[i] & 0xff) << 16;
+            if (remaining > 1) {
+                block |= (bytes[i + 1] & 0xff) << 8;
+            }
+            if (remaining > 2) {
+                block |= bytes[i + 2] & 0xff;
+            }
+            encoded.append(BASE64_ALPHABET[(block >> 18) & 0x3f]);
+            encoded.append(BASE64_ALPHABET[(block >> 12) & 0x3f]);
+            encoded.append(remaining > 1 ? BASE64_ALPHABET[(block >> 6) & 0x3f] : '=');
+            encoded.append(remaining > 2 ? BASE64_ALPHABET[block & 0x3f] : '=');
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Formats a coordinate or size with at most two decimals, which is more than precise enough for a diagram and keeps the documents small.
+     */
+    protected static String formatNumber(double value) {
+        long hundredths = Math.round(value * 100.0);
+        StringBuilder formatted = new StringBuilder();
+        if (hundredths < 0) {
+            formatted.append('-');
+            hundredths = -hundredths;
+        }
+        formatted.append(hundredths / 100);
+        long fraction = hundredths % 100;
+        if (fraction != 0) {
+            formatted.append('.');
+            if (fraction < 10) {
+                formatted.append('0').append(fraction);
+            } else if (fraction % 10 == 0) {
+                formatted.append(fraction / 10);
+            } else {
+                formatted.append(fraction);
+            }
+        }
+        return formatted.toString();
+    }
+
+    protected static String escapeXml(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    protected static class ImageKey {
+
+        protected final int width;
+        protected final int height;
+        protected final int[] pixels;
+        protected final int hashCode;
+
+        public ImageKey(BufferedImage image) {
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.pixels = image.getRGB(0, 0, width, height, null, 0, width);
+            this.hashCode = 31 * (31 * width + height) + Arrays.hashCode(pixels);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey other = (ImageKey) obj;
+            return width == other.width && height == other.height && Arrays.equals(pixels, other.pixels);
+        }
+    }
+
+}
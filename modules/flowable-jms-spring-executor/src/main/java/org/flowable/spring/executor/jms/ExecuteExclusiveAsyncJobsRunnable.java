@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.executor.jms;
+
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.LockExclusiveJobCmd;
+import org.flowable.engine.impl.cmd.UnlockExclusiveJobCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes exclusive jobs of the same process instance that were received in one message. The process instance is locked once for all jobs, which are then executed one after the other,
+ * instead of every job competing for the same process instance lock.
+ */
+public class ExecuteExclusiveAsyncJobsRunnable implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecuteExclusiveAsyncJobsRunnable.class);
+
+    protected List<Job> jobs;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public ExecuteExclusiveAsyncJobsRunnable(List<Job> jobs, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.jobs = jobs;
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    public void run() {
+        Job firstJob = jobs.get(0);
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new LockExclusiveJobCmd(firstJob));
+
+        } catch (Throwable lockException) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Could not lock process instance {}. Unlocking {} jobs so they can be acquired again. Caught exception: {}",
+                        firstJob.getProcessInstanceId(), jobs.size(), lockException.getMessage());
+            }
+            unacquireJobs();
+            return;
+        }
+
+        try {
+            for (Job job : jobs) {
+                createExecuteAsyncRunnable(job).run();
+            }
+
+        } finally {
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd(firstJob));
+            } catch (Throwable t) {
+                logger.error("Error while unlocking process instance {}", firstJob.getProcessInstanceId(), t);
+            }
+        }
+    }
+
+    /**
+     * Creates the runnable for one job of the batch. The process instance is already locked, so the runnable doesn't lock or unlock it again.
+     */
+    protected Runnable createExecuteAsyncRunnable(Job job) {
+        return new ExecuteAsyncRunnable(job, processEngineConfiguration) {
+
+            @Override
+            protected boolean lockJobIfNeeded() {
+                return true;
+            }
+
+            @Override
+            protected void unlockJobIfNeeded() {
+                // the process instance is unlocked after all jobs have been executed
+            }
+        };
+    }
+
+    protected void unacquireJobs() {
+        // Unacquiring all jobs in the same command, so they are sent again in one message
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+            public Void execute(CommandContext commandContext) {
+                for (Job job : jobs) {
+                    commandContext.getJobManager().unacquire(job);
+                }
+                return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,176 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.executor.jms;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.runtime.Job;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Converts the jobs sent in one message to the text of a {@link javax.jms.TextMessage} and back.
+ *
+ * Without payload, the text is the comma separated list of job ids (a single job id for one job, like before batching was introduced). With payload, the text is a json array containing all
+ * persisted fields of the jobs, so the consumer doesn't need to fetch the job before locking, executing or unacquiring it.
+ */
+public class JobMessageConverter {
+
+    protected static final String JOB_ID_SEPARATOR = ",";
+
+    protected ObjectMapper objectMapper;
+
+    public JobMessageConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String toMessageText(List<? extends Job> jobs, boolean includePayload) {
+        if (!includePayload) {
+            List<String> jobIds = new ArrayList<String>(jobs.size());
+            for (Job job : jobs) {
+                jobIds.add(job.getId());
+            }
+            return StringUtils.join(jobIds, JOB_ID_SEPARATOR);
+        }
+
+        ArrayNode jobsNode = objectMapper.createArrayNode();
+        for (Job job : jobs) {
+            ObjectNode jobNode = jobsNode.addObject();
+            jobNode.put("id", job.getId());
+            jobNode.put("jobType", job.getJobType());
+            jobNode.put("duedate", getTime(job.getDuedate()));
+            jobNode.put("executionId", job.getExecutionId());
+            jobNode.put("processInstanceId", job.getProcessInstanceId());
+            jobNode.put("processDefinitionId", job.getProcessDefinitionId());
+            jobNode.put("exclusive", job.isExclusive());
+            jobNode.put("retries", job.getRetries());
+            jobNode.put("jobHandlerType", job.getJobHandlerType());
+            jobNode.put("jobHandlerConfiguration", job.getJobHandlerConfiguration());
+            jobNode.put("exceptionMessage", job.getExceptionMessage());
+            jobNode.put("tenantId", job.getTenantId());
+
+            if (job instanceof JobEntity) {
+                JobEntity jobEntity = (JobEntity) job;
+                jobNode.put("revision", jobEntity.getRevision());
+                jobNode.put("lockOwner", jobEntity.getLockOwner());
+                jobNode.put("lockExpirationTime", getTime(jobEntity.getLockExpirationTime()));
+                jobNode.put("maxIterations", jobEntity.getMaxIterations());
+                jobNode.put("repeat", jobEntity.getRepeat());
+                jobNode.put("endDate", getTime(jobEntity.getEndDate()));
+                if (jobEntity.getExceptionByteArrayRef() != null) {
+                    jobNode.put("exceptionByteArrayId", jobEntity.getExceptionByteArrayRef().getId());
+                }
+            }
+        }
+
+        try {
+            return objectMapper.writeValueAsString(jobsNode);
+        } catch (Exception e) {
+            throw new FlowableException("Could not serialize job payload", e);
+        }
+    }
+
+    public boolean hasPayload(String messageText) {
+        return messageText.startsWith("[");
+    }
+
+    public List<String> readJobIds(String messageText) {
+        List<String> jobIds = new ArrayList<String>();
+        for (String jobId : StringUtils.split(messageText, JOB_ID_SEPARATOR)) {
+            jobIds.add(jobId.trim());
+        }
+        return jobIds;
+    }
+
+    /**
+     * Reads the jobs of a message with payload. The returned jobs are detached copies of the job entities that were sent.
+     */
+    public List<Job> readJobs(String messageText) {
+        JsonNode jobsNode = null;
+        try {
+            jobsNode = objectMapper.readTree(messageText);
+        } catch (Exception e) {
+            throw new FlowableException("Could not read job payload", e);
+        }
+
+        List<Job> jobs = new ArrayList<Job>(jobsNode.size());
+        for (JsonNode jobNode : jobsNode) {
+            PayloadJobEntity job = new PayloadJobEntity();
+            job.setId(getText(jobNode, "id"));
+            job.setRevision(jobNode.path("revision").asInt(1));
+            job.setJobType(getText(jobNode, "jobType"));
+            job.setDuedate(getDate(jobNode, "duedate"));
+            job.setLockOwner(getText(jobNode, "lockOwner"));
+            job.setLockExpirationTime(getDate(jobNode, "lockExpirationTime"));
+            job.setExecutionId(getText(jobNode, "executionId"));
+            job.setProcessInstanceId(getText(jobNode, "processInstanceId"));
+            job.setProcessDefinitionId(getText(jobNode, "processDefinitionId"));
+            job.setExclusive(jobNode.path("exclusive").asBoolean());
+            job.setRetries(jobNode.path("retries").asInt());
+            job.setMaxIterations(jobNode.path("maxIterations").asInt());
+            job.setRepeat(getText(jobNode, "repeat"));
+            job.setEndDate(getDate(jobNode, "endDate"));
+            job.setJobHandlerType(getText(jobNode, "jobHandlerType"));
+            job.setJobHandlerConfiguration(getText(jobNode, "jobHandlerConfiguration"));
+            job.setExceptionMessage(getText(jobNode, "exceptionMessage"));
+            job.setExceptionByteArrayId(getText(jobNode, "exceptionByteArrayId"));
+            job.setTenantId(getText(jobNode, "tenantId"));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    protected String getText(JsonNode jobNode, String fieldName) {
+        JsonNode fieldNode = jobNode.get(fieldName);
+        if (fieldNode == null || fieldNode.isNull()) {
+            return null;
+        }
+        return fieldNode.asText();
+    }
+
+    protected Date getDate(JsonNode jobNode, String fieldName) {
+        JsonNode fieldNode = jobNode.get(fieldName);
+        if (fieldNode == null || fieldNode.isNull()) {
+            return null;
+        }
+        return new Date(fieldNode.asLong());
+    }
+
+    protected Long getTime(Date date) {
+        return date != null ? date.getTime() : null;
+    }
+
+    /**
+     * Job entity read from a message, which also restores the reference to the exception stacktrace of the job.
+     */
+    protected static class PayloadJobEntity extends JobEntityImpl {
+
+        private static final long serialVersionUID = 1L;
+
+        public void setExceptionByteArrayId(String exceptionByteArrayId) {
+            this.exceptionByteArrayRef = exceptionByteArrayId != null ? new ByteArrayRef(exceptionByteArrayId) : null;
+        }
+
+    }
+
+}
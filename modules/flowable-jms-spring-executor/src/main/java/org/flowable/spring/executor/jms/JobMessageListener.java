@@ -12,13 +12,27 @@
  */
 package org.flowable.spring.executor.jms;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.jms.Message;
 import javax.jms.TextMessage;
 
 import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.runtime.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 
 /**
  * @author Joram Barrez
@@ -29,21 +43,132 @@ public class JobMessageListener implements javax.jms.MessageListener {
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
 
+    /**
+     * Optional executor to which the jobs of a message are handed off. When not set, the jobs are executed one after the other in the listener thread.
+     */
+    protected TaskExecutor taskExecutor;
+
+    protected JobMessageConverter jobMessageConverter;
+
     public void onMessage(final Message message) {
         try {
             if (message instanceof TextMessage) {
                 TextMessage textMessage = (TextMessage) message;
-                String jobId = textMessage.getText();
-
-                ExecuteAsyncRunnable executeAsyncRunnable = new ExecuteAsyncRunnable(jobId, processEngineConfiguration);
-                executeAsyncRunnable.run();
-
+                for (Runnable runnable : createRunnables(textMessage.getText())) {
+                    executeRunnable(runnable);
+                }
             }
         } catch (Exception e) {
             logger.error("Exception when handling message from job queue", e);
         }
     }
 
+    protected List<Runnable> createRunnables(String messageText) {
+        JobMessageConverter converter = getJobMessageConverter();
+        if (converter.hasPayload(messageText)) {
+            return createRunnables(converter.readJobs(messageText), true);
+        }
+
+        List<String> jobIds = converter.readJobIds(messageText);
+        if (jobIds.size() == 1) {
+            return Collections.<Runnable> singletonList(new ExecuteAsyncRunnable(jobIds.get(0), processEngineConfiguration));
+        }
+        return createRunnables(findJobs(jobIds), false);
+    }
+
+    /**
+     * Exclusive jobs of the same process instance are grouped in one runnable, which locks the process instance only once. All other jobs get their own runnable.
+     */
+    protected List<Runnable> createRunnables(List<Job> jobs, boolean fromPayload) {
+        List<Runnable> runnables = new ArrayList<Runnable>(jobs.size());
+        Map<String, List<Job>> exclusiveJobsByProcessInstance = new LinkedHashMap<String, List<Job>>();
+        for (Job job : jobs) {
+            if (fromPayload && isFlowable5Job(job)) {
+                // The v5 engine needs the complete job entity
+                runnables.add(new ExecuteAsyncRunnable(job.getId(), processEngineConfiguration));
+
+            } else if (job.isExclusive() && job.getProcessInstanceId() != null) {
+                List<Job> exclusiveJobs = exclusiveJobsByProcessInstance.get(job.getProcessInstanceId());
+                if (exclusiveJobs == null) {
+                    exclusiveJobs = new ArrayList<Job>();
+                    exclusiveJobsByProcessInstance.put(job.getProcessInstanceId(), exclusiveJobs);
+                }
+                exclusiveJobs.add(job);
+
+            } else {
+                runnables.add(new ExecuteAsyncRunnable(job, processEngineConfiguration));
+            }
+        }
+
+        for (List<Job> exclusiveJobs : exclusiveJobsByProcessInstance.values()) {
+            if (exclusiveJobs.size() == 1) {
+                runnables.add(new ExecuteAsyncRunnable(exclusiveJobs.get(0), processEngineConfiguration));
+            } else {
+                runnables.add(new ExecuteExclusiveAsyncJobsRunnable(exclusiveJobs, processEngineConfiguration));
+            }
+        }
+        return runnables;
+    }
+
+    /**
+     * Fetches the jobs of a message without payload with one statement, keeping the order of the message. Jobs that don't exist anymore are skipped.
+     */
+    protected List<Job> findJobs(final List<String> jobIds) {
+        return processEngineConfiguration.getCommandExecutor().execute(new Command<List<Job>>() {
+            public List<Job> execute(CommandContext commandContext) {
+                Map<String, Job> jobsById = new HashMap<String, Job>();
+                for (JobEntity job : commandContext.getJobEntityManager().findJobsByIds(jobIds)) {
+                    jobsById.put(job.getId(), job);
+                }
+
+                List<Job> jobs = new ArrayList<Job>(jobsById.size());
+                for (String jobId : jobIds) {
+                    Job job = jobsById.get(jobId);
+                    if (job != null) {
+                        jobs.add(job);
+                    }
+                }
+                return jobs;
+            }
+        });
+    }
+
+    protected boolean isFlowable5Job(Job job) {
+        return processEngineConfiguration.isFlowable5CompatibilityEnabled()
+                && Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, job.getProcessDefinitionId());
+    }
+
+    protected void executeRunnable(Runnable runnable) {
+        if (taskExecutor != null) {
+            try {
+                taskExecutor.execute(runnable);
+                return;
+            } catch (TaskRejectedException e) {
+                logger.debug("Task executor rejected job runnable, executing it in the listener thread instead");
+            }
+        }
+        runnable.run();
+    }
+
+    public JobMessageConverter getJobMessageConverter() {
+        if (jobMessageConverter == null) {
+            jobMessageConverter = new JobMessageConverter(processEngineConfiguration.getObjectMapper());
+        }
+        return jobMessageConverter;
+    }
+
+    public void setJobMessageConverter(JobMessageConverter jobMessageConverter) {
+        this.jobMessageConverter = jobMessageConverter;
+    }
+
+    public TaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    public void setTaskExecutor(TaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
     public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return processEngineConfiguration;
     }
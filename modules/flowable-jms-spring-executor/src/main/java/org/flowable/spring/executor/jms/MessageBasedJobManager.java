@@ -12,7 +12,10 @@
  */
 package org.flowable.spring.executor.jms;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -34,8 +37,26 @@ import org.springframework.jms.core.MessageCreator;
  */
 public class MessageBasedJobManager extends DefaultJobManager {
 
+    protected static final String JOB_BATCH_ATTRIBUTE = "ctx.attribute.jmsJobBatch";
+
     protected JmsTemplate jmsTemplate;
 
+    /**
+     * When enabled, all jobs of one transaction are sent after the commit in messages containing up to {@link #maxJobsPerMessage} jobs, instead of sending one message per job.
+     * 
+     * The jobs of one message are handled by one listener, so this should be combined with a {@link JobMessageListener#setTaskExecutor(org.springframework.core.task.TaskExecutor) task
+     * executor} on the listener: without it, the jobs of a message are executed one after the other.
+     */
+    protected boolean batchMessages;
+    protected int maxJobsPerMessage = 100;
+
+    /**
+     * When enabled, the messages contain the job fields needed to execute the job (see {@link JobMessageConverter}), so the consumer doesn't need to fetch the job first.
+     */
+    protected boolean sendJobPayload;
+
+    protected JobMessageConverter jobMessageConverter;
+
     public MessageBasedJobManager() {
         super(null);
     }
@@ -63,18 +84,50 @@ public class MessageBasedJobManager extends DefaultJobManager {
         sendMessage(job);
     }
 
-    protected void sendMessage(final Job jobEntity) {
-        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
-            public void execute(CommandContext commandContext) {
-                jmsTemplate.send(new MessageCreator() {
-                    public Message createMessage(Session session) throws JMSException {
-                        return session.createTextMessage(jobEntity.getId());
+    protected void sendMessage(final Job job) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (!batchMessages || commandContext == null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+                public void execute(CommandContext commandContext) {
+                    sendJobsMessage(Collections.singletonList(job));
+                }
+            });
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Job> jobBatch = (List<Job>) commandContext.getAttribute(JOB_BATCH_ATTRIBUTE);
+        if (jobBatch == null) {
+            final List<Job> newJobBatch = new ArrayList<Job>();
+            commandContext.addAttribute(JOB_BATCH_ATTRIBUTE, newJobBatch);
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+                public void execute(CommandContext commandContext) {
+                    for (int i = 0; i < newJobBatch.size(); i += maxJobsPerMessage) {
+                        sendJobsMessage(newJobBatch.subList(i, Math.min(i + maxJobsPerMessage, newJobBatch.size())));
                     }
-                });
+                }
+            });
+            jobBatch = newJobBatch;
+        }
+        jobBatch.add(job);
+    }
+
+    protected void sendJobsMessage(List<Job> jobs) {
+        final String messageText = getJobMessageConverter().toMessageText(jobs, sendJobPayload);
+        jmsTemplate.send(new MessageCreator() {
+            public Message createMessage(Session session) throws JMSException {
+                return session.createTextMessage(messageText);
             }
         });
     }
 
+    public JobMessageConverter getJobMessageConverter() {
+        if (jobMessageConverter == null) {
+            jobMessageConverter = new JobMessageConverter(processEngineConfiguration.getObjectMapper());
+        }
+        return jobMessageConverter;
+    }
+
     public JmsTemplate getJmsTemplate() {
         return jmsTemplate;
     }
@@ -83,4 +136,32 @@ public class MessageBasedJobManager extends DefaultJobManager {
         this.jmsTemplate = jmsTemplate;
     }
 
+    public boolean isBatchMessages() {
+        return batchMessages;
+    }
+
+    public void setBatchMessages(boolean batchMessages) {
+        this.batchMessages = batchMessages;
+    }
+
+    public int getMaxJobsPerMessage() {
+        return maxJobsPerMessage;
+    }
+
+    public void setMaxJobsPerMessage(int maxJobsPerMessage) {
+        this.maxJobsPerMessage = maxJobsPerMessage;
+    }
+
+    public boolean isSendJobPayload() {
+        return sendJobPayload;
+    }
+
+    public void setSendJobPayload(boolean sendJobPayload) {
+        this.sendJobPayload = sendJobPayload;
+    }
+
+    public void setJobMessageConverter(JobMessageConverter jobMessageConverter) {
+        this.jobMessageConverter = jobMessageConverter;
+    }
+
 }
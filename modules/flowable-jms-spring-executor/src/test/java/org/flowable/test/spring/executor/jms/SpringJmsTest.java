@@ -13,7 +13,9 @@
 package org.flowable.test.spring.executor.jms;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
@@ -22,6 +24,12 @@ import javax.jms.ConnectionFactory;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.spring.executor.jms.JobMessageConverter;
+import org.flowable.spring.executor.jms.MessageBasedJobManager;
 import org.flowable.spring.impl.test.CleanTestExecutionListener;
 import org.flowable.test.spring.executor.jms.config.SpringJmsConfig;
 import org.junit.Assert;
@@ -46,6 +54,9 @@ public class SpringJmsTest {
     @Autowired
     private ConnectionFactory connectionFactory;
 
+    @Autowired
+    private MessageBasedJobManager jobManager;
+
     @Test
     public void testMessageQueueAsyncExecutor() {
         processEngine.getRepositoryService().createDeployment()
@@ -74,4 +85,91 @@ public class SpringJmsTest {
         Assert.assertNull(((DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor()).getExecutorService());
     }
 
+    @Test
+    public void testBatchedJobMessages() {
+        jobManager.setBatchMessages(true);
+        try {
+            runBatchedJobsProcess();
+        } finally {
+            jobManager.setBatchMessages(false);
+        }
+    }
+
+    @Test
+    public void testBatchedJobMessagesWithJobPayload() {
+        jobManager.setBatchMessages(true);
+        jobManager.setSendJobPayload(true);
+        try {
+            runBatchedJobsProcess();
+        } finally {
+            jobManager.setBatchMessages(false);
+            jobManager.setSendJobPayload(false);
+        }
+    }
+
+    @Test
+    public void testJobMessageConversion() {
+        JobEntityImpl job1 = new JobEntityImpl();
+        job1.setId("1");
+        job1.setProcessInstanceId("processInstance");
+        job1.setExecutionId("execution1");
+        job1.setExclusive(true);
+        job1.setRetries(3);
+        job1.setRevision(2);
+        job1.setDuedate(new Date(1000L));
+        job1.setLockOwner("owner");
+        job1.setLockExpirationTime(new Date(2000L));
+        JobEntityImpl job2 = new JobEntityImpl();
+        job2.setId("2");
+        job2.setExclusive(false);
+        List<Job> jobs = Arrays.<Job> asList(job1, job2);
+
+        JobMessageConverter converter = jobManager.getJobMessageConverter();
+        String messageText = converter.toMessageText(jobs, false);
+        Assert.assertEquals("1,2", messageText);
+        Assert.assertFalse(converter.hasPayload(messageText));
+        Assert.assertEquals(Arrays.asList("1", "2"), converter.readJobIds(messageText));
+
+        messageText = converter.toMessageText(jobs, true);
+        Assert.assertTrue(converter.hasPayload(messageText));
+        List<Job> readJobs = converter.readJobs(messageText);
+        Assert.assertEquals(2, readJobs.size());
+        Assert.assertEquals("1", readJobs.get(0).getId());
+        Assert.assertEquals("processInstance", readJobs.get(0).getProcessInstanceId());
+        Assert.assertEquals("execution1", readJobs.get(0).getExecutionId());
+        Assert.assertTrue(readJobs.get(0).isExclusive());
+        Assert.assertEquals(3, readJobs.get(0).getRetries());
+        Assert.assertEquals(new Date(1000L), readJobs.get(0).getDuedate());
+        JobEntity readJobEntity = (JobEntity) readJobs.get(0);
+        Assert.assertEquals(2, readJobEntity.getRevision());
+        Assert.assertEquals("owner", readJobEntity.getLockOwner());
+        Assert.assertEquals(new Date(2000L), readJobEntity.getLockExpirationTime());
+        Assert.assertEquals("2", readJobs.get(1).getId());
+        Assert.assertNull(readJobs.get(1).getProcessInstanceId());
+        Assert.assertFalse(readJobs.get(1).isExclusive());
+    }
+
+    protected void runBatchedJobsProcess() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/test/spring/executor/jms/SpringJmsTest.testBatchedJobMessages.bpmn20.xml")
+                .deploy();
+
+        Map<String, Object> vars = new HashMap<String, Object>();
+        vars.put("input1", 1);
+        vars.put("input2", 2);
+        vars.put("nrOfBranches", 25);
+        final ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("BatchedJobsProcess", vars);
+
+        Awaitility.waitAtMost(1, TimeUnit.MINUTES).pollInterval(200, TimeUnit.MILLISECONDS).until(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId()).count() == 0;
+            }
+        });
+
+        Assert.assertEquals(25, processEngine.getHistoryService().createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstance.getId()).activityId("exclusiveTask").finished().count());
+        Assert.assertEquals(25, processEngine.getHistoryService().createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstance.getId()).activityId("nonExclusiveTask").finished().count());
+    }
+
 }
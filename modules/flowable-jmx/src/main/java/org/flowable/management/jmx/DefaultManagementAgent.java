@@ -34,6 +34,8 @@ import javax.management.remote.JMXServiceURL;
 
 import org.flowable.management.jmx.mbeans.JobExecutorMBean;
 import org.flowable.management.jmx.mbeans.ProcessDefinitionsMBean;
+import org.flowable.management.jmx.mbeans.ProcessEngineMetricsMBean;
+import org.flowable.management.jmx.mbeans.SqlStatementProfilerMBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -179,6 +181,16 @@ public class DefaultManagementAgent implements ManagementAgent {
         register(new ProcessDefinitionsMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "Deployments"));
         register(new JobExecutorMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "JobExecutor"));
 
+        ProcessEngineMetricsMBean processEngineMetricsMBean = new ProcessEngineMetricsMBean(jmxConfigurator.getProcessEngineConfig());
+        if (processEngineMetricsMBean.isMetricsEnabled()) {
+            register(processEngineMetricsMBean, new ObjectName(jmxConfigurator.getDomain(), "type", "Metrics"));
+        }
+
+        SqlStatementProfilerMBean sqlStatementProfilerMBean = new SqlStatementProfilerMBean(jmxConfigurator.getProcessEngineConfig());
+        if (sqlStatementProfilerMBean.isProfilerAvailable()) {
+            register(sqlStatementProfilerMBean, new ObjectName(jmxConfigurator.getDomain(), "type", "SqlProfiler"));
+        }
+
     }
 
     public void createJmxConnector(String host) throws IOException {
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+/**
+ * Exposes the {@link ProcessEngineMetrics} of a process engine that has metrics enabled.
+ */
+@ManagedResource(description = "Process engine metrics MBean")
+public class ProcessEngineMetricsMBean {
+
+    ProcessEngineMetrics processEngineMetrics;
+
+    public ProcessEngineMetricsMBean(ProcessEngineConfiguration processEngineConfig) {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl) {
+            processEngineMetrics = ((ProcessEngineConfigurationImpl) processEngineConfig).getProcessEngineMetrics();
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return processEngineMetrics != null;
+    }
+
+    @ManagedAttribute(description = "Latency (in microseconds) per command class")
+    public Map<String, Map<String, Object>> getCommandLatencies() {
+        return processEngineMetrics != null ? processEngineMetrics.getCommandLatencies() : Collections.<String, Map<String, Object>> emptyMap();
+    }
+
+    @ManagedAttribute(description = "Number of executed statements per statement type and entity")
+    public Map<String, Long> getStatementCounts() {
+        return processEngineMetrics != null ? processEngineMetrics.getStatementCounts() : Collections.<String, Long> emptyMap();
+    }
+
+    @ManagedAttribute(description = "Number of flushed entities per flush")
+    public Map<String, Object> getFlushSizes() {
+        return processEngineMetrics != null ? processEngineMetrics.getFlushSizes().toMap() : Collections.<String, Object> emptyMap();
+    }
+
+    @ManagedAttribute(description = "Ratio of the entity lookups found in the entity cache")
+    public double getEntityCacheHitRatio() {
+        return processEngineMetrics != null ? processEngineMetrics.getEntityCacheHitRatio() : 0.0;
+    }
+
+    @ManagedAttribute(description = "Number of optimistic locking failures")
+    public long getOptimisticLockingFailures() {
+        return processEngineMetrics != null ? processEngineMetrics.getOptimisticLockingFailures() : 0L;
+    }
+
+    @ManagedAttribute(description = "Number of acquired jobs waiting for an async executor thread")
+    public int getAsyncExecutorQueueSize() {
+        return processEngineMetrics != null ? processEngineMetrics.getAsyncExecutorQueueSize() : -1;
+    }
+
+    @ManagedAttribute(description = "Acquired async jobs per second (one minute rate)")
+    public double getAsyncJobAcquisitionRate() {
+        return processEngineMetrics != null ? processEngineMetrics.getAcquiredAsyncJobs().getOneMinuteRate() : 0.0;
+    }
+
+    @ManagedAttribute(description = "Acquired timer jobs per second (one minute rate)")
+    public double getTimerJobAcquisitionRate() {
+        return processEngineMetrics != null ? processEngineMetrics.getAcquiredTimerJobs().getOneMinuteRate() : 0.0;
+    }
+
+    @ManagedAttribute(description = "Executed jobs per second (one minute rate)")
+    public double getJobExecutionRate() {
+        return processEngineMetrics != null ? processEngineMetrics.getExecutedJobs().getOneMinuteRate() : 0.0;
+    }
+
+    @ManagedAttribute(description = "Failed jobs per second (one minute rate)")
+    public double getJobFailureRate() {
+        return processEngineMetrics != null ? processEngineMetrics.getFailedJobs().getOneMinuteRate() : 0.0;
+    }
+
+    @ManagedOperation(description = "reset the metrics")
+    public void resetMetrics() {
+        if (processEngineMetrics != null) {
+            processEngineMetrics.reset();
+        }
+    }
+
+}
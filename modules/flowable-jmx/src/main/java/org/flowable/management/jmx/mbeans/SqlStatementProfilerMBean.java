@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.SlowSqlStatement;
+import org.flowable.engine.impl.db.SqlStatementProfile;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+/**
+ * Exposes the {@link SqlStatementProfiler} of a process engine and allows to switch profiling on and off at runtime.
+ */
+@ManagedResource(description = "SQL statement profiler MBean")
+public class SqlStatementProfilerMBean {
+
+    SqlStatementProfiler sqlStatementProfiler;
+
+    public SqlStatementProfilerMBean(ProcessEngineConfiguration processEngineConfig) {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl) {
+            sqlStatementProfiler = ((ProcessEngineConfigurationImpl) processEngineConfig).getSqlStatementProfiler();
+        }
+    }
+
+    public boolean isProfilerAvailable() {
+        return sqlStatementProfiler != null;
+    }
+
+    @ManagedAttribute(description = "check if sql statement profiling is enabled")
+    public boolean isProfilingEnabled() {
+        return sqlStatementProfiler != null && sqlStatementProfiler.isEnabled();
+    }
+
+    @ManagedAttribute(description = "Duration (in milliseconds) above which a statement is captured as slow statement")
+    public long getSlowStatementThreshold() {
+        return sqlStatementProfiler != null ? sqlStatementProfiler.getSlowStatementThresholdInMillis() : -1L;
+    }
+
+    @ManagedAttribute(description = "Count, total and max time (in microseconds) and rows per statement, highest total time first")
+    public List<Map<String, Object>> getStatementProfiles() {
+        List<Map<String, Object>> statementProfiles = new ArrayList<Map<String, Object>>();
+        if (sqlStatementProfiler != null) {
+            for (SqlStatementProfile statementProfile : sqlStatementProfiler.getStatementProfiles()) {
+                statementProfiles.add(statementProfile.toMap());
+            }
+        }
+        return statementProfiles;
+    }
+
+    @ManagedAttribute(description = "Captured slow statements with their bound parameters, most recent first")
+    public List<Map<String, Object>> getSlowStatements() {
+        List<Map<String, Object>> slowStatements = new ArrayList<Map<String, Object>>();
+        if (sqlStatementProfiler != null) {
+            for (SlowSqlStatement slowStatement : sqlStatementProfiler.getSlowStatements()) {
+                slowStatements.add(slowStatement.toMap());
+            }
+        }
+        return slowStatements;
+    }
+
+    @ManagedOperation(description = "enable or disable sql statement profiling")
+    public void setProfilingEnabled(Boolean enabled) {
+        if (sqlStatementProfiler != null) {
+            sqlStatementProfiler.setEnabled(enabled);
+        }
+    }
+
+    @ManagedOperation(description = "set the slow statement threshold in milliseconds")
+    public void setSlowStatementThreshold(Long slowStatementThreshold) {
+        if (sqlStatementProfiler != null) {
+            sqlStatementProfiler.setSlowStatementThresholdInMillis(slowStatementThreshold);
+        }
+    }
+
+    @ManagedOperation(description = "reset the statement profiles and slow statements")
+    public void resetProfiles() {
+        if (sqlStatementProfiler != null) {
+            sqlStatementProfiler.reset();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ProcessEngineMetricsMBeanTest {
+
+    protected ProcessEngineMetricsMBean processEngineMetricsMBean;
+
+    @Mock
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @Mock
+    protected ProcessEngineMetrics processEngineMetrics;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        when(processEngineConfiguration.getProcessEngineMetrics()).thenReturn(processEngineMetrics);
+        processEngineMetricsMBean = new ProcessEngineMetricsMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testMetricsDelegated() {
+        assertTrue(processEngineMetricsMBean.isMetricsEnabled());
+
+        when(processEngineMetrics.getOptimisticLockingFailures()).thenReturn(3L);
+        when(processEngineMetrics.getEntityCacheHitRatio()).thenReturn(0.75);
+        when(processEngineMetrics.getAsyncExecutorQueueSize()).thenReturn(5);
+
+        assertEquals(3L, processEngineMetricsMBean.getOptimisticLockingFailures());
+        assertEquals(0.75, processEngineMetricsMBean.getEntityCacheHitRatio(), 0.0);
+        assertEquals(5, processEngineMetricsMBean.getAsyncExecutorQueueSize());
+
+        processEngineMetricsMBean.resetMetrics();
+        verify(processEngineMetrics).reset();
+    }
+
+    @Test
+    public void testMetricsDisabled() {
+        ProcessEngineMetricsMBean disabledMBean = new ProcessEngineMetricsMBean((ProcessEngineConfiguration) null);
+        assertFalse(disabledMBean.isMetricsEnabled());
+        assertTrue(disabledMBean.getCommandLatencies().isEmpty());
+        assertEquals(-1, disabledMBean.getAsyncExecutorQueueSize());
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws MalformedObjectNameException, JMException {
+        ModelMBean modelBean = assembler.assemble(processEngineMetricsMBean, new ObjectName("domain", "key", "value"));
+        assertNotNull(modelBean);
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertNotNull(beanInfo);
+        assertEquals(10, beanInfo.getAttributes().length);
+        assertNotNull(beanInfo.getOperations());
+    }
+
+}
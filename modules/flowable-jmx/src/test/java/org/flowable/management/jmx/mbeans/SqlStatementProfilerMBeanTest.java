@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.SlowSqlStatement;
+import org.flowable.engine.impl.db.SqlStatementProfile;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class SqlStatementProfilerMBeanTest {
+
+    protected SqlStatementProfilerMBean sqlStatementProfilerMBean;
+
+    @Mock
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @Mock
+    protected SqlStatementProfiler sqlStatementProfiler;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        when(processEngineConfiguration.getSqlStatementProfiler()).thenReturn(sqlStatementProfiler);
+        sqlStatementProfilerMBean = new SqlStatementProfilerMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testProfilesDelegated() {
+        assertTrue(sqlStatementProfilerMBean.isProfilerAvailable());
+
+        SqlStatementProfile statementProfile = new SqlStatementProfile("selectTaskByQueryCriteria");
+        statementProfile.record(2000000L, 3);
+        when(sqlStatementProfiler.getStatementProfiles()).thenReturn(Collections.singletonList(statementProfile));
+        when(sqlStatementProfiler.getSlowStatements()).thenReturn(Collections.singletonList(
+                new SlowSqlStatement("selectTaskByQueryCriteria", "select * from ACT_RU_TASK", Arrays.asList("123"), 2L, new Date())));
+        when(sqlStatementProfiler.isEnabled()).thenReturn(true);
+
+        assertTrue(sqlStatementProfilerMBean.isProfilingEnabled());
+
+        List<Map<String, Object>> statementProfiles = sqlStatementProfilerMBean.getStatementProfiles();
+        assertEquals(1, statementProfiles.size());
+        assertEquals("selectTaskByQueryCriteria", statementProfiles.get(0).get("statementId"));
+        assertEquals(1L, statementProfiles.get(0).get("count"));
+        assertEquals(3L, statementProfiles.get(0).get("rows"));
+        assertEquals(2000L, statementProfiles.get(0).get("maxTime"));
+
+        List<Map<String, Object>> slowStatements = sqlStatementProfilerMBean.getSlowStatements();
+        assertEquals(1, slowStatements.size());
+        assertEquals(Arrays.asList("123"), slowStatements.get(0).get("parameters"));
+    }
+
+    @Test
+    public void testOperationsDelegated() {
+        sqlStatementProfilerMBean.setProfilingEnabled(true);
+        verify(sqlStatementProfiler).setEnabled(true);
+
+        sqlStatementProfilerMBean.setSlowStatementThreshold(250L);
+        verify(sqlStatementProfiler).setSlowStatementThresholdInMillis(250L);
+
+        sqlStatementProfilerMBean.resetProfiles();
+        verify(sqlStatementProfiler).reset();
+    }
+
+    @Test
+    public void testProfilerNotAvailable() {
+        SqlStatementProfilerMBean unavailableMBean = new SqlStatementProfilerMBean((ProcessEngineConfiguration) null);
+        assertFalse(unavailableMBean.isProfilerAvailable());
+        assertFalse(unavailableMBean.isProfilingEnabled());
+        assertTrue(unavailableMBean.getStatementProfiles().isEmpty());
+        assertTrue(unavailableMBean.getSlowStatements().isEmpty());
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws MalformedObjectNameException, JMException {
+        ModelMBean modelBean = assembler.assemble(sqlStatementProfilerMBean, new ObjectName("domain", "key", "value"));
+        assertNotNull(modelBean);
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertNotNull(beanInfo);
+        assertEquals(4, beanInfo.getAttributes().length);
+        assertNotNull(beanInfo.getOperations());
+    }
+
+}
@@ -12,26 +12,44 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
 
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.Group;
 import org.flowable.ldap.LDAPGroupCache;
-import org.flowable.ldap.LDAPIdentityServiceImpl;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.flowable.ldap.LDAPStatistics;
 import org.springframework.test.context.ContextConfiguration;
 
 @ContextConfiguration("classpath:flowable-context-ldap-group-cache.xml")
 public class LdapGroupCacheTest extends LDAPTestCase {
 
     protected TestLDAPGroupCacheListener cacheListener;
+    protected LDAPGroupCache ldapGroupCache;
+    protected LDAPStatistics ldapStatistics;
 
     @Override
     protected void setUp() throws Exception {
         super.setUp();
 
         // Set test cache listener
-        LDAPGroupCache ldapGroupCache = ((LDAPIdentityServiceImpl) processEngineConfiguration.getIdmIdentityService()).getLdapGroupCache();
+        LDAPIdentityServiceImpl ldapIdentityService = (LDAPIdentityServiceImpl) processEngineConfiguration.getIdmIdentityService();
+        ldapGroupCache = ldapIdentityService.getLdapGroupCache();
         ldapGroupCache.clear();
+        ldapGroupCache.resetCounts();
+
+        ldapStatistics = ldapIdentityService.getLdapConfigurator().getLdapStatistics();
+        ldapStatistics.reset();
 
         cacheListener = new TestLDAPGroupCacheListener();
         ldapGroupCache.setLdapCacheListener(cacheListener);
@@ -62,6 +80,66 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertEquals(1, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
         assertEquals("fozzie", cacheListener.getLastCacheMiss());
         assertEquals("pepe", cacheListener.getLastCacheEviction());
+
+        assertEquals(1, ldapGroupCache.getHitCount());
+        assertEquals(3, ldapGroupCache.getMissCount());
+        assertEquals(1, ldapGroupCache.getEvictionCount());
+        assertEquals(2, ldapGroupCache.size());
+    }
+
+    public void testLdapCallsCounted() {
+        // Cache miss -> the groups are fetched from the (pooled) LDAP connection
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        long callCount = ldapStatistics.getCallCount();
+        assertTrue(callCount > 0);
+        assertEquals(0, ldapStatistics.getFailedCallCount());
+
+        // Cache hit -> no LDAP call
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(callCount, ldapStatistics.getCallCount());
+        assertEquals(1, ldapGroupCache.getHitCount());
+
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("pepe").count());
+        assertEquals(2 * callCount, ldapStatistics.getCallCount());
+        assertEquals(0, ldapStatistics.getFailedCallCount());
+    }
+
+    public void testConcurrentCacheAccess() throws Exception {
+        final int cacheSize = 10;
+        final LDAPGroupCache concurrentCache = new LDAPGroupCache(cacheSize, 60000L, new DefaultClockImpl());
+        final int nrOfUsers = 25;
+        final int nrOfIterations = 1000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 8; i++) {
+                final int threadNr = i;
+                futures.add(executorService.submit(new Callable<Void>() {
+
+                    public Void call() throws Exception {
+                        for (int j = 0; j < nrOfIterations; j++) {
+                            String userId = "user" + ((threadNr + j) % nrOfUsers);
+                            if (concurrentCache.get(userId) == null) {
+                                concurrentCache.add(userId, Collections.<Group> emptyList());
+                            }
+                        }
+                        return null;
+                    }
+
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertTrue(concurrentCache.size() <= cacheSize);
+        assertEquals(8 * nrOfIterations, concurrentCache.getHitCount() + concurrentCache.getMissCount());
     }
 
     public void testLdapGroupCacheExpiration() {
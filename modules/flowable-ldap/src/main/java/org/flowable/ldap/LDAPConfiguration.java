@@ -47,6 +47,9 @@ public class LDAPConfiguration {
     // For parameters like connection pooling settings, etc.
     protected Map<String, String> customConnectionParameters = new HashMap<String, String>();
 
+    // JNDI connection pooling of the connections using the configured user
+    protected boolean connectionPooling;
+
     // Query configuration
     protected String baseDn;
     protected String userBaseDn;
@@ -79,6 +82,9 @@ public class LDAPConfiguration {
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
 
+    // Statistics of the calls done to the LDAP system
+    protected LDAPStatistics ldapStatistics = new LDAPStatistics();
+
     // Getters and Setters //////////////////////////////////////////////////
 
     public String getServer() {
@@ -165,6 +171,24 @@ public class LDAPConfiguration {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    /**
+     * Enables the connection pooling of the JNDI LDAP provider (the 'com.sun.jndi.ldap.connect.pool' property) for the connections that are created with the configured user, which avoids opening a
+     * new connection (and doing the TCP/TLS handshake) for every user or group lookup. Connections created to verify the password of a user are never pooled.
+     * 
+     * The pool itself is configured through system properties of the JVM, for example 'com.sun.jndi.ldap.connect.pool.maxsize', 'com.sun.jndi.ldap.connect.pool.prefsize' and
+     * 'com.sun.jndi.ldap.connect.pool.timeout' (the idle time in milliseconds before a pooled connection is closed). Note that by default only plain connections are pooled, to pool ldaps connections
+     * the 'com.sun.jndi.ldap.connect.pool.protocol' system property must be set to 'plain ssl'. See http://docs.oracle.com/javase/jndi/tutorial/ldap/connect/config.html
+     * 
+     * By default set to false.
+     */
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -433,4 +457,12 @@ public class LDAPConfiguration {
         this.groupCacheListener = groupCacheListener;
     }
 
+    public LDAPStatistics getLdapStatistics() {
+        return ldapStatistics;
+    }
+
+    public void setLdapStatistics(LDAPStatistics ldapStatistics) {
+        this.ldapStatistics = ldapStatistics;
+    }
+
 }
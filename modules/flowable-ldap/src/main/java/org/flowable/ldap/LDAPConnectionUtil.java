@@ -31,17 +31,30 @@ public class LDAPConnectionUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionUtil.class);
 
+    public static final String CONNECTION_POOL_PROPERTY = "com.sun.jndi.ldap.connect.pool";
+
     public static InitialDirContext creatDirectoryContext(LDAPConfiguration ldapConfigurator) {
-        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword());
+        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword(), ldapConfigurator.isConnectionPooling());
     }
 
     public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials) {
+        return createDirectoryContext(ldapConfigurator, principal, credentials, false);
+    }
+
+    /**
+     * @param pooled
+     *            whether the connection can be taken from (and returned to when closing the context) the connection pool of the JNDI LDAP provider.
+     */
+    public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials, boolean pooled) {
         Properties properties = new Properties();
         properties.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfigurator.getInitialContextFactory());
         properties.put(Context.PROVIDER_URL, ldapConfigurator.getServer() + ":" + ldapConfigurator.getPort());
         properties.put(Context.SECURITY_AUTHENTICATION, ldapConfigurator.getSecurityAuthentication());
         properties.put(Context.SECURITY_PRINCIPAL, principal);
         properties.put(Context.SECURITY_CREDENTIALS, credentials);
+        if (pooled) {
+            properties.put(CONNECTION_POOL_PROPERTY, "true");
+        }
 
         if (ldapConfigurator.getCustomConnectionParameters() != null) {
             for (String customParameter : ldapConfigurator.getCustomConnectionParameters().keySet()) {
@@ -60,6 +73,10 @@ public class LDAPConnectionUtil {
     }
 
     public static void closeDirectoryContext(InitialDirContext initialDirContext) {
+        if (initialDirContext == null) {
+            return;
+        }
+
         try {
             initialDirContext.close();
         } catch (NamingException e) {
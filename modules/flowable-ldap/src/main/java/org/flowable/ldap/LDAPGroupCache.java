@@ -16,6 +16,7 @@ import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.flowable.engine.common.runtime.ClockReader;
 import org.flowable.idm.api.Group;
@@ -26,6 +27,8 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache can safely be used by multiple threads concurrently. The number of hits, misses, evictions and expirations are counted, which allows to monitor the effectiveness of the cache.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
@@ -38,6 +41,11 @@ public class LDAPGroupCache {
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+    protected AtomicLong expirationCount = new AtomicLong();
+
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this.clockReader = clockReader;
 
@@ -50,8 +58,11 @@ public class LDAPGroupCache {
             protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
                 boolean removeEldest = size() > cacheSize;
 
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
+                if (removeEldest) {
+                    evictionCount.incrementAndGet();
+                    if (ldapCacheListener != null) {
+                        ldapCacheListener.cacheEviction(eldest.getKey());
+                    }
                 }
 
                 return removeEldest;
@@ -62,32 +73,42 @@ public class LDAPGroupCache {
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.getCurrentTime(), groups));
+        // The access ordered map is changed by every get, so all access needs to be synchronized
+        synchronized (groupCache) {
+            this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.getCurrentTime(), groups));
+        }
     }
 
     public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
-        if (cacheEntry != null) {
-            if ((clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
-
-                return cacheEntry.getGroups();
-
-            } else {
-
-                this.groupCache.remove(userId);
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
+        boolean expired = false;
+        synchronized (groupCache) {
+            LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+            if (cacheEntry != null) {
+                if ((clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
+                    hitCount.incrementAndGet();
+                    if (ldapCacheListener != null) {
+                        ldapCacheListener.cacheHit(userId);
+                    }
+
+                    return cacheEntry.getGroups();
+
+                } else {
+                    this.groupCache.remove(userId);
+                    expired = true;
                 }
+            }
+        }
 
+        if (expired) {
+            expirationCount.incrementAndGet();
+            evictionCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheExpired(userId);
+                ldapCacheListener.cacheEviction(userId);
             }
         }
 
+        missCount.incrementAndGet();
         if (ldapCacheListener != null) {
             ldapCacheListener.cacheMiss(userId);
         }
@@ -96,7 +117,41 @@ public class LDAPGroupCache {
     }
 
     public void clear() {
-        groupCache.clear();
+        synchronized (groupCache) {
+            groupCache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (groupCache) {
+            return groupCache.size();
+        }
+    }
+
+    /**
+     * Resets the hit, miss, eviction and expiration counters.
+     */
+    public void resetCounts() {
+        hitCount.set(0L);
+        missCount.set(0L);
+        evictionCount.set(0L);
+        expirationCount.set(0L);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.get();
     }
 
     public Map<String, LDAPGroupCacheEntry> getGroupCache() {
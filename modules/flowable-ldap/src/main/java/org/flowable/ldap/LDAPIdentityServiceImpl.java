@@ -211,4 +211,12 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
     public void setLdapGroupCache(LDAPGroupCache ldapGroupCache) {
         this.ldapGroupCache = ldapGroupCache;
     }
+
+    public LDAPConfiguration getLdapConfigurator() {
+        return ldapConfigurator;
+    }
+
+    public void setLdapConfigurator(LDAPConfiguration ldapConfigurator) {
+        this.ldapConfigurator = ldapConfigurator;
+    }
 }
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the calls done to the LDAP system through the {@link LDAPTemplate}, together with the time spent in them. Available through {@link LDAPConfiguration#getLdapStatistics()}.
+ * 
+ * Combined with the counts of the {@link LDAPGroupCache}, this allows to see how often the LDAP system is actually hit.
+ */
+public class LDAPStatistics {
+
+    protected AtomicLong callCount = new AtomicLong();
+    protected AtomicLong failedCallCount = new AtomicLong();
+    protected AtomicLong totalCallTime = new AtomicLong();
+
+    public void callExecuted(long duration, boolean successful) {
+        callCount.incrementAndGet();
+        totalCallTime.addAndGet(duration);
+        if (!successful) {
+            failedCallCount.incrementAndGet();
+        }
+    }
+
+    public void reset() {
+        callCount.set(0L);
+        failedCallCount.set(0L);
+        totalCallTime.set(0L);
+    }
+
+    /**
+     * @return the number of LDAP calls, including the failed ones.
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    public long getFailedCallCount() {
+        return failedCallCount.get();
+    }
+
+    /**
+     * @return the total time spent in LDAP calls (including the creation of the connection), in milliseconds.
+     */
+    public long getTotalCallTime() {
+        return totalCallTime.get();
+    }
+
+    /**
+     * @return the average time of an LDAP call in milliseconds, or 0 when no calls were done yet.
+     */
+    public double getAverageCallTime() {
+        long count = callCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        return (double) totalCallTime.get() / count;
+    }
+
+}
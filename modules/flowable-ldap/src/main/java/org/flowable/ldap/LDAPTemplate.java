@@ -33,15 +33,28 @@ public class LDAPTemplate {
     }
 
     public <T> T execute(LDAPCallBack<T> ldapCallBack) {
+        long start = System.currentTimeMillis();
+        boolean successful = false;
         InitialDirContext initialDirContext = null;
         try {
-            initialDirContext = LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
-        } catch (Exception e) {
-            LOGGER.info("Could not create LDAP connection : {}", e.getMessage(), e);
+            try {
+                initialDirContext = LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
+            } catch (Exception e) {
+                LOGGER.info("Could not create LDAP connection : {}", e.getMessage(), e);
+            }
+            T result = ldapCallBack.executeInContext(initialDirContext);
+            successful = initialDirContext != null;
+            return result;
+
+        } finally {
+            // Closing a pooled context returns the connection to the pool
+            LDAPConnectionUtil.closeDirectoryContext(initialDirContext);
+
+            LDAPStatistics ldapStatistics = ldapConfigurator.getLdapStatistics();
+            if (ldapStatistics != null) {
+                ldapStatistics.callExecuted(System.currentTimeMillis() - start, successful);
+            }
         }
-        T result = ldapCallBack.executeInContext(initialDirContext);
-        LDAPConnectionUtil.closeDirectoryContext(initialDirContext);
-        return result;
     }
 
     public LDAPConfiguration getLdapConfigurator() {
@@ -14,8 +14,13 @@ package org.flowable.validation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.validation.validator.FlowElementIndex;
 import org.flowable.validation.validator.Validator;
 import org.flowable.validation.validator.ValidatorSet;
 
@@ -26,26 +31,65 @@ public class ProcessValidatorImpl implements ProcessValidator {
 
     protected List<ValidatorSet> validatorSets;
 
+    /**
+     * When set, the validators run at the same time on this executor (typically a {@link java.util.concurrent.ForkJoinPool}), otherwise they run one after another on the calling thread. The
+     * validators are stateless, so the same validator can validate different models at the same time.
+     */
+    protected ExecutorService executorService;
+
     @Override
     public List<ValidationError> validate(BpmnModel bpmnModel) {
 
-        List<ValidationError> allErrors = new ArrayList<ValidationError>();
+        // The flow elements are collected once and shared by all validators
+        FlowElementIndex flowElementIndex = new FlowElementIndex(bpmnModel);
 
+        List<ValidatorTask> validatorTasks = new ArrayList<ValidatorTask>();
         for (ValidatorSet validatorSet : validatorSets) {
             for (Validator validator : validatorSet.getValidators()) {
-                List<ValidationError> validatorErrors = new ArrayList<ValidationError>();
-                validator.validate(bpmnModel, validatorErrors);
-                if (!validatorErrors.isEmpty()) {
-                    for (ValidationError error : validatorErrors) {
-                        error.setValidatorSetName(validatorSet.getName());
-                    }
-                    allErrors.addAll(validatorErrors);
-                }
+                validatorTasks.add(new ValidatorTask(validatorSet, validator, bpmnModel, flowElementIndex));
             }
         }
+
+        List<List<ValidationError>> validatorErrorLists = new ArrayList<List<ValidationError>>(validatorTasks.size());
+        if (executorService != null && validatorTasks.size() > 1) {
+            validatorErrorLists.addAll(executeInParallel(validatorTasks));
+        } else {
+            for (ValidatorTask validatorTask : validatorTasks) {
+                validatorErrorLists.add(validatorTask.call());
+            }
+        }
+
+        // The errors are kept in validator set and validator order, however the validators were executed
+        List<ValidationError> allErrors = new ArrayList<ValidationError>();
+        for (List<ValidationError> validatorErrors : validatorErrorLists) {
+            allErrors.addAll(validatorErrors);
+        }
         return allErrors;
     }
 
+    protected List<List<ValidationError>> executeInParallel(List<ValidatorTask> validatorTasks) {
+        List<List<ValidationError>> validatorErrorLists = new ArrayList<List<ValidationError>>(validatorTasks.size());
+        try {
+            for (Future<List<ValidationError>> future : executorService.invokeAll(validatorTasks)) {
+                validatorErrorLists.add(future.get());
+            }
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Error while validating process model", e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating process model", e);
+        }
+        return validatorErrorLists;
+    }
+
     public List<ValidatorSet> getValidatorSets() {
         return validatorSets;
     }
@@ -61,4 +105,43 @@ public class ProcessValidatorImpl implements ProcessValidator {
         validatorSets.add(validatorSet);
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    protected static class ValidatorTask implements Callable<List<ValidationError>> {
+
+        protected ValidatorSet validatorSet;
+        protected Validator validator;
+        protected BpmnModel bpmnModel;
+        protected FlowElementIndex flowElementIndex;
+
+        public ValidatorTask(ValidatorSet validatorSet, Validator validator, BpmnModel bpmnModel, FlowElementIndex flowElementIndex) {
+            this.validatorSet = validatorSet;
+            this.validator = validator;
+            this.bpmnModel = bpmnModel;
+            this.flowElementIndex = flowElementIndex;
+        }
+
+        @Override
+        public List<ValidationError> call() {
+            FlowElementIndex previousFlowElementIndex = FlowElementIndex.setCurrent(flowElementIndex);
+            try {
+                List<ValidationError> validatorErrors = new ArrayList<ValidationError>();
+                validator.validate(bpmnModel, validatorErrors);
+                for (ValidationError error : validatorErrors) {
+                    error.setValidatorSetName(validatorSet.getName());
+                }
+                return validatorErrors;
+            } finally {
+                FlowElementIndex.setCurrent(previousFlowElementIndex);
+            }
+        }
+
+    }
+
 }
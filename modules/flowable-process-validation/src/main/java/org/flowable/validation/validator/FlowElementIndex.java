@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.validation.validator;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * The flow elements of the processes of a {@link BpmnModel}, collected once and shared by all validators validating the model, instead of every validator walking the (nested) flow elements again.
+ * The lookups return the same elements, in the same order, as {@link Process#findFlowElementsOfType(Class)}.
+ * 
+ * The index of the model that is currently validated is bound to the validating thread by the {@link org.flowable.validation.ProcessValidatorImpl}, see {@link #getCurrent()}. The model must not be
+ * changed while it is validated.
+ */
+public class FlowElementIndex {
+
+    protected static final ThreadLocal<FlowElementIndex> current = new ThreadLocal<FlowElementIndex>();
+
+    protected Map<Process, ProcessElements> processElements = new IdentityHashMap<Process, ProcessElements>();
+
+    public FlowElementIndex(BpmnModel bpmnModel) {
+        for (Process process : bpmnModel.getProcesses()) {
+            List<FlowElement> flowElements = new ArrayList<FlowElement>();
+            collectFlowElements(process.getFlowElements(), flowElements);
+            processElements.put(process, new ProcessElements(flowElements));
+        }
+    }
+
+    protected void collectFlowElements(Iterable<FlowElement> flowElements, List<FlowElement> collectedFlowElements) {
+        for (FlowElement flowElement : flowElements) {
+            collectedFlowElements.add(flowElement);
+            if (flowElement instanceof SubProcess) {
+                collectFlowElements(((SubProcess) flowElement).getFlowElements(), collectedFlowElements);
+            }
+        }
+    }
+
+    /**
+     * @return the flow elements of the given type of the process, including the ones in (nested) sub processes. A new list is returned on every call.
+     */
+    public <T extends FlowElement> List<T> findFlowElementsOfType(Process process, Class<T> type) {
+        ProcessElements elements = processElements.get(process);
+        if (elements == null) {
+            return process.findFlowElementsOfType(type);
+        }
+        return new ArrayList<T>(elements.getFlowElementsOfType(type));
+    }
+
+    /**
+     * @return the index bound to the current thread, or null when no model is being validated on this thread.
+     */
+    public static FlowElementIndex getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * Binds the index to the current thread.
+     * 
+     * @return the index that was bound before, to be restored with this method when the validation is done.
+     */
+    public static FlowElementIndex setCurrent(FlowElementIndex flowElementIndex) {
+        FlowElementIndex previous = current.get();
+        if (flowElementIndex != null) {
+            current.set(flowElementIndex);
+        } else {
+            current.remove();
+        }
+        return previous;
+    }
+
+    protected static class ProcessElements {
+
+        protected List<FlowElement> flowElements;
+        protected ConcurrentMap<Class<?>, List<? extends FlowElement>> flowElementsByType = new ConcurrentHashMap<Class<?>, List<? extends FlowElement>>();
+
+        public ProcessElements(List<FlowElement> flowElements) {
+            this.flowElements = flowElements;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T extends FlowElement> List<T> getFlowElementsOfType(Class<T> type) {
+            List<T> flowElementsOfType = (List<T>) flowElementsByType.get(type);
+            if (flowElementsOfType == null) {
+                flowElementsOfType = new ArrayList<T>();
+                for (FlowElement flowElement : flowElements) {
+                    if (type.isInstance(flowElement)) {
+                        flowElementsOfType.add((T) flowElement);
+                    }
+                }
+                // Validators running at the same time might compute the same list, any of them can be kept
+                flowElementsByType.putIfAbsent(type, flowElementsOfType);
+            }
+            return flowElementsOfType;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.validation.validator;
 import java.util.List;
 
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.Process;
 import org.flowable.validation.ValidationError;
 
@@ -32,4 +33,15 @@ public abstract class ProcessLevelValidator extends ValidatorImpl {
 
     protected abstract void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors);
 
+    /**
+     * Same as {@link Process#findFlowElementsOfType(Class)}, but served from the {@link FlowElementIndex} shared by the validators of the model when there is one.
+     */
+    protected <T extends FlowElement> List<T> findFlowElementsOfType(Process process, Class<T> type) {
+        FlowElementIndex flowElementIndex = FlowElementIndex.getCurrent();
+        if (flowElementIndex != null) {
+            return flowElementIndex.findFlowElementsOfType(process, type);
+        }
+        return process.findFlowElementsOfType(type);
+    }
+
 }
@@ -33,7 +33,7 @@ public class EventSubprocessValidator extends ProcessLevelValidator {
 
     @Override
     protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-        List<EventSubProcess> eventSubprocesses = process.findFlowElementsOfType(EventSubProcess.class);
+        List<EventSubProcess> eventSubprocesses = findFlowElementsOfType(process, EventSubProcess.class);
         for (EventSubProcess eventSubprocess : eventSubprocesses) {
 
             List<StartEvent> startEvents = process.findFlowElementsInSubProcessOfType(eventSubprocess, StartEvent.class);
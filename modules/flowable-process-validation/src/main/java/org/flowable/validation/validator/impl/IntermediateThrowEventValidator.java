@@ -31,7 +31,7 @@ public class IntermediateThrowEventValidator extends ProcessLevelValidator {
 
     @Override
     protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-        List<ThrowEvent> throwEvents = process.findFlowElementsOfType(ThrowEvent.class);
+        List<ThrowEvent> throwEvents = findFlowElementsOfType(process, ThrowEvent.class);
         for (ThrowEvent throwEvent : throwEvents) {
             EventDefinition eventDefinition = null;
             if (!throwEvent.getEventDefinitions().isEmpty()) {
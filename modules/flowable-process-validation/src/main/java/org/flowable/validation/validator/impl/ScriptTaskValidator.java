@@ -29,7 +29,7 @@ public class ScriptTaskValidator extends ProcessLevelValidator {
 
     @Override
     protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
-        List<ScriptTask> scriptTasks = process.findFlowElementsOfType(ScriptTask.class);
+        List<ScriptTask> scriptTasks = findFlowElementsOfType(process, ScriptTask.class);
         for (ScriptTask scriptTask : scriptTasks) {
             if (StringUtils.isEmpty(scriptTask.getScript())) {
                 addError(errors, Problems.SCRIPT_TASK_MISSING_SCRIPT, process, scriptTask, "No script provided for script task");
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.SlowSqlStatement;
+import org.flowable.engine.impl.db.SqlStatementProfile;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
+import org.flowable.rest.service.api.RestActionRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Engine" }, description = "Manage Engine", authorizations = { @Authorization(value = "basicAuth") })
+public class SqlProfileResource {
+
+    private static final String ENABLE_ACTION = "enable";
+    private static final String DISABLE_ACTION = "disable";
+    private static final String RESET_ACTION = "reset";
+
+    @Autowired
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @ApiOperation(value = "Get the sql statement profile", tags = { "Engine" }, notes = "Returns the count, total and max time (in microseconds) and rows per mapped statement, highest total time first, and the captured slow statements with their bound parameters, most recent first.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the sql statement profile is returned."),
+    })
+    @RequestMapping(value = "/management/sql-profile", method = RequestMethod.GET, produces = "application/json")
+    public SqlProfileResponse getSqlProfile() {
+        return createSqlProfileResponse(getSqlStatementProfiler());
+    }
+
+    @ApiOperation(value = "Enable, disable or reset sql statement profiling", tags = { "Engine" }, notes = "The action is one of enable, disable or reset. Profiling applies to the database sessions opened after the change.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the action was executed and the sql statement profile is returned."),
+            @ApiResponse(code = 400, message = "Indicates an invalid action was supplied.")
+    })
+    @RequestMapping(value = "/management/sql-profile", method = RequestMethod.POST, produces = "application/json")
+    public SqlProfileResponse executeSqlProfileAction(@RequestBody RestActionRequest actionRequest) {
+        SqlStatementProfiler sqlStatementProfiler = getSqlStatementProfiler();
+        if (actionRequest == null || actionRequest.getAction() == null) {
+            throw new FlowableIllegalArgumentException("Invalid action, only 'enable', 'disable' and 'reset' are supported.");
+        }
+
+        if (ENABLE_ACTION.equals(actionRequest.getAction())) {
+            sqlStatementProfiler.setEnabled(true);
+        } else if (DISABLE_ACTION.equals(actionRequest.getAction())) {
+            sqlStatementProfiler.setEnabled(false);
+        } else if (RESET_ACTION.equals(actionRequest.getAction())) {
+            sqlStatementProfiler.reset();
+        } else {
+            throw new FlowableIllegalArgumentException("Invalid action, only 'enable', 'disable' and 'reset' are supported.");
+        }
+
+        return createSqlProfileResponse(sqlStatementProfiler);
+    }
+
+    protected SqlStatementProfiler getSqlStatementProfiler() {
+        SqlStatementProfiler sqlStatementProfiler = processEngineConfiguration.getSqlStatementProfiler();
+        if (sqlStatementProfiler == null) {
+            throw new FlowableIllegalArgumentException("Sql statement profiling is not available for this process engine.");
+        }
+        return sqlStatementProfiler;
+    }
+
+    protected SqlProfileResponse createSqlProfileResponse(SqlStatementProfiler sqlStatementProfiler) {
+        List<Map<String, Object>> statementProfiles = new ArrayList<Map<String, Object>>();
+        for (SqlStatementProfile statementProfile : sqlStatementProfiler.getStatementProfiles()) {
+            statementProfiles.add(statementProfile.toMap());
+        }
+
+        List<Map<String, Object>> slowStatements = new ArrayList<Map<String, Object>>();
+        for (SlowSqlStatement slowStatement : sqlStatementProfiler.getSlowStatements()) {
+            slowStatements.add(slowStatement.toMap());
+        }
+
+        SqlProfileResponse response = new SqlProfileResponse();
+        response.setEnabled(sqlStatementProfiler.isEnabled());
+        response.setSlowStatementThreshold(sqlStatementProfiler.getSlowStatementThresholdInMillis());
+        response.setStatementProfiles(statementProfiles);
+        response.setSlowStatements(slowStatements);
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import java.util.List;
+import java.util.Map;
+
+public class SqlProfileResponse {
+
+    private boolean enabled;
+    private long slowStatementThreshold;
+    private List<Map<String, Object>> statementProfiles;
+    private List<Map<String, Object>> slowStatements;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSlowStatementThreshold() {
+        return slowStatementThreshold;
+    }
+
+    public void setSlowStatementThreshold(long slowStatementThreshold) {
+        this.slowStatementThreshold = slowStatementThreshold;
+    }
+
+    public List<Map<String, Object>> getStatementProfiles() {
+        return statementProfiles;
+    }
+
+    public void setStatementProfiles(List<Map<String, Object>> statementProfiles) {
+        this.statementProfiles = statementProfiles;
+    }
+
+    public List<Map<String, Object>> getSlowStatements() {
+        return slowStatements;
+    }
+
+    public void setSlowStatements(List<Map<String, Object>> slowStatements) {
+        this.slowStatements = slowStatements;
+    }
+}
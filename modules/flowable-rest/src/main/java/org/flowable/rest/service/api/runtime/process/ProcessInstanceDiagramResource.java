@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.impl.DefaultProcessDiagramGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -34,6 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
@@ -55,12 +57,13 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
 
     @ApiOperation(value = "Get diagram for a process instance", tags = { "Process Instances" })
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned."),
+            @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned, as a png image, or as an svg document when format=svg is passed."),
             @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process doesn’t contain any graphical information (BPMN:DI) and no diagram can be created."),
             @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
     })
     @RequestMapping(value = "/runtime/process-instances/{processInstanceId}/diagram", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId,
+            @RequestParam(value = "format", required = false) String format, HttpServletResponse response) {
         ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
 
         ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
@@ -68,12 +71,13 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
         if (pde != null && pde.hasGraphicalNotation()) {
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+            boolean svg = DefaultProcessDiagramGenerator.SVG_IMAGE_TYPE.equalsIgnoreCase(format);
+            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, svg ? DefaultProcessDiagramGenerator.SVG_IMAGE_TYPE : "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
                     processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
                     processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0);
 
             HttpHeaders responseHeaders = new HttpHeaders();
-            responseHeaders.set("Content-Type", "image/png");
+            responseHeaders.set("Content-Type", svg ? "image/svg+xml" : "image/png");
             try {
                 return new ResponseEntity<byte[]>(IOUtils.toByteArray(resource), responseHeaders, HttpStatus.OK);
             } catch (Exception e) {
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.flowable.engine.impl.db.SqlStatementProfiler;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.flowable.rest.service.api.RestUrls;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the REST-operations related to the sql statement profile.
+ */
+public class SqlProfileResourceTest extends BaseSpringRestTestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        SqlStatementProfiler sqlStatementProfiler = processEngineConfiguration.getSqlStatementProfiler();
+        sqlStatementProfiler.setEnabled(false);
+        sqlStatementProfiler.reset();
+        super.tearDown();
+    }
+
+    /**
+     * Test enabling profiling and getting the sql statement profile.
+     */
+    public void testGetSqlProfile() throws Exception {
+        JsonNode responseNode = executeAction("enable");
+        assertTrue(responseNode.get("enabled").booleanValue());
+
+        taskService.createTaskQuery().list();
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_SQL_PROFILE)), HttpStatus.SC_OK);
+        responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertNotNull(responseNode);
+        assertTrue(responseNode.get("enabled").booleanValue());
+        assertEquals(processEngineConfiguration.getSqlStatementProfiler().getSlowStatementThresholdInMillis(), responseNode.get("slowStatementThreshold").longValue());
+        assertTrue(responseNode.get("slowStatements").isArray());
+
+        JsonNode taskQueryProfile = null;
+        for (JsonNode statementProfile : responseNode.get("statementProfiles")) {
+            if ("selectTaskByQueryCriteria".equals(statementProfile.get("statementId").textValue())) {
+                taskQueryProfile = statementProfile;
+            }
+        }
+        assertNotNull(taskQueryProfile);
+        assertEquals(1L, taskQueryProfile.get("count").longValue());
+
+        responseNode = executeAction("reset");
+        assertEquals(0, responseNode.get("statementProfiles").size());
+
+        responseNode = executeAction("disable");
+        assertFalse(responseNode.get("enabled").booleanValue());
+    }
+
+    /**
+     * Test executing an unknown sql profile action.
+     */
+    public void testIllegalSqlProfileAction() throws Exception {
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("action", "unexistingAction");
+
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_SQL_PROFILE));
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+    }
+
+    protected JsonNode executeAction(String action) throws Exception {
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("action", action);
+
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_SQL_PROFILE));
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        return responseNode;
+    }
+}
@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.runtime;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -37,6 +38,20 @@ public class ProcessInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml" })
+    public void testGetProcessDiagramAsSvg() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId()) + "?format=svg"),
+                HttpStatus.SC_OK);
+        assertEquals("image/svg+xml", response.getEntity().getContentType().getValue());
+        String svg = IOUtils.toString(response.getEntity().getContent(), "UTF-8");
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.contains("<path "));
+        assertFalse(svg.contains("<image x=\"0\" y=\"0\""));
+        closeResponse(response);
+    }
+
     @Deployment
     public void testGetProcessDiagramWithoutDiagram() throws Exception {
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
@@ -87,6 +87,7 @@ public abstract class AbstractProcessEngineAutoConfiguration
         conf.setDbHistoryUsed(flowableProperties.isDbHistoryUsed());
 
         conf.setAsyncExecutorActivate(flowableProperties.isAsyncExecutorActivate());
+        conf.setEnableProcessEngineMetrics(flowableProperties.isMetricsEnabled());
 
         conf.setMailServerHost(flowableProperties.getMailServerHost());
         conf.setMailServerPort(flowableProperties.getMailServerPort());
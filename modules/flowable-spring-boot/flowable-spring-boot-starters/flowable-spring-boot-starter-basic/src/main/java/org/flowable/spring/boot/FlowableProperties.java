@@ -28,6 +28,7 @@ public class FlowableProperties {
     private boolean checkProcessDefinitions = true;
     private boolean asyncExecutorActivate = true;
     private boolean restApiEnabled;
+    private boolean metricsEnabled;
     private String deploymentName;
     private String mailServerHost = "localhost";
     private int mailServerPort = 1025;
@@ -65,6 +66,14 @@ public class FlowableProperties {
         this.restApiEnabled = restApiEnabled;
     }
 
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
     public boolean isJpaEnabled() {
         return jpaEnabled;
     }
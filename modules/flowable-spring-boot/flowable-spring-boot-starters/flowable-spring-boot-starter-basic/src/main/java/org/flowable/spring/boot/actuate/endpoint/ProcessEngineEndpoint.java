@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.ProcessEngineMetrics;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
@@ -88,6 +89,12 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
         }
+
+        // Engine metrics (command latencies, statements, async executor), when enabled
+        ProcessEngineMetrics processEngineMetrics = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessEngineMetrics();
+        if (processEngineMetrics != null) {
+            metrics.put("engineMetrics", processEngineMetrics.getMetrics());
+        }
         return metrics;
     }
 
@@ -77,6 +77,7 @@ public class FlowableIdmEngineConfiguration {
         ldapConfiguration.setPort(environment.getRequiredProperty("ldap.port", Integer.class));
         ldapConfiguration.setUser(environment.getRequiredProperty("ldap.user"));
         ldapConfiguration.setPassword(environment.getRequiredProperty("ldap.password"));
+        ldapConfiguration.setConnectionPooling(environment.getProperty("ldap.connectionpooling", Boolean.class, false));
         
         ldapConfiguration.setBaseDn(environment.getRequiredProperty("ldap.basedn"));
         ldapConfiguration.setQueryUserByUserId(environment.getRequiredProperty("ldap.query.userbyid"));
@@ -20,6 +20,8 @@ public interface ModelRepository {
 
     void save(Model model);
 
+    void updateThumbnail(String modelId, byte[] thumbnail);
+
     void delete(Model model);
 
     Model get(String id);
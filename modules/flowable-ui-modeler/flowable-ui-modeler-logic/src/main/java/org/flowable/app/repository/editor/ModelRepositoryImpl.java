@@ -90,6 +90,14 @@ public class ModelRepositoryImpl implements ModelRepository {
         }
     }
 
+    @Override
+    public void updateThumbnail(String modelId, byte[] thumbnail) {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("id", modelId);
+        params.put("thumbnail", thumbnail);
+        sqlSessionTemplate.update(NAMESPACE + "updateModelThumbnail", params);
+    }
+
     @Override
     public void delete(Model model) {
         sqlSessionTemplate.delete(NAMESPACE + "deleteModel", model);
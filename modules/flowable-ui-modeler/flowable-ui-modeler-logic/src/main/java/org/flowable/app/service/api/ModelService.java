@@ -29,6 +29,8 @@ public interface ModelService {
 
     Model getModel(String modelId);
 
+    byte[] getModelThumbnail(String modelId);
+
     ModelRepresentation getModelRepresentation(String modelId);
 
     List<AbstractModel> getModelsByModelType(Integer modelType);
@@ -15,9 +15,19 @@ package org.flowable.app.service.editor;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.flowable.app.domain.editor.Model;
+import org.flowable.app.repository.editor.ModelRepository;
 import org.flowable.app.util.ImageGenerator;
 import org.flowable.bpmn.model.Artifact;
 import org.flowable.bpmn.model.Association;
@@ -29,13 +39,31 @@ import org.flowable.bpmn.model.Pool;
 import org.flowable.bpmn.model.Process;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.SubProcess;
+import org.flowable.editor.constants.EditorJsonConstants;
+import org.flowable.editor.constants.StencilConstants;
 import org.flowable.editor.language.json.converter.BpmnJsonConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 @Service
 @Transactional
@@ -45,9 +73,179 @@ public class ModelImageService {
 
     private static float THUMBNAIL_WIDTH = 300f;
 
+    /**
+     * Shape properties that are not visible in the thumbnail: changing them doesn't require a new thumbnail.
+     */
+    protected static final Set<String> NON_VISUAL_PROPERTIES = ImmutableSet.of(StencilConstants.PROPERTY_DOCUMENTATION, StencilConstants.PROPERTY_EXECUTION_LISTENERS,
+            StencilConstants.PROPERTY_TASK_LISTENERS, StencilConstants.PROPERTY_EVENT_LISTENERS, StencilConstants.PROPERTY_FORM_PROPERTIES,
+            StencilConstants.PROPERTY_SERVICETASK_FIELDS, StencilConstants.PROPERTY_SCRIPT_TEXT);
+
+    @Autowired
+    protected Environment environment;
+
+    @Autowired
+    protected ModelRepository modelRepository;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     protected BpmnJsonConverter bpmnJsonConverter = new BpmnJsonConverter();
 
+    protected boolean asyncThumbnailGeneration;
+
+    protected ThreadPoolExecutor thumbnailExecutor;
+
+    /**
+     * Used to store thumbnails rendered on the thumbnail executor, as these threads don't take part in a transaction.
+     */
+    protected TransactionTemplate thumbnailTransactionTemplate;
+
+    /**
+     * Latest thumbnail per model id, together with the hash of the layout it was rendered from.
+     */
+    protected Cache<String, CachedThumbnail> thumbnailCache;
+
+    @PostConstruct
+    protected void init() {
+        asyncThumbnailGeneration = environment.getProperty("thumbnail.generation.async", Boolean.class, true);
+        if (asyncThumbnailGeneration) {
+            int threads = environment.getProperty("thumbnail.generation.threads", Integer.class, 2);
+            int queueSize = environment.getProperty("thumbnail.generation.queue.size", Integer.class, 100);
+
+            // When the queue is full, the saving thread renders the thumbnail itself rather than losing it
+            thumbnailExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+                    new ThreadFactoryBuilder().setNameFormat("flowable-thumbnail-%d").setDaemon(true).build(), new ThreadPoolExecutor.CallerRunsPolicy());
+            thumbnailExecutor.allowCoreThreadTimeOut(true);
+            thumbnailTransactionTemplate = new TransactionTemplate(transactionManager);
+        }
+
+        Long cacheMaxSize = environment.getProperty("cache.thumbnails.max.size", Long.class);
+        thumbnailCache = CacheBuilder.newBuilder().maximumSize(cacheMaxSize != null ? cacheMaxSize : 500).build();
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (thumbnailExecutor != null) {
+            thumbnailExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Makes sure the thumbnail of the model matches the given editor json, which is about to be saved.
+     * 
+     * Nothing is rendered when the layout of the model didn't change since the cached thumbnail was generated. Otherwise, the thumbnail is either rendered
+     * right away, or after the current transaction has committed on the thumbnail executor, in which case it is written to the model separately.
+     */
+    public void updateThumbnail(final Model model, final ObjectNode editorJsonNode) {
+        final String layoutHash = calculateLayoutHash(editorJsonNode);
+
+        if (model.getId() != null) {
+            CachedThumbnail cachedThumbnail = thumbnailCache.getIfPresent(model.getId());
+            if (cachedThumbnail != null && layoutHash.equals(cachedThumbnail.getLayoutHash()) && cachedThumbnail.getThumbnail() != null) {
+                // The model could have been read before the thumbnail was written to it
+                model.setThumbnail(cachedThumbnail.getThumbnail());
+                return;
+            }
+        }
+
+        if (!asyncThumbnailGeneration || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            final byte[] thumbnail = generateThumbnailImage(model, editorJsonNode);
+            if (thumbnail != null) {
+                model.setThumbnail(thumbnail);
+                afterCommit(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (model.getId() != null) {
+                            thumbnailCache.put(model.getId(), new CachedThumbnail(layoutHash, thumbnail));
+                        }
+                    }
+                });
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+            @Override
+            public void afterCommit() {
+                // The id is only known here for new models
+                CachedThumbnail pendingThumbnail = new CachedThumbnail(layoutHash, null);
+                thumbnailCache.put(model.getId(), pendingThumbnail);
+                thumbnailExecutor.execute(new ThumbnailGenerationTask(model.getId(), editorJsonNode, pendingThumbnail));
+            }
+        });
+    }
+
+    /**
+     * @return the cached thumbnail of the model, or null if it isn't cached or is still being generated.
+     */
+    public byte[] getCachedThumbnail(String modelId) {
+        CachedThumbnail cachedThumbnail = thumbnailCache.getIfPresent(modelId);
+        return cachedThumbnail != null ? cachedThumbnail.getThumbnail() : null;
+    }
+
+    /**
+     * Caches a thumbnail read from the database. As its layout isn't known, it will never prevent a new thumbnail from being rendered.
+     */
+    public void cacheThumbnail(String modelId, byte[] thumbnail) {
+        if (thumbnail != null) {
+            thumbnailCache.asMap().putIfAbsent(modelId, new CachedThumbnail(null, thumbnail));
+        }
+    }
+
+    public void removeCachedThumbnail(String modelId) {
+        thumbnailCache.invalidate(modelId);
+    }
+
+    /**
+     * Hash of the part of the editor json the thumbnail depends on: the shapes, their bounds and connections and their visible properties.
+     */
+    public String calculateLayoutHash(ObjectNode editorJsonNode) {
+        ObjectNode layoutNode = editorJsonNode.deepCopy();
+        layoutNode.remove(EditorJsonConstants.EDITOR_SHAPE_PROPERTIES);
+        removeNonVisualProperties(layoutNode.get(EditorJsonConstants.EDITOR_CHILD_SHAPES));
+        return Hashing.sha256().hashString(layoutNode.toString(), Charsets.UTF_8).toString();
+    }
+
+    protected void removeNonVisualProperties(JsonNode childShapesNode) {
+        if (childShapesNode == null || !childShapesNode.isArray()) {
+            return;
+        }
+
+        for (JsonNode shapeNode : (ArrayNode) childShapesNode) {
+            JsonNode propertiesNode = shapeNode.get(EditorJsonConstants.EDITOR_SHAPE_PROPERTIES);
+            if (propertiesNode != null && propertiesNode.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> propertyIterator = propertiesNode.fields();
+                while (propertyIterator.hasNext()) {
+                    if (NON_VISUAL_PROPERTIES.contains(propertyIterator.next().getKey())) {
+                        propertyIterator.remove();
+                    }
+                }
+            }
+            removeNonVisualProperties(shapeNode.get(EditorJsonConstants.EDITOR_CHILD_SHAPES));
+        }
+    }
+
+    protected void afterCommit(final Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
     public byte[] generateThumbnailImage(Model model, ObjectNode editorJsonNode) {
+        return generateThumbnailImage(model.getId(), editorJsonNode);
+    }
+
+    protected byte[] generateThumbnailImage(String modelId, ObjectNode editorJsonNode) {
         try {
 
             BpmnModel bpmnModel = bpmnJsonConverter.convertToBpmnModel(editorJsonNode);
@@ -64,7 +262,7 @@ public class ModelImageService {
                 return ImageGenerator.createByteArrayForImage(modelImage, "png");
             }
         } catch (Exception e) {
-            log.error("Error creating thumbnail image {}", model.getId(), e);
+            log.error("Error creating thumbnail image {}", modelId, e);
         }
         return null;
     }
@@ -202,4 +400,78 @@ public class ModelImageService {
         graphicInfo.setWidth(graphicInfo.getWidth() / scaleFactor);
         graphicInfo.setHeight(graphicInfo.getHeight() / scaleFactor);
     }
+
+    protected void storeThumbnail(final String modelId, final byte[] thumbnail) {
+        thumbnailTransactionTemplate.execute(new TransactionCallbackWithoutResult() {
+
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                modelRepository.updateThumbnail(modelId, thumbnail);
+            }
+        });
+    }
+
+    protected class ThumbnailGenerationTask implements Runnable {
+
+        protected String modelId;
+        protected ObjectNode editorJsonNode;
+        protected CachedThumbnail pendingThumbnail;
+
+        public ThumbnailGenerationTask(String modelId, ObjectNode editorJsonNode, CachedThumbnail pendingThumbnail) {
+            this.modelId = modelId;
+            this.editorJsonNode = editorJsonNode;
+            this.pendingThumbnail = pendingThumbnail;
+        }
+
+        @Override
+        public void run() {
+            // Skip the thumbnail when the model has been saved again in the meantime
+            if (!isCurrent()) {
+                return;
+            }
+
+            byte[] thumbnail = generateThumbnailImage(modelId, editorJsonNode);
+            if (thumbnail == null) {
+                thumbnailCache.asMap().remove(modelId, pendingThumbnail);
+                return;
+            }
+
+            if (isCurrent()) {
+                try {
+                    storeThumbnail(modelId, thumbnail);
+                    pendingThumbnail.setThumbnail(thumbnail);
+                } catch (Exception e) {
+                    log.error("Error storing thumbnail image {}", modelId, e);
+                    thumbnailCache.asMap().remove(modelId, pendingThumbnail);
+                }
+            }
+        }
+
+        protected boolean isCurrent() {
+            return thumbnailCache.getIfPresent(modelId) == pendingThumbnail;
+        }
+    }
+
+    protected static class CachedThumbnail {
+
+        protected final String layoutHash;
+        protected volatile byte[] thumbnail;
+
+        public CachedThumbnail(String layoutHash, byte[] thumbnail) {
+            this.layoutHash = layoutHash;
+            this.thumbnail = thumbnail;
+        }
+
+        public String getLayoutHash() {
+            return layoutHash;
+        }
+
+        public byte[] getThumbnail() {
+            return thumbnail;
+        }
+
+        public void setThumbnail(byte[] thumbnail) {
+            this.thumbnail = thumbnail;
+        }
+    }
 }
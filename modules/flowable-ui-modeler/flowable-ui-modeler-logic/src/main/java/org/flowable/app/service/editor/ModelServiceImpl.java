@@ -317,6 +317,16 @@ public class ModelServiceImpl implements ModelService {
         return persistModel(modelObject);
     }
 
+    @Override
+    public byte[] getModelThumbnail(String modelId) {
+        byte[] thumbnail = modelImageService.getCachedThumbnail(modelId);
+        if (thumbnail == null) {
+            thumbnail = getModel(modelId).getThumbnail();
+            modelImageService.cacheThumbnail(modelId, thumbnail);
+        }
+        return thumbnail;
+    }
+
     @Override
     public void deleteModel(String modelId) {
 
@@ -347,6 +357,7 @@ public class ModelServiceImpl implements ModelService {
 
         for (Model modelToDelete : allModels) {
             modelRepository.delete(modelToDelete);
+            modelImageService.removeCachedThumbnail(modelToDelete.getId());
         }
     }
 
@@ -492,10 +503,7 @@ public class ModelServiceImpl implements ModelService {
             if ((model.getModelType() == null || model.getModelType().intValue() == Model.MODEL_TYPE_BPMN)) {
 
                 // Thumbnail
-                byte[] thumbnail = modelImageService.generateThumbnailImage(model, jsonNode);
-                if (thumbnail != null) {
-                    model.setThumbnail(thumbnail);
-                }
+                modelImageService.updateThumbnail(model, jsonNode);
 
                 modelRepository.save(model);
 
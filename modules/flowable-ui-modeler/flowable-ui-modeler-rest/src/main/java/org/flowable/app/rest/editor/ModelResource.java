@@ -82,8 +82,7 @@ public class ModelResource {
      */
     @RequestMapping(value = "/rest/models/{modelId}/thumbnail", method = RequestMethod.GET, produces = MediaType.IMAGE_PNG_VALUE)
     public byte[] getModelThumbnail(@PathVariable String modelId) {
-        Model model = modelService.getModel(modelId);
-        return model.getThumbnail();
+        return modelService.getModelThumbnail(modelId);
     }
 
     /**
@@ -13,10 +13,13 @@
 package org.flowable.app.conf;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.app.service.runtime.PermissionMapper;
 import org.flowable.content.api.ContentService;
 import org.flowable.content.spring.SpringContentEngineConfiguration;
 import org.flowable.content.spring.configurator.SpringContentEngineConfigurator;
@@ -135,6 +138,11 @@ public class FlowableEngineConfiguration {
 		// http://www.flowable.org/docs/userguide/index.html#advanced.safe.bpmn.xml
 		processEngineConfiguration.setEnableSafeBpmnXml(true);
 
+		// Combined permission check statements used by the PermissionService
+		Set<String> customMybatisXMLMappers = new HashSet<>();
+		customMybatisXMLMappers.add(PermissionMapper.MAPPER_RESOURCE);
+		processEngineConfiguration.setCustomMybatisXMLMappers(customMybatisXMLMappers);
+
 		processEngineConfiguration.setDisableIdmEngine(true);
 		processEngineConfiguration.addConfigurator(new SpringFormEngineConfigurator());
 		processEngineConfiguration.addConfigurator(new SpringDmnEngineConfigurator());
@@ -42,6 +42,7 @@ import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.TaskInfo;
 import org.flowable.engine.task.TaskInfoQueryWrapper;
+import org.flowable.engine.task.TaskQuery;
 import org.flowable.idm.api.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -192,7 +193,12 @@ public class FlowableTaskQueryService {
 
     protected void handleTextFiltering(TaskInfoQueryWrapper taskInfoQueryWrapper, JsonNode textNode) {
         String text = textNode.asText();
-        taskInfoQueryWrapper.getTaskInfoQuery().taskNameLikeIgnoreCase("%" + text + "%");
+        if (taskInfoQueryWrapper.getTaskInfoQuery() instanceof TaskQuery) {
+            // uses the task search index of the engine when it is enabled
+            ((TaskQuery) taskInfoQueryWrapper.getTaskInfoQuery()).taskSearchText(text);
+        } else {
+            taskInfoQueryWrapper.getTaskInfoQuery().taskNameLikeIgnoreCase("%" + text + "%");
+        }
     }
 
     protected void handleAssignment(TaskInfoQueryWrapper taskInfoQueryWrapper, JsonNode assignmentNode, User currentUser) {
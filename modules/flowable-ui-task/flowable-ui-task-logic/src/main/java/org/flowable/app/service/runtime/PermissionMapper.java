@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.app.service.runtime;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.flowable.engine.history.HistoricTaskInstance;
+
+/**
+ * Evaluates the read permission rules of the {@link PermissionService} for a task or a process instance in a single statement. The statements are defined in
+ * PermissionMapper.xml, which needs to be registered as custom MyBatis XML mapper of the process engine.
+ */
+public interface PermissionMapper {
+
+    String MAPPER_RESOURCE = "org/flowable/app/service/runtime/PermissionMapper.xml";
+
+    /**
+     * @return the task when it exists and the user is involved in it, is a candidate group member of it or can read its process instance, null otherwise
+     */
+    HistoricTaskInstance selectReadableTask(@Param("taskId") String taskId, @Param("userId") String userId, @Param("groupIds") List<String> groupIds);
+
+    /**
+     * @return 1 when the user can read the process instance, 0 when not and null when the process instance doesn't exist
+     */
+    Integer selectProcessInstanceReadPermission(@Param("processInstanceId") String processInstanceId, @Param("userId") String userId, @Param("groupIds") List<String> groupIds);
+
+}
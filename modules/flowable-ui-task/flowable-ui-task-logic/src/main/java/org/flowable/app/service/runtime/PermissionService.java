@@ -13,7 +13,11 @@
 package org.flowable.app.service.runtime;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.app.service.exception.NotFoundException;
@@ -26,13 +30,13 @@ import org.flowable.bpmn.model.UserTask;
 import org.flowable.content.api.ContentItem;
 import org.flowable.editor.language.json.converter.util.CollectionUtils;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.history.HistoricProcessInstance;
-import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.history.HistoricTaskInstance;
-import org.flowable.engine.history.HistoricTaskInstanceQuery;
+import org.flowable.engine.impl.cmd.AbstractCustomSqlExecution;
 import org.flowable.engine.task.Task;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.User;
@@ -61,44 +65,45 @@ public class PermissionService {
     @Autowired
     protected HistoryService historyService;
 
+    @Autowired
+    protected ManagementService managementService;
+
     @Autowired
     protected RemoteIdmService remoteIdmService;
 
     /**
-     * Check if the given user is allowed to read the task.
+     * Read permissions granted to a user are remembered for a short time, as the same checks are repeated while handling a request. Refused permissions are never
+     * remembered.
      */
-    public HistoricTaskInstance validateReadPermissionOnTask(User user, String taskId) {
-
-        List<HistoricTaskInstance> tasks = historyService.createHistoricTaskInstanceQuery().taskId(taskId).taskInvolvedUser(String.valueOf(user.getId())).list();
-
-        if (CollectionUtils.isNotEmpty(tasks)) {
-            return tasks.get(0);
-        }
-
-        // Task is maybe accessible through groups of user
-        HistoricTaskInstanceQuery historicTaskInstanceQuery = historyService.createHistoricTaskInstanceQuery();
-        historicTaskInstanceQuery.taskId(taskId);
+    protected long readPermissionCacheTimeToLive = 5000L;
+    protected int readPermissionCacheLimit = 10000;
+    protected ConcurrentMap<String, Long> grantedReadPermissions = new ConcurrentHashMap<String, Long>();
 
-        List<String> groupIds = getGroupIdsForUser(user);
-        if (!groupIds.isEmpty()) {
-            historicTaskInstanceQuery.taskCandidateGroupIn(getGroupIdsForUser(user));
+    /**
+     * Check if the given user is allowed to read the task.
+     */
+    public HistoricTaskInstance validateReadPermissionOnTask(User user, final String taskId) {
+        String permissionKey = "task:" + taskId + ":" + user.getId();
+        if (isReadPermissionCached(permissionKey)) {
+            HistoricTaskInstance task = historyService.createHistoricTaskInstanceQuery().taskId(taskId).singleResult();
+            if (task != null) {
+                return task;
+            }
         }
 
-        tasks = historicTaskInstanceQuery.list();
-        if (CollectionUtils.isNotEmpty(tasks)) {
-            return tasks.get(0);
-        }
+        final String userId = String.valueOf(user.getId());
+        final List<String> groupIds = getGroupIdsForUser(user);
+        HistoricTaskInstance task = managementService.executeCustomSql(new AbstractCustomSqlExecution<PermissionMapper, HistoricTaskInstance>(PermissionMapper.class) {
 
-        // Last resort: user has access to proc inst -> can see task
-        tasks = historyService.createHistoricTaskInstanceQuery().taskId(taskId).list();
-        if (CollectionUtils.isNotEmpty(tasks)) {
-            HistoricTaskInstance task = tasks.get(0);
-            if (task != null && task.getProcessInstanceId() != null) {
-                boolean hasReadPermissionOnProcessInstance = hasReadPermissionOnProcessInstance(user, task.getProcessInstanceId());
-                if (hasReadPermissionOnProcessInstance) {
-                    return task;
-                }
+            @Override
+            public HistoricTaskInstance execute(PermissionMapper permissionMapper) {
+                return permissionMapper.selectReadableTask(taskId, userId, groupIds);
             }
+        });
+
+        if (task != null) {
+            cacheReadPermission(permissionKey);
+            return task;
         }
         throw new NotPermittedException("User is not allowed to work with task " + taskId);
     }
@@ -153,8 +158,11 @@ public class PermissionService {
      * Check if the given user is allowed to read the process instance.
      */
     public boolean hasReadPermissionOnProcessInstance(User user, String processInstanceId) {
-        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
-        return hasReadPermissionOnProcessInstance(user, historicProcessInstance, processInstanceId);
+        Boolean hasReadPermission = checkReadPermissionOnProcessInstance(user, processInstanceId);
+        if (hasReadPermission == null) {
+            throw new NotFoundException("Process instance not found for id " + processInstanceId);
+        }
+        return hasReadPermission;
     }
 
     /**
@@ -170,30 +178,88 @@ public class PermissionService {
             return true;
         }
 
-        // check if the user is involved in the task
-        HistoricProcessInstanceQuery historicProcessInstanceQuery = historyService.createHistoricProcessInstanceQuery();
-        historicProcessInstanceQuery.processInstanceId(processInstanceId);
-        historicProcessInstanceQuery.involvedUser(user.getId());
-        if (historicProcessInstanceQuery.count() > 0) {
+        return hasReadPermissionOnProcessInstance(user, processInstanceId);
+    }
+
+    /**
+     * @return whether the user started, is involved in or is involved in (or a candidate group member of) a task of the process instance, null when the process instance
+     *         doesn't exist
+     */
+    protected Boolean checkReadPermissionOnProcessInstance(User user, final String processInstanceId) {
+        String permissionKey = "processInstance:" + processInstanceId + ":" + user.getId();
+        if (isReadPermissionCached(permissionKey)) {
             return true;
         }
 
-        // Visibility: check if there are any tasks for the current user
-        HistoricTaskInstanceQuery historicTaskInstanceQuery = historyService.createHistoricTaskInstanceQuery();
-        historicTaskInstanceQuery.processInstanceId(processInstanceId);
-        historicTaskInstanceQuery.taskInvolvedUser(user.getId());
-        if (historicTaskInstanceQuery.count() > 0) {
+        final String userId = String.valueOf(user.getId());
+        final List<String> groupIds = getGroupIdsForUser(user);
+        Integer readPermission = managementService.executeCustomSql(new AbstractCustomSqlExecution<PermissionMapper, Integer>(PermissionMapper.class) {
+
+            @Override
+            public Integer execute(PermissionMapper permissionMapper) {
+                return permissionMapper.selectProcessInstanceReadPermission(processInstanceId, userId, groupIds);
+            }
+        });
+
+        if (readPermission == null) {
+            return null;
+        }
+
+        if (readPermission.intValue() > 0) {
+            cacheReadPermission(permissionKey);
             return true;
         }
+        return false;
+    }
 
-        List<String> groupIds = getGroupIdsForUser(user);
-        if (!groupIds.isEmpty()) {
-            historicTaskInstanceQuery = historyService.createHistoricTaskInstanceQuery();
-            historicTaskInstanceQuery.processInstanceId(processInstanceId).taskCandidateGroupIn(groupIds);
-            return historicTaskInstanceQuery.count() > 0;
+    protected boolean isReadPermissionCached(String permissionKey) {
+        Long expirationTime = grantedReadPermissions.get(permissionKey);
+        if (expirationTime == null) {
+            return false;
         }
 
-        return false;
+        if (expirationTime < System.currentTimeMillis()) {
+            grantedReadPermissions.remove(permissionKey, expirationTime);
+            return false;
+        }
+        return true;
+    }
+
+    protected void cacheReadPermission(String permissionKey) {
+        if (readPermissionCacheTimeToLive <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (grantedReadPermissions.size() >= readPermissionCacheLimit) {
+            Iterator<Map.Entry<String, Long>> iterator = grantedReadPermissions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getValue() < now) {
+                    iterator.remove();
+                }
+            }
+
+            if (grantedReadPermissions.size() >= readPermissionCacheLimit) {
+                grantedReadPermissions.clear();
+            }
+        }
+        grantedReadPermissions.put(permissionKey, now + readPermissionCacheTimeToLive);
+    }
+
+    public long getReadPermissionCacheTimeToLive() {
+        return readPermissionCacheTimeToLive;
+    }
+
+    public void setReadPermissionCacheTimeToLive(long readPermissionCacheTimeToLive) {
+        this.readPermissionCacheTimeToLive = readPermissionCacheTimeToLive;
+    }
+
+    public int getReadPermissionCacheLimit() {
+        return readPermissionCacheLimit;
+    }
+
+    public void setReadPermissionCacheLimit(int readPermissionCacheLimit) {
+        this.readPermissionCacheLimit = readPermissionCacheLimit;
     }
 
     public boolean canAddRelatedContentToTask(User user, String taskId) {
@@ -18,6 +18,7 @@ import java.util.concurrent.ConcurrentMap;
 import javax.xml.namespace.QName;
 
 import org.flowable.engine.impl.bpmn.webservice.MessageDefinition;
+import org.flowable.engine.impl.bpmn.webservice.MessageCallback;
 import org.flowable.engine.impl.bpmn.webservice.MessageInstance;
 import org.flowable.engine.impl.bpmn.webservice.Operation;
 import org.flowable.engine.impl.bpmn.webservice.OperationImplementation;
@@ -59,6 +60,20 @@ public class WSOperation implements OperationImplementation {
         return this.createResponseMessage(results, operation);
     }
 
+    /**
+     * The Flowable 5 engine doesn't support asynchronous web service invocations, the message is sent synchronously and the callback notified before returning.
+     */
+    public void sendAsyncFor(MessageInstance message, Operation operation, ConcurrentMap<QName, URL> overridenEndpointAddresses, MessageCallback callback) throws Exception {
+        MessageInstance receivedMessage = null;
+        try {
+            receivedMessage = this.sendFor(message, operation, overridenEndpointAddresses);
+        } catch (Exception e) {
+            callback.onFault(e);
+            return;
+        }
+        callback.onMessage(receivedMessage);
+    }
+
     private Object[] getArguments(MessageInstance message) {
         return message.getStructureInstance().toArray();
     }
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.engine.test.cache;
+
+import org.activiti.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionEngineVersionIndex;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentProperties;
+
+public class ProcessDefinitionEngineVersionIndexTest extends PluggableFlowableTestCase {
+
+    public void testIndexUpdatedOnDeployment() {
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = processEngineConfiguration.getProcessDefinitionEngineVersionIndex();
+        assertNotNull(engineVersionIndex);
+
+        Deployment flowable5Deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/activiti/engine/test/cache/originalProcess.bpmn20.xml")
+                .deploymentProperty(DeploymentProperties.DEPLOY_AS_FLOWABLE5_PROCESS_DEFINITION, Boolean.TRUE)
+                .deploy();
+        Deployment flowable6Deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/activiti/engine/test/cache/originalProcess.bpmn20.xml")
+                .deploy();
+
+        String flowable5ProcessDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(flowable5Deployment.getId()).singleResult().getId();
+        String flowable6ProcessDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(flowable6Deployment.getId()).singleResult().getId();
+
+        try {
+            assertEquals(Boolean.TRUE, engineVersionIndex.isFlowable5ProcessDefinition(flowable5ProcessDefinitionId));
+            assertEquals(Boolean.FALSE, engineVersionIndex.isFlowable5ProcessDefinition(flowable6ProcessDefinitionId));
+            assertTrue(Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, flowable5ProcessDefinitionId));
+            assertFalse(Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, flowable6ProcessDefinitionId));
+
+            // Loading the index from the database gives the same result
+            processEngineConfiguration.rebuildProcessDefinitionEngineVersionIndex();
+            assertEquals(Boolean.TRUE, engineVersionIndex.isFlowable5ProcessDefinition(flowable5ProcessDefinitionId));
+            assertEquals(Boolean.FALSE, engineVersionIndex.isFlowable5ProcessDefinition(flowable6ProcessDefinitionId));
+
+            // Process definitions unknown to the index are looked up and added
+            engineVersionIndex.clear();
+            assertNull(engineVersionIndex.isFlowable5ProcessDefinition(flowable5ProcessDefinitionId));
+            assertTrue(Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, flowable5ProcessDefinitionId));
+            assertEquals(Boolean.TRUE, engineVersionIndex.isFlowable5ProcessDefinition(flowable5ProcessDefinitionId));
+
+        } finally {
+            repositoryService.deleteDeployment(flowable5Deployment.getId(), true);
+            repositoryService.deleteDeployment(flowable6Deployment.getId(), true);
+            processEngineConfiguration.rebuildProcessDefinitionEngineVersionIndex();
+        }
+
+        assertNull(engineVersionIndex.isFlowable5ProcessDefinition(flowable5ProcessDefinitionId));
+    }
+
+    public void testIndexGrows() {
+        ProcessDefinitionEngineVersionIndex engineVersionIndex = new ProcessDefinitionEngineVersionIndex(1);
+        for (int i = 0; i < 5000; i++) {
+            engineVersionIndex.addProcessDefinition("process:1:" + i, i % 100 == 0);
+        }
+
+        assertEquals(5000, engineVersionIndex.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(Boolean.valueOf(i % 100 == 0), engineVersionIndex.isFlowable5ProcessDefinition("process:1:" + i));
+        }
+        assertNull(engineVersionIndex.isFlowable5ProcessDefinition("process:1:5000"));
+    }
+
+}